@@ -0,0 +1,239 @@
+-- Helper functions for index_benchmark.sql
+-- Tables mirror the production columns; foreign keys are left out because
+-- they cost the same in both variants.
+
+-- =====================================================
+-- TABLES
+-- =====================================================
+
+CREATE FUNCTION stl_bench.create_tables() RETURNS VOID AS $$
+BEGIN
+  DROP TABLE IF EXISTS stl_bench.transactions, stl_bench.transaction_status_history,
+      stl_bench.participants, stl_bench.transaction_audit;
+
+  CREATE TABLE stl_bench.transactions (
+      id UUID PRIMARY KEY,
+      type_id UUID NOT NULL,
+      amount NUMERIC(20, 8) NOT NULL,
+      currency_code CHAR(3) NOT NULL,
+      payload JSONB,
+      created_at TIMESTAMPTZ NOT NULL,
+      immutable BOOLEAN NOT NULL DEFAULT TRUE
+  );
+
+  CREATE TABLE stl_bench.transaction_status_history (
+      id UUID PRIMARY KEY,
+      transaction_id UUID NOT NULL,
+      status VARCHAR(20) NOT NULL,
+      reason TEXT,
+      updated_at TIMESTAMPTZ NOT NULL
+  );
+
+  CREATE TABLE stl_bench.participants (
+      id UUID PRIMARY KEY,
+      transaction_id UUID NOT NULL,
+      participant_type VARCHAR(20) NOT NULL,
+      participant_id UUID NOT NULL,
+      role VARCHAR(20) NOT NULL,
+      amount NUMERIC(20, 8),
+      created_at TIMESTAMPTZ NOT NULL,
+      CONSTRAINT uq_bench_participant_role UNIQUE (transaction_id, participant_id, role)
+  );
+
+  CREATE TABLE stl_bench.transaction_audit (
+      id UUID PRIMARY KEY,
+      transaction_id UUID NOT NULL,
+      actor_type VARCHAR(20) NOT NULL,
+      actor_id UUID,
+      action_type VARCHAR(30) NOT NULL,
+      timestamp TIMESTAMPTZ NOT NULL
+  );
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- INDEX SETS
+-- =====================================================
+
+-- baseline: V1 + V3 indexes; tuned: after V6
+CREATE FUNCTION stl_bench.create_indexes(p_variant TEXT) RETURNS VOID AS $$
+BEGIN
+  -- Unchanged by V6
+  CREATE INDEX idx_transactions_created_at ON stl_bench.transactions(created_at DESC);
+  CREATE INDEX idx_participants_transaction ON stl_bench.participants(transaction_id);
+  CREATE INDEX idx_participants_participant ON stl_bench.participants(participant_id, participant_type);
+  CREATE INDEX idx_participants_history ON stl_bench.participants(participant_id, created_at DESC, id DESC);
+  CREATE INDEX idx_audit_transaction ON stl_bench.transaction_audit(transaction_id, timestamp DESC);
+  CREATE INDEX idx_audit_actor ON stl_bench.transaction_audit(actor_id, timestamp DESC);
+
+  IF p_variant = 'baseline' THEN
+    CREATE INDEX idx_transactions_type_id ON stl_bench.transactions(type_id);
+    CREATE INDEX idx_transactions_currency_code ON stl_bench.transactions(currency_code);
+    CREATE INDEX idx_status_history_transaction
+        ON stl_bench.transaction_status_history(transaction_id, updated_at DESC);
+  ELSIF p_variant = 'tuned' THEN
+    CREATE INDEX idx_transactions_type_created
+        ON stl_bench.transactions(type_id, created_at DESC) INCLUDE (id, amount, currency_code);
+    CREATE INDEX idx_transactions_currency_created
+        ON stl_bench.transactions(currency_code, created_at DESC) INCLUDE (id, amount, type_id);
+    CREATE INDEX idx_status_history_latest
+        ON stl_bench.transaction_status_history(transaction_id, updated_at DESC, id DESC) INCLUDE (status);
+    CREATE INDEX idx_status_history_updated_brin
+        ON stl_bench.transaction_status_history USING BRIN (updated_at) WITH (pages_per_range = 32);
+    CREATE INDEX idx_audit_timestamp_brin
+        ON stl_bench.transaction_audit USING BRIN (timestamp) WITH (pages_per_range = 32);
+    CREATE INDEX idx_participants_created_brin
+        ON stl_bench.participants USING BRIN (created_at) WITH (pages_per_range = 32);
+  ELSE
+    RAISE EXCEPTION 'Unknown variant: %', p_variant;
+  END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- LOAD (insert cost)
+-- =====================================================
+
+-- Inserts p_rows transactions spread over 30 days in time order, in batches
+-- like the ingest path: 2 status entries, 2 participants and 1 audit record
+-- per transaction. 10 types, 5 currencies, 1000 merchants.
+CREATE FUNCTION stl_bench.load(p_variant TEXT, p_rows INT) RETURNS VOID AS $$
+DECLARE
+  batch_size CONSTANT INT := 10000;
+  span CONSTANT INTERVAL := INTERVAL '30 days';
+  base TIMESTAMPTZ := date_trunc('day', now()) - span;
+  started TIMESTAMPTZ := clock_timestamp();
+  wal_start PG_LSN := pg_current_wal_insert_lsn();
+  elapsed_ms NUMERIC;
+  i INT := 0;
+BEGIN
+  WHILE i < p_rows LOOP
+    WITH tx AS (
+      INSERT INTO stl_bench.transactions (id, type_id, amount, currency_code, created_at)
+      SELECT gen_random_uuid(),
+             ('00000000-0000-0000-0000-' || lpad((g % 10)::TEXT, 12, '0'))::UUID,
+             round((random() * 1000)::NUMERIC, 2),
+             (ARRAY['USD', 'EUR', 'GBP', 'JPY', 'ARS'])[1 + g % 5],
+             base + span * (g::FLOAT8 / p_rows)
+      FROM generate_series(i, LEAST(i + batch_size, p_rows) - 1) g
+      RETURNING id, amount, created_at
+    ), statuses AS (
+      INSERT INTO stl_bench.transaction_status_history (id, transaction_id, status, reason, updated_at)
+      SELECT gen_random_uuid(), tx.id, s.status, 'benchmark', tx.created_at + s.delay
+      FROM tx CROSS JOIN (VALUES ('PENDING', INTERVAL '0'), ('APPROVED', INTERVAL '1 minute')) AS s(status, delay)
+    ), parts AS (
+      INSERT INTO stl_bench.participants (id, transaction_id, participant_type, participant_id, role, amount, created_at)
+      SELECT gen_random_uuid(), tx.id, p.participant_type,
+             CASE WHEN p.role = 'SENDER' THEN gen_random_uuid()
+                  ELSE ('00000000-0000-0000-0001-' || lpad((abs(hashtext(tx.id::TEXT)) % 1000)::TEXT, 12, '0'))::UUID
+             END,
+             p.role, tx.amount, tx.created_at
+      FROM tx CROSS JOIN (VALUES ('USER', 'SENDER'), ('ENTITY', 'RECEIVER')) AS p(participant_type, role)
+    )
+    INSERT INTO stl_bench.transaction_audit (id, transaction_id, actor_type, actor_id, action_type, timestamp)
+    SELECT gen_random_uuid(), tx.id, 'SYSTEM', NULL, 'CREATE', tx.created_at
+    FROM tx;
+
+    i := i + batch_size;
+  END LOOP;
+
+  elapsed_ms := extract(EPOCH FROM clock_timestamp() - started) * 1000;
+
+  INSERT INTO stl_bench.results (variant, metric, subject, value) VALUES
+      (p_variant, 'insert_ms', 'load', elapsed_ms),
+      (p_variant, 'insert_us_per_transaction', 'load', elapsed_ms * 1000 / p_rows),
+      (p_variant, 'insert_wal_bytes', 'load', pg_wal_lsn_diff(pg_current_wal_insert_lsn(), wal_start));
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- SIZES
+-- =====================================================
+
+CREATE FUNCTION stl_bench.record_index_sizes(p_variant TEXT) RETURNS VOID AS $$
+BEGIN
+  INSERT INTO stl_bench.results (variant, metric, subject, value)
+  SELECT p_variant, 'index_bytes', s.indexrelname, pg_relation_size(s.indexrelid)
+  FROM pg_stat_user_indexes s
+  WHERE s.schemaname = 'stl_bench' AND s.relname <> 'results';
+
+  INSERT INTO stl_bench.results (variant, metric, subject, value)
+  SELECT p_variant, 'index_bytes_total', s.relname, sum(pg_relation_size(s.indexrelid))
+  FROM pg_stat_user_indexes s
+  WHERE s.schemaname = 'stl_bench' AND s.relname <> 'results'
+  GROUP BY s.relname;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- QUERY LATENCY
+-- =====================================================
+
+-- Runs each hot query p_iterations times with random parameters after a short
+-- warm-up and records p50, p95 and mean latency (planning included).
+-- Parameters: $1 transaction id, $2 point in time, $3 type id, $4 currency.
+CREATE FUNCTION stl_bench.measure_queries(p_variant TEXT, p_iterations INT) RETURNS VOID AS $$
+DECLARE
+  warmup CONSTANT INT := 20;
+  ids UUID[];
+  t_min TIMESTAMPTZ;
+  t_max TIMESTAMPTZ;
+  q RECORD;
+  samples FLOAT8[];
+  started TIMESTAMPTZ;
+  n BIGINT;
+BEGIN
+  SELECT array_agg(id) INTO ids
+  FROM (SELECT id FROM stl_bench.transactions TABLESAMPLE SYSTEM (1) LIMIT 1000) s;
+  SELECT min(created_at), max(created_at) INTO t_min, t_max FROM stl_bench.transactions;
+
+  FOR q IN SELECT * FROM (VALUES
+      ('latest_status',
+       'SELECT status FROM stl_bench.transaction_status_history WHERE transaction_id = $1
+        ORDER BY updated_at DESC, id DESC LIMIT 1'),
+      ('latest_transaction',
+       'SELECT id FROM stl_bench.transactions ORDER BY created_at DESC LIMIT 1'),
+      ('list_by_type',
+       'SELECT id, amount, currency_code, created_at FROM stl_bench.transactions WHERE type_id = $3
+        ORDER BY created_at DESC LIMIT 50'),
+      ('list_by_currency',
+       'SELECT id, amount, type_id, created_at FROM stl_bench.transactions WHERE currency_code = $4
+        ORDER BY created_at DESC LIMIT 50'),
+      ('participant_window_5m',
+       'SELECT participant_id, sum(amount) FROM stl_bench.participants
+        WHERE created_at > $2 AND created_at <= $2 + INTERVAL ''5 minutes'' GROUP BY participant_id'),
+      ('status_changes_window_1h',
+       'SELECT status, count(*) FROM stl_bench.transaction_status_history
+        WHERE updated_at >= $2 AND updated_at < $2 + INTERVAL ''1 hour'' GROUP BY status'),
+      ('audit_window_1h',
+       'SELECT count(*) FROM stl_bench.transaction_audit
+        WHERE timestamp >= $2 AND timestamp < $2 + INTERVAL ''1 hour''')
+  ) AS v(name, sql)
+  LOOP
+    samples := '{}';
+
+    FOR r IN 1..(warmup + p_iterations) LOOP
+      started := clock_timestamp();
+      EXECUTE 'SELECT count(*) FROM (' || q.sql || ') s' INTO n USING
+          ids[1 + floor(random() * array_length(ids, 1))::INT],
+          t_min + (t_max - t_min - INTERVAL '1 hour') * random(),
+          ('00000000-0000-0000-0000-' || lpad(floor(random() * 10)::TEXT, 12, '0'))::UUID,
+          (ARRAY['USD', 'EUR', 'GBP', 'JPY', 'ARS'])[1 + floor(random() * 5)::INT];
+      IF r > warmup THEN
+        samples := samples || extract(EPOCH FROM clock_timestamp() - started)::FLOAT8 * 1000;
+      END IF;
+    END LOOP;
+
+    INSERT INTO stl_bench.results (variant, metric, subject, value)
+    SELECT p_variant, m.metric, q.name, m.value::NUMERIC
+    FROM (
+      SELECT percentile_cont(0.5) WITHIN GROUP (ORDER BY x) AS p50,
+             percentile_cont(0.95) WITHIN GROUP (ORDER BY x) AS p95,
+             avg(x) AS mean
+      FROM unnest(samples) AS x
+    ) s
+    CROSS JOIN LATERAL (VALUES ('latency_p50_ms', s.p50), ('latency_p95_ms', s.p95), ('latency_mean_ms', s.mean))
+        AS m(metric, value);
+  END LOOP;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,63 @@
+-- Index benchmark: baseline (V1 index set) vs tuned (V6 index set)
+--
+-- Usage (against a scratch database, never production):
+--   psql -d stl_bench -v rows=1000000 -v iterations=500 -f benchmarks/sql/index_benchmark.sql
+--
+-- Builds the append-only tables twice in schema stl_bench, once per index
+-- set, and records for each variant:
+--   - insert cost: load time and WAL volume with all indexes in place
+--   - index size: pg_relation_size of every index
+--   - query latency: p50/p95/mean over random parameters for the hot queries
+-- Results go to stl_bench.results and index-benchmark-results.csv.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+\if :{?iterations}
+\else
+  \set iterations 500
+\endif
+
+DROP SCHEMA IF EXISTS stl_bench CASCADE;
+CREATE SCHEMA stl_bench;
+
+CREATE TABLE stl_bench.results (
+    variant TEXT NOT NULL,
+    metric TEXT NOT NULL, -- insert_ms, insert_wal_bytes, index_bytes, latency_p50_ms, ...
+    subject TEXT NOT NULL, -- Table, index or query name
+    value NUMERIC NOT NULL,
+    recorded_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+\ir functions.sql
+
+\set variant baseline
+\ir workload.sql
+
+\set variant tuned
+\ir workload.sql
+
+-- =====================================================
+-- REPORT
+-- =====================================================
+
+SELECT b.metric, b.subject,
+       round(b.value, 3) AS baseline,
+       round(t.value, 3) AS tuned,
+       CASE WHEN b.value > 0 THEN round(t.value / b.value, 2) END AS ratio
+FROM stl_bench.results b
+JOIN stl_bench.results t ON t.metric = b.metric AND t.subject = b.subject AND t.variant = 'tuned'
+WHERE b.variant = 'baseline'
+ORDER BY b.metric, b.subject;
+
+-- Indexes that exist in only one variant
+SELECT variant, subject AS index_name, pg_size_pretty(value::BIGINT) AS size
+FROM stl_bench.results r
+WHERE metric = 'index_bytes'
+AND NOT EXISTS (SELECT 1 FROM stl_bench.results o
+                WHERE o.metric = r.metric AND o.subject = r.subject AND o.variant <> r.variant)
+ORDER BY variant, subject;
+
+\copy (SELECT variant, metric, subject, value FROM stl_bench.results ORDER BY variant, metric, subject) TO 'index-benchmark-results.csv' WITH (FORMAT csv, HEADER)
@@ -0,0 +1,19 @@
+-- One benchmark pass for the index set in :variant (included by index_benchmark.sql)
+
+\echo '== Variant' :variant
+
+SELECT stl_bench.create_tables();
+SELECT stl_bench.create_indexes(:'variant');
+
+-- Insert cost: every index is maintained during the load, as in production
+SELECT stl_bench.load(:'variant', :rows);
+
+-- VACUUM cannot run inside a function; it also sets the visibility map so
+-- index-only scans are possible, as autovacuum does on append-only tables
+VACUUM (ANALYZE) stl_bench.transactions;
+VACUUM (ANALYZE) stl_bench.transaction_status_history;
+VACUUM (ANALYZE) stl_bench.participants;
+VACUUM (ANALYZE) stl_bench.transaction_audit;
+
+SELECT stl_bench.record_index_sizes(:'variant');
+SELECT stl_bench.measure_queries(:'variant', :iterations);
@@ -0,0 +1,114 @@
+package io.stl.stl_core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files (-rf json), typically from two commits:
+ *
+ * <pre>
+ * java io.stl.stl_core.BenchmarkComparison baseline.json current.json [threshold%]
+ * </pre>
+ *
+ * Benchmarks are matched by name and parameters. Prints the baseline and
+ * current score with the relative change, oriented by mode (throughput:
+ * higher is better, time modes: lower is better), and exits with status 1
+ * if any benchmark got worse by more than the threshold (default 10%).
+ */
+public final class BenchmarkComparison {
+
+  private BenchmarkComparison() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold%]");
+      System.exit(2);
+    }
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+    Map<String, Result> baseline = read(new File(args[0]));
+    Map<String, Result> current = read(new File(args[1]));
+
+    int regressions = 0;
+    System.out.printf("%-88s %18s %18s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+    for (Map.Entry<String, Result> entry : current.entrySet()) {
+      Result now = entry.getValue();
+      Result before = baseline.get(entry.getKey());
+      if (before == null) {
+        System.out.printf("%-88s %18s %18s %9s%n", entry.getKey(), "-", now.format(), "new");
+        continue;
+      }
+      if (!before.unit.equals(now.unit)) {
+        System.out.printf("%-88s %18s %18s %9s%n", entry.getKey(), before.format(), now.format(), "unit?");
+        continue;
+      }
+      // Positive is an improvement whatever the mode
+      double change = 100.0 * (now.score - before.score) / before.score;
+      double improvement = now.higherIsBetter() ? change : -change;
+      boolean regression = improvement < -threshold;
+      if (regression) {
+        regressions++;
+      }
+      System.out.printf("%-88s %18s %18s %+8.1f%%%s%n", entry.getKey(), before.format(), now.format(), change,
+          regression ? "  REGRESSION" : "");
+    }
+    for (String name : baseline.keySet()) {
+      if (!current.containsKey(name)) {
+        System.out.printf("%-88s %18s %18s %9s%n", name, baseline.get(name).format(), "-", "missing");
+      }
+    }
+
+    if (regressions > 0) {
+      System.out.printf("%n%d benchmark(s) regressed by more than %.0f%%%n", regressions, threshold);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, Result> read(File file) throws IOException {
+    if (!file.isFile()) {
+      throw new IOException("JMH result file not found: " + file);
+    }
+    Map<String, Result> results = new TreeMap<>();
+    for (JsonNode run : new ObjectMapper().readTree(file)) {
+      JsonNode metric = run.path("primaryMetric");
+      results.put(key(run), new Result(run.path("mode").asText(), metric.path("score").asDouble(),
+          metric.path("scoreError").asDouble(), metric.path("scoreUnit").asText()));
+    }
+    return results;
+  }
+
+  // Benchmark name plus its parameters, e.g. ...TransactionMapperBenchmark.toResponseFull:pageSize=100,storage=JSON
+  private static String key(JsonNode run) {
+    String name = run.path("benchmark").asText().replaceFirst("^io\\.stl\\.stl_core\\.", "");
+    Map<String, String> params = new LinkedHashMap<>();
+    Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      params.put(field.getKey(), field.getValue().asText());
+    }
+    if (params.isEmpty()) {
+      return name;
+    }
+    StringBuilder key = new StringBuilder(name).append(':');
+    params.forEach((param, value) -> key.append(param).append('=').append(value).append(','));
+    return key.substring(0, key.length() - 1);
+  }
+
+  private record Result(String mode, double score, double error, String unit) {
+
+    boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+    }
+
+    String format() {
+      return String.format("%.3f %s", score, unit);
+    }
+  }
+}
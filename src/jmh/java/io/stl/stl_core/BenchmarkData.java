@@ -0,0 +1,96 @@
+package io.stl.stl_core;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.service.dto.response.TransactionResponse;
+
+/**
+ * Generated data shaped like production, shared by the benchmarks. Callers
+ * pass a seeded Random so every run measures the same data.
+ */
+public final class BenchmarkData {
+
+  public static final String[] TYPES = { "PAYMENT", "REFUND", "TRANSFER", "FEE" };
+  public static final String[][] CURRENCIES = { { "USD", "$" }, { "EUR", "€" }, { "GBP", "£" } };
+  private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+  private static final OffsetDateTime EPOCH = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * Order metadata with nested merchant/customer objects and line items.
+   */
+  public static Map<String, Object> payload(Random random, int lineItems) {
+    Map<String, Object> merchant = new LinkedHashMap<>();
+    merchant.put("merchantId", uuid(random).toString());
+    merchant.put("name", "Merchant " + random.nextInt(10_000));
+    merchant.put("categoryCode", String.valueOf(5000 + random.nextInt(1000)));
+    merchant.put("country", random.nextBoolean() ? "US" : "DE");
+
+    Map<String, Object> customer = new LinkedHashMap<>();
+    customer.put("customerId", uuid(random).toString());
+    customer.put("email", "user" + random.nextInt(1_000_000) + "@example.com");
+    customer.put("loyaltyTier", random.nextInt(4));
+    customer.put("firstPurchase", random.nextInt(10) == 0);
+
+    List<Object> items = new ArrayList<>(lineItems);
+    for (int i = 0; i < lineItems; i++) {
+      Map<String, Object> item = new LinkedHashMap<>();
+      item.put("sku", "SKU-" + random.nextInt(100_000));
+      item.put("quantity", 1 + random.nextInt(5));
+      item.put("unitPrice", BigDecimal.valueOf(random.nextInt(100_000), 2));
+      item.put("taxRate", 0.19);
+      items.add(item);
+    }
+
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("orderId", "ORD-" + random.nextInt(100_000_000));
+    payload.put("channel", random.nextBoolean() ? "WEB" : "POS");
+    payload.put("merchant", merchant);
+    payload.put("customer", customer);
+    payload.put("lineItems", items);
+    payload.put("tags", List.of("promo", "weekday"));
+    payload.put("note", null);
+    return payload;
+  }
+
+  /**
+   * A page of transaction responses as returned by the list endpoints.
+   *
+   * @param lineItems Line items per payload, or -1 for responses without
+   *                  payload (the default for list endpoints)
+   */
+  public static List<TransactionResponse> transactionPage(Random random, int size, int lineItems) {
+    List<TransactionResponse> page = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      String[] currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+      TransactionResponse response = new TransactionResponse(
+          uuid(random),
+          TYPES[random.nextInt(TYPES.length)],
+          BigDecimal.valueOf(random.nextLong(1, 10_000_000_00L), 2),
+          currency[0],
+          currency[1],
+          STATUSES[random.nextInt(STATUSES.length)],
+          EPOCH.plusSeconds(random.nextInt(31_536_000)));
+      if (lineItems >= 0) {
+        response.setPayload(payload(random, lineItems));
+      }
+      page.add(response);
+    }
+    return page;
+  }
+
+  public static UUID uuid(Random random) {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+}
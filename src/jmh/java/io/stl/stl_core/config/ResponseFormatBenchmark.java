@@ -0,0 +1,91 @@
+package io.stl.stl_core.config;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.stl.stl_core.BenchmarkData;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.TransactionResponse;
+
+/**
+ * Serialization cost of one list-endpoint response
+ * (ApiResponse<List<TransactionResponse>>) as JSON, CBOR and MessagePack,
+ * with mappers configured like the application's (see BinaryFormatConfig).
+ *
+ * lineItems = -1 is the default list response without payloads; 4 is the
+ * same page with ?include=payload. Bytes on the wire per page are printed
+ * once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseFormatBenchmark {
+
+  @Param({ "20", "100", "500" })
+  public int pageSize;
+
+  @Param({ "-1", "4" })
+  public int lineItems;
+
+  private ObjectWriter json;
+  private ObjectWriter cbor;
+  private ObjectWriter msgpack;
+  private ApiResponse<List<TransactionResponse>> response;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    json = writer(null);
+    cbor = writer(new CBORFactory());
+    msgpack = writer(new MessagePackFactory());
+    response = ApiResponse.success(BenchmarkData.transactionPage(new Random(42), pageSize, lineItems));
+
+    int jsonBytes = json.writeValueAsBytes(response).length;
+    int cborBytes = cbor.writeValueAsBytes(response).length;
+    int msgpackBytes = msgpack.writeValueAsBytes(response).length;
+    System.out.printf("%nBytes per page: json=%d, cbor=%d (%.0f%%), msgpack=%d (%.0f%%)%n",
+        jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes, msgpackBytes, 100.0 * msgpackBytes / jsonBytes);
+  }
+
+  @Benchmark
+  public byte[] json() throws Exception {
+    return json.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] cbor() throws Exception {
+    return cbor.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] msgpack() throws Exception {
+    return msgpack.writeValueAsBytes(response);
+  }
+
+  // Same settings Spring Boot applies to the application's builder
+  private static ObjectWriter writer(JsonFactory factory) {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    if (factory != null) {
+      builder.factory(factory);
+    }
+    return builder.build().writer();
+  }
+}
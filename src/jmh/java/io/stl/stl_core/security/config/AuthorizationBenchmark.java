@@ -0,0 +1,91 @@
+package io.stl.stl_core.security.config;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.security.dto.UserPrincipal;
+
+/**
+ * Per-request cost of method-level authorization on a transaction read
+ * endpoint (@RequiresPermission(VIEW_TRANSACTIONS)):
+ * - permissionSet: the former check, Set<String>.contains with wildcard
+ * - permissionMask: the compiled check (two ANDs on the principal's masks)
+ * - interceptor: AuthorizationInterceptor.preHandle, including the
+ *   requirement lookup and the SecurityContext read
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizationBenchmark {
+
+  @Param({ "READER", "ADMIN" })
+  public UserRole role;
+
+  private UserPrincipal principal;
+  private Set<String> rolePermissions;
+  private long required;
+  private AuthorizationInterceptor interceptor;
+  private HandlerMethod handlerMethod;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    principal = new UserPrincipal(UUID.randomUUID(), "reader@example.com", role);
+    rolePermissions = role.getPermissions();
+    required = Permission.VIEW_TRANSACTIONS.mask();
+
+    handlerMethod = new HandlerMethod(new ReadController(), ReadController.class.getMethod("getTransaction"));
+    interceptor = new AuthorizationInterceptor();
+    interceptor.compile(List.of(handlerMethod));
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public boolean permissionSet() {
+    return rolePermissions.contains("*") || rolePermissions.contains("VIEW_TRANSACTIONS");
+  }
+
+  @Benchmark
+  public boolean permissionMask() {
+    return principal.hasPermissions(required);
+  }
+
+  @Benchmark
+  public boolean interceptor() throws Exception {
+    return interceptor.preHandle(null, null, handlerMethod);
+  }
+
+  /**
+   * Stand-in for TransactionController (same annotation, no dependencies).
+   */
+  public static class ReadController {
+
+    @RequiresPermission(Permission.VIEW_TRANSACTIONS)
+    public void getTransaction() {
+    }
+  }
+}
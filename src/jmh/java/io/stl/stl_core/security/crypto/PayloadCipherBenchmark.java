@@ -0,0 +1,93 @@
+package io.stl.stl_core.security.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.BenchmarkData;
+
+/**
+ * Decrypting one page of encrypted payloads (JSON text of production-shaped
+ * payloads inside AES-GCM envelopes):
+ * - decryptNaive: Cipher.getInstance and a new key per row, what a
+ *   per-attribute converter does
+ * - decryptPerRow: PayloadCipher.decrypt per row (thread-local cipher)
+ * - decryptPage: PayloadCipher.decryptAll on the whole page
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayloadCipherBenchmark {
+
+  @Param({ "100" })
+  public int pageSize;
+
+  private PayloadCipher cipher;
+  private byte[] keyMaterial;
+  private List<byte[]> envelopes;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    Random random = new Random(42);
+    keyMaterial = new byte[32];
+    random.nextBytes(keyMaterial);
+    cipher = new PayloadCipher(new DataKeyRing(List.of("1:" + Base64.getEncoder().encodeToString(keyMaterial)), 1));
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    envelopes = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      String json = objectMapper.writeValueAsString(BenchmarkData.payload(random, 4));
+      envelopes.add(cipher.encrypt(json.getBytes(StandardCharsets.UTF_8)));
+    }
+  }
+
+  @Benchmark
+  public long decryptNaive() throws Exception {
+    long bytes = 0;
+    for (byte[] envelope : envelopes) {
+      Cipher naive = Cipher.getInstance("AES/GCM/NoPadding");
+      naive.init(Cipher.DECRYPT_MODE, new SecretKeySpec(keyMaterial, "AES"),
+          new GCMParameterSpec(128, envelope, 5, 12));
+      naive.updateAAD(envelope, 0, 5);
+      bytes += naive.doFinal(envelope, 17, envelope.length - 17).length;
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  public long decryptPerRow() {
+    long bytes = 0;
+    for (byte[] envelope : envelopes) {
+      bytes += cipher.decrypt(envelope).length;
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  public long decryptPage() {
+    long bytes = 0;
+    for (byte[] plaintext : cipher.decryptAll(envelopes)) {
+      bytes += plaintext.length;
+    }
+    return bytes;
+  }
+}
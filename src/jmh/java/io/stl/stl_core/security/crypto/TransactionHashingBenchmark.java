@@ -0,0 +1,166 @@
+package io.stl.stl_core.security.crypto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.BenchmarkData;
+
+/**
+ * Cost per transaction of the integrity fields (previous_hash, signature)
+ * the hash chain will fill in, over the canonical bytes of a transaction
+ * (previous hash, id, type, amount, currency, timestamp and JSON payload):
+ * - sha256Hex: chain hash, hex encoded as stored
+ * - hmacSha256: symmetric signature
+ * - sign / verify: asymmetric signature with each candidate algorithm
+ *
+ * MessageDigest and Mac are reused per thread, as a service would; a new
+ * Signature is created per record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransactionHashingBenchmark {
+
+  private static final int POOL_SIZE = 256;
+
+  private final HexFormat hex = HexFormat.of();
+  private final List<byte[]> records = new ArrayList<>(POOL_SIZE);
+  private MessageDigest sha256;
+  private Mac hmac;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    Random random = new Random(42);
+    ObjectMapper objectMapper = new ObjectMapper();
+    OffsetDateTime createdAt = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    byte[] previousHash = new byte[32];
+    for (int i = 0; i < POOL_SIZE; i++) {
+      random.nextBytes(previousHash);
+      String canonical = String.join("|",
+          hex.formatHex(previousHash),
+          BenchmarkData.uuid(random).toString(),
+          BenchmarkData.TYPES[random.nextInt(BenchmarkData.TYPES.length)],
+          BigDecimal.valueOf(random.nextLong(1, 1_000_000_00L), 2).toPlainString(),
+          BenchmarkData.CURRENCIES[random.nextInt(BenchmarkData.CURRENCIES.length)][0],
+          createdAt.plusSeconds(i).toString(),
+          objectMapper.writeValueAsString(BenchmarkData.payload(random, 4)));
+      records.add(canonical.getBytes(StandardCharsets.UTF_8));
+    }
+
+    sha256 = MessageDigest.getInstance("SHA-256");
+    byte[] secret = new byte[32];
+    random.nextBytes(secret);
+    hmac = Mac.getInstance("HmacSHA256");
+    hmac.init(new SecretKeySpec(secret, "HmacSHA256"));
+  }
+
+  @Benchmark
+  public String sha256Hex() {
+    return hex.formatHex(sha256.digest(nextRecord()));
+  }
+
+  @Benchmark
+  public byte[] hmacSha256() {
+    return hmac.doFinal(nextRecord());
+  }
+
+  @Benchmark
+  public byte[] sign(Signer signer) throws Exception {
+    return signer.sign(nextRecord());
+  }
+
+  @Benchmark
+  public boolean verify(Signer signer) throws Exception {
+    int i = next;
+    next = (next + 1) % POOL_SIZE;
+    return signer.verify(records.get(i), signer.signatures.get(i));
+  }
+
+  private byte[] nextRecord() {
+    byte[] record = records.get(next);
+    next = (next + 1) % POOL_SIZE;
+    return record;
+  }
+
+  /**
+   * Key pair and pre-computed signatures of the records for one algorithm.
+   */
+  @State(Scope.Thread)
+  public static class Signer {
+
+    @Param({ "Ed25519", "ES256", "RS256" })
+    public String algorithm;
+
+    private final List<byte[]> signatures = new ArrayList<>(POOL_SIZE);
+    private KeyPair keyPair;
+    private String signatureAlgorithm;
+
+    @Setup(Level.Trial)
+    public void setUp(TransactionHashingBenchmark benchmark) throws Exception {
+      KeyPairGenerator generator;
+      switch (algorithm) {
+        case "Ed25519" -> {
+          generator = KeyPairGenerator.getInstance("Ed25519");
+          signatureAlgorithm = "Ed25519";
+        }
+        case "ES256" -> {
+          generator = KeyPairGenerator.getInstance("EC");
+          generator.initialize(new ECGenParameterSpec("secp256r1"));
+          signatureAlgorithm = "SHA256withECDSA";
+        }
+        case "RS256" -> {
+          generator = KeyPairGenerator.getInstance("RSA");
+          generator.initialize(2048);
+          signatureAlgorithm = "SHA256withRSA";
+        }
+        default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+      }
+      keyPair = generator.generateKeyPair();
+      for (byte[] record : benchmark.records) {
+        signatures.add(sign(record));
+      }
+    }
+
+    byte[] sign(byte[] record) throws Exception {
+      Signature signer = Signature.getInstance(signatureAlgorithm);
+      signer.initSign(keyPair.getPrivate());
+      signer.update(record);
+      return signer.sign();
+    }
+
+    boolean verify(byte[] record, byte[] signature) throws Exception {
+      Signature verifier = Signature.getInstance(signatureAlgorithm);
+      verifier.initVerify(keyPair.getPublic());
+      verifier.update(record);
+      return verifier.verify(signature);
+    }
+  }
+}
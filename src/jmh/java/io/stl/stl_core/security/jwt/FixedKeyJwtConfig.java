@@ -0,0 +1,87 @@
+package io.stl.stl_core.security.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Map;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import io.stl.stl_core.security.config.JwtConfig;
+
+/**
+ * JwtConfig with a freshly generated in-memory key pair instead of PEM
+ * resources, for RS256 (2048-bit), ES256 (P-256) or EdDSA (Ed25519).
+ */
+final class FixedKeyJwtConfig extends JwtConfig {
+
+  private static final String KEY_ID = "bench";
+
+  private final SignatureAlgorithm algorithm;
+  private final KeyPair keyPair;
+
+  FixedKeyJwtConfig(String algorithm) throws GeneralSecurityException {
+    KeyPairGenerator generator;
+    switch (algorithm) {
+      case "ES256" -> {
+        this.algorithm = Jwts.SIG.ES256;
+        generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+      }
+      case "EdDSA" -> {
+        this.algorithm = Jwts.SIG.EdDSA;
+        generator = KeyPairGenerator.getInstance("Ed25519");
+      }
+      default -> {
+        this.algorithm = Jwts.SIG.RS256;
+        generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+      }
+    }
+    this.keyPair = generator.generateKeyPair();
+  }
+
+  @Override
+  public PrivateKey getPrivateKey() {
+    return keyPair.getPrivate();
+  }
+
+  @Override
+  public PublicKey getPublicKey() {
+    return keyPair.getPublic();
+  }
+
+  @Override
+  public String getKeyId() {
+    return KEY_ID;
+  }
+
+  @Override
+  public Map<String, PublicKey> getVerificationKeys() {
+    return Map.of(KEY_ID, keyPair.getPublic());
+  }
+
+  @Override
+  public SignatureAlgorithm getSignatureAlgorithm() {
+    return algorithm;
+  }
+
+  @Override
+  public long getExpiration() {
+    return Duration.ofHours(1).toMillis();
+  }
+
+  @Override
+  public long getRefreshExpiration() {
+    return Duration.ofDays(1).toMillis();
+  }
+
+  @Override
+  public String getIssuer() {
+    return "stl-api";
+  }
+}
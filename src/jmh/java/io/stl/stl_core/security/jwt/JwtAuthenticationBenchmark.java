@@ -0,0 +1,97 @@
+package io.stl.stl_core.security.jwt;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.stl.stl_core.BenchmarkData;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.config.JwtConfig;
+import io.stl.stl_core.security.dto.UserPrincipal;
+
+/**
+ * Authentication overhead per request for a bearer access token
+ * (RS256, 2048-bit key), cycling through a pool of tokens of distinct
+ * users:
+ * - perClaimParsing: the old path (validate, then id, email and role each
+ *   with a freshly built parser - four RSA verifications)
+ * - authenticateUncached: JwtTokenProvider.authenticate with the claims
+ *   cache disabled (one verification with the shared parser)
+ * - authenticateCached: JwtTokenProvider.authenticate with the claims cache
+ *   (steady state: tokens seen within the cache TTL)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+  @Param({ "1000" })
+  public int tokens;
+
+  private PublicKey publicKey;
+  private JwtTokenProvider cached;
+  private JwtTokenProvider uncached;
+  private List<String> pool;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    JwtConfig config = new FixedKeyJwtConfig("RS256");
+    publicKey = config.getPublicKey();
+
+    cached = new JwtTokenProvider(config, Duration.ofMinutes(1), 10_000);
+    uncached = new JwtTokenProvider(config, Duration.ofMinutes(1), 0);
+
+    Random random = new Random(42);
+    UserRole[] roles = UserRole.values();
+    pool = new ArrayList<>(tokens);
+    for (int i = 0; i < tokens; i++) {
+      UserPrincipal user = new UserPrincipal(BenchmarkData.uuid(random), "user" + i + "@example.com",
+          roles[random.nextInt(roles.length)]);
+      pool.add(cached.generateAccessToken(user));
+    }
+  }
+
+  private String nextToken() {
+    String token = pool.get(next);
+    next = (next + 1) % pool.size();
+    return token;
+  }
+
+  @Benchmark
+  public UserPrincipal perClaimParsing() {
+    String token = nextToken();
+    Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token);
+    Claims id = Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getPayload();
+    Claims email = Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getPayload();
+    Claims role = Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token).getPayload();
+    return new UserPrincipal(UUID.fromString(id.getSubject()), email.get("email", String.class),
+        UserRole.valueOf(role.get("role", String.class)));
+  }
+
+  @Benchmark
+  public UserPrincipal authenticateUncached() {
+    return uncached.authenticate(nextToken());
+  }
+
+  @Benchmark
+  public UserPrincipal authenticateCached() {
+    return cached.authenticate(nextToken());
+  }
+}
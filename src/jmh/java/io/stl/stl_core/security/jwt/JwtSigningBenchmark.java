@@ -0,0 +1,74 @@
+package io.stl.stl_core.security.jwt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.stl.stl_core.BenchmarkData;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.dto.UserPrincipal;
+
+/**
+ * Token issue and verify throughput per signing algorithm (jwt.algorithm):
+ * - issueTokens: an access and a refresh token, as on login
+ * - verifyToken: JwtTokenProvider.authenticate with the claims cache
+ *   disabled, so every call verifies the signature
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtSigningBenchmark {
+
+  @Param({ "RS256", "ES256", "EdDSA" })
+  public String algorithm;
+
+  @Param({ "1000" })
+  public int tokens;
+
+  private JwtTokenProvider provider;
+  private List<UserPrincipal> users;
+  private List<String> pool;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    provider = new JwtTokenProvider(new FixedKeyJwtConfig(algorithm), Duration.ofMinutes(1), 0);
+
+    Random random = new Random(42);
+    UserRole[] roles = UserRole.values();
+    users = new ArrayList<>(tokens);
+    pool = new ArrayList<>(tokens);
+    for (int i = 0; i < tokens; i++) {
+      UserPrincipal user = new UserPrincipal(BenchmarkData.uuid(random), "user" + i + "@example.com",
+          roles[random.nextInt(roles.length)]);
+      users.add(user);
+      pool.add(provider.generateAccessToken(user));
+    }
+  }
+
+  @Benchmark
+  public int issueTokens() {
+    UserPrincipal user = users.get(next);
+    next = (next + 1) % users.size();
+    return provider.generateAccessToken(user).length() + provider.generateRefreshToken(user).length();
+  }
+
+  @Benchmark
+  public UserPrincipal verifyToken() {
+    String token = pool.get(next);
+    next = (next + 1) % pool.size();
+    return provider.authenticate(token);
+  }
+}
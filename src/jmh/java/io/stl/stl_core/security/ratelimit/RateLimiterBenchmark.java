@@ -0,0 +1,77 @@
+package io.stl.stl_core.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.stl.stl_core.BenchmarkData;
+
+/**
+ * Hot-path cost of the rate limiter per request (GcraRateLimiter.tryAcquire),
+ * over a population of client keys shaped like user ids:
+ * - acquire / acquireContended: 1 and 4 threads drawing keys at random
+ *   (limit high enough that requests are allowed and state is updated)
+ * - acquireHotKey: 4 threads on the same client (worst case, CAS retries)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+  @Param({ "10000" })
+  public int clients;
+
+  private GcraRateLimiter limiter;
+  private String[] keys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    limiter = new GcraRateLimiter(1_000_000_000, Duration.ofSeconds(1), 1_000);
+    Random random = new Random(42);
+    keys = new String[clients];
+    for (int i = 0; i < clients; i++) {
+      keys[i] = "user:" + BenchmarkData.uuid(random);
+    }
+  }
+
+  /**
+   * Per-thread key cursor (a cheap LCG, so key choice does not dominate).
+   */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int seed = (int) Thread.currentThread().getId();
+
+    int next(int bound) {
+      seed = seed * 1_103_515_245 + 12_345;
+      return (seed >>> 1) % bound;
+    }
+  }
+
+  @Benchmark
+  public long acquire(Cursor cursor) {
+    return limiter.tryAcquire(keys[cursor.next(keys.length)], System.nanoTime());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long acquireContended(Cursor cursor) {
+    return limiter.tryAcquire(keys[cursor.next(keys.length)], System.nanoTime());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public long acquireHotKey() {
+    return limiter.tryAcquire(keys[0], System.nanoTime());
+  }
+}
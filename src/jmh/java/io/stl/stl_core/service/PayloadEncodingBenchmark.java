@@ -0,0 +1,128 @@
+package io.stl.stl_core.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.stl.stl_core.BenchmarkData;
+
+/**
+ * JSON text (what the JSONB column is written from and read back as) vs
+ * dictionary-coded CBOR (payload_bin) for payloads shaped like production:
+ * order metadata with nested merchant/customer objects and line items.
+ *
+ * Each operation encodes or decodes a whole page of payloads; the average
+ * encoded size per payload is printed once per fork. For on-disk JSONB size
+ * compare pg_column_size(payload) and pg_column_size(payload_bin) on real
+ * data (see benchmarks/README.md).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayloadEncodingBenchmark {
+
+  private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+  };
+
+  @Param({ "100" })
+  public int pageSize;
+
+  @Param({ "4" })
+  public int lineItems;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ObjectReader mapReader = objectMapper.readerFor(MAP_TYPE);
+  private final Map<String, Integer> keyIds = new HashMap<>();
+  private final Map<Integer, String> keyNames = new HashMap<>();
+
+  private List<Map<String, Object>> payloads;
+  private List<byte[]> json;
+  private List<byte[]> cbor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    Random random = new Random(42);
+    payloads = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      payloads.add(BenchmarkData.payload(random, lineItems));
+    }
+
+    Set<String> keys = new TreeSet<>();
+    payloads.forEach(payload -> PayloadCodec.collectKeys(payload, keys));
+    for (String key : keys) {
+      keyIds.put(key, keyIds.size() + 1);
+      keyNames.put(keyIds.get(key), key);
+    }
+
+    json = new ArrayList<>(pageSize);
+    cbor = new ArrayList<>(pageSize);
+    long jsonBytes = 0;
+    long cborBytes = 0;
+    for (Map<String, Object> payload : payloads) {
+      byte[] j = objectMapper.writeValueAsBytes(payload);
+      byte[] c = PayloadCodec.encode(payload, keyIds::get);
+      json.add(j);
+      cbor.add(c);
+      jsonBytes += j.length;
+      cborBytes += c.length;
+    }
+    System.out.printf("%nAverage payload size: json=%d bytes, cbor=%d bytes (%.0f%%)%n",
+        jsonBytes / pageSize, cborBytes / pageSize, 100.0 * cborBytes / jsonBytes);
+  }
+
+  @Benchmark
+  public long encodeJson() throws Exception {
+    long bytes = 0;
+    for (Map<String, Object> payload : payloads) {
+      bytes += objectMapper.writeValueAsBytes(payload).length;
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  public long encodeCbor() {
+    long bytes = 0;
+    for (Map<String, Object> payload : payloads) {
+      bytes += PayloadCodec.encode(payload, keyIds::get).length;
+    }
+    return bytes;
+  }
+
+  @Benchmark
+  public int decodeJson() throws Exception {
+    int entries = 0;
+    for (byte[] data : json) {
+      Map<String, Object> payload = mapReader.readValue(data);
+      entries += payload.size();
+    }
+    return entries;
+  }
+
+  @Benchmark
+  public int decodeCbor() {
+    int entries = 0;
+    for (byte[] data : cbor) {
+      entries += PayloadCodec.decode(data, keyNames::get).size();
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,80 @@
+package io.stl.stl_core.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.stl.stl_core.BenchmarkData;
+import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.enums.ParticipantType;
+import io.stl.stl_core.service.dto.request.ParticipantRequest;
+
+/**
+ * TransactionValidationService.validateParticipants on valid requests (the
+ * common case, where every rule runs to the end): a sender and receiver
+ * pair plus fee and tax legs, amounts splitting the transaction total.
+ *
+ * A pool of requests is cycled through so the amounts and ids differ
+ * between calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionValidationBenchmark {
+
+  private static final int POOL_SIZE = 256;
+
+  @Param({ "2", "10", "50" })
+  public int participants;
+
+  private final TransactionValidationService validationService = new TransactionValidationService(null, null);
+
+  private final List<List<ParticipantRequest>> requests = new ArrayList<>(POOL_SIZE);
+  private final List<BigDecimal> amounts = new ArrayList<>(POOL_SIZE);
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    ParticipantRole[] extraRoles = { ParticipantRole.SENDER, ParticipantRole.RECEIVER, ParticipantRole.FEE,
+        ParticipantRole.TAX };
+    for (int i = 0; i < POOL_SIZE; i++) {
+      List<ParticipantRequest> legs = new ArrayList<>(participants);
+      BigDecimal total = BigDecimal.ZERO;
+      for (int p = 0; p < participants; p++) {
+        ParticipantRole role = p == 0 ? ParticipantRole.SENDER
+            : p == 1 ? ParticipantRole.RECEIVER
+            : extraRoles[random.nextInt(extraRoles.length)];
+        ParticipantType type = role.isBusinessRole() || random.nextInt(4) == 0
+            ? ParticipantType.ENTITY
+            : ParticipantType.USER;
+        BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 1_000_000_00L), 2);
+        legs.add(new ParticipantRequest(type, BenchmarkData.uuid(random), role, amount));
+        total = total.add(amount);
+      }
+      requests.add(legs);
+      amounts.add(total);
+    }
+  }
+
+  @Benchmark
+  public int validateParticipants() {
+    int i = next;
+    next = (next + 1) % POOL_SIZE;
+    List<ParticipantRequest> legs = requests.get(i);
+    validationService.validateParticipants(legs, amounts.get(i));
+    return legs.size();
+  }
+}
@@ -0,0 +1,109 @@
+package io.stl.stl_core.service.mapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.BenchmarkData;
+import io.stl.stl_core.model.entity.Currency;
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.entity.TransactionType;
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.security.crypto.DataKeyRing;
+import io.stl.stl_core.security.crypto.PayloadCipher;
+import io.stl.stl_core.service.PayloadService;
+import io.stl.stl_core.service.StatusService;
+
+/**
+ * TransactionMapper.toResponse over a page of entities as loaded for the
+ * single-transaction endpoints (type, currency and stored payload set):
+ * - toResponseFull: every field, payload decoded (JSON or encrypted)
+ * - toResponseSparse: default list fields, no payload
+ *
+ * The status lookup is stubbed (always PENDING), so this measures the
+ * mapping and payload decoding, not the status query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionMapperBenchmark {
+
+  @Param({ "100" })
+  public int pageSize;
+
+  @Param({ "JSON", "ENCRYPTED" })
+  public String storage;
+
+  private TransactionMapper mapper;
+  private List<Transaction> page;
+  private final Set<TransactionField> all = EnumSet.allOf(TransactionField.class);
+  private final Set<TransactionField> sparse = EnumSet.copyOf(TransactionField.DEFAULTS);
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    byte[] key = new byte[32];
+    random.nextBytes(key);
+    PayloadCipher cipher = new PayloadCipher(
+        new DataKeyRing(List.of("1:" + Base64.getEncoder().encodeToString(key)), 1));
+    Set<String> encryptedTypes = "ENCRYPTED".equals(storage) ? Set.of(BenchmarkData.TYPES) : Set.of();
+    PayloadService payloadService = new PayloadService(null, null, null, new ObjectMapper(), null, cipher,
+        Set.of(), encryptedTypes, 65536, 128);
+    StatusService statusService = new StatusService(null, null, null) {
+      @Override
+      public TransactionStatus getCurrentStatus(Transaction transaction) {
+        return TransactionStatus.PENDING;
+      }
+    };
+    mapper = new TransactionMapper(statusService, payloadService);
+    sparse.remove(TransactionField.PAYLOAD);
+
+    List<TransactionType> types = new ArrayList<>();
+    for (String name : BenchmarkData.TYPES) {
+      types.add(new TransactionType(name, name));
+    }
+    List<Currency> currencies = List.of(new Currency("USD", "US Dollar", "$", 2),
+        new Currency("EUR", "Euro", "€", 2), new Currency("GBP", "Pound Sterling", "£", 2));
+
+    page = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      TransactionType type = types.get(random.nextInt(types.size()));
+      PayloadService.EncodedPayload payload = payloadService.encode(type, BenchmarkData.payload(random, 4));
+      page.add(new Transaction(type, BigDecimal.valueOf(random.nextLong(1, 10_000_000_00L), 2),
+          currencies.get(random.nextInt(currencies.size())), payload.json(), payload.binary()));
+    }
+  }
+
+  @Benchmark
+  public void toResponseFull(Blackhole blackhole) {
+    for (Transaction transaction : page) {
+      blackhole.consume(mapper.toResponse(transaction, all));
+    }
+  }
+
+  @Benchmark
+  public void toResponseSparse(Blackhole blackhole) {
+    for (Transaction transaction : page) {
+      blackhole.consume(mapper.toResponse(transaction, sparse));
+    }
+  }
+}
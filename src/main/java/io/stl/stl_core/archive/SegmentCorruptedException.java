@@ -0,0 +1,13 @@
+package io.stl.stl_core.archive;
+
+import java.nio.file.Path;
+
+/**
+ * An archive segment failed a structural or checksum check.
+ */
+public class SegmentCorruptedException extends RuntimeException {
+
+  public SegmentCorruptedException(Path file, String reason) {
+    super("Archive segment " + file + " is corrupted: " + reason);
+  }
+}
@@ -0,0 +1,67 @@
+package io.stl.stl_core.archive;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * On-disk layout of an archive segment (version 1). All integers are
+ * big-endian; offsets are absolute file positions.
+ *
+ * <pre>
+ * HEADER        magic "STLSEG01" (8) | version (4) | reserved (4)
+ * BLOCKS        zstd frames; each decompresses to records:
+ *                 id msb (8) | id lsb (8) | created_at micros (8) | length (4) | data
+ * BLOCK DIR     per block: offset (8) | compressed length (4) | raw length (4) |
+ *                 crc32c of the compressed bytes (4) | min created_at (8) | max created_at (8)
+ * ID INDEX      per record, sorted by id (unsigned): msb (8) | lsb (8) | block (4) | offset in block (4)
+ * FOOTER        block dir offset (8) | block count (4) | id index offset (8) | record count (8) |
+ *                 min created_at (8) | max created_at (8) | crc32c block dir (4) | crc32c id index (4) |
+ *                 crc32c of the preceding footer bytes (4) | magic "STLSEG01" (8)
+ * </pre>
+ *
+ * Records are appended in created_at order, so the block directory doubles
+ * as a sparse time index.
+ */
+public final class SegmentFormat {
+
+  static final byte[] MAGIC = { 'S', 'T', 'L', 'S', 'E', 'G', '0', '1' };
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_HEADER_SIZE = 28;
+  static final int BLOCK_ENTRY_SIZE = 36;
+  static final int INDEX_ENTRY_SIZE = 24;
+  static final int FOOTER_SIZE = 64;
+  static final int FOOTER_CRC_OFFSET = 52; // Bytes covered by the footer checksum
+
+  /** Mapped buffers are int-addressed. */
+  public static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+  public static final String FILE_SUFFIX = ".stlseg";
+
+  private SegmentFormat() {
+  }
+
+  public static long toMicros(Instant instant) {
+    return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+  }
+
+  public static OffsetDateTime fromMicros(long micros) {
+    return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L)
+        .atOffset(ZoneOffset.UTC);
+  }
+
+  /**
+   * Index order: the 128-bit id compared as an unsigned number.
+   */
+  static int compareIds(long msbA, long lsbA, long msbB, long lsbB) {
+    int cmp = Long.compareUnsigned(msbA, msbB);
+    return cmp != 0 ? cmp : Long.compareUnsigned(lsbA, lsbB);
+  }
+
+  static int compareIds(UUID a, long msbB, long lsbB) {
+    return compareIds(a.getMostSignificantBits(), a.getLeastSignificantBits(), msbB, lsbB);
+  }
+}
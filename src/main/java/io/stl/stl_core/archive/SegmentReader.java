@@ -0,0 +1,253 @@
+package io.stl.stl_core.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Read-only, memory-mapped view of an archive segment (see SegmentFormat).
+ *
+ * The footer, block directory and id index are verified when the segment is
+ * opened; each block is verified against its checksum whenever it is read.
+ * A point lookup is a binary search over the mapped id index plus the
+ * decompression of a single block, without any copy of the index to the
+ * heap. Instances are immutable and safe for concurrent use (absolute reads
+ * only).
+ */
+public final class SegmentReader {
+
+  private final Path file;
+  private final ByteBuffer mapped;
+  private final int blockCount;
+  private final int blockDirOffset;
+  private final int indexOffset;
+  private final int recordCount;
+  private final long minMicros;
+  private final long maxMicros;
+
+  private SegmentReader(Path file, ByteBuffer mapped) {
+    this.file = file;
+    this.mapped = mapped;
+
+    int footer = mapped.capacity() - SegmentFormat.FOOTER_SIZE;
+    if (footer < SegmentFormat.HEADER_SIZE
+        || !hasMagic(0) || !hasMagic(mapped.capacity() - SegmentFormat.MAGIC.length)
+        || mapped.getInt(SegmentFormat.MAGIC.length) != SegmentFormat.VERSION) {
+      throw corrupted("not a version " + SegmentFormat.VERSION + " segment");
+    }
+    if (crc(footer, SegmentFormat.FOOTER_CRC_OFFSET) != mapped.getInt(footer + SegmentFormat.FOOTER_CRC_OFFSET)) {
+      throw corrupted("footer checksum mismatch");
+    }
+
+    this.blockDirOffset = toInt(mapped.getLong(footer));
+    this.blockCount = mapped.getInt(footer + 8);
+    this.indexOffset = toInt(mapped.getLong(footer + 12));
+    this.recordCount = toInt(mapped.getLong(footer + 20));
+    this.minMicros = mapped.getLong(footer + 28);
+    this.maxMicros = mapped.getLong(footer + 36);
+
+    int blockDirSize = blockCount * SegmentFormat.BLOCK_ENTRY_SIZE;
+    int indexSize = recordCount * SegmentFormat.INDEX_ENTRY_SIZE;
+    if (blockCount < 0 || blockDirOffset + blockDirSize != indexOffset || indexOffset + indexSize != footer) {
+      throw corrupted("inconsistent section offsets");
+    }
+    if (crc(blockDirOffset, blockDirSize) != mapped.getInt(footer + 44)) {
+      throw corrupted("block directory checksum mismatch");
+    }
+    if (crc(indexOffset, indexSize) != mapped.getInt(footer + 48)) {
+      throw corrupted("id index checksum mismatch");
+    }
+  }
+
+  /**
+   * Maps and verifies a segment file.
+   *
+   * @throws SegmentCorruptedException if the file is not a valid segment
+   */
+  public static SegmentReader open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > SegmentFormat.MAX_SEGMENT_BYTES) {
+        throw new SegmentCorruptedException(file, "larger than " + SegmentFormat.MAX_SEGMENT_BYTES + " bytes");
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return new SegmentReader(file, mapped); // The mapping stays valid after the channel is closed
+    }
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  public int getRecordCount() {
+    return recordCount;
+  }
+
+  public long getMinCreatedAtMicros() {
+    return minMicros;
+  }
+
+  public long getMaxCreatedAtMicros() {
+    return maxMicros;
+  }
+
+  /**
+   * Finds a record by id.
+   */
+  public Optional<SegmentRecord> find(UUID id) {
+    int low = 0;
+    int high = recordCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int entry = indexOffset + mid * SegmentFormat.INDEX_ENTRY_SIZE;
+      int cmp = SegmentFormat.compareIds(id, mapped.getLong(entry), mapped.getLong(entry + 8));
+      if (cmp == 0) {
+        ByteBuffer block = readBlock(mapped.getInt(entry + 16));
+        return Optional.of(readRecord(block, mapped.getInt(entry + 20)));
+      }
+      if (cmp < 0) {
+        high = mid - 1;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Visits the records with created_at in [fromMicros, toMicros) in
+   * created_at order, reading only the blocks that overlap the range.
+   *
+   * @param visitor Returns false to stop the scan
+   * @return false if the visitor stopped the scan
+   */
+  public boolean scan(long fromMicros, long toMicros, Predicate<SegmentRecord> visitor) {
+    if (recordCount == 0 || toMicros <= minMicros || fromMicros > maxMicros) {
+      return true;
+    }
+    for (int b = firstBlockEndingAtOrAfter(fromMicros); b < blockCount; b++) {
+      int entry = blockDirOffset + b * SegmentFormat.BLOCK_ENTRY_SIZE;
+      if (mapped.getLong(entry + 20) >= toMicros) {
+        break; // Blocks are in created_at order
+      }
+      ByteBuffer block = readBlock(b);
+      int offset = 0;
+      while (offset < block.limit()) {
+        SegmentRecord record = readRecord(block, offset);
+        offset += SegmentFormat.RECORD_HEADER_SIZE + record.data().length;
+        if (record.createdAtMicros() >= toMicros) {
+          return true;
+        }
+        if (record.createdAtMicros() >= fromMicros && !visitor.test(record)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads and checks every block.
+   *
+   * @return Number of records found (must equal getRecordCount())
+   */
+  public long verify() {
+    long records = 0;
+    for (int b = 0; b < blockCount; b++) {
+      ByteBuffer block = readBlock(b);
+      int offset = 0;
+      while (offset < block.limit()) {
+        offset += SegmentFormat.RECORD_HEADER_SIZE + block.getInt(offset + 24);
+        records++;
+      }
+      if (offset != block.limit()) {
+        throw corrupted("block " + b + " has a truncated record");
+      }
+    }
+    if (records != recordCount) {
+      throw corrupted("expected " + recordCount + " records, found " + records);
+    }
+    return records;
+  }
+
+  private int firstBlockEndingAtOrAfter(long micros) {
+    int low = 0;
+    int high = blockCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      long blockMax = mapped.getLong(blockDirOffset + mid * SegmentFormat.BLOCK_ENTRY_SIZE + 28);
+      if (blockMax < micros) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private ByteBuffer readBlock(int index) {
+    int entry = blockDirOffset + index * SegmentFormat.BLOCK_ENTRY_SIZE;
+    int offset = toInt(mapped.getLong(entry));
+    int compressedLength = mapped.getInt(entry + 8);
+    int rawLength = mapped.getInt(entry + 12);
+
+    byte[] compressed = new byte[compressedLength];
+    mapped.get(offset, compressed);
+    CRC32C crc = new CRC32C();
+    crc.update(compressed);
+    if ((int) crc.getValue() != mapped.getInt(entry + 16)) {
+      throw corrupted("block " + index + " checksum mismatch");
+    }
+    return ByteBuffer.wrap(Zstd.decompress(compressed, rawLength));
+  }
+
+  private static SegmentRecord readRecord(ByteBuffer block, int offset) {
+    UUID id = new UUID(block.getLong(offset), block.getLong(offset + 8));
+    long micros = block.getLong(offset + 16);
+    int length = block.getInt(offset + 24);
+    int start = offset + SegmentFormat.RECORD_HEADER_SIZE;
+    return new SegmentRecord(id, micros, Arrays.copyOfRange(block.array(), start, start + length));
+  }
+
+  private int crc(int offset, int length) {
+    CRC32C crc = new CRC32C();
+    crc.update(mapped.slice(offset, length));
+    return (int) crc.getValue();
+  }
+
+  private boolean hasMagic(int offset) {
+    for (int i = 0; i < SegmentFormat.MAGIC.length; i++) {
+      if (mapped.get(offset + i) != SegmentFormat.MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int toInt(long offset) {
+    if (offset < 0 || offset > mapped.capacity()) {
+      throw corrupted("offset out of range: " + offset);
+    }
+    return (int) offset;
+  }
+
+  private SegmentCorruptedException corrupted(String reason) {
+    return new SegmentCorruptedException(file, reason);
+  }
+
+  /**
+   * One archived record.
+   */
+  public record SegmentRecord(UUID id, long createdAtMicros, byte[] data) {
+  }
+}
@@ -0,0 +1,197 @@
+package io.stl.stl_core.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Writes one archive segment (see SegmentFormat).
+ *
+ * Records must be appended in created_at order. Memory use is one block
+ * buffer plus 24 bytes per record for the id index, which is sorted and
+ * written on close. The file is forced to disk before close() returns;
+ * callers write to a temporary name and move the file into place.
+ */
+public final class SegmentWriter implements Closeable {
+
+  private final FileChannel channel;
+  private final int blockSize;
+  private final int compressionLevel;
+
+  private ByteBuffer block;
+  private long blockMinMicros;
+  private long blockMaxMicros;
+  private long position;
+
+  private final List<long[]> blockEntries = new ArrayList<>();
+  private final List<IndexEntry> indexEntries = new ArrayList<>();
+  private long minMicros = Long.MAX_VALUE;
+  private long maxMicros = Long.MIN_VALUE;
+  private boolean closed;
+
+  public SegmentWriter(Path file, int blockSize, int compressionLevel) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    this.blockSize = blockSize;
+    this.compressionLevel = compressionLevel;
+    this.block = ByteBuffer.allocate(blockSize);
+
+    ByteBuffer header = ByteBuffer.allocate(SegmentFormat.HEADER_SIZE);
+    header.put(SegmentFormat.MAGIC).putInt(SegmentFormat.VERSION).putInt(0).flip();
+    write(header);
+  }
+
+  /**
+   * Appends a record.
+   *
+   * @throws IllegalArgumentException if created_at goes backwards
+   */
+  public void append(UUID id, Instant createdAt, byte[] data) throws IOException {
+    long micros = SegmentFormat.toMicros(createdAt);
+    if (micros < maxMicros && maxMicros != Long.MIN_VALUE) {
+      throw new IllegalArgumentException("Records must be appended in created_at order: " + id);
+    }
+
+    int size = SegmentFormat.RECORD_HEADER_SIZE + data.length;
+    if (block.position() > 0 && block.position() + size > blockSize) {
+      flushBlock();
+    }
+    if (block.remaining() < size) {
+      block = ByteBuffer.allocate(Math.max(blockSize, size)); // Oversized record gets its own block
+    }
+    if (block.position() == 0) {
+      blockMinMicros = micros;
+    }
+    blockMaxMicros = micros;
+
+    indexEntries.add(new IndexEntry(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+        blockEntries.size(), block.position()));
+    block.putLong(id.getMostSignificantBits())
+        .putLong(id.getLeastSignificantBits())
+        .putLong(micros)
+        .putInt(data.length)
+        .put(data);
+
+    minMicros = Math.min(minMicros, micros);
+    maxMicros = micros;
+  }
+
+  public long getRecordCount() {
+    return indexEntries.size();
+  }
+
+  /**
+   * Bytes written so far (flushed blocks only).
+   */
+  public long getBytesWritten() {
+    return position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (block.position() > 0) {
+        flushBlock();
+      }
+      finish();
+      channel.force(true);
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void flushBlock() throws IOException {
+    byte[] raw = Arrays.copyOf(block.array(), block.position());
+    byte[] compressed = Zstd.compress(raw, compressionLevel);
+
+    CRC32C crc = new CRC32C();
+    crc.update(compressed);
+
+    blockEntries.add(new long[] { position, compressed.length, raw.length, crc.getValue(),
+        blockMinMicros, blockMaxMicros });
+    write(ByteBuffer.wrap(compressed));
+
+    if (block.capacity() != blockSize) {
+      block = ByteBuffer.allocate(blockSize);
+    } else {
+      block.clear();
+    }
+  }
+
+  private void finish() throws IOException {
+    long blockDirOffset = position;
+    CRC32C blockDirCrc = new CRC32C();
+    ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    for (long[] entry : blockEntries) {
+      if (buffer.remaining() < SegmentFormat.BLOCK_ENTRY_SIZE) {
+        writeChecksummed(buffer, blockDirCrc);
+      }
+      buffer.putLong(entry[0]).putInt((int) entry[1]).putInt((int) entry[2]).putInt((int) entry[3])
+          .putLong(entry[4]).putLong(entry[5]);
+    }
+    writeChecksummed(buffer, blockDirCrc);
+
+    long indexOffset = position;
+    CRC32C indexCrc = new CRC32C();
+    indexEntries.sort((a, b) -> SegmentFormat.compareIds(a.msb, a.lsb, b.msb, b.lsb));
+    for (int i = 0; i < indexEntries.size(); i++) {
+      IndexEntry entry = indexEntries.get(i);
+      if (i > 0) {
+        IndexEntry previous = indexEntries.get(i - 1);
+        if (previous.msb == entry.msb && previous.lsb == entry.lsb) {
+          throw new IllegalArgumentException("Duplicate record id: " + new UUID(entry.msb, entry.lsb));
+        }
+      }
+      if (buffer.remaining() < SegmentFormat.INDEX_ENTRY_SIZE) {
+        writeChecksummed(buffer, indexCrc);
+      }
+      buffer.putLong(entry.msb).putLong(entry.lsb).putInt(entry.block).putInt(entry.offset);
+    }
+    writeChecksummed(buffer, indexCrc);
+
+    boolean empty = indexEntries.isEmpty();
+    ByteBuffer footer = ByteBuffer.allocate(SegmentFormat.FOOTER_SIZE);
+    footer.putLong(blockDirOffset)
+        .putInt(blockEntries.size())
+        .putLong(indexOffset)
+        .putLong(indexEntries.size())
+        .putLong(empty ? 0 : minMicros)
+        .putLong(empty ? 0 : maxMicros)
+        .putInt((int) blockDirCrc.getValue())
+        .putInt((int) indexCrc.getValue());
+    CRC32C footerCrc = new CRC32C();
+    footerCrc.update(footer.array(), 0, SegmentFormat.FOOTER_CRC_OFFSET);
+    footer.putInt((int) footerCrc.getValue()).put(SegmentFormat.MAGIC).flip();
+    write(footer);
+  }
+
+  private void writeChecksummed(ByteBuffer buffer, CRC32C crc) throws IOException {
+    buffer.flip();
+    crc.update(buffer.duplicate());
+    write(buffer);
+    buffer.clear();
+  }
+
+  private void write(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer);
+    }
+  }
+
+  private record IndexEntry(long msb, long lsb, int block, int offset) {
+  }
+}
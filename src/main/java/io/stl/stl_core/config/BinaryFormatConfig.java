@@ -0,0 +1,56 @@
+package io.stl.stl_core.config;
+
+import java.util.List;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Binary response formats for internal high-rate consumers, negotiated with
+ * the Accept header next to JSON:
+ * - application/cbor
+ * - application/x-msgpack
+ *
+ * Both mappers come from the Boot-configured builder, so they serialize
+ * exactly the same properties (spring.jackson.*, modules) as the JSON one.
+ *
+ * The converters are added behind the JSON converter rather than declared as
+ * beans: HttpMessageConverters puts extra converter beans first, which would
+ * answer requests without an Accept header (or accepting any type) in a
+ * binary format. Spring's default CBOR converter, which uses an unconfigured
+ * mapper, is replaced.
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+  private final Jackson2ObjectMapperBuilder builder;
+
+  public BinaryFormatConfig(Jackson2ObjectMapperBuilder builder) {
+    this.builder = builder;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+
+    int json = converters.size() - 1;
+    for (int i = 0; i < converters.size(); i++) {
+      if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+        json = i;
+        break;
+      }
+    }
+
+    converters.add(json + 1, new MappingJackson2CborHttpMessageConverter(
+        builder.factory(new CBORFactory()).build()));
+    converters.add(json + 2, new MessagePackHttpMessageConverter(
+        builder.factory(new MessagePackFactory()).build()));
+  }
+}
@@ -0,0 +1,23 @@
+package io.stl.stl_core.config;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads and writes application/x-msgpack with Jackson (same object model and
+ * annotations as JSON, binary encoding).
+ */
+public class MessagePackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+  public static final MediaType APPLICATION_MSGPACK = new MediaType("application", "x-msgpack");
+
+  public MessagePackHttpMessageConverter(ObjectMapper objectMapper) {
+    super(objectMapper, APPLICATION_MSGPACK);
+    if (!(objectMapper.getFactory() instanceof MessagePackFactory)) {
+      throw new IllegalArgumentException("MessagePackFactory required");
+    }
+  }
+}
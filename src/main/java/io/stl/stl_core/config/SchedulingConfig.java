@@ -0,0 +1,15 @@
+package io.stl.stl_core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables background jobs (@Scheduled).
+ * Disabled with stl.scheduling.enabled=false (e.g. in tests).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "stl.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
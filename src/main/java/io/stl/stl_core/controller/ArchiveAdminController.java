@@ -0,0 +1,88 @@
+package io.stl.stl_core.controller;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.service.ArchiveJob;
+import io.stl.stl_core.service.ArchiveService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.ArchivePeriodResponse;
+
+/**
+ * Admin operations on the archive tier: archiving a month, listing archived
+ * periods and verifying segment files.
+ */
+@RestController
+@RequiresRole(UserRole.ADMIN)
+@RequestMapping("/api/v1/admin/archive")
+public class ArchiveAdminController {
+
+  private static final Logger log = LoggerFactory.getLogger(ArchiveAdminController.class);
+
+  private final ArchiveService archiveService;
+  private final ArchiveJob archiveJob;
+
+  public ArchiveAdminController(ArchiveService archiveService, ArchiveJob archiveJob) {
+    this.archiveService = archiveService;
+    this.archiveJob = archiveJob;
+  }
+
+  /**
+   * Archives one UTC month in the background.
+   *
+   * POST /api/v1/admin/archive/periods/2024-01
+   */
+  @PostMapping("/periods/{month}")
+  public ResponseEntity<ApiResponse<Void>> archiveMonth(@PathVariable String month) {
+    YearMonth period = parseMonth(month);
+    if (!archiveJob.startArchive(period)) {
+      throw new IllegalStateException("An archive run is already in progress");
+    }
+    log.info("Archive run started: month={}", period);
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(null));
+  }
+
+  /**
+   * Lists archived periods, oldest first.
+   *
+   * GET /api/v1/admin/archive/periods
+   */
+  @GetMapping("/periods")
+  public ResponseEntity<ApiResponse<List<ArchivePeriodResponse>>> listPeriods() {
+    return ResponseEntity.ok(ApiResponse.success(archiveService.listPeriods()));
+  }
+
+  /**
+   * Re-reads every segment and checks all checksums.
+   *
+   * GET /api/v1/admin/archive/verification
+   *
+   * @return Problems found, empty when all segments are intact
+   */
+  @GetMapping("/verification")
+  public ResponseEntity<ApiResponse<List<String>>> verify() {
+    return ResponseEntity.ok(ApiResponse.success(archiveService.verifySegments()));
+  }
+
+  private static YearMonth parseMonth(String month) {
+    try {
+      return YearMonth.parse(month);
+    } catch (DateTimeParseException ex) {
+      throw new IllegalArgumentException("Month must be formatted as yyyy-MM: " + month);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package io.stl.stl_core.controller;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.service.ArchiveService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.ArchivedTransactionResponse;
+
+/**
+ * REST Controller for archived transactions.
+ * Reads straight from the segment files - archived data is never restored
+ * into the live tables. Audit records are left out for callers without
+ * VIEW_AUDIT_LOGS.
+ */
+@RestController
+@RequiresPermission(Permission.VIEW_TRANSACTIONS)
+@RequestMapping("/api/v1/archive/transactions")
+public class ArchiveController {
+
+  private static final Logger log = LoggerFactory.getLogger(ArchiveController.class);
+
+  private final ArchiveService archiveService;
+
+  public ArchiveController(ArchiveService archiveService) {
+    this.archiveService = archiveService;
+  }
+
+  /**
+   * Gets an archived transaction with its participants, status history,
+   * audit records and locks.
+   *
+   * GET /api/v1/archive/transactions/{id}
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<ApiResponse<ArchivedTransactionResponse>> getArchivedTransaction(@PathVariable UUID id,
+      @AuthenticationPrincipal UserPrincipal user) {
+    ArchivedTransactionResponse transaction = archiveService.getArchivedTransaction(id);
+    if (!canReadAudit(user)) {
+      transaction.setAudit(null);
+    }
+    return ResponseEntity.ok(ApiResponse.success(transaction));
+  }
+
+  /**
+   * Lists archived transactions created in a time range, oldest first.
+   *
+   * GET /api/v1/archive/transactions?from=2024-01-01T00:00:00Z&to=2024-02-01T00:00:00Z&limit=100
+   *
+   * @param from  Inclusive start (ISO-8601)
+   * @param to    Exclusive end (ISO-8601)
+   * @param limit Max results (1-1000)
+   */
+  @GetMapping
+  public ResponseEntity<ApiResponse<List<ArchivedTransactionResponse>>> scan(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+      @RequestParam(defaultValue = "100") int limit,
+      @AuthenticationPrincipal UserPrincipal user) {
+
+    log.debug("Scanning archive: from={}, to={}, limit={}", from, to, limit);
+    List<ArchivedTransactionResponse> transactions = archiveService.scan(from, to, limit);
+    if (!canReadAudit(user)) {
+      transactions.forEach(transaction -> transaction.setAudit(null));
+    }
+    return ResponseEntity.ok(ApiResponse.success(transactions));
+  }
+
+  private static boolean canReadAudit(UserPrincipal user) {
+    return user.hasPermissions(Permission.VIEW_AUDIT_LOGS.mask());
+  }
+}
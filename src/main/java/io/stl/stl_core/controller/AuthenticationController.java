@@ -26,6 +26,8 @@ public class AuthenticationController {
 
   private static final Logger log = LoggerFactory.getLogger(AuthenticationController.class);
 
+  private static final String BEARER_PREFIX = "Bearer ";
+
   private final AuthenticationService authenticationService;
 
   public AuthenticationController(AuthenticationService authenticationService) {
@@ -71,23 +73,26 @@ public class AuthenticationController {
   }
 
   /**
-   * Logout endpoint - invalidates token (will be implemented with token blacklist
-   * in Phase 4).
+   * Logout endpoint - revokes the access token and, if sent in the body, the
+   * refresh token (token blacklist).
    * 
    * POST /api/v1/auth/logout
    * 
    * @param authorizationHeader Authorization header with Bearer token
+   * @param request             Optional refresh token to revoke as well
    * @return Success response
    */
   @PostMapping("/logout")
   public ResponseEntity<ApiResponse<Void>> logout(
-      @RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+      @RequestHeader(value = "Authorization", required = false) String authorizationHeader,
+      @RequestBody(required = false) RefreshTokenRequest request) {
 
     log.info("Logout request received");
 
-    // TODO Phase 4: Implement token blacklist
-    // For now, just return success
-    // Client should discard the token
+    String accessToken = authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)
+        ? authorizationHeader.substring(BEARER_PREFIX.length()).trim()
+        : null;
+    authenticationService.logout(accessToken, request != null ? request.getRefreshToken() : null);
 
     return ResponseEntity.ok(ApiResponse.success(null));
   }
@@ -0,0 +1,100 @@
+package io.stl.stl_core.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.service.BalanceMaintenanceJob;
+import io.stl.stl_core.service.BalanceService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.BalanceDiscrepancyResponse;
+
+/**
+ * Admin operations on balance snapshots: rebuild, checkpoint and
+ * reconciliation.
+ */
+@RestController
+@RequiresRole(UserRole.ADMIN)
+@RequestMapping("/api/v1/admin/balances")
+public class BalanceAdminController {
+
+  private static final Logger log = LoggerFactory.getLogger(BalanceAdminController.class);
+
+  private static final int MAX_RECONCILE_LIMIT = 1000;
+
+  private final BalanceService balanceService;
+  private final BalanceMaintenanceJob balanceMaintenanceJob;
+
+  public BalanceAdminController(BalanceService balanceService, BalanceMaintenanceJob balanceMaintenanceJob) {
+    this.balanceService = balanceService;
+    this.balanceMaintenanceJob = balanceMaintenanceJob;
+  }
+
+  /**
+   * Starts a full rebuild of all snapshots in the background.
+   *
+   * POST /api/v1/admin/balances/rebuild?resetCheckpoints=false
+   */
+  @PostMapping("/rebuild")
+  public ResponseEntity<ApiResponse<Void>> rebuildAll(
+      @RequestParam(defaultValue = "false") boolean resetCheckpoints) {
+
+    if (!balanceMaintenanceJob.startRebuild(resetCheckpoints)) {
+      throw new IllegalStateException("Balance rebuild already running");
+    }
+    log.info("Balance rebuild started: resetCheckpoints={}", resetCheckpoints);
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(null));
+  }
+
+  /**
+   * Rebuilds the snapshots of one participant.
+   *
+   * POST /api/v1/admin/balances/rebuild/{participantId}
+   */
+  @PostMapping("/rebuild/{participantId}")
+  public ResponseEntity<ApiResponse<Void>> rebuildParticipant(@PathVariable UUID participantId) {
+    balanceService.rebuildParticipant(participantId);
+    return ResponseEntity.ok(ApiResponse.success(null));
+  }
+
+  /**
+   * Writes the next round of checkpoints now instead of waiting for the job.
+   *
+   * POST /api/v1/admin/balances/checkpoints
+   *
+   * @return Number of checkpoints written (-1 if another node is writing them)
+   */
+  @PostMapping("/checkpoints")
+  public ResponseEntity<ApiResponse<Integer>> writeCheckpoints() {
+    return ResponseEntity.ok(ApiResponse.success(balanceService.writeCheckpoints()));
+  }
+
+  /**
+   * Compares all snapshots with the participants table.
+   *
+   * GET /api/v1/admin/balances/reconciliation?limit=100
+   */
+  @GetMapping("/reconciliation")
+  public ResponseEntity<ApiResponse<List<BalanceDiscrepancyResponse>>> reconcile(
+      @RequestParam(defaultValue = "100") int limit) {
+
+    if (limit < 1 || limit > MAX_RECONCILE_LIMIT) {
+      throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RECONCILE_LIMIT);
+    }
+
+    return ResponseEntity.ok(ApiResponse.success(balanceService.findDiscrepancies(limit)));
+  }
+}
@@ -0,0 +1,118 @@
+package io.stl.stl_core.controller;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.service.ExportService;
+import io.stl.stl_core.service.dto.request.ExportRequest;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.ExportJobResponse;
+import jakarta.validation.Valid;
+
+/**
+ * REST Controller for auditor exports (EXPORT_DATA).
+ * Exports run in the background: start one, poll it, then download the file.
+ * Each export belongs to the user who started it; admins see every export.
+ */
+@RestController
+@RequiresPermission(Permission.EXPORT_DATA)
+@RequestMapping("/api/v1/exports")
+public class ExportController {
+
+  private final ExportService exportService;
+
+  public ExportController(ExportService exportService) {
+    this.exportService = exportService;
+  }
+
+  /**
+   * Starts an export.
+   *
+   * POST /api/v1/exports
+   *
+   * @return Export in QUEUED status with 202
+   */
+  @PostMapping
+  public ResponseEntity<ApiResponse<ExportJobResponse>> startExport(@Valid @RequestBody ExportRequest request,
+      @AuthenticationPrincipal UserPrincipal user) {
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(ApiResponse.success(exportService.startExport(request, user.getId())));
+  }
+
+  /**
+   * Lists the caller's exports on this node (all of them for an admin),
+   * newest first.
+   *
+   * GET /api/v1/exports
+   */
+  @GetMapping
+  public ResponseEntity<ApiResponse<List<ExportJobResponse>>> listExports(
+      @AuthenticationPrincipal UserPrincipal user) {
+    return ResponseEntity.ok(ApiResponse.success(exportService.listExports(user.getId(), isAdmin(user))));
+  }
+
+  /**
+   * Gets the status and progress (rows and bytes written) of an export.
+   *
+   * GET /api/v1/exports/{id}
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<ApiResponse<ExportJobResponse>> getExport(@PathVariable UUID id,
+      @AuthenticationPrincipal UserPrincipal user) {
+    return ResponseEntity.ok(ApiResponse.success(exportService.getExport(id, user.getId(), isAdmin(user))));
+  }
+
+  /**
+   * Downloads a completed export (streamed from disk).
+   *
+   * GET /api/v1/exports/{id}/file
+   */
+  @GetMapping("/{id}/file")
+  public ResponseEntity<Resource> downloadExport(@PathVariable UUID id,
+      @AuthenticationPrincipal UserPrincipal user) {
+    Path file = exportService.getExportFile(id, user.getId(), isAdmin(user));
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+        .body(new FileSystemResource(file));
+  }
+
+  /**
+   * Cancels a running export, or deletes a finished one.
+   *
+   * DELETE /api/v1/exports/{id}
+   */
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Void> cancelExport(@PathVariable UUID id,
+      @AuthenticationPrincipal UserPrincipal user) {
+    exportService.cancelExport(id, user.getId(), isAdmin(user));
+    return ResponseEntity.noContent().build();
+  }
+
+  private static boolean isAdmin(UserPrincipal user) {
+    return user.getRole() == UserRole.ADMIN;
+  }
+}
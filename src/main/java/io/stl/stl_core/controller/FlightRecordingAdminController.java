@@ -0,0 +1,88 @@
+package io.stl.stl_core.controller;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.observability.jfr.FlightRecordingService;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.FlightRecordingResponse;
+
+/**
+ * Java Flight Recorder recordings of this node (ADMIN role only), for
+ * investigating latency spikes without debug logging. Open the downloaded
+ * file in JDK Mission Control or with the jfr tool.
+ */
+@RestController
+@RequiresRole(UserRole.ADMIN)
+@RequestMapping("/api/v1/admin/recordings")
+public class FlightRecordingAdminController {
+
+  private final FlightRecordingService recordingService;
+
+  public FlightRecordingAdminController(FlightRecordingService recordingService) {
+    this.recordingService = recordingService;
+  }
+
+  /**
+   * Starts a recording; it stops by itself after the duration.
+   *
+   * POST /api/v1/admin/recordings?duration=PT5M&threshold=PT0S
+   *
+   * @param threshold Lower threshold for the STL events (default: per event)
+   */
+  @PostMapping
+  public ResponseEntity<ApiResponse<FlightRecordingResponse>> startRecording(
+      @RequestParam(defaultValue = "PT5M") Duration duration,
+      @RequestParam(required = false) Duration threshold) {
+    return ResponseEntity.ok(ApiResponse.success(recordingService.start(duration, threshold)));
+  }
+
+  /**
+   * Stops the running recording early.
+   *
+   * POST /api/v1/admin/recordings/stop
+   */
+  @PostMapping("/stop")
+  public ResponseEntity<ApiResponse<FlightRecordingResponse>> stopRecording() {
+    return ResponseEntity.ok(ApiResponse.success(recordingService.stop()));
+  }
+
+  /**
+   * Gets the state of the current or last recording.
+   *
+   * GET /api/v1/admin/recordings
+   */
+  @GetMapping
+  public ResponseEntity<ApiResponse<FlightRecordingResponse>> getRecording() {
+    return ResponseEntity.ok(ApiResponse.success(recordingService.getRecording()));
+  }
+
+  /**
+   * Downloads the last finished recording (.jfr).
+   *
+   * GET /api/v1/admin/recordings/file
+   */
+  @GetMapping("/file")
+  public ResponseEntity<Resource> downloadRecording() {
+    Path file = recordingService.getRecordingFile();
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+        .body(new FileSystemResource(file));
+  }
+}
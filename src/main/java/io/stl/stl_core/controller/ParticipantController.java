@@ -0,0 +1,102 @@
+package io.stl.stl_core.controller;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.service.BalanceService;
+import io.stl.stl_core.service.ParticipantHistoryService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.ParticipantBalanceResponse;
+import io.stl.stl_core.service.dto.response.ParticipantHistoryResponse;
+
+/**
+ * REST Controller for participant (user or business entity) views.
+ * Read-only - participants are linked to transactions on creation.
+ */
+@RestController
+@RequiresPermission(Permission.VIEW_TRANSACTIONS)
+@RequestMapping("/api/v1/participants")
+public class ParticipantController {
+
+  private static final Logger log = LoggerFactory.getLogger(ParticipantController.class);
+
+  private final ParticipantHistoryService participantHistoryService;
+  private final BalanceService balanceService;
+
+  public ParticipantController(ParticipantHistoryService participantHistoryService,
+      BalanceService balanceService) {
+    this.participantHistoryService = participantHistoryService;
+    this.balanceService = balanceService;
+  }
+
+  /**
+   * Gets a page of a participant's account history, newest first.
+   *
+   * GET /api/v1/participants/{participantId}/history?cursor=...&size=50
+   *
+   * @param participantId User or entity UUID
+   * @param cursor        nextCursor from the previous page (omit for the first
+   *                      page)
+   * @param size          Page size (max 500)
+   * @return Entries with role, amount, current status and running totals
+   */
+  @GetMapping("/{participantId}/history")
+  public ResponseEntity<ApiResponse<ParticipantHistoryResponse>> getHistory(
+      @PathVariable UUID participantId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "" + ParticipantHistoryService.DEFAULT_PAGE_SIZE) int size) {
+
+    log.debug("Retrieving history for participant: id={}, size={}", participantId, size);
+
+    ParticipantHistoryResponse response = participantHistoryService.getHistory(participantId, cursor, size);
+
+    return ResponseEntity.ok(ApiResponse.success(response));
+  }
+
+  /**
+   * Gets a participant's current balances, one per currency.
+   *
+   * GET /api/v1/participants/{participantId}/balances
+   */
+  @GetMapping("/{participantId}/balances")
+  public ResponseEntity<ApiResponse<List<ParticipantBalanceResponse>>> getBalances(
+      @PathVariable UUID participantId) {
+
+    List<ParticipantBalanceResponse> balances = balanceService.getBalances(participantId);
+
+    return ResponseEntity.ok(ApiResponse.success(balances));
+  }
+
+  /**
+   * Gets a participant's balance in one currency, now or at a point in time.
+   *
+   * GET /api/v1/participants/{participantId}/balances/{currencyCode}?asOf=2025-01-31T23:59:59Z
+   *
+   * @param asOf ISO-8601 timestamp (omit for the current balance)
+   */
+  @GetMapping("/{participantId}/balances/{currencyCode}")
+  public ResponseEntity<ApiResponse<ParticipantBalanceResponse>> getBalance(
+      @PathVariable UUID participantId,
+      @PathVariable String currencyCode,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+
+    log.debug("Retrieving balance: participant={}, currency={}, asOf={}", participantId, currencyCode, asOf);
+
+    ParticipantBalanceResponse balance = balanceService.getBalance(participantId, currencyCode, asOf);
+
+    return ResponseEntity.ok(ApiResponse.success(balance));
+  }
+}
@@ -0,0 +1,91 @@
+package io.stl.stl_core.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.service.PayloadIndexService;
+import io.stl.stl_core.service.dto.request.PayloadIndexDefinitionRequest;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.PayloadIndexDefinitionResponse;
+import jakarta.validation.Valid;
+
+/**
+ * Admin operations on payload indexes.
+ * Indexes are built and dropped in the background; poll the list for status.
+ */
+@RestController
+@RequiresRole(UserRole.ADMIN)
+@RequestMapping("/api/v1/admin/payload-indexes")
+public class PayloadIndexAdminController {
+
+  private final PayloadIndexService payloadIndexService;
+
+  public PayloadIndexAdminController(PayloadIndexService payloadIndexService) {
+    this.payloadIndexService = payloadIndexService;
+  }
+
+  /**
+   * Declares a payload index for a transaction type.
+   *
+   * POST /api/v1/admin/payload-indexes
+   *
+   * @return Definition in PENDING status with 202
+   */
+  @PostMapping
+  public ResponseEntity<ApiResponse<PayloadIndexDefinitionResponse>> define(
+      @Valid @RequestBody PayloadIndexDefinitionRequest request,
+      @AuthenticationPrincipal UserPrincipal admin) {
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(ApiResponse.success(payloadIndexService.define(request, admin.getId())));
+  }
+
+  /**
+   * Lists the payload indexes of a transaction type with their status.
+   *
+   * GET /api/v1/admin/payload-indexes?typeId=...
+   */
+  @GetMapping
+  public ResponseEntity<ApiResponse<List<PayloadIndexDefinitionResponse>>> list(@RequestParam UUID typeId) {
+    return ResponseEntity.ok(ApiResponse.success(payloadIndexService.listDefinitions(typeId)));
+  }
+
+  /**
+   * Re-queues a FAILED index.
+   *
+   * POST /api/v1/admin/payload-indexes/{id}/retry
+   */
+  @PostMapping("/{id}/retry")
+  public ResponseEntity<ApiResponse<PayloadIndexDefinitionResponse>> retry(@PathVariable UUID id) {
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(ApiResponse.success(payloadIndexService.retry(id)));
+  }
+
+  /**
+   * Schedules an index for removal.
+   *
+   * DELETE /api/v1/admin/payload-indexes/{id}
+   */
+  @DeleteMapping("/{id}")
+  public ResponseEntity<ApiResponse<PayloadIndexDefinitionResponse>> drop(@PathVariable UUID id) {
+    return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(ApiResponse.success(payloadIndexService.requestDrop(id)));
+  }
+}
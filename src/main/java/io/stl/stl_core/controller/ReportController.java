@@ -0,0 +1,67 @@
+package io.stl.stl_core.controller;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.model.enums.RollupGranularity;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.service.RollupService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.TransactionRollupResponse;
+
+/**
+ * REST Controller for reporting dashboards.
+ * Answers from pre-aggregated rollups - never scans raw transactions.
+ */
+@RestController
+@RequiresPermission(Permission.VIEW_REPORTS)
+@RequestMapping("/api/v1/reports")
+public class ReportController {
+
+  private static final Logger log = LoggerFactory.getLogger(ReportController.class);
+
+  private final RollupService rollupService;
+
+  public ReportController(RollupService rollupService) {
+    this.rollupService = rollupService;
+  }
+
+  /**
+   * Gets transaction count and amount per bucket, currency, type and status.
+   *
+   * GET /api/v1/reports/rollups?granularity=HOUR&from=2025-01-01T00:00:00Z&to=...&currencyCode=USD
+   *
+   * @param granularity MINUTE (max 1 day), HOUR (max 92 days) or DAY
+   * @param from        Inclusive start (ISO-8601)
+   * @param to          Exclusive end (ISO-8601, defaults to now)
+   */
+  @GetMapping("/rollups")
+  public ResponseEntity<ApiResponse<List<TransactionRollupResponse>>> getRollups(
+      @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+      @RequestParam(required = false) String currencyCode,
+      @RequestParam(required = false) UUID typeId,
+      @RequestParam(required = false) TransactionStatus status) {
+
+    OffsetDateTime end = to != null ? to : OffsetDateTime.now();
+    log.debug("Retrieving rollups: granularity={}, from={}, to={}", granularity, from, end);
+
+    List<TransactionRollupResponse> rows = rollupService.getReport(granularity, from, end, currencyCode,
+        typeId, status);
+
+    return ResponseEntity.ok(ApiResponse.success(rows));
+  }
+}
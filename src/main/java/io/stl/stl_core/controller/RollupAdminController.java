@@ -0,0 +1,56 @@
+package io.stl.stl_core.controller;
+
+import java.time.OffsetDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.service.RollupService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+
+/**
+ * Admin operations on reporting rollups.
+ */
+@RestController
+@RequiresRole(UserRole.ADMIN)
+@RequestMapping("/api/v1/admin/rollups")
+public class RollupAdminController {
+
+  private final RollupService rollupService;
+
+  public RollupAdminController(RollupService rollupService) {
+    this.rollupService = rollupService;
+  }
+
+  /**
+   * Recomputes the rollups for transactions created in a range (widened to
+   * whole UTC days).
+   *
+   * POST /api/v1/admin/rollups/recompute?from=...&to=...
+   *
+   * @return Number of rollup rows written
+   */
+  @PostMapping("/recompute")
+  public ResponseEntity<ApiResponse<Integer>> recompute(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+    return ResponseEntity.ok(ApiResponse.success(rollupService.recompute(from, to)));
+  }
+
+  /**
+   * Number of status changes waiting to be applied (rollup lag indicator).
+   *
+   * GET /api/v1/admin/rollups/pending
+   */
+  @GetMapping("/pending")
+  public ResponseEntity<ApiResponse<Long>> pending() {
+    return ResponseEntity.ok(ApiResponse.success(rollupService.countPendingEvents()));
+  }
+}
@@ -1,28 +1,42 @@
 package io.stl.stl_core.controller;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.stl.stl_core.model.entity.Transaction;
 import io.stl.stl_core.model.entity.TransactionAudit;
 import io.stl.stl_core.model.entity.TransactionStatusHistory;
 import io.stl.stl_core.model.enums.ActorType;
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.projection.TransactionSummary;
 import io.stl.stl_core.repository.TransactionAuditRepository;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.service.ArchiveService;
+import io.stl.stl_core.service.PayloadQueryService;
 import io.stl.stl_core.service.StatusService;
+import io.stl.stl_core.service.TransactionDetailService;
 import io.stl.stl_core.service.TransactionService;
+import io.stl.stl_core.service.dto.request.PayloadQueryRequest;
 import io.stl.stl_core.service.dto.request.TransactionCreateRequest;
 import io.stl.stl_core.service.dto.response.ApiResponse;
+import io.stl.stl_core.service.dto.response.TransactionDetailResponse;
 import io.stl.stl_core.service.dto.response.TransactionResponse;
 import io.stl.stl_core.service.mapper.TransactionMapper;
 import jakarta.validation.Valid;
@@ -36,6 +50,11 @@ import jakarta.validation.Valid;
  * - NO DELETE endpoints (no deletions)
  * 
  * All business logic is delegated to TransactionService.
+ * 
+ * Read endpoints omit transaction payloads unless called with
+ * ?include=payload, so large payloads are only fetched deliberately, and
+ * accept fields= (e.g. fields=id,amount,currencyCode,currentStatus) to
+ * return, and query, only the listed fields.
  */
 @RestController
 @RequestMapping("/api/v1/transactions")
@@ -47,15 +66,24 @@ public class TransactionController {
   private final TransactionMapper transactionMapper;
   private final StatusService statusService;
   private final TransactionAuditRepository auditRepository;
+  private final PayloadQueryService payloadQueryService;
+  private final TransactionDetailService detailService;
+  private final ArchiveService archiveService;
 
   public TransactionController(TransactionService transactionService,
       TransactionMapper transactionMapper,
       StatusService statusService,
-      TransactionAuditRepository auditRepository) {
+      TransactionAuditRepository auditRepository,
+      PayloadQueryService payloadQueryService,
+      TransactionDetailService detailService,
+      ArchiveService archiveService) {
     this.transactionService = transactionService;
     this.transactionMapper = transactionMapper;
     this.statusService = statusService;
     this.auditRepository = auditRepository;
+    this.payloadQueryService = payloadQueryService;
+    this.detailService = detailService;
+    this.archiveService = archiveService;
   }
 
   /**
@@ -64,11 +92,12 @@ public class TransactionController {
    * @param request Transaction creation request with validation
    * @return Created transaction with 201 status
    */
+  @RequiresPermission(Permission.CREATE_TRANSACTION)
   @PostMapping
   public ResponseEntity<ApiResponse<TransactionResponse>> createTransaction(
       @Valid @RequestBody TransactionCreateRequest request) {
 
-    log.info("Creating transaction: type={}, amount={}, currency={}",
+    log.debug("Creating transaction: type={}, amount={}, currency={}",
         request.getTypeId(), request.getAmount(), request.getCurrencyCode());
 
     // TODO Sprint 3: Get actual user from SecurityContext
@@ -92,17 +121,25 @@ public class TransactionController {
   /**
    * Retrieves a transaction by ID.
    * 
-   * @param id Transaction UUID
+   * @param id      Transaction UUID
+   * @param fields  Optional response fields (default: all but the payload)
+   * @param include Optional "payload" to include the payload
    * @return Transaction details
    */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
   @GetMapping("/{id}")
   public ResponseEntity<ApiResponse<TransactionResponse>> getTransaction(
-      @PathVariable UUID id) {
+      @PathVariable UUID id,
+      @RequestParam(defaultValue = "") List<String> fields,
+      @RequestParam(defaultValue = "") List<String> include) {
 
     log.debug("Retrieving transaction: id={}", id);
 
-    Transaction transaction = transactionService.getTransactionById(id);
-    TransactionResponse response = transactionMapper.toResponse(transaction);
+    Set<TransactionField> selected = TransactionField.select(fields, include);
+    Optional<TransactionSummary> summary = transactionService.findTransactionSummary(id, selected);
+    TransactionResponse response = summary.isPresent()
+        ? transactionMapper.toResponseList(List.of(summary.get()), selected).get(0)
+        : transactionMapper.toResponse(transactionService.getTransactionById(id), selected);
 
     return ResponseEntity.ok(ApiResponse.success(response));
   }
@@ -112,15 +149,21 @@ public class TransactionController {
    * 
    * TODO: Add pagination, filtering, and sorting in future iterations.
    * 
+   * @param fields  Optional response fields (default: all but the payload)
+   * @param include Optional "payload" to include payloads
    * @return List of all transactions
    */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
   @GetMapping
-  public ResponseEntity<ApiResponse<List<TransactionResponse>>> getAllTransactions() {
+  public ResponseEntity<ApiResponse<List<TransactionResponse>>> getAllTransactions(
+      @RequestParam(defaultValue = "") List<String> fields,
+      @RequestParam(defaultValue = "") List<String> include) {
 
     log.debug("Retrieving all transactions");
 
-    List<Transaction> transactions = transactionService.getAllTransactions();
-    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions);
+    Set<TransactionField> selected = TransactionField.select(fields, include);
+    List<TransactionSummary> transactions = transactionService.getAllTransactions(selected);
+    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions, selected);
 
     return ResponseEntity.ok(ApiResponse.success(responses));
   }
@@ -128,17 +171,23 @@ public class TransactionController {
   /**
    * Gets transactions by type.
    * 
-   * @param typeId Transaction type UUID
+   * @param typeId  Transaction type UUID
+   * @param fields  Optional response fields (default: all but the payload)
+   * @param include Optional "payload" to include payloads
    * @return List of transactions of the specified type
    */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
   @GetMapping("/by-type/{typeId}")
   public ResponseEntity<ApiResponse<List<TransactionResponse>>> getTransactionsByType(
-      @PathVariable UUID typeId) {
+      @PathVariable UUID typeId,
+      @RequestParam(defaultValue = "") List<String> fields,
+      @RequestParam(defaultValue = "") List<String> include) {
 
     log.debug("Retrieving transactions by type: typeId={}", typeId);
 
-    List<Transaction> transactions = transactionService.getTransactionsByType(typeId);
-    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions);
+    Set<TransactionField> selected = TransactionField.select(fields, include);
+    List<TransactionSummary> transactions = transactionService.getTransactionsByType(typeId, selected);
+    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions, selected);
 
     return ResponseEntity.ok(ApiResponse.success(responses));
   }
@@ -147,34 +196,106 @@ public class TransactionController {
    * Gets transactions by currency.
    * 
    * @param currencyCode ISO 4217 currency code (e.g., USD, EUR)
+   * @param fields       Optional response fields (default: all but the payload)
+   * @param include      Optional "payload" to include payloads
    * @return List of transactions in the specified currency
    */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
   @GetMapping("/by-currency/{currencyCode}")
   public ResponseEntity<ApiResponse<List<TransactionResponse>>> getTransactionsByCurrency(
-      @PathVariable String currencyCode) {
+      @PathVariable String currencyCode,
+      @RequestParam(defaultValue = "") List<String> fields,
+      @RequestParam(defaultValue = "") List<String> include) {
 
     log.debug("Retrieving transactions by currency: code={}", currencyCode);
 
-    List<Transaction> transactions = transactionService.getTransactionsByCurrency(currencyCode);
-    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions);
+    Set<TransactionField> selected = TransactionField.select(fields, include);
+    List<TransactionSummary> transactions = transactionService.getTransactionsByCurrency(currencyCode, selected);
+    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions, selected);
 
     return ResponseEntity.ok(ApiResponse.success(responses));
   }
 
+  /**
+   * Finds transactions of one type by payload content (read-only).
+   * Filters must be backed by a READY payload index of the type, otherwise
+   * the query is rejected with PAYLOAD_QUERY_NOT_INDEXED.
+   * 
+   * POST /api/v1/transactions/payload-query
+   * 
+   * @param request Type, payload filters and optional created_at range
+   * @param fields  Optional response fields (default: all but the payload)
+   * @param include Optional "payload" to include payloads
+   * @return Matching transactions, newest first
+   */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
+  @PostMapping("/payload-query")
+  public ResponseEntity<ApiResponse<List<TransactionResponse>>> queryByPayload(
+      @Valid @RequestBody PayloadQueryRequest request,
+      @RequestParam(defaultValue = "") List<String> fields,
+      @RequestParam(defaultValue = "") List<String> include) {
+
+    log.debug("Payload query: typeId={}", request.getTypeId());
+
+    Set<TransactionField> selected = TransactionField.select(fields, include);
+    List<TransactionSummary> transactions = payloadQueryService.query(request, selected);
+    List<TransactionResponse> responses = transactionMapper.toResponseList(transactions, selected);
+
+    return ResponseEntity.ok(ApiResponse.success(responses));
+  }
+
+  /**
+   * Gets everything needed to render one transaction in a single call:
+   * the transaction, participants, status history, active locks and the
+   * most recent audit records. Loaded with a fixed number of queries.
+   * Audit records are only returned to callers with VIEW_AUDIT_LOGS, the
+   * permission /{id}/audit requires.
+   * 
+   * GET /api/v1/transactions/{id}/detail
+   * 
+   * @param id         Transaction UUID
+   * @param fields     Optional fields of the transaction itself
+   * @param include    Optional "payload" to include the payload
+   * @param auditLimit Number of most recent audit records (1-100)
+   * @param user       Authenticated caller
+   * @return Transaction detail aggregate
+   */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
+  @GetMapping("/{id}/detail")
+  public ResponseEntity<ApiResponse<TransactionDetailResponse>> getTransactionDetail(
+      @PathVariable UUID id,
+      @RequestParam(defaultValue = "") List<String> fields,
+      @RequestParam(defaultValue = "") List<String> include,
+      @RequestParam(defaultValue = "" + TransactionDetailService.DEFAULT_AUDIT_LIMIT) int auditLimit,
+      @AuthenticationPrincipal UserPrincipal user) {
+
+    log.debug("Retrieving transaction detail: id={}", id);
+
+    TransactionDetailResponse detail = detailService.getDetail(id, TransactionField.select(fields, include),
+        auditLimit, user.hasPermissions(Permission.VIEW_AUDIT_LOGS.mask()));
+
+    return ResponseEntity.ok(ApiResponse.success(detail));
+  }
+
   /**
    * Gets the status history for a transaction.
-   * Shows all status changes in chronological order.
+   * Shows all status changes in chronological order. Archived transactions
+   * are served from their archive segment (same properties).
    * 
    * @param id Transaction UUID
    * @return List of status changes
    */
+  @RequiresPermission(Permission.VIEW_TRANSACTIONS)
   @GetMapping("/{id}/status-history")
-  public ResponseEntity<ApiResponse<List<TransactionStatusHistory>>> getStatusHistory(
+  public ResponseEntity<ApiResponse<List<?>>> getStatusHistory(
       @PathVariable UUID id) {
 
     log.debug("Retrieving status history for transaction: id={}", id);
 
     Transaction transaction = transactionService.getTransactionById(id);
+    if (transaction.isArchived()) {
+      return ResponseEntity.ok(ApiResponse.success(archiveService.getArchivedTransaction(id).getStatusHistory()));
+    }
     List<TransactionStatusHistory> history = statusService.getStatusHistory(transaction);
 
     return ResponseEntity.ok(ApiResponse.success(history));
@@ -182,19 +303,24 @@ public class TransactionController {
 
   /**
    * Gets the audit trail for a transaction.
-   * Shows all actions performed on the transaction.
+   * Shows all actions performed on the transaction. Archived transactions
+   * are served from their archive segment (same properties).
    * 
    * @param id Transaction UUID
    * @return List of audit entries
    */
+  @RequiresPermission(Permission.VIEW_AUDIT_LOGS)
   @GetMapping("/{id}/audit")
-  public ResponseEntity<ApiResponse<List<TransactionAudit>>> getAuditTrail(
+  public ResponseEntity<ApiResponse<List<?>>> getAuditTrail(
       @PathVariable UUID id) {
 
     log.debug("Retrieving audit trail for transaction: id={}", id);
 
-    // Verify transaction exists
-    transactionService.getTransactionById(id);
+    // Verify transaction exists; archived rows no longer are in the live tables
+    Transaction transaction = transactionService.getTransactionById(id);
+    if (transaction.isArchived()) {
+      return ResponseEntity.ok(ApiResponse.success(archiveService.getArchivedTransaction(id).getAudit()));
+    }
 
     List<TransactionAudit> audits = auditRepository.findByTransactionId(id);
 
@@ -0,0 +1,54 @@
+package io.stl.stl_core.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.security.service.UserAdminService;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+
+/**
+ * Admin operations on user access (ADMIN role only).
+ * Changes apply to this node's next request and cluster-wide within the
+ * security-state cache TTL.
+ */
+@RestController
+@RequiresRole(UserRole.ADMIN)
+@RequestMapping("/api/v1/admin/users")
+public class UserAdminController {
+
+  private final UserAdminService userAdminService;
+
+  public UserAdminController(UserAdminService userAdminService) {
+    this.userAdminService = userAdminService;
+  }
+
+  /**
+   * Enables or disables a user.
+   *
+   * PUT /api/v1/admin/users/{id}/enabled?enabled=false
+   */
+  @PutMapping("/{id}/enabled")
+  public ResponseEntity<ApiResponse<Void>> setEnabled(@PathVariable UUID id, @RequestParam boolean enabled) {
+    userAdminService.setEnabled(id, enabled);
+    return ResponseEntity.ok(ApiResponse.success(null));
+  }
+
+  /**
+   * Changes the role of a user.
+   *
+   * PUT /api/v1/admin/users/{id}/role?role=READER
+   */
+  @PutMapping("/{id}/role")
+  public ResponseEntity<ApiResponse<Void>> changeRole(@PathVariable UUID id, @RequestParam UserRole role) {
+    userAdminService.changeRole(id, role);
+    return ResponseEntity.ok(ApiResponse.success(null));
+  }
+}
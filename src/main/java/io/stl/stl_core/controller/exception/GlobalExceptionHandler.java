@@ -5,13 +5,17 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import io.stl.stl_core.exception.ResourceNotFoundException;
+import io.stl.stl_core.exception.ServiceOverloadedException;
 import io.stl.stl_core.service.TransactionService;
 import io.stl.stl_core.service.TransactionValidationService.TransactionValidationException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -107,6 +111,75 @@ public class GlobalExceptionHandler {
         .body(errorResponse);
   }
 
+  /**
+   * Handles missing resources other than transactions.
+   * Returns 404 NOT FOUND.
+   */
+  @ExceptionHandler(ResourceNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+      ResourceNotFoundException ex,
+      HttpServletRequest request) {
+
+    log.warn("Resource not found: {}", ex.getMessage());
+
+    ErrorResponse errorResponse = new ErrorResponse(
+        "RESOURCE_NOT_FOUND",
+        ex.getMessage(),
+        HttpStatus.NOT_FOUND.value(),
+        request.getRequestURI());
+
+    return ResponseEntity
+        .status(HttpStatus.NOT_FOUND)
+        .body(errorResponse);
+  }
+
+  /**
+   * Handles authorization failures (@RequiresRole, @RequiresPermission).
+   * Returns 403 FORBIDDEN.
+   */
+  @ExceptionHandler(AccessDeniedException.class)
+  public ResponseEntity<ErrorResponse> handleAccessDeniedException(
+      AccessDeniedException ex,
+      HttpServletRequest request) {
+
+    log.warn("Access denied: {}", request.getRequestURI());
+
+    ErrorResponse errorResponse = new ErrorResponse(
+        "ACCESS_DENIED",
+        ex.getMessage(),
+        HttpStatus.FORBIDDEN.value(),
+        request.getRequestURI());
+
+    return ResponseEntity
+        .status(HttpStatus.FORBIDDEN)
+        .body(errorResponse);
+  }
+
+  /**
+   * Handles load shedding (saturated bounded pools).
+   * Returns 503 SERVICE UNAVAILABLE with Retry-After in whole seconds, like
+   * the 429 responses of RateLimitFilter.
+   */
+  @ExceptionHandler(ServiceOverloadedException.class)
+  public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+      ServiceOverloadedException ex,
+      HttpServletRequest request) {
+
+    log.warn("Request shed: {} - {}", request.getRequestURI(), ex.getMessage());
+
+    long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    ErrorResponse errorResponse = new ErrorResponse(
+        "SERVICE_OVERLOADED",
+        ex.getMessage(),
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        request.getRequestURI());
+
+    return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(seconds))
+        .body(errorResponse);
+  }
+
   /**
    * Handles illegal state errors (e.g., invalid status transitions).
    * Returns 409 CONFLICT.
@@ -0,0 +1,105 @@
+package io.stl.stl_core.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Archived time range - APPEND-ONLY.
+ * Transactions created in [periodStart, periodEnd) and their related rows
+ * live in the period's segment files, not in the database.
+ */
+@Entity
+@Table(name = "archive_periods")
+@Immutable
+public class ArchivePeriod {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @Column(name = "period_start", nullable = false, unique = true)
+  private OffsetDateTime periodStart;
+
+  @Column(name = "period_end", nullable = false)
+  private OffsetDateTime periodEnd;
+
+  @Column(name = "transaction_count", nullable = false)
+  private long transactionCount;
+
+  @Column(name = "related_row_count", nullable = false)
+  private long relatedRowCount;
+
+  @Column(name = "segment_count", nullable = false)
+  private int segmentCount;
+
+  @Column(name = "archived_at", nullable = false, updatable = false)
+  private OffsetDateTime archivedAt;
+
+  @PrePersist
+  protected void onCreate() {
+    if (archivedAt == null) {
+      archivedAt = OffsetDateTime.now();
+    }
+  }
+
+  // Constructors
+  public ArchivePeriod() {
+  }
+
+  public ArchivePeriod(OffsetDateTime periodStart, OffsetDateTime periodEnd, long transactionCount,
+      long relatedRowCount, int segmentCount) {
+    this.periodStart = periodStart;
+    this.periodEnd = periodEnd;
+    this.transactionCount = transactionCount;
+    this.relatedRowCount = relatedRowCount;
+    this.segmentCount = segmentCount;
+  }
+
+  // Getters only (immutable)
+  public UUID getId() {
+    return id;
+  }
+
+  public OffsetDateTime getPeriodStart() {
+    return periodStart;
+  }
+
+  public OffsetDateTime getPeriodEnd() {
+    return periodEnd;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public long getRelatedRowCount() {
+    return relatedRowCount;
+  }
+
+  public int getSegmentCount() {
+    return segmentCount;
+  }
+
+  public OffsetDateTime getArchivedAt() {
+    return archivedAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof ArchivePeriod))
+      return false;
+    ArchivePeriod that = (ArchivePeriod) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,124 @@
+package io.stl.stl_core.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Archive segment file - APPEND-ONLY.
+ * The file itself is immutable; this row records where it is and how to
+ * check it.
+ */
+@Entity
+@Table(name = "archive_segments", indexes = {
+    @Index(name = "idx_archive_segments_period", columnList = "period_id")
+})
+@Immutable
+public class ArchiveSegment {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "period_id", nullable = false)
+  private ArchivePeriod period;
+
+  @Column(name = "file_name", nullable = false, unique = true)
+  private String fileName; // Relative to the archive directory
+
+  @Column(name = "record_count", nullable = false)
+  private long recordCount;
+
+  @Column(name = "first_created_at", nullable = false)
+  private OffsetDateTime firstCreatedAt;
+
+  @Column(name = "last_created_at", nullable = false)
+  private OffsetDateTime lastCreatedAt;
+
+  @Column(name = "size_bytes", nullable = false)
+  private long sizeBytes;
+
+  @Column(name = "sha256", length = 64, nullable = false)
+  private String sha256;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private OffsetDateTime createdAt;
+
+  @PrePersist
+  protected void onCreate() {
+    if (createdAt == null) {
+      createdAt = OffsetDateTime.now();
+    }
+  }
+
+  // Constructors
+  public ArchiveSegment() {
+  }
+
+  public ArchiveSegment(ArchivePeriod period, String fileName, long recordCount, OffsetDateTime firstCreatedAt,
+      OffsetDateTime lastCreatedAt, long sizeBytes, String sha256) {
+    this.period = period;
+    this.fileName = fileName;
+    this.recordCount = recordCount;
+    this.firstCreatedAt = firstCreatedAt;
+    this.lastCreatedAt = lastCreatedAt;
+    this.sizeBytes = sizeBytes;
+    this.sha256 = sha256;
+  }
+
+  // Getters only (immutable)
+  public UUID getId() {
+    return id;
+  }
+
+  public ArchivePeriod getPeriod() {
+    return period;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  public OffsetDateTime getFirstCreatedAt() {
+    return firstCreatedAt;
+  }
+
+  public OffsetDateTime getLastCreatedAt() {
+    return lastCreatedAt;
+  }
+
+  public long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  public String getSha256() {
+    return sha256;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof ArchiveSegment))
+      return false;
+    ArchiveSegment that = (ArchiveSegment) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
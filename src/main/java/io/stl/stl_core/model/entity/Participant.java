@@ -71,6 +71,12 @@ public class Participant {
     this.role = role;
   }
 
+  public Participant(Transaction transaction, ParticipantType participantType,
+      UUID participantId, ParticipantRole role, BigDecimal amount) {
+    this(transaction, participantType, participantId, role);
+    this.amount = amount;
+  }
+
   // Getters only (immutable)
   public UUID getId() {
     return id;
@@ -0,0 +1,117 @@
+package io.stl.stl_core.model.entity;
+
+import io.stl.stl_core.model.enums.ParticipantType;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Live balance snapshot of one participant in one currency.
+ * Derived data - maintained by BalanceService with atomic SQL upserts in the
+ * same database transaction that links the participants, and rebuildable from
+ * the participants table. Read-only from JPA.
+ */
+@Entity
+@Table(name = "participant_balances", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_participant_balance", columnNames = { "participant_id", "currency_code" })
+})
+@Immutable
+public class ParticipantBalance {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @Column(name = "participant_id", nullable = false)
+  private UUID participantId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "participant_type", nullable = false, length = 20)
+  private ParticipantType participantType;
+
+  @Column(name = "currency_code", length = 3, nullable = false)
+  private String currencyCode;
+
+  @Column(name = "balance", precision = 28, scale = 8, nullable = false)
+  private BigDecimal balance;
+
+  @Column(name = "debit_total", precision = 28, scale = 8, nullable = false)
+  private BigDecimal debitTotal;
+
+  @Column(name = "credit_total", precision = 28, scale = 8, nullable = false)
+  private BigDecimal creditTotal;
+
+  @Column(name = "entry_count", nullable = false)
+  private long entryCount;
+
+  @Column(name = "last_entry_at")
+  private OffsetDateTime lastEntryAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+
+  // Constructors
+  public ParticipantBalance() {
+  }
+
+  // Getters only (maintained through BalanceService)
+  public UUID getId() {
+    return id;
+  }
+
+  public UUID getParticipantId() {
+    return participantId;
+  }
+
+  public ParticipantType getParticipantType() {
+    return participantType;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public BigDecimal getDebitTotal() {
+    return debitTotal;
+  }
+
+  public BigDecimal getCreditTotal() {
+    return creditTotal;
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  public OffsetDateTime getLastEntryAt() {
+    return lastEntryAt;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof ParticipantBalance))
+      return false;
+    ParticipantBalance that = (ParticipantBalance) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,101 @@
+package io.stl.stl_core.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Periodic balance checkpoint - APPEND-ONLY.
+ * Holds the balance of a participant in a currency including every
+ * participation created at or before asOf. Written in bulk by the checkpoint
+ * job; read by as-of balance queries.
+ */
+@Entity
+@Table(name = "participant_balance_checkpoints", indexes = {
+    @Index(name = "idx_balance_checkpoints_lookup", columnList = "participant_id, currency_code, as_of DESC"),
+    @Index(name = "idx_balance_checkpoints_as_of", columnList = "as_of DESC")
+})
+@Immutable
+public class ParticipantBalanceCheckpoint {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @Column(name = "participant_id", nullable = false)
+  private UUID participantId;
+
+  @Column(name = "currency_code", length = 3, nullable = false)
+  private String currencyCode;
+
+  @Column(name = "balance", precision = 28, scale = 8, nullable = false)
+  private BigDecimal balance;
+
+  @Column(name = "entry_count", nullable = false)
+  private long entryCount;
+
+  @Column(name = "as_of", nullable = false)
+  private OffsetDateTime asOf;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private OffsetDateTime createdAt;
+
+  @PrePersist
+  protected void onCreate() {
+    if (createdAt == null) {
+      createdAt = OffsetDateTime.now();
+    }
+  }
+
+  // Constructors
+  public ParticipantBalanceCheckpoint() {
+  }
+
+  // Getters only (immutable)
+  public UUID getId() {
+    return id;
+  }
+
+  public UUID getParticipantId() {
+    return participantId;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  public OffsetDateTime getAsOf() {
+    return asOf;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof ParticipantBalanceCheckpoint))
+      return false;
+    ParticipantBalanceCheckpoint that = (ParticipantBalanceCheckpoint) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
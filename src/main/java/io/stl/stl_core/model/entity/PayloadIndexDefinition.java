@@ -0,0 +1,169 @@
+package io.stl.stl_core.model.entity;
+
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import io.stl.stl_core.model.enums.PayloadIndexStatus;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Admin-declared payload index for one transaction type.
+ * Configuration, not ledger data: the status moves through
+ * PENDING -> BUILDING -> READY (or FAILED), and DROPPING before removal.
+ */
+@Entity
+@Table(name = "payload_index_definitions", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_payload_index_definition", columnNames = { "type_id", "kind", "path" })
+}, indexes = {
+    @Index(name = "idx_payload_index_definitions_status", columnList = "status")
+})
+public class PayloadIndexDefinition {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @NotNull
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "type_id", nullable = false)
+  private TransactionType type;
+
+  @NotNull
+  @Enumerated(EnumType.STRING)
+  @Column(name = "kind", nullable = false, length = 20)
+  private PayloadIndexKind kind;
+
+  @Column(name = "path", columnDefinition = "TEXT")
+  private String path; // Dot-separated, PATH_EQUALITY only
+
+  @Column(name = "index_name", nullable = false, unique = true, length = 63)
+  private String indexName;
+
+  @NotNull
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private PayloadIndexStatus status;
+
+  @Column(name = "error_message", columnDefinition = "TEXT")
+  private String errorMessage;
+
+  @Column(name = "created_by")
+  private UUID createdBy;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private OffsetDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+
+  @PrePersist
+  protected void onCreate() {
+    if (createdAt == null) {
+      createdAt = OffsetDateTime.now();
+    }
+    updatedAt = createdAt;
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    updatedAt = OffsetDateTime.now();
+  }
+
+  // Constructors
+  public PayloadIndexDefinition() {
+  }
+
+  public PayloadIndexDefinition(TransactionType type, PayloadIndexKind kind, String path, String indexName,
+      UUID createdBy) {
+    this.type = type;
+    this.kind = kind;
+    this.path = path;
+    this.indexName = indexName;
+    this.createdBy = createdBy;
+    this.status = PayloadIndexStatus.PENDING;
+  }
+
+  // Status transitions
+  public void markBuilding() {
+    this.status = PayloadIndexStatus.BUILDING;
+    this.errorMessage = null;
+  }
+
+  public void markReady() {
+    this.status = PayloadIndexStatus.READY;
+    this.errorMessage = null;
+  }
+
+  public void markFailed(String errorMessage) {
+    this.status = PayloadIndexStatus.FAILED;
+    this.errorMessage = errorMessage;
+  }
+
+  public void markPending() {
+    this.status = PayloadIndexStatus.PENDING;
+  }
+
+  public void markDropping() {
+    this.status = PayloadIndexStatus.DROPPING;
+  }
+
+  // Getters
+  public UUID getId() {
+    return id;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public PayloadIndexKind getKind() {
+    return kind;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public PayloadIndexStatus getStatus() {
+    return status;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public UUID getCreatedBy() {
+    return createdBy;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof PayloadIndexDefinition))
+      return false;
+    PayloadIndexDefinition that = (PayloadIndexDefinition) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,70 @@
+package io.stl.stl_core.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * One entry of the key dictionary shared by binary (CBOR) payloads -
+ * APPEND-ONLY. An id, once assigned, identifies the same key forever.
+ */
+@Entity
+@Table(name = "payload_keys")
+@Immutable
+public class PayloadKey {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Integer id;
+
+  @Column(name = "name", nullable = false, unique = true, columnDefinition = "TEXT")
+  private String name;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private OffsetDateTime createdAt;
+
+  @PrePersist
+  protected void onCreate() {
+    if (createdAt == null) {
+      createdAt = OffsetDateTime.now();
+    }
+  }
+
+  // Constructors
+  public PayloadKey() {
+  }
+
+  public PayloadKey(String name) {
+    this.name = name;
+  }
+
+  // Getters only (immutable)
+  public Integer getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof PayloadKey))
+      return false;
+    PayloadKey that = (PayloadKey) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,57 @@
+package io.stl.stl_core.model.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A revoked JWT, kept until the token itself expires.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Immutable
+public class RevokedToken {
+
+  @Id
+  @Column(name = "token_id", nullable = false, columnDefinition = "TEXT")
+  private String tokenId; // jti claim (SHA-256 of the token for tokens without one)
+
+  @Column(name = "expires_at", nullable = false)
+  private OffsetDateTime expiresAt;
+
+  @Column(name = "revoked_at", nullable = false, updatable = false)
+  private OffsetDateTime revokedAt;
+
+  // Constructors
+  public RevokedToken() {
+  }
+
+  // Getters only (immutable)
+  public String getTokenId() {
+    return tokenId;
+  }
+
+  public OffsetDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public OffsetDateTime getRevokedAt() {
+    return revokedAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof RevokedToken))
+      return false;
+    RevokedToken that = (RevokedToken) o;
+    return tokenId != null && tokenId.equals(that.tokenId);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -1,15 +1,15 @@
 package io.stl.stl_core.model.entity;
 
-import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import io.stl.stl_core.model.enums.TransactionStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.hibernate.annotations.Immutable;
-import org.hibernate.annotations.Type;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -42,9 +42,12 @@ public class Transaction {
   @JoinColumn(name = "currency_code", nullable = false)
   private Currency currency;
 
-  @Type(JsonBinaryType.class)
+  @JdbcTypeCode(SqlTypes.JSON)
   @Column(name = "payload", columnDefinition = "jsonb")
-  private Map<String, Object> payload;
+  private String payloadJson; // Raw JSON text, decoded on demand by PayloadService
+
+  @Column(name = "payload_bin")
+  private byte[] payloadBin; // CBOR with dictionary-coded keys (binary payload types only)
 
   @Column(name = "previous_hash", length = 64)
   private String previousHash; // NULL for genesis transaction
@@ -58,6 +61,12 @@ public class Transaction {
   @Column(name = "immutable", nullable = false)
   private Boolean immutable = true;
 
+  @Transient
+  private boolean archived; // Restored from the archive tier, never persisted
+
+  @Transient
+  private TransactionStatus archivedStatus;
+
   @PrePersist
   protected void onCreate() {
     if (createdAt == null) {
@@ -78,6 +87,35 @@ public class Transaction {
     this.currency = currency;
   }
 
+  /**
+   * @param payloadJson JSON payload, or null
+   * @param payloadBin  Binary payload (see PayloadService), or null
+   */
+  public Transaction(TransactionType type, BigDecimal amount, Currency currency, String payloadJson,
+      byte[] payloadBin) {
+    this(type, amount, currency);
+    this.payloadJson = payloadJson;
+    this.payloadBin = payloadBin;
+  }
+
+  /**
+   * Detached instance restored from an archive segment.
+   * Its status history is archived with it, so the current status is carried
+   * along instead of being looked up.
+   */
+  public static Transaction fromArchive(UUID id, TransactionType type, BigDecimal amount, Currency currency,
+      String payloadJson, byte[] payloadBin, String previousHash, String signature, OffsetDateTime createdAt,
+      TransactionStatus currentStatus) {
+    Transaction transaction = new Transaction(type, amount, currency, payloadJson, payloadBin);
+    transaction.id = id;
+    transaction.previousHash = previousHash;
+    transaction.signature = signature;
+    transaction.createdAt = createdAt;
+    transaction.archived = true;
+    transaction.archivedStatus = currentStatus;
+    return transaction;
+  }
+
   // Getters only (immutable entity)
   public UUID getId() {
     return id;
@@ -95,8 +133,15 @@ public class Transaction {
     return currency;
   }
 
-  public Map<String, Object> getPayload() {
-    return payload;
+  /**
+   * Raw JSON payload; use PayloadService.getPayload() to read the payload.
+   */
+  public String getPayloadJson() {
+    return payloadJson;
+  }
+
+  public byte[] getPayloadBin() {
+    return payloadBin;
   }
 
   public String getPreviousHash() {
@@ -115,6 +160,14 @@ public class Transaction {
     return immutable;
   }
 
+  public boolean isArchived() {
+    return archived;
+  }
+
+  public TransactionStatus getArchivedStatus() {
+    return archivedStatus;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
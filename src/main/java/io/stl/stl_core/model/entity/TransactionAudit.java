@@ -79,6 +79,12 @@ public class TransactionAudit {
     this.actionType = actionType;
   }
 
+  public TransactionAudit(Transaction transaction, ActorType actorType, UUID actorId,
+      AuditActionType actionType, Map<String, Object> metadata) {
+    this(transaction, actorType, actorId, actionType);
+    this.metadata = metadata;
+  }
+
   // Getters only (immutable)
   public UUID getId() {
     return id;
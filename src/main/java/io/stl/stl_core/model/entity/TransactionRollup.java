@@ -0,0 +1,127 @@
+package io.stl.stl_core.model.entity;
+
+import io.stl.stl_core.model.enums.RollupGranularity;
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Transaction count and amount for one time bucket, currency, type and
+ * current status.
+ * Derived data - maintained by RollupService with SQL upserts. Read-only from
+ * JPA.
+ */
+@Entity
+@Table(name = "transaction_rollups")
+@IdClass(TransactionRollup.Key.class)
+@Immutable
+public class TransactionRollup {
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "granularity", nullable = false, length = 10)
+  private RollupGranularity granularity;
+
+  @Id
+  @Column(name = "bucket_start", nullable = false)
+  private OffsetDateTime bucketStart;
+
+  @Id
+  @Column(name = "currency_code", length = 3, nullable = false)
+  private String currencyCode;
+
+  @Id
+  @Column(name = "type_id", nullable = false)
+  private UUID typeId;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private TransactionStatus status;
+
+  @Column(name = "transaction_count", nullable = false)
+  private long transactionCount;
+
+  @Column(name = "amount_total", precision = 28, scale = 8, nullable = false)
+  private BigDecimal amountTotal;
+
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+
+  // Constructors
+  public TransactionRollup() {
+  }
+
+  // Getters only (maintained through RollupService)
+  public RollupGranularity getGranularity() {
+    return granularity;
+  }
+
+  public OffsetDateTime getBucketStart() {
+    return bucketStart;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public TransactionStatus getStatus() {
+    return status;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public BigDecimal getAmountTotal() {
+    return amountTotal;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  /**
+   * Composite primary key.
+   */
+  public static class Key implements Serializable {
+    private RollupGranularity granularity;
+    private OffsetDateTime bucketStart;
+    private String currencyCode;
+    private UUID typeId;
+    private TransactionStatus status;
+
+    public Key() {
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o)
+        return true;
+      if (!(o instanceof Key))
+        return false;
+      Key that = (Key) o;
+      return granularity == that.granularity
+          && Objects.equals(bucketStart, that.bucketStart)
+          && Objects.equals(currencyCode, that.currencyCode)
+          && Objects.equals(typeId, that.typeId)
+          && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(granularity, bucketStart, currencyCode, typeId, status);
+    }
+  }
+}
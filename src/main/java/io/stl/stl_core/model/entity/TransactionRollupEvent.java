@@ -0,0 +1,129 @@
+package io.stl.stl_core.model.entity;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Pending status change for the rollup worker.
+ * Written with the status history entry and deleted once applied to
+ * TransactionRollup. Carries the transaction's dimensions so the worker
+ * never has to join back to the transactions table.
+ */
+@Entity
+@Table(name = "transaction_rollup_events", indexes = {
+    @Index(name = "idx_rollup_events_transaction_created_at", columnList = "transaction_created_at")
+})
+@Immutable
+public class TransactionRollupEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @Column(name = "transaction_id", nullable = false)
+  private UUID transactionId;
+
+  @Column(name = "transaction_created_at", nullable = false)
+  private OffsetDateTime transactionCreatedAt;
+
+  @Column(name = "currency_code", length = 3, nullable = false)
+  private String currencyCode;
+
+  @Column(name = "type_id", nullable = false)
+  private UUID typeId;
+
+  @Column(name = "amount", precision = 20, scale = 8, nullable = false)
+  private BigDecimal amount;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private TransactionStatus status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "previous_status", length = 20)
+  private TransactionStatus previousStatus; // NULL for the initial status
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private OffsetDateTime createdAt;
+
+  @PrePersist
+  protected void onCreate() {
+    if (createdAt == null) {
+      createdAt = OffsetDateTime.now();
+    }
+  }
+
+  // Constructors
+  public TransactionRollupEvent() {
+  }
+
+  public TransactionRollupEvent(Transaction transaction, TransactionStatus previousStatus,
+      TransactionStatus status) {
+    this.transactionId = transaction.getId();
+    this.transactionCreatedAt = transaction.getCreatedAt();
+    this.currencyCode = transaction.getCurrency().getCode();
+    this.typeId = transaction.getType().getId();
+    this.amount = transaction.getAmount();
+    this.previousStatus = previousStatus;
+    this.status = status;
+  }
+
+  // Getters only (immutable)
+  public UUID getId() {
+    return id;
+  }
+
+  public UUID getTransactionId() {
+    return transactionId;
+  }
+
+  public OffsetDateTime getTransactionCreatedAt() {
+    return transactionCreatedAt;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public TransactionStatus getStatus() {
+    return status;
+  }
+
+  public TransactionStatus getPreviousStatus() {
+    return previousStatus;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof TransactionRollupEvent))
+      return false;
+    TransactionRollupEvent that = (TransactionRollupEvent) o;
+    return id != null && id.equals(that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -15,7 +15,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "transaction_status_history", indexes = {
-    @Index(name = "idx_status_history_transaction", columnList = "transaction_id, updated_at DESC")
+    @Index(name = "idx_status_history_latest", columnList = "transaction_id, updated_at DESC, id DESC")
 })
 @Immutable
 public class TransactionStatusHistory {
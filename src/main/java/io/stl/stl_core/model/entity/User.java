@@ -174,27 +174,6 @@ public class User {
     return OffsetDateTime.now().isBefore(accountLockedUntil);
   }
 
-  /**
-   * Records a successful login.
-   */
-  public void recordSuccessfulLogin() {
-    this.lastLogin = OffsetDateTime.now();
-    this.failedLoginAttempts = 0;
-    this.accountLockedUntil = null;
-  }
-
-  /**
-   * Records a failed login attempt.
-   * Locks account after 5 failed attempts for 30 minutes.
-   */
-  public void recordFailedLogin() {
-    this.failedLoginAttempts++;
-
-    if (this.failedLoginAttempts >= 5) {
-      this.accountLockedUntil = OffsetDateTime.now().plusMinutes(30);
-    }
-  }
-
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -0,0 +1,26 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * Compression applied to an export file.
+ */
+public enum ExportCompression {
+  NONE("Uncompressed", ""),
+  GZIP("gzip, readable everywhere", ".gz"),
+  ZSTD("Zstandard, faster and smaller than gzip", ".zst");
+
+  private final String description;
+  private final String fileSuffix;
+
+  ExportCompression(String description, String fileSuffix) {
+    this.description = description;
+    this.fileSuffix = fileSuffix;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getFileSuffix() {
+    return fileSuffix;
+  }
+}
@@ -0,0 +1,28 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * Data set an auditor can export for a time range.
+ */
+public enum ExportDataset {
+  TRANSACTIONS("Transactions created in the range"),
+  PARTICIPANTS("Participations created in the range"),
+  STATUS_HISTORY("Status changes made in the range"),
+  AUDIT("Audit records written in the range");
+
+  private final String description;
+
+  ExportDataset(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * File name stem, e.g. status-history.
+   */
+  public String getFileStem() {
+    return name().toLowerCase().replace('_', '-');
+  }
+}
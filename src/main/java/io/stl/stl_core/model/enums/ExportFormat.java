@@ -0,0 +1,30 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * File format of an export.
+ */
+public enum ExportFormat {
+  CSV("RFC 4180 CSV with a header row", ".csv", "text/csv");
+
+  private final String description;
+  private final String fileSuffix;
+  private final String contentType;
+
+  ExportFormat(String description, String fileSuffix, String contentType) {
+    this.description = description;
+    this.fileSuffix = fileSuffix;
+    this.contentType = contentType;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getFileSuffix() {
+    return fileSuffix;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+}
@@ -0,0 +1,26 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * Lifecycle of a background export.
+ */
+public enum ExportStatus {
+  QUEUED("Waiting for a free export worker"),
+  RUNNING("Rows are being written"),
+  COMPLETED("File is ready for download"),
+  FAILED("Export stopped with an error"),
+  CANCELLED("Export was cancelled");
+
+  private final String description;
+
+  ExportStatus(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public boolean isFinished() {
+    return this == COMPLETED || this == FAILED || this == CANCELLED;
+  }
+}
@@ -49,4 +49,18 @@ public enum ParticipantRole {
   public boolean isBusinessRole() {
     return this == FEE || this == TAX;
   }
+
+  /**
+   * Get the sign applied to this role's amount in a participant's balance.
+   * 
+   * @return -1 for outgoing money (SENDER), 1 for incoming money (RECEIVER,
+   *         FEE, TAX), 0 for authorization-only roles (APPROVER)
+   */
+  public int getBalanceSign() {
+    return switch (this) {
+      case SENDER -> -1;
+      case RECEIVER, FEE, TAX -> 1;
+      case APPROVER -> 0;
+    };
+  }
 }
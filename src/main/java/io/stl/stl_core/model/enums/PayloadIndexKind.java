@@ -0,0 +1,26 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * Kind of payload index declared for a transaction type.
+ */
+public enum PayloadIndexKind {
+  PATH_EQUALITY("B-tree expression index on the text value at one payload path"),
+  CONTAINMENT("GIN (jsonb_path_ops) index on the whole payload for @> queries");
+
+  private final String description;
+
+  PayloadIndexKind(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Check if this kind is bound to a single payload path.
+   */
+  public boolean requiresPath() {
+    return this == PATH_EQUALITY;
+  }
+}
@@ -0,0 +1,29 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * Lifecycle of a managed payload index.
+ */
+public enum PayloadIndexStatus {
+  PENDING("Declared, waiting for the index builder"),
+  BUILDING("Index is being created"),
+  READY("Index is valid and used by payload queries"),
+  FAILED("Index creation failed"),
+  DROPPING("Index is being dropped");
+
+  private final String description;
+
+  PayloadIndexStatus(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Check if payload queries may rely on the index.
+   */
+  public boolean isQueryable() {
+    return this == READY;
+  }
+}
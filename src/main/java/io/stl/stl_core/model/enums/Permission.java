@@ -0,0 +1,36 @@
+package io.stl.stl_core.model.enums;
+
+/**
+ * Permissions granted by user roles (see UserRole).
+ * Each permission is one bit, so a set of permissions is a long mask and
+ * checking it is a single AND.
+ */
+public enum Permission {
+  CREATE_TRANSACTION,
+  VIEW_OWN_TRANSACTIONS,
+  VIEW_TRANSACTIONS,
+  VIEW_REPORTS,
+  VIEW_AUDIT_LOGS,
+  EXPORT_DATA;
+
+  /** Every permission (the "*" wildcard). */
+  public static final long ALL = (1L << values().length) - 1;
+
+  /**
+   * Bit of this permission.
+   */
+  public long mask() {
+    return 1L << ordinal();
+  }
+
+  /**
+   * Mask of several permissions.
+   */
+  public static long maskOf(Permission... permissions) {
+    long mask = 0;
+    for (Permission permission : permissions) {
+      mask |= permission.mask();
+    }
+    return mask;
+  }
+}
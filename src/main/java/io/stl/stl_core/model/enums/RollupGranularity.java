@@ -0,0 +1,43 @@
+package io.stl.stl_core.model.enums;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket size of a transaction rollup. Buckets are aligned in UTC.
+ */
+public enum RollupGranularity {
+  MINUTE("One-minute buckets", ChronoUnit.MINUTES, Duration.ofDays(1)),
+  HOUR("One-hour buckets", ChronoUnit.HOURS, Duration.ofDays(92)),
+  DAY("One-day buckets", ChronoUnit.DAYS, Duration.ofDays(3660));
+
+  private final String description;
+  private final ChronoUnit unit;
+  private final Duration maxQueryRange;
+
+  RollupGranularity(String description, ChronoUnit unit, Duration maxQueryRange) {
+    this.description = description;
+    this.unit = unit;
+    this.maxQueryRange = maxQueryRange;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Longest time range a single report query may cover at this granularity.
+   */
+  public Duration getMaxQueryRange() {
+    return maxQueryRange;
+  }
+
+  /**
+   * Start of the UTC bucket containing the given time.
+   */
+  public OffsetDateTime truncate(OffsetDateTime time) {
+    return time.withOffsetSameInstant(ZoneOffset.UTC).truncatedTo(unit);
+  }
+}
@@ -0,0 +1,77 @@
+package io.stl.stl_core.model.enums;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields of a transaction response that a client can select with fields=.
+ * Each field names the work it costs, so reads only join, look up and
+ * decode what was asked for.
+ */
+public enum TransactionField {
+  ID("id"),
+  TYPE_NAME("typeName"), // join transaction_types
+  AMOUNT("amount"),
+  CURRENCY_CODE("currencyCode"),
+  CURRENCY_SYMBOL("currencySymbol"), // join currencies
+  CURRENT_STATUS("currentStatus"), // batched status history lookup
+  PAYLOAD("payload"), // separate payload load and decode
+  CREATED_AT("createdAt");
+
+  /** Fields returned when a request does not select any. */
+  public static final Set<TransactionField> DEFAULTS = EnumSet.complementOf(EnumSet.of(PAYLOAD));
+
+  private final String fieldName;
+
+  TransactionField(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  public String getFieldName() {
+    return fieldName;
+  }
+
+  /**
+   * Resolves the fields of a request. Without fields= the defaults are
+   * returned; include=payload adds the payload either way. The id is always
+   * included.
+   *
+   * @param fields  Response field names (may be empty)
+   * @param include Optional parts; "payload" is the only one
+   * @throws IllegalArgumentException for unknown field or include names
+   */
+  public static Set<TransactionField> select(List<String> fields, List<String> include) {
+    EnumSet<TransactionField> selected = EnumSet.of(ID);
+    boolean any = false;
+    for (String name : fields) {
+      if (!name.isBlank()) {
+        selected.add(fromFieldName(name.trim()));
+        any = true;
+      }
+    }
+    if (!any) {
+      selected.addAll(DEFAULTS);
+    }
+
+    for (String part : include) {
+      if (part.isBlank()) {
+        continue;
+      }
+      if (!PAYLOAD.fieldName.equals(part.trim())) {
+        throw new IllegalArgumentException("Unsupported include: " + part.trim());
+      }
+      selected.add(PAYLOAD);
+    }
+    return selected;
+  }
+
+  public static TransactionField fromFieldName(String name) {
+    for (TransactionField field : values()) {
+      if (field.fieldName.equals(name)) {
+        return field;
+      }
+    }
+    throw new IllegalArgumentException("Unknown transaction field: " + name);
+  }
+}
@@ -15,10 +15,24 @@ public enum UserRole {
 
   private final String description;
   private final Set<String> permissions;
+  private final long permissionMask;
 
   UserRole(String description, Set<String> permissions) {
     this.description = description;
     this.permissions = permissions;
+    this.permissionMask = compile(permissions);
+  }
+
+  // Precompiled once per role; an unknown permission name fails at startup
+  private static long compile(Set<String> permissions) {
+    if (permissions.contains("*")) {
+      return Permission.ALL;
+    }
+    long mask = 0;
+    for (String permission : permissions) {
+      mask |= Permission.valueOf(permission).mask();
+    }
+    return mask;
   }
 
   public String getDescription() {
@@ -29,11 +43,39 @@ public enum UserRole {
     return permissions;
   }
 
+  /**
+   * Permissions of this role as a Permission bit mask.
+   */
+  public long getPermissionMask() {
+    return permissionMask;
+  }
+
+  /**
+   * Bit of this role, for masks of accepted roles.
+   */
+  public long mask() {
+    return 1L << ordinal();
+  }
+
   /**
    * Check if this role has a specific permission.
    */
+  public boolean hasPermission(Permission permission) {
+    return (permissionMask & permission.mask()) != 0;
+  }
+
+  /**
+   * Check if this role has a specific permission, by name.
+   */
   public boolean hasPermission(String permission) {
-    return permissions.contains("*") || permissions.contains(permission);
+    if (permissionMask == Permission.ALL) {
+      return true;
+    }
+    try {
+      return hasPermission(Permission.valueOf(permission));
+    } catch (IllegalArgumentException ex) {
+      return false;
+    }
   }
 
   /**
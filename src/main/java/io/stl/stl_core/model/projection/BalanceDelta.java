@@ -0,0 +1,14 @@
+package io.stl.stl_core.model.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Signed sum and count of participations in a time window, used to roll a
+ * balance checkpoint forward.
+ */
+public interface BalanceDelta {
+
+  BigDecimal getAmount();
+
+  long getEntryCount();
+}
@@ -0,0 +1,25 @@
+package io.stl.stl_core.model.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Row of the balance reconciliation check: a snapshot that disagrees with the
+ * balance recomputed from the participants table.
+ * A null snapshot balance means the snapshot row is missing; a null actual
+ * balance means the snapshot has no backing participations.
+ */
+public interface BalanceDiscrepancy {
+
+  UUID getParticipantId();
+
+  String getCurrencyCode();
+
+  BigDecimal getSnapshotBalance();
+
+  BigDecimal getActualBalance();
+
+  Long getSnapshotEntryCount();
+
+  Long getActualEntryCount();
+}
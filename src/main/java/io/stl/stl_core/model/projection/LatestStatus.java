@@ -0,0 +1,15 @@
+package io.stl.stl_core.model.projection;
+
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Latest status of a transaction, as read in batches for list views.
+ */
+public interface LatestStatus {
+
+  UUID getTransactionId();
+
+  TransactionStatus getStatus();
+}
@@ -0,0 +1,92 @@
+package io.stl.stl_core.model.projection;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.enums.ParticipantType;
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Read-only projection of one participation joined with its transaction and
+ * the transaction's current status.
+ * Built directly by the account history query - never loads entities.
+ */
+public class ParticipantHistoryRow {
+
+  private final UUID participationId;
+  private final UUID transactionId;
+  private final ParticipantType participantType;
+  private final ParticipantRole role;
+  private final BigDecimal participantAmount;
+  private final BigDecimal transactionAmount;
+  private final String currencyCode;
+  private final String typeName;
+  private final TransactionStatus currentStatus;
+  private final OffsetDateTime createdAt;
+
+  public ParticipantHistoryRow(UUID participationId, UUID transactionId, ParticipantType participantType,
+      ParticipantRole role, BigDecimal participantAmount, BigDecimal transactionAmount, String currencyCode,
+      String typeName, TransactionStatus currentStatus, OffsetDateTime createdAt) {
+    this.participationId = participationId;
+    this.transactionId = transactionId;
+    this.participantType = participantType;
+    this.role = role;
+    this.participantAmount = participantAmount;
+    this.transactionAmount = transactionAmount;
+    this.currencyCode = currencyCode;
+    this.typeName = typeName;
+    this.currentStatus = currentStatus;
+    this.createdAt = createdAt;
+  }
+
+  // Getters only (projection)
+  public UUID getParticipationId() {
+    return participationId;
+  }
+
+  public UUID getTransactionId() {
+    return transactionId;
+  }
+
+  public ParticipantType getParticipantType() {
+    return participantType;
+  }
+
+  public ParticipantRole getRole() {
+    return role;
+  }
+
+  public BigDecimal getParticipantAmount() {
+    return participantAmount;
+  }
+
+  public BigDecimal getTransactionAmount() {
+    return transactionAmount;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public TransactionStatus getCurrentStatus() {
+    return currentStatus;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  /**
+   * Amount attributed to this participant: its own share when set, otherwise
+   * the full transaction amount.
+   */
+  public BigDecimal getEffectiveAmount() {
+    return participantAmount != null ? participantAmount : transactionAmount;
+  }
+}
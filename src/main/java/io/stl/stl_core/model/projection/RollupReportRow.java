@@ -0,0 +1,61 @@
+package io.stl.stl_core.model.projection;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Read-only projection of one rollup bucket joined with its type name.
+ */
+public class RollupReportRow {
+
+  private final OffsetDateTime bucketStart;
+  private final String currencyCode;
+  private final UUID typeId;
+  private final String typeName;
+  private final TransactionStatus status;
+  private final long transactionCount;
+  private final BigDecimal amountTotal;
+
+  public RollupReportRow(OffsetDateTime bucketStart, String currencyCode, UUID typeId, String typeName,
+      TransactionStatus status, long transactionCount, BigDecimal amountTotal) {
+    this.bucketStart = bucketStart;
+    this.currencyCode = currencyCode;
+    this.typeId = typeId;
+    this.typeName = typeName;
+    this.status = status;
+    this.transactionCount = transactionCount;
+    this.amountTotal = amountTotal;
+  }
+
+  // Getters only (projection)
+  public OffsetDateTime getBucketStart() {
+    return bucketStart;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public TransactionStatus getStatus() {
+    return status;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public BigDecimal getAmountTotal() {
+    return amountTotal;
+  }
+}
@@ -0,0 +1,16 @@
+package io.stl.stl_core.model.projection;
+
+import java.util.UUID;
+
+/**
+ * Stored payload of a transaction (at most one of the two columns is set),
+ * loaded only when a caller asks for payloads.
+ */
+public interface TransactionPayloadRow {
+
+  UUID getId();
+
+  String getPayloadJson();
+
+  byte[] getPayloadBin();
+}
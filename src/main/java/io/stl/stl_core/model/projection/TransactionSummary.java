@@ -0,0 +1,54 @@
+package io.stl.stl_core.model.projection;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight columns of a transaction for list views; never carries the
+ * payload. Columns that were not selected (see TransactionField) are null.
+ */
+public class TransactionSummary {
+
+  private final UUID id;
+  private final String typeName;
+  private final BigDecimal amount;
+  private final String currencyCode;
+  private final String currencySymbol;
+  private final OffsetDateTime createdAt;
+
+  public TransactionSummary(UUID id, String typeName, BigDecimal amount, String currencyCode,
+      String currencySymbol, OffsetDateTime createdAt) {
+    this.id = id;
+    this.typeName = typeName;
+    this.amount = amount;
+    this.currencyCode = currencyCode;
+    this.currencySymbol = currencySymbol;
+    this.createdAt = createdAt;
+  }
+
+  // Getters only (projection)
+  public UUID getId() {
+    return id;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public String getCurrencySymbol() {
+    return currencySymbol;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+}
@@ -0,0 +1,60 @@
+package io.stl.stl_core.observability;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+
+/**
+ * Correlation id of the current unit of work, kept in the logging MDC so
+ * every log line carries it. Set per HTTP request by CorrelationIdFilter
+ * and carried over to background tasks started from the request.
+ */
+public final class CorrelationId {
+
+  public static final String HEADER = "X-Correlation-Id";
+  public static final String MDC_KEY = "correlationId";
+
+  // Client-supplied ids end up in logs and audit rows: short and plain only
+  private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+  private CorrelationId() {
+  }
+
+  /**
+   * Correlation id of the current thread, or null.
+   */
+  public static String current() {
+    return MDC.get(MDC_KEY);
+  }
+
+  /**
+   * The given id if it is acceptable, otherwise a new one.
+   */
+  static String sanitize(String candidate) {
+    return candidate != null && VALID.matcher(candidate).matches() ? candidate : UUID.randomUUID().toString();
+  }
+
+  /**
+   * Runs a task with the correlation id of the submitting thread.
+   */
+  public static Runnable wrap(Runnable task) {
+    String id = current();
+    if (id == null) {
+      return task;
+    }
+    return () -> {
+      String previous = current();
+      MDC.put(MDC_KEY, id);
+      try {
+        task.run();
+      } finally {
+        if (previous != null) {
+          MDC.put(MDC_KEY, previous);
+        } else {
+          MDC.remove(MDC_KEY);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,34 @@
+package io.stl.stl_core.observability;
+
+import java.io.IOException;
+
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Takes the correlation id from the X-Correlation-Id request header (or
+ * creates one), puts it in the MDC for the request and returns it in the
+ * response header.
+ */
+@Component
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    String correlationId = CorrelationId.sanitize(request.getHeader(CorrelationId.HEADER));
+    MDC.put(CorrelationId.MDC_KEY, correlationId);
+    response.setHeader(CorrelationId.HEADER, correlationId);
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      MDC.remove(CorrelationId.MDC_KEY);
+    }
+  }
+}
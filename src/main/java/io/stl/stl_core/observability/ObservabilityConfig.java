@@ -0,0 +1,43 @@
+package io.stl.stl_core.observability;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Registers the request-level observability filters and carries the
+ * correlation id into background tasks.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+  /**
+   * Outermost filter, so everything below logs with the correlation id.
+   */
+  @Bean
+  public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilterRegistration(CorrelationIdFilter filter) {
+    FilterRegistrationBean<CorrelationIdFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  /**
+   * Right after it, so security and rate limiting queries are counted too.
+   */
+  @Bean
+  public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilterRegistration(SqlStatsFilter filter) {
+    FilterRegistrationBean<SqlStatsFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+
+  /**
+   * Applied by Boot to the application task executor (@Async, archive runs).
+   */
+  @Bean
+  public TaskDecorator correlationIdTaskDecorator() {
+    return CorrelationId::wrap;
+  }
+}
@@ -0,0 +1,31 @@
+package io.stl.stl_core.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread
+ * (repository queries, native queries, flushed inserts; a JDBC batch counts
+ * once per statement shape). Callers take the difference of two reads, or
+ * open a SqlStats scope for per-statement detail.
+ *
+ * Registered with Hibernate by SqlStatsHibernateCustomizer; statements issued
+ * outside Hibernate (JdbcTemplate, Flyway) are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    SqlStats.statement(sql);
+    return sql;
+  }
+
+  /**
+   * Statements prepared on this thread so far.
+   */
+  public static long current() {
+    return COUNT.get()[0];
+  }
+}
@@ -0,0 +1,99 @@
+package io.stl.stl_core.observability;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements and database time of a unit of work on the current thread
+ * (an HTTP request, see SqlStatsFilter, or a block of test code).
+ *
+ * Statements are counted per statement text: Hibernate reuses the same SQL
+ * string for the same query, so a text seen many times in one unit of work
+ * is the N+1 pattern (one lookup per row). Scopes nest; statements count in
+ * every open scope. Work on other threads (exports, jobs) is not included.
+ *
+ * <pre>
+ * try (SqlStats stats = SqlStats.start()) {
+ *   mapper.toResponseList(transactions);
+ *   assertThat(stats.repeated(1)).isEmpty();
+ * }
+ * </pre>
+ */
+public final class SqlStats implements AutoCloseable {
+
+  private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+  private final SqlStats outer;
+  private final Map<String, int[]> counts = new HashMap<>();
+  private long statements;
+  private long dbNanos;
+
+  private SqlStats(SqlStats outer) {
+    this.outer = outer;
+  }
+
+  /**
+   * Opens a scope on the current thread; close it on the same thread.
+   */
+  public static SqlStats start() {
+    SqlStats stats = new SqlStats(CURRENT.get());
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  static boolean isActive() {
+    return CURRENT.get() != null;
+  }
+
+  static void statement(String sql) {
+    for (SqlStats stats = CURRENT.get(); stats != null; stats = stats.outer) {
+      stats.statements++;
+      stats.counts.computeIfAbsent(sql, key -> new int[1])[0]++;
+    }
+  }
+
+  static void databaseTime(long nanos) {
+    for (SqlStats stats = CURRENT.get(); stats != null; stats = stats.outer) {
+      stats.dbNanos += nanos;
+    }
+  }
+
+  /**
+   * Statements issued so far.
+   */
+  public long statements() {
+    return statements;
+  }
+
+  /**
+   * Time spent executing statements so far (driver execute calls; result
+   * set reads are not included).
+   */
+  public Duration databaseTime() {
+    return Duration.ofNanos(dbNanos);
+  }
+
+  /**
+   * Statements issued more than a number of times, with their count, most
+   * repeated first.
+   */
+  public Map<String, Integer> repeated(int threshold) {
+    Map<String, Integer> repeated = new LinkedHashMap<>();
+    counts.entrySet().stream()
+        .filter(entry -> entry.getValue()[0] > threshold)
+        .sorted((a, b) -> Integer.compare(b.getValue()[0], a.getValue()[0]))
+        .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()[0]));
+    return repeated;
+  }
+
+  @Override
+  public void close() {
+    if (outer != null) {
+      CURRENT.set(outer);
+    } else {
+      CURRENT.remove();
+    }
+  }
+}
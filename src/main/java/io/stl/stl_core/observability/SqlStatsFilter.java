@@ -0,0 +1,100 @@
+package io.stl.stl_core.observability;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens a SqlStats scope per HTTP request. Afterwards it records the
+ * statement count and database time per endpoint
+ * (stl.http.sql.statements, stl.http.sql.time) and flags requests that
+ * repeat one statement more than stl.sql-stats.repeat-threshold times
+ * (stl.http.sql.repeated, plus a warning with the statement).
+ *
+ * Dev adds the numbers to the response headers (SqlStatsResponseAdvice).
+ */
+@Component
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+  static final String ATTRIBUTE = SqlStats.class.getName();
+
+  private static final int MAX_LOGGED_SQL = 300;
+
+  private final MeterRegistry registry;
+  private final boolean metricsEnabled;
+  private final int repeatThreshold;
+
+  public SqlStatsFilter(MeterRegistry registry,
+      @Value("${stl.sql-stats.metrics-enabled:true}") boolean metricsEnabled,
+      @Value("${stl.sql-stats.repeat-threshold:10}") int repeatThreshold) {
+    this.registry = registry;
+    this.metricsEnabled = metricsEnabled;
+    this.repeatThreshold = repeatThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    try (SqlStats stats = SqlStats.start()) {
+      request.setAttribute(ATTRIBUTE, stats);
+      try {
+        chain.doFilter(request, response);
+      } finally {
+        record(request, stats);
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, SqlStats stats) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    String method = request.getMethod();
+
+    Map<String, Integer> repeated = stats.repeated(repeatThreshold);
+    if (!repeated.isEmpty()) {
+      Map.Entry<String, Integer> worst = repeated.entrySet().iterator().next();
+      log.warn("Repeated SQL in {} {}: {} statements, {}x {}", method, uri, stats.statements(),
+          worst.getValue(), abbreviate(worst.getKey()));
+    }
+    if (!metricsEnabled) {
+      return;
+    }
+    DistributionSummary.builder("stl.http.sql.statements")
+        .description("SQL statements per HTTP request")
+        .tag("method", method)
+        .tag("uri", uri)
+        .register(registry)
+        .record(stats.statements());
+    Timer.builder("stl.http.sql.time")
+        .description("Database execution time per HTTP request")
+        .tag("method", method)
+        .tag("uri", uri)
+        .register(registry)
+        .record(stats.databaseTime().toNanos(), TimeUnit.NANOSECONDS);
+    if (!repeated.isEmpty()) {
+      registry.counter("stl.http.sql.repeated", "method", method, "uri", uri).increment();
+    }
+  }
+
+  private static String abbreviate(String sql) {
+    String flat = sql.replaceAll("\\s+", " ");
+    return flat.length() <= MAX_LOGGED_SQL ? flat : flat.substring(0, MAX_LOGGED_SQL) + "...";
+  }
+}
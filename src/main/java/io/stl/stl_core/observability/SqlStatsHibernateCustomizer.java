@@ -0,0 +1,21 @@
+package io.stl.stl_core.observability;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the SQL statement counter and timing listener with Hibernate.
+ * Tests import it to assert statement counts with SqlStats.
+ */
+@Component
+public class SqlStatsHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+  @Override
+  public void customize(Map<String, Object> properties) {
+    properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+  }
+}
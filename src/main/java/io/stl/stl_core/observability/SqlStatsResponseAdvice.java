@@ -0,0 +1,41 @@
+package io.stl.stl_core.observability;
+
+import java.util.Locale;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the SQL statement count and database time of the request so far to
+ * the response headers (X-SQL-Statements, X-SQL-Time in milliseconds).
+ * Enabled with stl.sql-stats.headers (dev profile). Headers are written
+ * with the body, so statements after that are not included.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "stl.sql-stats.headers", havingValue = "true")
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+      Class<? extends HttpMessageConverter<?>> converterType, ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest
+        && servletRequest.getServletRequest().getAttribute(SqlStatsFilter.ATTRIBUTE) instanceof SqlStats stats) {
+      response.getHeaders().set("X-SQL-Statements", Long.toString(stats.statements()));
+      response.getHeaders().set("X-SQL-Time", String.format(Locale.ROOT, "%.3f", stats.databaseTime().toNanos() / 1e6));
+    }
+    return body;
+  }
+}
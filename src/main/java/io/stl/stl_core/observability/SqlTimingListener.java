@@ -0,0 +1,37 @@
+package io.stl.stl_core.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC execution time to the open SqlStats scope. Hibernate creates
+ * one per session (hibernate.session.events.auto, see SqlStatsHibernateCustomizer).
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+  private long executeStarted;
+  private long batchStarted;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executeStarted = SqlStats.isActive() ? System.nanoTime() : 0;
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    if (executeStarted != 0) {
+      SqlStats.databaseTime(System.nanoTime() - executeStarted);
+    }
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    batchStarted = SqlStats.isActive() ? System.nanoTime() : 0;
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    if (batchStarted != 0) {
+      SqlStats.databaseTime(System.nanoTime() - batchStarted);
+    }
+  }
+}
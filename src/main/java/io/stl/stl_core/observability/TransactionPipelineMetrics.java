@@ -0,0 +1,182 @@
+package io.stl.stl_core.observability;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.stl.stl_core.observability.jfr.TransactionStageEvent;
+
+/**
+ * Stage timings of transaction creation, tagged by transaction type and
+ * currency (both bounded reference data):
+ * - stl.transaction.create: whole pipeline, also tagged by outcome
+ * - stl.transaction.create.stage: one timer per Stage
+ * - stl.transaction.create.statements: SQL statements per creation
+ *
+ * Database cost: the inserts of a creation are batched and sent in the FLUSH
+ * stage, so INSERT, AUDIT, STATUS and PARTICIPANTS time only building and
+ * persisting entities, and FLUSH holds the write round trips of all of them.
+ * With stl.transaction.metrics.flush-per-stage=true each of those stages is
+ * flushed on its own and charged its own writes, at the cost of one round
+ * trip per stage and no cross-stage batching; enable it on one instance or
+ * while investigating, not fleet-wide.
+ *
+ * Timers publish percentile histograms (histogram_quantile in Prometheus).
+ * A Recording takes laps on the request thread and registers nothing until
+ * finish, so failed requests before the type is known are tagged "unknown".
+ * Slow stages are also emitted as TransactionStageEvent for Flight Recorder.
+ */
+@Component
+public class TransactionPipelineMetrics {
+
+  private static final String UNKNOWN = "unknown";
+  private static final String SUCCESS = "success";
+  private static final Duration MIN_EXPECTED = Duration.ofMillis(1).dividedBy(10);
+  private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+  /**
+   * Stages of TransactionService.createTransaction, in order.
+   */
+  public enum Stage {
+    VALIDATE, LOOKUP, PAYLOAD, INSERT, AUDIT, STATUS, PARTICIPANTS, FLUSH;
+
+    final String tag = name().toLowerCase(Locale.ROOT);
+  }
+
+  private final MeterRegistry registry;
+  private final boolean flushPerStage;
+  private final Map<Tags, Meters> meters = new ConcurrentHashMap<>();
+
+  public TransactionPipelineMetrics(MeterRegistry registry,
+      @Value("${stl.transaction.metrics.flush-per-stage:false}") boolean flushPerStage) {
+    this.registry = registry;
+    this.flushPerStage = flushPerStage;
+  }
+
+  /**
+   * Whether each write stage is flushed on its own, so its database time is
+   * charged to it rather than to FLUSH.
+   */
+  public boolean isFlushPerStage() {
+    return flushPerStage;
+  }
+
+  /**
+   * Starts timing one transaction creation (first lap starts now).
+   */
+  public Recording start() {
+    return new Recording();
+  }
+
+  private Meters meters(Tags tags) {
+    return meters.computeIfAbsent(tags, this::register);
+  }
+
+  private Meters register(Tags tags) {
+    // Stage timers exist for successful creations only
+    Timer[] stages = new Timer[tags.outcome().equals(SUCCESS) ? Stage.values().length : 0];
+    for (int i = 0; i < stages.length; i++) {
+      Stage stage = Stage.values()[i];
+      stages[stage.ordinal()] = histogram(Timer.builder("stl.transaction.create.stage"))
+          .description("Transaction creation time per pipeline stage")
+          .tag("stage", stage.tag)
+          .tag("type", tags.type())
+          .tag("currency", tags.currency())
+          .register(registry);
+    }
+    Timer total = histogram(Timer.builder("stl.transaction.create"))
+        .description("Transaction creation time")
+        .tag("type", tags.type())
+        .tag("currency", tags.currency())
+        .tag("outcome", tags.outcome())
+        .register(registry);
+    DistributionSummary statements = DistributionSummary.builder("stl.transaction.create.statements")
+        .description("SQL statements per transaction creation")
+        .tag("type", tags.type())
+        .tag("currency", tags.currency())
+        .tag("outcome", tags.outcome())
+        .register(registry);
+    return new Meters(stages, total, statements);
+  }
+
+  private static Timer.Builder histogram(Timer.Builder builder) {
+    return builder.publishPercentileHistogram()
+        .minimumExpectedValue(MIN_EXPECTED)
+        .maximumExpectedValue(MAX_EXPECTED);
+  }
+
+  /**
+   * Timing of one creation. Not thread-safe; lives on the request thread.
+   */
+  public final class Recording {
+
+    private final long started = System.nanoTime();
+    private final long statementsAtStart = SqlStatementCounter.current();
+    private final long[] stageNanos = new long[Stage.values().length];
+    private long lapStarted = started;
+    private TransactionStageEvent event = new TransactionStageEvent();
+    private String type;
+    private String currency;
+
+    private Recording() {
+      event.begin();
+    }
+
+    /**
+     * Sets the tags once the type and currency are loaded.
+     */
+    public void identify(String type, String currency) {
+      this.type = type;
+      this.currency = currency;
+    }
+
+    /**
+     * Ends a stage: the time since the previous lap is charged to it.
+     */
+    public void lap(Stage stage) {
+      long now = System.nanoTime();
+      stageNanos[stage.ordinal()] += now - lapStarted;
+      lapStarted = now;
+
+      event.end();
+      if (event.shouldCommit()) {
+        event.stage = stage.tag;
+        event.type = type;
+        event.currency = currency;
+        event.commit();
+      }
+      event = new TransactionStageEvent();
+      event.begin();
+    }
+
+    /**
+     * Records the creation. Stage timers are only updated for successful
+     * creations, so they are not skewed by requests rejected early.
+     * Untagged creations (type or currency not loaded) count as "unknown".
+     */
+    public void finish(boolean success) {
+      long elapsed = System.nanoTime() - started;
+      Meters m = meters(new Tags(type != null ? type : UNKNOWN, currency != null ? currency : UNKNOWN,
+          success ? SUCCESS : "error"));
+      m.total().record(elapsed, TimeUnit.NANOSECONDS);
+      m.statements().record(SqlStatementCounter.current() - statementsAtStart);
+      for (int i = 0; i < m.stages().length; i++) {
+        m.stages()[i].record(stageNanos[i], TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  private record Tags(String type, String currency, String outcome) {
+  }
+
+  private record Meters(Timer[] stages, Timer total, DistributionSummary statements) {
+  }
+}
@@ -0,0 +1,28 @@
+package io.stl.stl_core.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Creation of an audit entry. The insert itself is flushed with the rest of
+ * the unit of work (see the flush stage of TransactionStageEvent).
+ */
+@Name("stl.AuditWrite")
+@Label("Audit Write")
+@Category({ "STL", "Ingest" })
+@Description("AuditService audit entry creation")
+@StackTrace(false)
+@Threshold("5 ms")
+public class AuditWriteEvent extends Event {
+
+  @Label("Transaction Id")
+  public String transactionId;
+
+  @Label("Action")
+  public String action;
+}
@@ -0,0 +1,27 @@
+package io.stl.stl_core.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A lookup in an application cache, loading on a miss included.
+ */
+@Name("stl.CacheLookup")
+@Label("Cache Lookup")
+@Category({ "STL", "Cache" })
+@Description("Application cache lookup; misses include the load")
+@StackTrace(false)
+@Threshold("1 ms")
+public class CacheLookupEvent extends Event {
+
+  @Label("Cache")
+  public String cache;
+
+  @Label("Hit")
+  public boolean hit;
+}
@@ -0,0 +1,197 @@
+package io.stl.stl_core.observability.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import io.stl.stl_core.exception.ResourceNotFoundException;
+import io.stl.stl_core.service.dto.response.FlightRecordingResponse;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.EventSettings;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * On-demand Flight Recorder recordings on this node: the JDK "default"
+ * settings (low overhead, safe in production) plus the STL events, bounded
+ * in duration and size. One recording at a time; its file is kept until the
+ * next recording starts.
+ *
+ * STL events only record occurrences above their threshold (see the event
+ * classes); a recording can lower it, e.g. to zero for a short capture.
+ */
+@Service
+public class FlightRecordingService {
+
+  private static final Logger log = LoggerFactory.getLogger(FlightRecordingService.class);
+
+  private static final List<Class<? extends Event>> EVENTS = List.of(
+      TransactionStageEvent.class,
+      StatusTransitionEvent.class,
+      AuditWriteEvent.class,
+      JwtVerificationEvent.class,
+      CacheLookupEvent.class);
+
+  private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private final Path directory;
+  private final Duration maxDuration;
+  private final DataSize maxSize;
+
+  // Guarded by this
+  private Recording recording;
+  private Path file;
+  private OffsetDateTime startedAt;
+
+  public FlightRecordingService(
+      @Value("${stl.jfr.directory:${java.io.tmpdir}/stl-recordings}") Path directory,
+      @Value("${stl.jfr.max-duration:PT30M}") Duration maxDuration,
+      @Value("${stl.jfr.max-size:256MB}") DataSize maxSize) {
+    this.directory = directory;
+    this.maxDuration = maxDuration;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Starts a recording that stops by itself after a duration (COMMAND).
+   *
+   * @param threshold Threshold for the STL events, or null for their defaults
+   * @throws IllegalArgumentException if the duration is not positive or over the maximum
+   * @throws IllegalStateException if a recording is already running
+   */
+  public synchronized FlightRecordingResponse start(Duration duration, Duration threshold) {
+    if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+      throw new IllegalArgumentException("Recording duration must be positive and at most " + maxDuration);
+    }
+    if (threshold != null && threshold.isNegative()) {
+      throw new IllegalArgumentException("Threshold must not be negative");
+    }
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      throw new IllegalStateException("A recording is already running");
+    }
+    discard();
+
+    Recording next;
+    try {
+      next = new Recording(Configuration.getConfiguration("default"));
+    } catch (IOException | ParseException ex) {
+      throw new IllegalStateException("JFR default configuration not available", ex);
+    }
+    for (Class<? extends Event> event : EVENTS) {
+      EventSettings settings = next.enable(event);
+      if (threshold != null) {
+        settings.withThreshold(threshold);
+      }
+    }
+    startedAt = OffsetDateTime.now(ZoneOffset.UTC);
+    Path target = directory.resolve("stl-" + startedAt.format(FILE_TIME) + ".jfr");
+    try {
+      Files.createDirectories(directory);
+      next.setName("stl-" + startedAt.format(FILE_TIME));
+      next.setToDisk(true);
+      next.setMaxSize(maxSize.toBytes());
+      next.setDuration(duration);
+      next.setDestination(target);
+    } catch (IOException ex) {
+      next.close();
+      throw new UncheckedIOException("Recording directory not writable", ex);
+    }
+    next.start();
+    recording = next;
+    file = target;
+    log.info("Flight recording started: duration={}, threshold={}", duration, threshold);
+    return toResponse();
+  }
+
+  /**
+   * Stops the running recording and writes its file (COMMAND).
+   *
+   * @throws IllegalStateException if no recording is running
+   */
+  public synchronized FlightRecordingResponse stop() {
+    if (recording == null || recording.getState() != RecordingState.RUNNING) {
+      throw new IllegalStateException("No recording is running");
+    }
+    recording.stop();
+    log.info("Flight recording stopped: {}", file.getFileName());
+    return toResponse();
+  }
+
+  /**
+   * State of the current or last recording (QUERY).
+   *
+   * @throws ResourceNotFoundException if nothing was recorded yet
+   */
+  public synchronized FlightRecordingResponse getRecording() {
+    if (recording == null) {
+      throw new ResourceNotFoundException("No recording");
+    }
+    return toResponse();
+  }
+
+  /**
+   * File of the last finished recording (QUERY).
+   *
+   * @throws IllegalStateException if the recording is still running
+   * @throws ResourceNotFoundException if there is no recording file
+   */
+  public synchronized Path getRecordingFile() {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      throw new IllegalStateException("Recording is still running");
+    }
+    if (file == null || !Files.exists(file)) {
+      throw new ResourceNotFoundException("No recording file");
+    }
+    return file;
+  }
+
+  @PreDestroy
+  public synchronized void shutdown() {
+    if (recording != null) {
+      recording.close();
+    }
+  }
+
+  private void discard() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException ex) {
+        log.warn("Could not delete previous recording {}", file, ex);
+      }
+      file = null;
+    }
+  }
+
+  private FlightRecordingResponse toResponse() {
+    long size = 0;
+    if (recording.getState() != RecordingState.RUNNING && Files.exists(file)) {
+      try {
+        size = Files.size(file);
+      } catch (IOException ex) {
+        log.debug("Could not read size of {}", file, ex);
+      }
+    }
+    return new FlightRecordingResponse(recording.getName(), recording.getState().name(), startedAt,
+        recording.getDuration(), recording.getMaxSize(), file.getFileName().toString(), size);
+  }
+}
@@ -0,0 +1,28 @@
+package io.stl.stl_core.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Claims lookup of a bearer token: a cache hit, or a signature verification.
+ */
+@Name("stl.JwtVerification")
+@Label("JWT Verification")
+@Category({ "STL", "Security" })
+@Description("JwtTokenProvider claims lookup (verified-claims cache, then signature check)")
+@StackTrace(false)
+@Threshold("1 ms")
+public class JwtVerificationEvent extends Event {
+
+  @Label("Cached")
+  @Description("Claims came from the verified-claims cache")
+  public boolean cached;
+
+  @Label("Valid")
+  public boolean valid;
+}
@@ -0,0 +1,30 @@
+package io.stl.stl_core.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A status change of a transaction, row lock wait included.
+ */
+@Name("stl.StatusTransition")
+@Label("Status Transition")
+@Category({ "STL", "Ingest" })
+@Description("StatusService status change, including the row lock and current status read")
+@StackTrace(false)
+@Threshold("5 ms")
+public class StatusTransitionEvent extends Event {
+
+  @Label("Transaction Id")
+  public String transactionId;
+
+  @Label("From Status")
+  public String fromStatus;
+
+  @Label("To Status")
+  public String toStatus;
+}
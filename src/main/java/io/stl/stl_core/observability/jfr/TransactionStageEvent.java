@@ -0,0 +1,31 @@
+package io.stl.stl_core.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One stage of transaction creation (see TransactionPipelineMetrics.Stage).
+ */
+@Name("stl.TransactionStage")
+@Label("Transaction Creation Stage")
+@Category({ "STL", "Ingest" })
+@Description("A stage of TransactionService.createTransaction")
+@StackTrace(false)
+@Threshold("5 ms")
+public class TransactionStageEvent extends Event {
+
+  @Label("Stage")
+  public String stage;
+
+  @Label("Transaction Type")
+  @Description("Null before the type is loaded")
+  public String type;
+
+  @Label("Currency")
+  public String currency;
+}
@@ -0,0 +1,49 @@
+package io.stl.stl_core.observability.logging;
+
+import java.util.Iterator;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the RingBufferAppender of the root logger, if configured (prod
+ * profile): stl.logging.dropped per level and stl.logging.buffered.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+  private static final Level[] LEVELS = { Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return;
+    }
+    Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+    while (appenders.hasNext()) {
+      if (appenders.next() instanceof RingBufferAppender appender) {
+        for (Level level : LEVELS) {
+          FunctionCounter.builder("stl.logging.dropped", appender, a -> a.getDropped(level))
+              .description("Log events dropped because the async buffer was full")
+              .tag("appender", appender.getName())
+              .tag("level", level.toString())
+              .register(registry);
+        }
+        Gauge.builder("stl.logging.buffered", appender, RingBufferAppender::getBuffered)
+            .description("Log events waiting to be written")
+            .tag("appender", appender.getName())
+            .register(registry);
+      }
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package io.stl.stl_core.observability.logging;
+
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+/**
+ * Asynchronous appender that never blocks the logging thread: events go
+ * into a bounded buffer and one writer thread passes them to the attached
+ * appenders.
+ *
+ * Overflow policy: once the buffer is discardingPercent full, TRACE, DEBUG
+ * and INFO events are dropped; WARN and ERROR are dropped only when the
+ * buffer is completely full. Drops are counted per level (see
+ * LoggingMetrics) and reported by the writer once the pressure is gone.
+ *
+ * Unlike Logback's AsyncAppender with neverBlock, every drop is counted,
+ * which is what makes dropping acceptable in production.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+    implements AppenderAttachable<ILoggingEvent> {
+
+  private static final Level[] LEVELS = { Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+
+  private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+  private final LongAdder[] dropped = new LongAdder[LEVELS.length];
+
+  private int capacity = 8192;
+  private int discardingPercent = 80;
+  private int shutdownTimeoutMillis = 1000;
+
+  private BlockingQueue<ILoggingEvent> buffer;
+  private int discardingSize;
+  private Thread writer;
+  private long droppedReported;
+
+  public RingBufferAppender() {
+    for (int i = 0; i < dropped.length; i++) {
+      dropped[i] = new LongAdder();
+    }
+  }
+
+  @Override
+  public void start() {
+    if (isStarted()) {
+      return;
+    }
+    if (capacity < 1 || discardingPercent < 1 || discardingPercent > 100) {
+      addError("Invalid capacity or discardingPercent for appender " + getName());
+      return;
+    }
+    buffer = new ArrayBlockingQueue<>(capacity);
+    discardingSize = Math.max(1, capacity * discardingPercent / 100);
+    super.start();
+    writer = new Thread(this::write, "log-writer-" + getName());
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @Override
+  public void stop() {
+    if (!isStarted()) {
+      return;
+    }
+    super.stop();
+    writer.interrupt();
+    try {
+      writer.join(shutdownTimeoutMillis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    if (writer.isAlive()) {
+      addWarn("Writer of " + getName() + " did not finish within " + shutdownTimeoutMillis + " ms, "
+          + buffer.size() + " events lost");
+    }
+    appenders.detachAndStopAllAppenders();
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    if (event.getLevel().toInt() <= Level.INFO_INT && buffer.size() >= discardingSize) {
+      drop(event);
+      return;
+    }
+    // Message, MDC and thread name must be captured on the calling thread
+    event.prepareForDeferredProcessing();
+    if (!buffer.offer(event)) {
+      drop(event);
+    }
+  }
+
+  private void drop(ILoggingEvent event) {
+    dropped[levelIndex(event.getLevel())].increment();
+  }
+
+  private void write() {
+    try {
+      while (isStarted()) {
+        ILoggingEvent event = buffer.poll(1, TimeUnit.SECONDS);
+        if (event != null) {
+          appenders.appendLoopOnAppenders(event);
+        } else {
+          reportDrops();
+        }
+      }
+    } catch (InterruptedException ex) {
+      // Stopping: flush what is left below
+    }
+    ILoggingEvent event;
+    while ((event = buffer.poll()) != null) {
+      appenders.appendLoopOnAppenders(event);
+    }
+    reportDrops();
+  }
+
+  // Runs on the writer thread when the buffer is idle
+  private void reportDrops() {
+    long total = getDroppedTotal();
+    if (total > droppedReported) {
+      addWarn(getName() + " dropped " + (total - droppedReported) + " log events (buffer full)");
+      droppedReported = total;
+    }
+  }
+
+  private static int levelIndex(Level level) {
+    for (int i = LEVELS.length - 1; i > 0; i--) {
+      if (level.toInt() >= LEVELS[i].toInt()) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Events dropped at a level since start.
+   */
+  public long getDropped(Level level) {
+    return dropped[levelIndex(level)].sum();
+  }
+
+  public long getDroppedTotal() {
+    long total = 0;
+    for (LongAdder count : dropped) {
+      total += count.sum();
+    }
+    return total;
+  }
+
+  /**
+   * Events waiting to be written.
+   */
+  public int getBuffered() {
+    return buffer != null ? buffer.size() : 0;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public void setCapacity(int capacity) {
+    this.capacity = capacity;
+  }
+
+  public int getDiscardingPercent() {
+    return discardingPercent;
+  }
+
+  public void setDiscardingPercent(int discardingPercent) {
+    this.discardingPercent = discardingPercent;
+  }
+
+  public int getShutdownTimeoutMillis() {
+    return shutdownTimeoutMillis;
+  }
+
+  public void setShutdownTimeoutMillis(int shutdownTimeoutMillis) {
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  // ============================================================
+  // AppenderAttachable
+  // ============================================================
+
+  @Override
+  public void addAppender(Appender<ILoggingEvent> appender) {
+    appenders.addAppender(appender);
+  }
+
+  @Override
+  public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+    return appenders.iteratorForAppenders();
+  }
+
+  @Override
+  public Appender<ILoggingEvent> getAppender(String name) {
+    return appenders.getAppender(name);
+  }
+
+  @Override
+  public boolean isAttached(Appender<ILoggingEvent> appender) {
+    return appenders.isAttached(appender);
+  }
+
+  @Override
+  public void detachAndStopAllAppenders() {
+    appenders.detachAndStopAllAppenders();
+  }
+
+  @Override
+  public boolean detachAppender(Appender<ILoggingEvent> appender) {
+    return appenders.detachAppender(appender);
+  }
+
+  @Override
+  public boolean detachAppender(String name) {
+    return appenders.detachAppender(name);
+  }
+}
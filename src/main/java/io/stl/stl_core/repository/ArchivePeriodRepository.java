@@ -0,0 +1,117 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.ArchivePeriod;
+
+/**
+ * Repository for ArchivePeriod, plus the statements that move a period out
+ * of the live tables. The move statements select transactions by created_at
+ * in [from, to) and must run in one database transaction, after the segment
+ * files have been written and verified.
+ */
+@Repository
+public interface ArchivePeriodRepository extends JpaRepository<ArchivePeriod, UUID> {
+
+  String PERIOD_TRANSACTIONS_SQL = "SELECT t.id FROM transactions t"
+      + " WHERE t.created_at >= :from AND t.created_at < :to";
+
+  List<ArchivePeriod> findAllByOrderByPeriodStartAsc();
+
+  boolean existsByPeriodStart(OffsetDateTime periodStart);
+
+  /**
+   * Whether any archived period overlaps [from, to).
+   */
+  @Query("SELECT COUNT(p) > 0 FROM ArchivePeriod p WHERE p.periodStart < :to AND p.periodEnd > :from")
+  boolean existsOverlapping(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  /**
+   * End of the newest archived period (data before it may be archived).
+   */
+  @Query("SELECT MAX(p.periodEnd) FROM ArchivePeriod p")
+  Optional<OffsetDateTime> findArchivedThrough();
+
+  // ============================================================
+  // Move (one database transaction)
+  // ============================================================
+
+  /**
+   * Locks the period's transactions so no status change can slip in between
+   * the verification and the delete (StatusService locks the row first).
+   *
+   * @return Number of transactions locked
+   */
+  @Query(value = "SELECT COUNT(*) FROM (" + PERIOD_TRANSACTIONS_SQL + " FOR UPDATE) locked", nativeQuery = true)
+  long lockTransactions(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  /**
+   * Participants, status history, audit and lock rows of the period's
+   * transactions (compared with what was written to the segments).
+   */
+  @Query(value = "SELECT"
+      + " (SELECT COUNT(*) FROM participants WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + "))"
+      + " + (SELECT COUNT(*) FROM transaction_status_history WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + "))"
+      + " + (SELECT COUNT(*) FROM transaction_audit WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + "))"
+      + " + (SELECT COUNT(*) FROM transaction_locks WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + "))",
+      nativeQuery = true)
+  long countRelatedRows(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  /**
+   * Adds the period's participations to the balance carry-forward.
+   * Must mirror ParticipantBalanceRepository.rebuildForParticipant.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO participant_balance_carryforwards (participant_id, participant_type, currency_code,"
+      + " balance, debit_total, credit_total, entry_count, last_entry_at, updated_at)"
+      + " SELECT p.participant_id, MIN(p.participant_type), t.currency_code,"
+      + " SUM(" + ParticipantBalanceRepository.SIGNED_AMOUNT_SQL + "),"
+      + " SUM(" + ParticipantBalanceRepository.DEBIT_AMOUNT_SQL + "),"
+      + " SUM(" + ParticipantBalanceRepository.CREDIT_AMOUNT_SQL + "),"
+      + " COUNT(*), MAX(p.created_at), NOW()"
+      + " FROM participants p JOIN transactions t ON t.id = p.transaction_id"
+      + " WHERE t.created_at >= :from AND t.created_at < :to"
+      + " GROUP BY p.participant_id, t.currency_code"
+      + " ON CONFLICT (participant_id, currency_code) DO UPDATE SET"
+      + " balance = participant_balance_carryforwards.balance + EXCLUDED.balance,"
+      + " debit_total = participant_balance_carryforwards.debit_total + EXCLUDED.debit_total,"
+      + " credit_total = participant_balance_carryforwards.credit_total + EXCLUDED.credit_total,"
+      + " entry_count = participant_balance_carryforwards.entry_count + EXCLUDED.entry_count,"
+      + " last_entry_at = GREATEST(participant_balance_carryforwards.last_entry_at, EXCLUDED.last_entry_at),"
+      + " updated_at = NOW()",
+      nativeQuery = true)
+  int carryForwardBalances(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  @Modifying
+  @Query(value = "DELETE FROM participants WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + ")",
+      nativeQuery = true)
+  int deleteParticipants(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  @Modifying
+  @Query(value = "DELETE FROM transaction_status_history WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + ")",
+      nativeQuery = true)
+  int deleteStatusHistory(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  @Modifying
+  @Query(value = "DELETE FROM transaction_audit WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + ")",
+      nativeQuery = true)
+  int deleteAudit(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  @Modifying
+  @Query(value = "DELETE FROM transaction_locks WHERE transaction_id IN (" + PERIOD_TRANSACTIONS_SQL + ")",
+      nativeQuery = true)
+  int deleteLocks(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  @Modifying
+  @Query(value = "DELETE FROM transactions WHERE created_at >= :from AND created_at < :to", nativeQuery = true)
+  int deleteTransactions(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+}
@@ -0,0 +1,20 @@
+package io.stl.stl_core.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.ArchiveSegment;
+
+/**
+ * Repository for ArchiveSegment (segment file catalog).
+ */
+@Repository
+public interface ArchiveSegmentRepository extends JpaRepository<ArchiveSegment, UUID> {
+
+  @Query("SELECT s FROM ArchiveSegment s ORDER BY s.firstCreatedAt, s.fileName")
+  List<ArchiveSegment> findAllInTimeOrder();
+}
@@ -0,0 +1,108 @@
+package io.stl.stl_core.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Streaming reads of whole transaction aggregates for the archive tier.
+ *
+ * Each row is one transaction with its participants, status history, audit
+ * records and locks rendered by PostgreSQL as a single JSON document, in
+ * created_at order. Like ExportRepository, rows come through a server-side
+ * cursor: callers MUST run inside a (read-only) transaction.
+ */
+@Repository
+public class ArchiveSourceRepository {
+
+  private static final String AGGREGATES_SQL = """
+      SELECT a.id, a.created_at, a.document::text AS document,
+             json_array_length(a.document -> 'participants') + json_array_length(a.document -> 'statusHistory')
+             + json_array_length(a.document -> 'audit') + json_array_length(a.document -> 'locks') AS related_rows
+      FROM (
+          SELECT t.id, t.created_at, json_build_object(
+              'id', t.id,
+              'typeId', t.type_id,
+              'typeName', tt.name,
+              'amount', t.amount::text,
+              'currencyCode', t.currency_code,
+              'payload', t.payload,
+              'payloadBin', translate(encode(t.payload_bin, 'base64'), E'\\n', ''),
+              'previousHash', t.previous_hash,
+              'signature', t.signature,
+              'createdAt', t.created_at,
+              'currentStatus', (
+                  SELECT h.status FROM transaction_status_history h
+                  WHERE h.transaction_id = t.id
+                  ORDER BY h.updated_at DESC, h.id DESC LIMIT 1),
+              'participants', COALESCE((
+                  SELECT json_agg(json_build_object(
+                      'id', p.id, 'participantType', p.participant_type, 'participantId', p.participant_id,
+                      'role', p.role, 'amount', p.amount::text, 'createdAt', p.created_at)
+                      ORDER BY p.created_at, p.id)
+                  FROM participants p WHERE p.transaction_id = t.id), '[]'::json),
+              'statusHistory', COALESCE((
+                  SELECT json_agg(json_build_object(
+                      'id', h.id, 'status', h.status, 'reason', h.reason, 'updatedAt', h.updated_at)
+                      ORDER BY h.updated_at, h.id)
+                  FROM transaction_status_history h WHERE h.transaction_id = t.id), '[]'::json),
+              'audit', COALESCE((
+                  SELECT json_agg(json_build_object(
+                      'id', au.id, 'actorType', au.actor_type, 'actorId', au.actor_id,
+                      'actionType', au.action_type, 'metadata', au.metadata, 'previousHash', au.previous_hash,
+                      'signature', au.signature, 'timestamp', au.timestamp)
+                      ORDER BY au.timestamp, au.id)
+                  FROM transaction_audit au WHERE au.transaction_id = t.id), '[]'::json),
+              'locks', COALESCE((
+                  SELECT json_agg(json_build_object(
+                      'id', l.id, 'lockType', l.lock_type, 'lockedBy', l.locked_by, 'reason', l.reason,
+                      'createdAt', l.created_at, 'expiresAt', l.expires_at)
+                      ORDER BY l.created_at, l.id)
+                  FROM transaction_locks l WHERE l.transaction_id = t.id), '[]'::json)
+          ) AS document
+          FROM transactions t
+          JOIN transaction_types tt ON tt.id = t.type_id
+          WHERE t.created_at >= ? AND t.created_at < ?
+      ) a
+      ORDER BY a.created_at, a.id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcTemplate cursorTemplate;
+
+  public ArchiveSourceRepository(DataSource dataSource, JdbcTemplate jdbcTemplate,
+      @Value("${stl.archive.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.cursorTemplate = new JdbcTemplate(dataSource);
+    this.cursorTemplate.setFetchSize(fetchSize);
+  }
+
+  /**
+   * Streams the aggregates of transactions created in [from, to), oldest
+   * first. Columns: id, created_at, document (JSON text), related_rows.
+   */
+  public <T> T streamAggregates(OffsetDateTime from, OffsetDateTime to, ResultSetExtractor<T> extractor) {
+    return cursorTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(AGGREGATES_SQL);
+      statement.setTimestamp(1, Timestamp.from(from.toInstant()));
+      statement.setTimestamp(2, Timestamp.from(to.toInstant()));
+      return statement;
+    }, extractor);
+  }
+
+  /**
+   * Creation time of the oldest live transaction.
+   */
+  public Optional<OffsetDateTime> findOldestTransactionCreatedAt() {
+    return Optional.ofNullable(jdbcTemplate.queryForObject(
+        "SELECT MIN(created_at) FROM transactions", OffsetDateTime.class));
+  }
+}
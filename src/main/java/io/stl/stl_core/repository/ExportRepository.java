@@ -0,0 +1,80 @@
+package io.stl.stl_core.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.enums.ExportDataset;
+
+/**
+ * Streaming reads for exports.
+ *
+ * Rows are fetched through a server-side cursor (fetch size > 0), which the
+ * PostgreSQL driver only uses with autocommit off: callers MUST run inside a
+ * (read-only) transaction, otherwise the whole result is buffered in memory.
+ */
+@Repository
+public class ExportRepository {
+
+  /**
+   * A binary column right after a text column holds its alternative encoding
+   * (see CsvExportWriter).
+   */
+  private static final Map<ExportDataset, String> QUERIES = Map.of(
+      ExportDataset.TRANSACTIONS, """
+          SELECT t.id, t.created_at, t.type_id, tt.name AS type_name, t.amount, t.currency_code,
+                 t.previous_hash, t.signature, t.payload::text AS payload, t.payload_bin
+          FROM transactions t
+          JOIN transaction_types tt ON tt.id = t.type_id
+          WHERE t.created_at >= ? AND t.created_at < ?
+          ORDER BY t.created_at, t.id
+          """,
+      ExportDataset.PARTICIPANTS, """
+          SELECT p.id, p.created_at, p.transaction_id, p.participant_type, p.participant_id, p.role, p.amount
+          FROM participants p
+          WHERE p.created_at >= ? AND p.created_at < ?
+          ORDER BY p.created_at, p.id
+          """,
+      ExportDataset.STATUS_HISTORY, """
+          SELECT h.id, h.updated_at, h.transaction_id, h.status, h.reason
+          FROM transaction_status_history h
+          WHERE h.updated_at >= ? AND h.updated_at < ?
+          ORDER BY h.updated_at, h.id
+          """,
+      ExportDataset.AUDIT, """
+          SELECT a.id, a.timestamp, a.transaction_id, a.actor_type, a.actor_id, a.action_type,
+                 a.previous_hash, a.signature, a.metadata::text AS metadata
+          FROM transaction_audit a
+          WHERE a.timestamp >= ? AND a.timestamp < ?
+          ORDER BY a.timestamp, a.id
+          """);
+
+  private final JdbcTemplate cursorTemplate;
+
+  public ExportRepository(DataSource dataSource, @Value("${stl.export.fetch-size:2000}") int fetchSize) {
+    this.cursorTemplate = new JdbcTemplate(dataSource);
+    this.cursorTemplate.setFetchSize(fetchSize);
+  }
+
+  /**
+   * Streams the rows of a data set in [from, to), oldest first.
+   * The extractor walks the cursor itself; nothing is accumulated here.
+   */
+  public <T> T stream(ExportDataset dataset, OffsetDateTime from, OffsetDateTime to,
+      ResultSetExtractor<T> extractor) {
+    return cursorTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(QUERIES.get(dataset));
+      statement.setTimestamp(1, Timestamp.from(from.toInstant()));
+      statement.setTimestamp(2, Timestamp.from(to.toInstant()));
+      return statement;
+    }, extractor);
+  }
+}
@@ -0,0 +1,94 @@
+package io.stl.stl_core.repository;
+
+import static io.stl.stl_core.repository.ParticipantBalanceRepository.SIGNED_AMOUNT_SQL;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.ParticipantBalanceCheckpoint;
+import io.stl.stl_core.model.projection.BalanceDelta;
+
+/**
+ * Repository for ParticipantBalanceCheckpoint (APPEND-ONLY).
+ */
+@Repository
+public interface ParticipantBalanceCheckpointRepository extends JpaRepository<ParticipantBalanceCheckpoint, UUID> {
+
+  /**
+   * Latest checkpoint of a participant/currency at or before a point in time.
+   */
+  Optional<ParticipantBalanceCheckpoint> findFirstByParticipantIdAndCurrencyCodeAndAsOfLessThanEqualOrderByAsOfDesc(
+      UUID participantId, String currencyCode, OffsetDateTime asOf);
+
+  /**
+   * Time covered by the most recent checkpoint run (null before the first run).
+   */
+  @Query("SELECT MAX(c.asOf) FROM ParticipantBalanceCheckpoint c")
+  OffsetDateTime findLatestAsOf();
+
+  /**
+   * Signed sum of a participant's participations in one currency created in
+   * (from, to]. Bounded by the participant history index.
+   */
+  @Query(value = "SELECT COALESCE(SUM(" + SIGNED_AMOUNT_SQL + "), 0) AS \"amount\","
+      + " COUNT(*) AS \"entryCount\""
+      + " FROM participants p JOIN transactions t ON t.id = p.transaction_id"
+      + " WHERE p.participant_id = :participantId"
+      + " AND t.currency_code = :currencyCode"
+      + " AND p.created_at > :from AND p.created_at <= :to",
+      nativeQuery = true)
+  BalanceDelta sumDelta(@Param("participantId") UUID participantId,
+      @Param("currencyCode") String currencyCode,
+      @Param("from") OffsetDateTime from,
+      @Param("to") OffsetDateTime to);
+
+  /**
+   * Writes one checkpoint per participant/currency with participations in
+   * (from, asOf], rolling the previous checkpoint (or, for a participant's
+   * first checkpoint, the archive carry-forward) forward by their signed sum.
+   * Participants without new activity keep their previous checkpoint.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO participant_balance_checkpoints (participant_id, currency_code, balance, entry_count,"
+      + " as_of, created_at)"
+      + " SELECT d.participant_id, d.currency_code, COALESCE(prev.balance, cf.balance, 0) + d.delta,"
+      + " COALESCE(prev.entry_count, cf.entry_count, 0) + d.entry_count, :asOf, NOW()"
+      + " FROM ("
+      + "   SELECT p.participant_id, t.currency_code, SUM(" + SIGNED_AMOUNT_SQL + ") AS delta,"
+      + "   COUNT(*) AS entry_count"
+      + "   FROM participants p JOIN transactions t ON t.id = p.transaction_id"
+      + "   WHERE p.created_at > :from AND p.created_at <= :asOf"
+      + "   GROUP BY p.participant_id, t.currency_code"
+      + " ) d"
+      + " LEFT JOIN LATERAL ("
+      + "   SELECT c.balance, c.entry_count FROM participant_balance_checkpoints c"
+      + "   WHERE c.participant_id = d.participant_id AND c.currency_code = d.currency_code"
+      + "   ORDER BY c.as_of DESC LIMIT 1"
+      + " ) prev ON TRUE"
+      + " LEFT JOIN participant_balance_carryforwards cf"
+      + " ON cf.participant_id = d.participant_id AND cf.currency_code = d.currency_code",
+      nativeQuery = true)
+  int writeCheckpoints(@Param("from") OffsetDateTime from, @Param("asOf") OffsetDateTime asOf);
+
+  /**
+   * Drops all checkpoints so the next run recomputes them from scratch.
+   * Checkpoints are derived data; used only by the rebuild job.
+   */
+  @Modifying
+  @Query("DELETE FROM ParticipantBalanceCheckpoint c")
+  int deleteAllCheckpoints();
+
+  /**
+   * Transaction-scoped PostgreSQL advisory lock so only one node runs a
+   * balance job at a time.
+   */
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryAdvisoryLock(@Param("key") long key);
+}
@@ -0,0 +1,175 @@
+package io.stl.stl_core.repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.ParticipantBalance;
+import io.stl.stl_core.model.projection.BalanceDelta;
+import io.stl.stl_core.model.projection.BalanceDiscrepancy;
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository for ParticipantBalance (live balance snapshots).
+ * Writes are native PostgreSQL upserts so concurrent transactions touching the
+ * same participant never lose an update.
+ */
+@Repository
+public interface ParticipantBalanceRepository extends JpaRepository<ParticipantBalance, UUID> {
+
+  /**
+   * Signed amount of a participation row (p = participants, t = transactions).
+   * Must mirror ParticipantRole.getBalanceSign().
+   */
+  String SIGNED_AMOUNT_SQL = "(CASE p.role WHEN 'SENDER' THEN -1 WHEN 'APPROVER' THEN 0 ELSE 1 END)"
+      + " * COALESCE(p.amount, t.amount)";
+
+  String DEBIT_AMOUNT_SQL = "CASE WHEN p.role = 'SENDER' THEN COALESCE(p.amount, t.amount) ELSE 0 END";
+
+  String CREDIT_AMOUNT_SQL = "CASE WHEN p.role IN ('RECEIVER', 'FEE', 'TAX') THEN COALESCE(p.amount, t.amount) ELSE 0 END";
+
+  /**
+   * All current balances of a participant, one per currency.
+   */
+  List<ParticipantBalance> findByParticipantIdOrderByCurrencyCode(UUID participantId);
+
+  Optional<ParticipantBalance> findByParticipantIdAndCurrencyCode(UUID participantId, String currencyCode);
+
+  /**
+   * Locks the snapshot rows of a participant (used by rebuild so in-flight
+   * deltas are either included in the recomputation or applied after it).
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT b FROM ParticipantBalance b WHERE b.participantId = :participantId")
+  List<ParticipantBalance> lockByParticipantId(@Param("participantId") UUID participantId);
+
+  /**
+   * Atomically adds a delta to a snapshot row, creating it on first use.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO participant_balances (participant_id, participant_type, currency_code, balance,
+                                        debit_total, credit_total, entry_count, last_entry_at, updated_at)
+      VALUES (:participantId, :participantType, :currencyCode, :credit - :debit,
+              :debit, :credit, :entryCount, :entryAt, NOW())
+      ON CONFLICT (participant_id, currency_code) DO UPDATE SET
+          balance = participant_balances.balance + EXCLUDED.balance,
+          debit_total = participant_balances.debit_total + EXCLUDED.debit_total,
+          credit_total = participant_balances.credit_total + EXCLUDED.credit_total,
+          entry_count = participant_balances.entry_count + EXCLUDED.entry_count,
+          last_entry_at = GREATEST(participant_balances.last_entry_at, EXCLUDED.last_entry_at),
+          updated_at = NOW()
+      """, nativeQuery = true)
+  int applyDelta(@Param("participantId") UUID participantId,
+      @Param("participantType") String participantType,
+      @Param("currencyCode") String currencyCode,
+      @Param("debit") BigDecimal debit,
+      @Param("credit") BigDecimal credit,
+      @Param("entryCount") long entryCount,
+      @Param("entryAt") OffsetDateTime entryAt);
+
+  /**
+   * Recomputes every snapshot row of a participant from the participants table
+   * plus the carry-forward of archived participations.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO participant_balances (participant_id, participant_type, currency_code, balance,"
+      + " debit_total, credit_total, entry_count, last_entry_at, updated_at)"
+      + " SELECT e.participant_id, MIN(e.participant_type), e.currency_code, SUM(e.balance), SUM(e.debit_total),"
+      + " SUM(e.credit_total), SUM(e.entry_count), MAX(e.last_entry_at), NOW()"
+      + " FROM ("
+      + "   SELECT p.participant_id, p.participant_type, t.currency_code, " + SIGNED_AMOUNT_SQL + " AS balance,"
+      + "   " + DEBIT_AMOUNT_SQL + " AS debit_total, " + CREDIT_AMOUNT_SQL + " AS credit_total,"
+      + "   1 AS entry_count, p.created_at AS last_entry_at"
+      + "   FROM participants p JOIN transactions t ON t.id = p.transaction_id"
+      + "   WHERE p.participant_id = :participantId"
+      + "   UNION ALL"
+      + "   SELECT participant_id, participant_type, currency_code, balance, debit_total, credit_total,"
+      + "   entry_count, last_entry_at"
+      + "   FROM participant_balance_carryforwards WHERE participant_id = :participantId"
+      + " ) e"
+      + " GROUP BY e.participant_id, e.currency_code"
+      + " ON CONFLICT (participant_id, currency_code) DO UPDATE SET"
+      + " balance = EXCLUDED.balance, debit_total = EXCLUDED.debit_total, credit_total = EXCLUDED.credit_total,"
+      + " entry_count = EXCLUDED.entry_count, last_entry_at = EXCLUDED.last_entry_at, updated_at = NOW()",
+      nativeQuery = true)
+  int rebuildForParticipant(@Param("participantId") UUID participantId);
+
+  /**
+   * Removes snapshot rows of a participant that no participation (live or
+   * archived) backs.
+   */
+  @Modifying
+  @Query(value = """
+      DELETE FROM participant_balances b
+      WHERE b.participant_id = :participantId
+      AND NOT EXISTS (
+          SELECT 1 FROM participants p
+          JOIN transactions t ON t.id = p.transaction_id
+          WHERE p.participant_id = b.participant_id
+          AND t.currency_code = b.currency_code)
+      AND NOT EXISTS (
+          SELECT 1 FROM participant_balance_carryforwards cf
+          WHERE cf.participant_id = b.participant_id
+          AND cf.currency_code = b.currency_code)
+      """, nativeQuery = true)
+  int deleteOrphansForParticipant(@Param("participantId") UUID participantId);
+
+  /**
+   * Next batch of participant IDs (in ID order) for a full rebuild.
+   */
+  @Query(value = """
+      SELECT p.participant_id FROM participants p
+      WHERE p.participant_id > :after
+      UNION
+      SELECT cf.participant_id FROM participant_balance_carryforwards cf
+      WHERE cf.participant_id > :after
+      ORDER BY 1
+      LIMIT :limit
+      """, nativeQuery = true)
+  List<UUID> findParticipantIdsAfter(@Param("after") UUID after, @Param("limit") int limit);
+
+  /**
+   * Compares every snapshot with the balance recomputed from the participants
+   * table and the archive carry-forward. Full scan - meant for the scheduled
+   * reconciliation job.
+   */
+  @Query(value = "SELECT COALESCE(b.participant_id, a.participant_id) AS \"participantId\","
+      + " COALESCE(b.currency_code, a.currency_code) AS \"currencyCode\","
+      + " b.balance AS \"snapshotBalance\", a.balance AS \"actualBalance\","
+      + " b.entry_count AS \"snapshotEntryCount\", a.entry_count AS \"actualEntryCount\""
+      + " FROM participant_balances b"
+      + " FULL OUTER JOIN ("
+      + "   SELECT e.participant_id, e.currency_code, SUM(e.balance) AS balance, SUM(e.entry_count) AS entry_count"
+      + "   FROM ("
+      + "     SELECT p.participant_id, t.currency_code, " + SIGNED_AMOUNT_SQL + " AS balance, 1 AS entry_count"
+      + "     FROM participants p JOIN transactions t ON t.id = p.transaction_id"
+      + "     UNION ALL"
+      + "     SELECT participant_id, currency_code, balance, entry_count FROM participant_balance_carryforwards"
+      + "   ) e"
+      + "   GROUP BY e.participant_id, e.currency_code"
+      + " ) a ON a.participant_id = b.participant_id AND a.currency_code = b.currency_code"
+      + " WHERE b.balance IS DISTINCT FROM a.balance OR b.entry_count IS DISTINCT FROM a.entry_count"
+      + " LIMIT :limit",
+      nativeQuery = true)
+  List<BalanceDiscrepancy> findDiscrepancies(@Param("limit") int limit);
+
+  /**
+   * Totals of a participant's archived participations in one currency.
+   */
+  @Query(value = "SELECT cf.balance AS \"amount\", cf.entry_count AS \"entryCount\""
+      + " FROM participant_balance_carryforwards cf"
+      + " WHERE cf.participant_id = :participantId AND cf.currency_code = :currencyCode",
+      nativeQuery = true)
+  Optional<BalanceDelta> findCarryForward(@Param("participantId") UUID participantId,
+      @Param("currencyCode") String currencyCode);
+}
@@ -1,8 +1,10 @@
 package io.stl.stl_core.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import io.stl.stl_core.model.entity.Participant;
 import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.projection.ParticipantHistoryRow;
 
 /**
  * Repository for Participant entities (APPEND-ONLY).
@@ -34,4 +37,48 @@ public interface ParticipantRepository extends JpaRepository<Participant, UUID>
    */
   @Query("SELECT p FROM Participant p WHERE p.participantId = :participantId ORDER BY p.createdAt DESC")
   List<Participant> findByParticipantId(@Param("participantId") UUID participantId);
+
+  /**
+   * First page of a participant's account history, newest first.
+   * Transaction data and current status are joined in the same query;
+   * served by idx_participants_history.
+   */
+  @Query("""
+      SELECT new io.stl.stl_core.model.projection.ParticipantHistoryRow(
+          p.id, t.id, p.participantType, p.role, p.amount, t.amount, t.currency.code, ty.name,
+          (SELECT h.status FROM TransactionStatusHistory h
+           WHERE h.transaction = t
+           ORDER BY h.updatedAt DESC, h.id DESC LIMIT 1),
+          p.createdAt)
+      FROM Participant p
+      JOIN p.transaction t
+      JOIN t.type ty
+      WHERE p.participantId = :participantId
+      ORDER BY p.createdAt DESC, p.id DESC
+      """)
+  List<ParticipantHistoryRow> findHistory(@Param("participantId") UUID participantId, Limit limit);
+
+  /**
+   * Next page of a participant's account history (keyset pagination).
+   * Continues strictly after the (createdAt, id) position of the last row
+   * returned, so the cost does not grow with the page number.
+   */
+  @Query("""
+      SELECT new io.stl.stl_core.model.projection.ParticipantHistoryRow(
+          p.id, t.id, p.participantType, p.role, p.amount, t.amount, t.currency.code, ty.name,
+          (SELECT h.status FROM TransactionStatusHistory h
+           WHERE h.transaction = t
+           ORDER BY h.updatedAt DESC, h.id DESC LIMIT 1),
+          p.createdAt)
+      FROM Participant p
+      JOIN p.transaction t
+      JOIN t.type ty
+      WHERE p.participantId = :participantId
+      AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+      ORDER BY p.createdAt DESC, p.id DESC
+      """)
+  List<ParticipantHistoryRow> findHistoryAfter(@Param("participantId") UUID participantId,
+      @Param("createdAt") OffsetDateTime createdAt,
+      @Param("id") UUID id,
+      Limit limit);
 }
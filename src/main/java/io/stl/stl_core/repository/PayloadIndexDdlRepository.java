@@ -0,0 +1,88 @@
+package io.stl.stl_core.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * DDL for managed payload indexes on the transactions table.
+ *
+ * Every index is partial on one transaction type and built CONCURRENTLY, so
+ * callers must NOT be inside a database transaction. Index names and path
+ * segments are validated here before being embedded in DDL.
+ */
+@Repository
+public class PayloadIndexDdlRepository {
+
+  private static final Pattern INDEX_NAME = Pattern.compile("idx_payload_[a-f0-9]{16}");
+  private static final Pattern PATH_SEGMENT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public PayloadIndexDdlRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Expression index on the text value at a payload path.
+   * Serves: type_id = '<typeId>' AND payload #>> '{a,b}' = ?
+   */
+  public void createPathIndex(String indexName, UUID typeId, List<String> pathSegments) {
+    jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + checkName(indexName)
+        + " ON transactions ((" + pathExpression(pathSegments) + "))"
+        + " WHERE type_id = '" + typeId + "'");
+  }
+
+  /**
+   * GIN index on the whole payload.
+   * Serves: type_id = '<typeId>' AND payload @> ?::jsonb
+   */
+  public void createContainmentIndex(String indexName, UUID typeId) {
+    jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + checkName(indexName)
+        + " ON transactions USING GIN (payload jsonb_path_ops)"
+        + " WHERE type_id = '" + typeId + "'");
+  }
+
+  public void dropIndex(String indexName) {
+    jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + checkName(indexName));
+  }
+
+  /**
+   * Whether the index exists and is valid (a failed concurrent build leaves
+   * an invalid index behind).
+   *
+   * @return Empty if the index does not exist
+   */
+  public Optional<Boolean> isIndexValid(String indexName) {
+    List<Boolean> valid = jdbcTemplate.queryForList("""
+        SELECT i.indisvalid FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        WHERE c.relname = ?
+        """, Boolean.class, checkName(indexName));
+    return valid.stream().findFirst();
+  }
+
+  /**
+   * SQL expression for the text value at a path, e.g. payload #>> '{order,id}'.
+   * Queries must use exactly this expression to match the index.
+   */
+  public static String pathExpression(List<String> pathSegments) {
+    for (String segment : pathSegments) {
+      if (!PATH_SEGMENT.matcher(segment).matches()) {
+        throw new IllegalArgumentException("Invalid payload path segment: " + segment);
+      }
+    }
+    return "payload #>> '{" + String.join(",", pathSegments) + "}'";
+  }
+
+  private static String checkName(String indexName) {
+    if (!INDEX_NAME.matcher(indexName).matches()) {
+      throw new IllegalArgumentException("Invalid payload index name: " + indexName);
+    }
+    return indexName;
+  }
+}
@@ -0,0 +1,61 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.PayloadIndexDefinition;
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import io.stl.stl_core.model.enums.PayloadIndexStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for PayloadIndexDefinition (payload index configuration).
+ */
+@Repository
+public interface PayloadIndexDefinitionRepository extends JpaRepository<PayloadIndexDefinition, UUID> {
+
+  @Query("SELECT d FROM PayloadIndexDefinition d WHERE d.type.id = :typeId ORDER BY d.createdAt")
+  List<PayloadIndexDefinition> findByTypeId(@Param("typeId") UUID typeId);
+
+  @Query("SELECT d FROM PayloadIndexDefinition d WHERE d.type.id = :typeId AND d.status = :status")
+  List<PayloadIndexDefinition> findByTypeIdAndStatus(@Param("typeId") UUID typeId,
+      @Param("status") PayloadIndexStatus status);
+
+  @Query("""
+      SELECT CASE WHEN COUNT(d) > 0 THEN true ELSE false END
+      FROM PayloadIndexDefinition d
+      WHERE d.type.id = :typeId AND d.kind = :kind
+      AND (d.path = :path OR (d.path IS NULL AND :path IS NULL))
+      """)
+  boolean existsDefinition(@Param("typeId") UUID typeId,
+      @Param("kind") PayloadIndexKind kind,
+      @Param("path") String path);
+
+  /**
+   * Claims the oldest definition in one of the given states, skipping rows
+   * another node has already locked.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+  @Query("SELECT d FROM PayloadIndexDefinition d WHERE d.status IN :statuses ORDER BY d.createdAt")
+  List<PayloadIndexDefinition> claimByStatus(@Param("statuses") Collection<PayloadIndexStatus> statuses,
+      Limit limit);
+
+  /**
+   * Builds that have not finished within the timeout (e.g. node crashed).
+   */
+  @Query("SELECT d FROM PayloadIndexDefinition d WHERE d.status = :status AND d.updatedAt < :before")
+  List<PayloadIndexDefinition> findStale(@Param("status") PayloadIndexStatus status,
+      @Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,32 @@
+package io.stl.stl_core.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.PayloadKey;
+
+/**
+ * Repository for PayloadKey (binary payload key dictionary, APPEND-ONLY).
+ */
+@Repository
+public interface PayloadKeyRepository extends JpaRepository<PayloadKey, Integer> {
+
+  /**
+   * Adds keys to the dictionary; keys added concurrently by another node are
+   * left untouched.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO payload_keys (name, created_at) SELECT k, NOW() FROM unnest(CAST(:keys AS text[])) k"
+      + " ON CONFLICT (name) DO NOTHING", nativeQuery = true)
+  int insertMissing(@Param("keys") String[] keys);
+
+  List<PayloadKey> findByNameIn(Collection<String> names);
+
+  List<PayloadKey> findByIdGreaterThanOrderById(Integer id);
+}
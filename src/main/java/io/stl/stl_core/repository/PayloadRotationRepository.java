@@ -0,0 +1,63 @@
+package io.stl.stl_core.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Encrypted payloads under retired keys (key rotation). The only writer of
+ * transactions besides inserts: it replaces the envelope of a payload with
+ * one under the current key, the payload itself is unchanged.
+ * Writes must run in a transaction.
+ */
+@Repository
+public class PayloadRotationRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Encrypted payloads whose envelope is not under a key version, in id order.
+   *
+   * @param after Keyset position (last id of the previous batch)
+   */
+  public List<EncryptedPayload> findNotUnderKey(int keyVersion, UUID after, int limit) {
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows = entityManager.createNativeQuery(
+        "SELECT id, payload_bin FROM transactions"
+            + " WHERE id > :after AND payload_bin IS NOT NULL AND octet_length(payload_bin) > 5"
+            + " AND get_byte(payload_bin, 0) = 2"
+            + " AND substring(payload_bin FROM 2 FOR 4) <> int4send(:version)"
+            + " ORDER BY id LIMIT :limit")
+        .setParameter("after", after)
+        .setParameter("version", keyVersion)
+        .setParameter("limit", limit)
+        .getResultList();
+    return rows.stream()
+        .map(row -> new EncryptedPayload((UUID) row[0], (byte[]) row[1]))
+        .toList();
+  }
+
+  /**
+   * Replaces payload envelopes.
+   *
+   * @param ids       Transaction ids
+   * @param envelopes Base64 envelopes, same order as ids
+   */
+  public int updateEnvelopes(String[] ids, String[] envelopes) {
+    return entityManager.createNativeQuery(
+        "UPDATE transactions t SET payload_bin = decode(v.bin, 'base64')"
+            + " FROM unnest(CAST(:ids AS uuid[]), CAST(:bins AS text[])) AS v(id, bin)"
+            + " WHERE t.id = v.id")
+        .setParameter("ids", ids)
+        .setParameter("bins", envelopes)
+        .executeUpdate();
+  }
+
+  public record EncryptedPayload(UUID id, byte[] envelope) {
+  }
+}
@@ -0,0 +1,65 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Cluster-wide request counters of the rate limiter (rate_limit_usage).
+ * Writes must run in a transaction.
+ */
+@Repository
+public class RateLimitUsageRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Adds this node's hits to the window counters of a policy.
+   *
+   * @param clientKeys Client keys
+   * @param hits       Hits per client (decimal), same order as clientKeys
+   */
+  public int addHits(String policy, OffsetDateTime windowStart, String[] clientKeys, String[] hits) {
+    return entityManager.createNativeQuery(
+        "INSERT INTO rate_limit_usage (policy, client_key, window_start, hits)"
+            + " SELECT :policy, k, :windowStart, h"
+            + " FROM unnest(CAST(:keys AS text[]), CAST(:hits AS bigint[])) AS v(k, h)"
+            + " ON CONFLICT (policy, client_key, window_start)"
+            + " DO UPDATE SET hits = rate_limit_usage.hits + EXCLUDED.hits")
+        .setParameter("policy", policy)
+        .setParameter("windowStart", windowStart)
+        .setParameter("keys", clientKeys)
+        .setParameter("hits", hits)
+        .executeUpdate();
+  }
+
+  /**
+   * Which of the given clients have reached a number of hits in a window.
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> findOverLimit(String policy, OffsetDateTime windowStart, String[] clientKeys, long limit) {
+    return entityManager.createNativeQuery(
+        "SELECT client_key FROM rate_limit_usage"
+            + " WHERE policy = :policy AND window_start = :windowStart"
+            + " AND client_key = ANY(CAST(:keys AS text[])) AND hits >= :limit")
+        .setParameter("policy", policy)
+        .setParameter("windowStart", windowStart)
+        .setParameter("keys", clientKeys)
+        .setParameter("limit", limit)
+        .getResultList();
+  }
+
+  /**
+   * Deletes the counters of windows that started before a point in time.
+   */
+  public int deleteWindowsBefore(OffsetDateTime before) {
+    return entityManager.createNativeQuery("DELETE FROM rate_limit_usage WHERE window_start < :before")
+        .setParameter("before", before)
+        .executeUpdate();
+  }
+}
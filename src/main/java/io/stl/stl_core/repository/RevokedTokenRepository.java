@@ -0,0 +1,40 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.RevokedToken;
+
+/**
+ * Repository for RevokedToken (shared token revocation list).
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+  /**
+   * Records a revocation; revoking a token twice keeps the first row.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO revoked_tokens (token_id, expires_at, revoked_at) VALUES (:tokenId, :expiresAt, NOW())"
+      + " ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") OffsetDateTime expiresAt);
+
+  /**
+   * Revocations recorded since a point in time that are still in force.
+   */
+  @Query("SELECT r FROM RevokedToken r WHERE r.revokedAt > :since AND r.expiresAt > :now")
+  List<RevokedToken> findRevokedSince(@Param("since") OffsetDateTime since, @Param("now") OffsetDateTime now);
+
+  /**
+   * Deletes revocations of tokens that have expired anyway.
+   */
+  @Modifying
+  @Query(value = "DELETE FROM revoked_tokens WHERE expires_at <= :now", nativeQuery = true)
+  int deleteExpired(@Param("now") OffsetDateTime now);
+}
@@ -1,5 +1,6 @@
 package io.stl.stl_core.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +24,12 @@ public interface TransactionAuditRepository extends JpaRepository<TransactionAud
   @Query("SELECT a FROM TransactionAudit a WHERE a.transaction.id = :transactionId ORDER BY a.timestamp DESC")
   List<TransactionAudit> findByTransactionId(@Param("transactionId") UUID transactionId);
 
+  /**
+   * Get the most recent audit records for a transaction, newest first.
+   */
+  @Query("SELECT a FROM TransactionAudit a WHERE a.transaction.id = :transactionId ORDER BY a.timestamp DESC")
+  List<TransactionAudit> findRecentByTransactionId(@Param("transactionId") UUID transactionId, Limit limit);
+
   /**
    * Get audit records by actor.
    */
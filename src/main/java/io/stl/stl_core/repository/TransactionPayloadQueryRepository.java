@@ -0,0 +1,81 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Payload queries against the managed partial indexes.
+ *
+ * The type ID and path expressions are embedded as literals so the planner
+ * can match the partial index predicate and index expression (a bound
+ * parameter would not match them in a generic plan). Only values are bound.
+ * Callers must check that a READY index covers every filter first.
+ */
+@Repository
+public class TransactionPayloadQueryRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Finds the IDs of matching transactions, newest first.
+   * At most maxMatches + 1 rows are read, so callers can detect (and reject)
+   * queries that match too much.
+   *
+   * @param pathEquals   Path segments -> expected text value
+   * @param containsJson JSON document for payload @> (nullable)
+   */
+  @SuppressWarnings("unchecked")
+  public List<UUID> findMatchingIds(UUID typeId, Map<List<String>, String> pathEquals, String containsJson,
+      OffsetDateTime from, OffsetDateTime to, int maxMatches) {
+
+    StringBuilder sql = new StringBuilder("SELECT m.id FROM (SELECT t.id, t.created_at FROM transactions t")
+        .append(" WHERE t.type_id = '").append(typeId).append('\'');
+
+    List<String> values = new ArrayList<>(pathEquals.size());
+    for (Map.Entry<List<String>, String> filter : pathEquals.entrySet()) {
+      sql.append(" AND t.").append(PayloadIndexDdlRepository.pathExpression(filter.getKey()))
+          .append(" = :p").append(values.size());
+      values.add(filter.getValue());
+    }
+    if (containsJson != null) {
+      sql.append(" AND t.payload @> CAST(:contains AS jsonb)");
+    }
+    if (from != null) {
+      sql.append(" AND t.created_at >= :from");
+    }
+    if (to != null) {
+      sql.append(" AND t.created_at < :to");
+    }
+    sql.append(" LIMIT :cap) m ORDER BY m.created_at DESC, m.id DESC");
+
+    // Covered queries never need a sequential scan; make the planner agree
+    entityManager.createNativeQuery("SELECT set_config('enable_seqscan', 'off', true)").getSingleResult();
+
+    Query query = entityManager.createNativeQuery(sql.toString());
+    for (int i = 0; i < values.size(); i++) {
+      query.setParameter("p" + i, values.get(i));
+    }
+    if (containsJson != null) {
+      query.setParameter("contains", containsJson);
+    }
+    if (from != null) {
+      query.setParameter("from", from);
+    }
+    if (to != null) {
+      query.setParameter("to", to);
+    }
+    query.setParameter("cap", maxMatches + 1);
+
+    return query.getResultList();
+  }
+}
@@ -1,8 +1,10 @@
 package io.stl.stl_core.repository;
 
 import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.projection.TransactionPayloadRow;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,12 +48,25 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
   @Query("SELECT t FROM Transaction t WHERE t.currency.code = :currencyCode ORDER BY t.createdAt DESC")
   List<Transaction> findByCurrencyCode(@Param("currencyCode") String currencyCode);
 
+  /**
+   * Payload columns of the given transactions (explicit payload loading).
+   */
+  @Query("SELECT t.id AS id, t.payloadJson AS payloadJson, t.payloadBin AS payloadBin FROM Transaction t WHERE t.id IN :ids")
+  List<TransactionPayloadRow> findPayloadsByIdIn(@Param("ids") Collection<UUID> ids);
+
   /**
    * Count transactions created after a specific date.
    */
   @Query("SELECT COUNT(t) FROM Transaction t WHERE t.createdAt > :since")
   long countCreatedSince(@Param("since") OffsetDateTime since);
 
+  /**
+   * Row-locks a transaction until the end of the current database transaction
+   * (serializes status changes). Does not modify the row.
+   */
+  @Query(value = "SELECT id FROM transactions WHERE id = :id FOR UPDATE", nativeQuery = true)
+  Optional<UUID> lockById(@Param("id") UUID id);
+
   // Note: No update() or delete() methods - enforcing append-only semantics
   // The @Immutable annotation on the entity prevents accidental updates
 }
@@ -0,0 +1,37 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.TransactionRollupEvent;
+
+/**
+ * Repository for TransactionRollupEvent (rollup work queue).
+ * Events are claimed and deleted in bulk by TransactionRollupRepository.
+ */
+@Repository
+public interface TransactionRollupEventRepository extends JpaRepository<TransactionRollupEvent, UUID> {
+
+  /**
+   * Drops pending events of transactions created in [from, to) - used when
+   * those buckets are recomputed from the source tables.
+   */
+  @Modifying
+  @Query("""
+      DELETE FROM TransactionRollupEvent e
+      WHERE e.transactionCreatedAt >= :from AND e.transactionCreatedAt < :to
+      """)
+  int deleteForTransactionsCreatedBetween(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  /**
+   * Number of events waiting for the rollup worker.
+   */
+  @Query("SELECT COUNT(e) FROM TransactionRollupEvent e")
+  long countPending();
+}
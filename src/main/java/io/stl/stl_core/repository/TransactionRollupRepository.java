@@ -0,0 +1,130 @@
+package io.stl.stl_core.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.entity.TransactionRollup;
+import io.stl.stl_core.model.enums.RollupGranularity;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.RollupReportRow;
+
+/**
+ * Repository for TransactionRollup (reporting aggregates).
+ * Writes are native PostgreSQL statements that touch every granularity at
+ * once; buckets are truncated in UTC.
+ */
+@Repository
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, TransactionRollup.Key> {
+
+  /**
+   * Granularities maintained by the SQL below (must match RollupGranularity).
+   */
+  String GRANULARITIES_SQL = "(VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit)";
+
+  /**
+   * Claims up to batchSize pending events, deletes them and applies them to
+   * every granularity: +1 for the new status and -1 for the previous one, in
+   * the bucket of the transaction's creation time.
+   *
+   * @return Number of rollup rows upserted (0 when the queue is empty)
+   */
+  @Modifying
+  @Query(value = "WITH claimed AS ("
+      + "   DELETE FROM transaction_rollup_events e"
+      + "   WHERE e.id IN (SELECT id FROM transaction_rollup_events LIMIT :batchSize FOR UPDATE SKIP LOCKED)"
+      + "   RETURNING e.transaction_created_at, e.currency_code, e.type_id, e.amount, e.status, e.previous_status"
+      + " ), deltas AS ("
+      + "   SELECT transaction_created_at, currency_code, type_id, status, 1 AS sign, amount FROM claimed"
+      + "   UNION ALL"
+      + "   SELECT transaction_created_at, currency_code, type_id, previous_status, -1, amount FROM claimed"
+      + "   WHERE previous_status IS NOT NULL"
+      + " )"
+      + " INSERT INTO transaction_rollups (granularity, bucket_start, currency_code, type_id, status,"
+      + " transaction_count, amount_total, updated_at)"
+      + " SELECT g.granularity, date_trunc(g.unit, d.transaction_created_at, 'UTC'), d.currency_code, d.type_id,"
+      + " d.status, SUM(d.sign), SUM(d.sign * d.amount), NOW()"
+      + " FROM deltas d CROSS JOIN " + GRANULARITIES_SQL
+      + " GROUP BY 1, 2, 3, 4, 5"
+      + " ORDER BY 1, 2, 3, 4, 5"
+      + " ON CONFLICT (granularity, bucket_start, currency_code, type_id, status) DO UPDATE SET"
+      + " transaction_count = transaction_rollups.transaction_count + EXCLUDED.transaction_count,"
+      + " amount_total = transaction_rollups.amount_total + EXCLUDED.amount_total,"
+      + " updated_at = NOW()",
+      nativeQuery = true)
+  int applyPendingEvents(@Param("batchSize") int batchSize);
+
+  /**
+   * Deletes every bucket (all granularities) starting in [from, to).
+   */
+  @Modifying
+  @Query("DELETE FROM TransactionRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+  int deleteBuckets(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  /**
+   * Recomputes every bucket for transactions created in [from, to) from the
+   * transactions table and each transaction's latest status. The range must be
+   * aligned to whole UTC days and its buckets deleted first.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO transaction_rollups (granularity, bucket_start, currency_code, type_id, status,"
+      + " transaction_count, amount_total, updated_at)"
+      + " SELECT g.granularity, date_trunc(g.unit, t.created_at, 'UTC'), t.currency_code, t.type_id, s.status,"
+      + " COUNT(*), SUM(t.amount), NOW()"
+      + " FROM transactions t"
+      + " JOIN LATERAL ("
+      + "   SELECT h.status FROM transaction_status_history h WHERE h.transaction_id = t.id"
+      + "   ORDER BY h.updated_at DESC, h.id DESC LIMIT 1"
+      + " ) s ON TRUE"
+      + " CROSS JOIN " + GRANULARITIES_SQL
+      + " WHERE t.created_at >= :from AND t.created_at < :to"
+      + " GROUP BY 1, 2, 3, 4, 5",
+      nativeQuery = true)
+  int recompute(@Param("from") OffsetDateTime from, @Param("to") OffsetDateTime to);
+
+  /**
+   * Drops buckets of one granularity older than a cut-off (retention).
+   */
+  @Modifying
+  @Query("DELETE FROM TransactionRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+  int deleteOlderThan(@Param("granularity") RollupGranularity granularity, @Param("before") OffsetDateTime before);
+
+  /**
+   * Report rows for one granularity in [from, to), optionally filtered.
+   * Served by the primary key (granularity, bucket_start, ...).
+   */
+  @Query("""
+      SELECT new io.stl.stl_core.model.projection.RollupReportRow(
+          r.bucketStart, r.currencyCode, r.typeId, ty.name, r.status, r.transactionCount, r.amountTotal)
+      FROM TransactionRollup r
+      JOIN TransactionType ty ON ty.id = r.typeId
+      WHERE r.granularity = :granularity
+      AND r.bucketStart >= :from AND r.bucketStart < :to
+      AND (:currencyCode IS NULL OR r.currencyCode = :currencyCode)
+      AND (:typeId IS NULL OR r.typeId = :typeId)
+      AND (:status IS NULL OR r.status = :status)
+      AND r.transactionCount <> 0
+      ORDER BY r.bucketStart, r.currencyCode, ty.name, r.status
+      """)
+  List<RollupReportRow> findReport(@Param("granularity") RollupGranularity granularity,
+      @Param("from") OffsetDateTime from,
+      @Param("to") OffsetDateTime to,
+      @Param("currencyCode") String currencyCode,
+      @Param("typeId") UUID typeId,
+      @Param("status") TransactionStatus status,
+      Limit limit);
+
+  /**
+   * Transaction-scoped PostgreSQL advisory lock so only one node applies or
+   * recomputes rollups at a time.
+   */
+  @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+  boolean tryAdvisoryLock(@Param("key") long key);
+}
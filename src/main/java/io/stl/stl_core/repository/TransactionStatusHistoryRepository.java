@@ -2,11 +2,13 @@ package io.stl.stl_core.repository;
 
 import io.stl.stl_core.model.enums.TransactionStatus;
 import io.stl.stl_core.model.entity.TransactionStatusHistory;
+import io.stl.stl_core.model.projection.LatestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +31,22 @@ public interface TransactionStatusHistoryRepository extends JpaRepository<Transa
   @Query("SELECT h FROM TransactionStatusHistory h WHERE h.transaction.id = :transactionId ORDER BY h.updatedAt DESC LIMIT 1")
   Optional<TransactionStatusHistory> findLatestByTransactionId(@Param("transactionId") UUID transactionId);
 
+  /**
+   * Get the current (latest) status of several transactions in one query.
+   * Transactions without history are missing from the result.
+   */
+  @Query("""
+      SELECT h.transaction.id AS transactionId, h.status AS status
+      FROM TransactionStatusHistory h
+      WHERE h.transaction.id IN :transactionIds
+      AND h.updatedAt = (
+          SELECT MAX(h2.updatedAt)
+          FROM TransactionStatusHistory h2
+          WHERE h2.transaction.id = h.transaction.id
+      )
+      """)
+  List<LatestStatus> findLatestByTransactionIdIn(@Param("transactionIds") Collection<UUID> transactionIds);
+
   /**
    * Find all transactions with a specific current status.
    * Note: This is expensive - consider denormalizing current_status to
@@ -0,0 +1,107 @@
+package io.stl.stl_core.repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.projection.TransactionSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Summary reads of live transactions that select only the requested columns.
+ *
+ * The JPQL is built per field selection: transaction_types and currencies
+ * are joined only for typeName and currencySymbol (currencyCode is the
+ * foreign key column), and the payload columns are never selected.
+ */
+@Repository
+public class TransactionSummaryRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Summaries of all transactions, newest first.
+   */
+  public List<TransactionSummary> findAll(Set<TransactionField> fields) {
+    return query(fields, "", true).getResultList().stream().map(row -> summary(row, fields)).toList();
+  }
+
+  /**
+   * Summaries of transactions by type, newest first.
+   */
+  public List<TransactionSummary> findByTypeId(Set<TransactionField> fields, UUID typeId) {
+    return query(fields, " WHERE t.type.id = :typeId", true)
+        .setParameter("typeId", typeId)
+        .getResultList().stream().map(row -> summary(row, fields)).toList();
+  }
+
+  /**
+   * Summaries of transactions by currency, newest first.
+   */
+  public List<TransactionSummary> findByCurrencyCode(Set<TransactionField> fields, String currencyCode) {
+    return query(fields, " WHERE t.currency.code = :currencyCode", true)
+        .setParameter("currencyCode", currencyCode)
+        .getResultList().stream().map(row -> summary(row, fields)).toList();
+  }
+
+  /**
+   * Summaries of the given transactions, in no particular order.
+   */
+  public List<TransactionSummary> findByIdIn(Set<TransactionField> fields, Collection<UUID> ids) {
+    return query(fields, " WHERE t.id IN :ids", false)
+        .setParameter("ids", ids)
+        .getResultList().stream().map(row -> summary(row, fields)).toList();
+  }
+
+  private TypedQuery<Tuple> query(Set<TransactionField> fields, String where, boolean newestFirst) {
+    StringBuilder jpql = new StringBuilder("SELECT t.id AS id");
+    if (fields.contains(TransactionField.TYPE_NAME)) {
+      jpql.append(", ty.name AS typeName");
+    }
+    if (fields.contains(TransactionField.AMOUNT)) {
+      jpql.append(", t.amount AS amount");
+    }
+    if (fields.contains(TransactionField.CURRENCY_CODE)) {
+      jpql.append(", t.currency.code AS currencyCode");
+    }
+    if (fields.contains(TransactionField.CURRENCY_SYMBOL)) {
+      jpql.append(", c.symbol AS currencySymbol");
+    }
+    if (fields.contains(TransactionField.CREATED_AT)) {
+      jpql.append(", t.createdAt AS createdAt");
+    }
+
+    jpql.append(" FROM Transaction t");
+    if (fields.contains(TransactionField.TYPE_NAME)) {
+      jpql.append(" JOIN t.type ty");
+    }
+    if (fields.contains(TransactionField.CURRENCY_SYMBOL)) {
+      jpql.append(" JOIN t.currency c");
+    }
+    jpql.append(where);
+    if (newestFirst) {
+      jpql.append(" ORDER BY t.createdAt DESC");
+    }
+    return entityManager.createQuery(jpql.toString(), Tuple.class);
+  }
+
+  private static TransactionSummary summary(Tuple row, Set<TransactionField> fields) {
+    return new TransactionSummary(
+        row.get("id", UUID.class),
+        fields.contains(TransactionField.TYPE_NAME) ? row.get("typeName", String.class) : null,
+        fields.contains(TransactionField.AMOUNT) ? row.get("amount", BigDecimal.class) : null,
+        fields.contains(TransactionField.CURRENCY_CODE) ? row.get("currencyCode", String.class) : null,
+        fields.contains(TransactionField.CURRENCY_SYMBOL) ? row.get("currencySymbol", String.class) : null,
+        fields.contains(TransactionField.CREATED_AT) ? row.get("createdAt", OffsetDateTime.class) : null);
+  }
+}
@@ -1,10 +1,14 @@
 package io.stl.stl_core.repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.stl.stl_core.model.entity.User;
@@ -30,4 +34,35 @@ public interface UserRepository extends JpaRepository<User, UUID> {
    * Check if email already exists.
    */
   boolean existsByEmail(String email);
+
+  /**
+   * Writes a batch of successful logins: last login time (never moved
+   * backwards) and reset of the failed attempts, unless the account has been
+   * locked again since.
+   *
+   * @param ids    User ids
+   * @param logins Login times (ISO-8601), same order as ids
+   */
+  @Modifying
+  @Query(value = "UPDATE users u SET last_login = GREATEST(u.last_login, v.login),"
+      + " failed_login_attempts = CASE WHEN u.account_locked_until > NOW() THEN u.failed_login_attempts ELSE 0 END,"
+      + " account_locked_until = CASE WHEN u.account_locked_until > NOW() THEN u.account_locked_until END"
+      + " FROM unnest(CAST(:ids AS uuid[]), CAST(:logins AS timestamptz[])) AS v(id, login)"
+      + " WHERE u.id = v.id", nativeQuery = true)
+  int updateLastLogins(@Param("ids") String[] ids, @Param("logins") String[] logins);
+
+  /**
+   * Locks an account after too many failed logins.
+   */
+  @Modifying
+  @Query("UPDATE User u SET u.failedLoginAttempts = :attempts, u.accountLockedUntil = :until WHERE u.id = :id")
+  int lockAccount(@Param("id") UUID id, @Param("attempts") int attempts, @Param("until") OffsetDateTime until);
+
+  @Modifying
+  @Query("UPDATE User u SET u.enabled = :enabled WHERE u.id = :id")
+  int updateEnabled(@Param("id") UUID id, @Param("enabled") boolean enabled);
+
+  @Modifying
+  @Query("UPDATE User u SET u.role = :role WHERE u.id = :id")
+  int updateRole(@Param("id") UUID id, @Param("role") UserRole role);
 }
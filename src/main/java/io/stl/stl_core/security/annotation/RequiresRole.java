@@ -0,0 +1,25 @@
+package io.stl.stl_core.security.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.stl.stl_core.model.enums.UserRole;
+
+/**
+ * Restricts a controller method (or every method of a controller) to users
+ * with one of the given roles. A method-level annotation replaces the
+ * controller-level one. Enforced by AuthorizationInterceptor (403).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface RequiresRole {
+
+  /**
+   * Accepted roles (any of them).
+   */
+  UserRole[] value();
+}
@@ -0,0 +1,36 @@
+package io.stl.stl_core.security.config;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Method-level authorization (@RequiresRole, @RequiresPermission) for the
+ * controllers, on top of the authentication rules of SecurityConfig.
+ */
+@Configuration
+public class AuthorizationConfig implements WebMvcConfigurer {
+
+  private final AuthorizationInterceptor authorizationInterceptor = new AuthorizationInterceptor();
+  private final ApplicationContext applicationContext;
+
+  public AuthorizationConfig(ApplicationContext applicationContext) {
+    this.applicationContext = applicationContext;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(authorizationInterceptor);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void compileRequirements() {
+    RequestMappingHandlerMapping handlerMapping = applicationContext.getBean("requestMappingHandlerMapping",
+        RequestMappingHandlerMapping.class);
+    authorizationInterceptor.compile(handlerMapping.getHandlerMethods().values());
+  }
+}
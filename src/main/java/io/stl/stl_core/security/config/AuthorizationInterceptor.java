@@ -0,0 +1,106 @@
+package io.stl.stl_core.security.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.stl.stl_core.model.enums.Permission;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.security.annotation.RequiresPermission;
+import io.stl.stl_core.security.annotation.RequiresRole;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Enforces @RequiresRole and @RequiresPermission on controller methods.
+ *
+ * The annotations of every handler method are compiled once, at startup
+ * (AuthorizationConfig), into a role mask and a permission mask; a request
+ * then costs one map lookup and two ANDs against the masks the UserPrincipal
+ * carries. Denials throw AccessDeniedException (403).
+ */
+public class AuthorizationInterceptor implements HandlerInterceptor {
+
+  private final Map<Method, Requirement> requirements = new ConcurrentHashMap<>();
+
+  /**
+   * Compiles the requirements of the given handler methods ahead of the
+   * first request.
+   */
+  public void compile(Collection<HandlerMethod> handlerMethods) {
+    for (HandlerMethod handlerMethod : handlerMethods) {
+      requirements.computeIfAbsent(handlerMethod.getMethod(), method -> Requirement.of(handlerMethod));
+    }
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    Requirement requirement = requirements.get(handlerMethod.getMethod());
+    if (requirement == null) {
+      requirement = requirements.computeIfAbsent(handlerMethod.getMethod(), method -> Requirement.of(handlerMethod));
+    }
+    if (requirement == Requirement.NONE) {
+      return true;
+    }
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)
+        || !requirement.allows(principal)) {
+      throw new AccessDeniedException("Access denied");
+    }
+    return true;
+  }
+
+  /**
+   * Compiled annotations of one handler method.
+   *
+   * @param roles       Accepted roles (UserRole masks), 0 for any role
+   * @param permissions Required permissions (Permission masks)
+   */
+  record Requirement(long roles, long permissions) {
+
+    static final Requirement NONE = new Requirement(0, 0);
+
+    static Requirement of(HandlerMethod handlerMethod) {
+      RequiresRole role = handlerMethod.getMethodAnnotation(RequiresRole.class);
+      if (role == null) {
+        role = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequiresRole.class);
+      }
+      long roles = 0;
+      if (role != null) {
+        for (UserRole accepted : role.value()) {
+          roles |= accepted.mask();
+        }
+      }
+
+      long permissions = 0;
+      RequiresPermission typePermission = AnnotatedElementUtils.findMergedAnnotation(
+          handlerMethod.getBeanType(), RequiresPermission.class);
+      if (typePermission != null) {
+        permissions |= Permission.maskOf(typePermission.value());
+      }
+      RequiresPermission methodPermission = handlerMethod.getMethodAnnotation(RequiresPermission.class);
+      if (methodPermission != null) {
+        permissions |= Permission.maskOf(methodPermission.value());
+      }
+
+      return roles == 0 && permissions == 0 ? NONE : new Requirement(roles, permissions);
+    }
+
+    boolean allows(UserPrincipal principal) {
+      return (roles == 0 || principal.hasAnyRole(roles)) && principal.hasPermissions(permissions);
+    }
+  }
+}
@@ -1,36 +1,65 @@
 package io.stl.stl_core.security.config;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.PublicKey;
-import java.security.spec.X509EncodedKeySpec;
+import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
 
 /**
  * Configuration for JWT (token) generation and validation.
- * Loads RSA keypair from PEM files for secure token signing.
+ * Loads the signing keypair from PEM files for secure token signing.
+ *
+ * The signing algorithm is set by jwt.algorithm: RS256 (default), ES256
+ * (P-256 key) or EdDSA (Ed25519 key); the PEM files must hold a key of the
+ * matching type. Tokens carry the id of their signing key (kid header,
+ * jwt.key-id). Public keys of previous signing keys stay valid for
+ * verification while listed in jwt.verification-keys ("kid=location"
+ * entries, any supported key type), so the signing key can be rotated
+ * without invalidating the tokens already issued.
  */
 @Configuration
 public class JwtConfig {
   private static final Logger log = LoggerFactory.getLogger(JwtConfig.class);
 
-  @Value("${jwt.private-key:ckasspath:jwt-keys/private_key.pem}")
+  /** JDK key types tried, in order, for public keys of unknown type. */
+  private static final List<String> KEY_TYPES = List.of("RSA", "EC", "Ed25519");
+
+  @Value("${jwt.private-key:classpath:jwt-keys/private_key.pem}")
   private Resource privateKeyResource;
 
   @Value("${jwt.public-key:classpath:jwt-keys/public_key.pem}")
   private Resource publicKeyResource;
 
+  @Value("${jwt.algorithm:RS256}")
+  private String algorithm;
+
+  @Value("${jwt.key-id:default}")
+  private String keyId;
+
+  @Value("${jwt.verification-keys:}")
+  private List<String> verificationKeyEntries;
+
   @Value("${jwt.token-expiration-minutes:60}")
   private long expiration;
 
@@ -40,18 +69,26 @@ public class JwtConfig {
   @Value("${jwt.issuer:stl-api}")
   private String issuer;
 
+  @Autowired
+  private ResourceLoader resourceLoader;
+
+  private SignatureAlgorithm signatureAlgorithm;
   private PrivateKey privateKey;
   private PublicKey publicKey;
+  private Map<String, PublicKey> verificationKeys;
 
   @PostConstruct
   public void init() {
     try {
       log.info("Loading JWT keypair...");
 
-      this.privateKey = loadPrivateKey();
-      this.publicKey = loadPublicKey();
+      this.signatureAlgorithm = signatureAlgorithm(algorithm);
+      this.privateKey = loadPrivateKey(keyType(algorithm));
+      this.publicKey = loadPublicKey(publicKeyResource, List.of(keyType(algorithm)));
+      this.verificationKeys = loadVerificationKeys();
 
-      log.info("JWT keypair loaded successfully");
+      log.info("JWT keypair loaded successfully: algorithm={}, kid={}, verification keys={}",
+          signatureAlgorithm.getId(), keyId, verificationKeys.keySet());
       log.info("Token expiration: {} ms ({} minutes)", expiration, expiration / 60000);
       log.info("Refresh token expiration: {} ms ({} hours)", refreshExpiration, refreshExpiration / 3600000);
 
@@ -62,9 +99,9 @@ public class JwtConfig {
   }
 
   /**
-   * Loads the RSA private key from PEM file.
+   * Loads the private key from PEM file.
    */
-  private PrivateKey loadPrivateKey() throws Exception {
+  private PrivateKey loadPrivateKey(String keyType) throws IOException, GeneralSecurityException {
     String key = new String(privateKeyResource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
 
     // We remove the PEM headers and footers
@@ -76,16 +113,18 @@ public class JwtConfig {
 
     byte[] keyBytes = Base64.getDecoder().decode(key);
     PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(keyBytes);
-    KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+    KeyFactory keyFactory = KeyFactory.getInstance(keyType);
 
     return keyFactory.generatePrivate(spec);
   }
 
   /**
-   * Loads the RSA public key from PEM file.
+   * Loads a public key from PEM file, as the first of the given key types
+   * that accepts it.
    */
-  private PublicKey loadPublicKey() throws Exception {
-    String key = new String(publicKeyResource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+  private static PublicKey loadPublicKey(Resource resource, List<String> keyTypes)
+      throws IOException, GeneralSecurityException {
+    String key = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
 
     // Remove PEM headers and footers
     key = key.replace("-----BEGIN PUBLIC KEY-----", "")
@@ -94,9 +133,56 @@ public class JwtConfig {
 
     byte[] keyBytes = Base64.getDecoder().decode(key);
     X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
-    KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+    InvalidKeySpecException failure = null;
+    for (String keyType : keyTypes) {
+      try {
+        return KeyFactory.getInstance(keyType).generatePublic(spec);
+      } catch (InvalidKeySpecException ex) {
+        failure = ex;
+      }
+    }
+    throw failure;
+  }
+
+  /**
+   * Current public key under jwt.key-id, then the retired ones.
+   */
+  private Map<String, PublicKey> loadVerificationKeys() throws IOException, GeneralSecurityException {
+    Map<String, PublicKey> keys = new LinkedHashMap<>();
+    keys.put(keyId, publicKey);
+    for (String entry : verificationKeyEntries) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      int separator = entry.indexOf('=');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Invalid jwt.verification-keys entry (expected kid=location): " + entry);
+      }
+      String kid = entry.substring(0, separator).trim();
+      if (keys.containsKey(kid)) {
+        throw new IllegalArgumentException("Duplicate JWT key id: " + kid);
+      }
+      Resource resource = resourceLoader.getResource(entry.substring(separator + 1).trim());
+      keys.put(kid, loadPublicKey(resource, KEY_TYPES));
+    }
+    return Map.copyOf(keys);
+  }
+
+  private static SignatureAlgorithm signatureAlgorithm(String name) {
+    return switch (name.toUpperCase()) {
+      case "RS256" -> Jwts.SIG.RS256;
+      case "ES256" -> Jwts.SIG.ES256;
+      case "EDDSA", "ED25519" -> Jwts.SIG.EdDSA;
+      default -> throw new IllegalArgumentException("Unsupported jwt.algorithm: " + name);
+    };
+  }
 
-    return keyFactory.generatePublic(spec);
+  private static String keyType(String name) {
+    return switch (name.toUpperCase()) {
+      case "ES256" -> "EC";
+      case "EDDSA", "ED25519" -> "Ed25519";
+      default -> "RSA";
+    };
   }
 
   // Getters
@@ -108,6 +194,21 @@ public class JwtConfig {
     return publicKey;
   }
 
+  /**
+   * Id of the signing key, written to the kid header of issued tokens.
+   */
+  public String getKeyId() {
+    return keyId;
+  }
+
+  /**
+   * Public keys accepted for verification by key id, the signing key's
+   * included.
+   */
+  public Map<String, PublicKey> getVerificationKeys() {
+    return verificationKeys;
+  }
+
   public long getExpiration() {
     return expiration;
   }
@@ -121,10 +222,10 @@ public class JwtConfig {
   }
 
   /**
-   * Gets the signature algorithm used for JWT signing.
+   * Gets the signature algorithm used for JWT signing (jwt.algorithm).
    */
   public SignatureAlgorithm getSignatureAlgorithm() {
-    return SignatureAlgorithm.RS256; // RSA with SHA-256
+    return signatureAlgorithm;
   }
 
 }
@@ -0,0 +1,67 @@
+package io.stl.stl_core.security.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.security.jwt.JwtAuthenticationFilter;
+import io.stl.stl_core.security.jwt.JwtTokenProvider;
+import io.stl.stl_core.security.ratelimit.RateLimitFilter;
+import io.stl.stl_core.security.ratelimit.RateLimitService;
+import io.stl.stl_core.security.service.TokenBlacklistService;
+import io.stl.stl_core.security.service.UserSecurityStateService;
+
+/**
+ * Stateless JWT security: every API call needs a valid access token except
+ * login, refresh and the health endpoint. No sessions, no CSRF (no cookies
+ * are used), 401 without a body for unauthenticated calls. Login and
+ * ingest are rate limited (RateLimitFilter, 429 with Retry-After).
+ *
+ * The Prometheus scrape endpoint is open only on the management port
+ * (management.server.port), which is not published with the API; when the
+ * actuator shares the API port it needs a token like any other call.
+ */
+@Configuration
+public class SecurityConfig {
+
+  @Bean
+  public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider,
+      TokenBlacklistService blacklistService, UserSecurityStateService securityStateService,
+      RateLimitService rateLimitService, ObjectMapper objectMapper,
+      @Value("${server.port:8080}") int serverPort,
+      @Value("${management.server.port:-1}") int managementPort) throws Exception {
+    http
+        .csrf(AbstractHttpConfigurer::disable)
+        .httpBasic(AbstractHttpConfigurer::disable)
+        .formLogin(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .authorizeHttpRequests(auth -> auth
+            .requestMatchers("/api/v1/auth/login", "/api/v1/auth/refresh").permitAll()
+            .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+            .requestMatchers(onManagementPort(serverPort, managementPort, "/actuator/prometheus")).permitAll()
+            .requestMatchers("/error").permitAll()
+            .anyRequest().authenticated())
+        .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+        .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, blacklistService, securityStateService),
+            UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(new RateLimitFilter(rateLimitService, objectMapper), JwtAuthenticationFilter.class);
+    return http.build();
+  }
+
+  private static RequestMatcher onManagementPort(int serverPort, int managementPort, String path) {
+    if (managementPort <= 0 || managementPort == serverPort) {
+      return request -> false;
+    }
+    return request -> request.getLocalPort() == managementPort && path.equals(request.getRequestURI());
+  }
+}
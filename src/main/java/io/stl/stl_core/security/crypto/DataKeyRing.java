@@ -0,0 +1,83 @@
+package io.stl.stl_core.security.crypto;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versioned AES data keys for encryption at rest.
+ *
+ * Keys come from stl.encryption.keys ("version:base64 key" entries, 128 or
+ * 256 bit), normally through the STL_ENCRYPTION_KEYS environment variable;
+ * key material is never logged. New data is encrypted with
+ * stl.encryption.current-version; older versions stay for decryption until
+ * the rotation job has re-encrypted everything (and the archive no longer
+ * holds data under them).
+ */
+@Component
+public class DataKeyRing {
+
+  private static final Logger log = LoggerFactory.getLogger(DataKeyRing.class);
+
+  private final Map<Integer, SecretKey> keys;
+  private final int currentVersion;
+
+  public DataKeyRing(@Value("${stl.encryption.keys:}") List<String> entries,
+      @Value("${stl.encryption.current-version:0}") int currentVersion) {
+    Map<Integer, SecretKey> parsed = new HashMap<>();
+    for (String entry : entries) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      int separator = entry.indexOf(':');
+      if (separator <= 0) {
+        throw new IllegalStateException("Invalid stl.encryption.keys entry (expected version:base64 key)");
+      }
+      int version = Integer.parseInt(entry.substring(0, separator).trim());
+      byte[] material = Base64.getDecoder().decode(entry.substring(separator + 1).trim());
+      if (material.length != 16 && material.length != 32) {
+        throw new IllegalStateException("Encryption key " + version + " must be 128 or 256 bits");
+      }
+      if (parsed.put(version, new SecretKeySpec(material, "AES")) != null) {
+        throw new IllegalStateException("Duplicate encryption key version: " + version);
+      }
+    }
+    if (!parsed.isEmpty() && !parsed.containsKey(currentVersion)) {
+      throw new IllegalStateException("stl.encryption.current-version " + currentVersion + " has no key");
+    }
+    this.keys = Map.copyOf(parsed);
+    this.currentVersion = currentVersion;
+    if (!keys.isEmpty()) {
+      log.info("Encryption keys loaded: versions={}, current={}", keys.keySet(), currentVersion);
+    }
+  }
+
+  public boolean isConfigured() {
+    return !keys.isEmpty();
+  }
+
+  public int getCurrentVersion() {
+    return currentVersion;
+  }
+
+  SecretKey currentKey() {
+    return key(currentVersion);
+  }
+
+  SecretKey key(int version) {
+    SecretKey key = keys.get(version);
+    if (key == null) {
+      throw new IllegalStateException("No encryption key for version " + version);
+    }
+    return key;
+  }
+}
@@ -0,0 +1,141 @@
+package io.stl.stl_core.security.crypto;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * AES-GCM envelopes for binary values stored at rest.
+ *
+ * Envelope: marker byte (ENVELOPE), key version (4 bytes), random 96-bit IV,
+ * then ciphertext and 128-bit tag. The marker and version are authenticated
+ * as associated data. The marker never starts an unencrypted payload_bin
+ * value (PayloadCodec.VERSION is 1), so both can share the column.
+ *
+ * Cipher instances are reused per thread (getInstance is the expensive part,
+ * not init) and keys are cached per version by DataKeyRing; decryptAll runs
+ * a whole page on one cipher.
+ */
+@Component
+public class PayloadCipher {
+
+  public static final byte ENVELOPE = 2;
+
+  private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+  private static final int IV_LENGTH = 12;
+  private static final int TAG_BITS = 128;
+
+  private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+    try {
+      return Cipher.getInstance("AES/GCM/NoPadding");
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("AES-GCM not available", ex);
+    }
+  });
+
+  private final DataKeyRing keyRing;
+  private final SecureRandom random = new SecureRandom();
+
+  public PayloadCipher(DataKeyRing keyRing) {
+    this.keyRing = keyRing;
+  }
+
+  /**
+   * Whether data keys are configured (encrypt needs one).
+   */
+  public boolean isConfigured() {
+    return keyRing.isConfigured();
+  }
+
+  /**
+   * Key version new envelopes are written with.
+   */
+  public int currentKeyVersion() {
+    return keyRing.getCurrentVersion();
+  }
+
+  /**
+   * Whether a stored value is an encrypted envelope.
+   */
+  public static boolean isEncrypted(byte[] value) {
+    return value != null && value.length > HEADER_LENGTH + IV_LENGTH && value[0] == ENVELOPE;
+  }
+
+  /**
+   * Key version of an envelope.
+   */
+  public static int keyVersion(byte[] envelope) {
+    return ByteBuffer.wrap(envelope, 1, Integer.BYTES).getInt();
+  }
+
+  /**
+   * Encrypts a value with the current key.
+   */
+  public byte[] encrypt(byte[] plaintext) {
+    int version = keyRing.getCurrentVersion();
+    byte[] envelope = new byte[HEADER_LENGTH + IV_LENGTH + plaintext.length + TAG_BITS / 8];
+    ByteBuffer.wrap(envelope).put(ENVELOPE).putInt(version);
+    byte[] iv = new byte[IV_LENGTH];
+    random.nextBytes(iv);
+    System.arraycopy(iv, 0, envelope, HEADER_LENGTH, IV_LENGTH);
+
+    Cipher cipher = CIPHERS.get();
+    try {
+      cipher.init(Cipher.ENCRYPT_MODE, keyRing.currentKey(), new GCMParameterSpec(TAG_BITS, iv));
+      cipher.updateAAD(envelope, 0, HEADER_LENGTH);
+      cipher.doFinal(plaintext, 0, plaintext.length, envelope, HEADER_LENGTH + IV_LENGTH);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Encryption failed", ex);
+    }
+    return envelope;
+  }
+
+  /**
+   * Decrypts an envelope with the key of its version.
+   *
+   * @throws IllegalArgumentException if the envelope is corrupted or tampered with
+   */
+  public byte[] decrypt(byte[] envelope) {
+    return decrypt(CIPHERS.get(), envelope);
+  }
+
+  /**
+   * Decrypts a page of envelopes on one cipher.
+   */
+  public List<byte[]> decryptAll(List<byte[]> envelopes) {
+    Cipher cipher = CIPHERS.get();
+    List<byte[]> plaintexts = new ArrayList<>(envelopes.size());
+    for (byte[] envelope : envelopes) {
+      plaintexts.add(decrypt(cipher, envelope));
+    }
+    return plaintexts;
+  }
+
+  /**
+   * Re-encrypts an envelope with the current key (key rotation).
+   */
+  public byte[] reencrypt(byte[] envelope) {
+    return encrypt(decrypt(envelope));
+  }
+
+  private byte[] decrypt(Cipher cipher, byte[] envelope) {
+    if (!isEncrypted(envelope)) {
+      throw new IllegalArgumentException("Not an encrypted value");
+    }
+    try {
+      cipher.init(Cipher.DECRYPT_MODE, keyRing.key(keyVersion(envelope)),
+          new GCMParameterSpec(TAG_BITS, envelope, HEADER_LENGTH, IV_LENGTH));
+      cipher.updateAAD(envelope, 0, HEADER_LENGTH);
+      return cipher.doFinal(envelope, HEADER_LENGTH + IV_LENGTH, envelope.length - HEADER_LENGTH - IV_LENGTH);
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalArgumentException("Encrypted value cannot be decrypted", ex);
+    }
+  }
+}
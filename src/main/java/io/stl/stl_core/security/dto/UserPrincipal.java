@@ -21,6 +21,8 @@ public class UserPrincipal implements UserDetails {
   private final UserRole role;
   private final String password;
   private final boolean enabled;
+  private final long roleMask;
+  private final long permissionMask;
 
   // Constructor for JWT token with no password
   public UserPrincipal(UUID id, String email, UserRole role) {
@@ -34,6 +36,8 @@ public class UserPrincipal implements UserDetails {
     this.role = role;
     this.password = password;
     this.enabled = enabled;
+    this.roleMask = role.mask();
+    this.permissionMask = role.getPermissionMask();
   }
 
   /**
@@ -61,6 +65,20 @@ public class UserPrincipal implements UserDetails {
     return role;
   }
 
+  /**
+   * Whether the role of this user is one of a mask of roles (UserRole.mask).
+   */
+  public boolean hasAnyRole(long roles) {
+    return (roleMask & roles) != 0;
+  }
+
+  /**
+   * Whether this user has every permission of a mask (Permission.maskOf).
+   */
+  public boolean hasPermissions(long permissions) {
+    return (permissionMask & permissions) == permissions;
+  }
+
   // UserDetails interface methods
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,88 @@
+package io.stl.stl_core.security.jwt;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.security.service.TokenBlacklistService;
+import io.stl.stl_core.security.service.UserSecurityStateService;
+import io.stl.stl_core.security.service.UserSecurityStateService.UserSecurityState;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests carrying "Authorization: Bearer <access token>".
+ * The token is verified once (JwtTokenProvider.authenticate) and the
+ * principal is built from the same claims; revoked tokens (logout) are
+ * rejected from the in-memory blacklist, and so are tokens of users that
+ * have since been disabled or locked (cached security state, which also
+ * supplies the current role). Requests without a valid token
+ * continue unauthenticated and are rejected by the security rules.
+ *
+ * Not a bean on purpose: it is only added to the security filter chain
+ * (SecurityConfig), not registered as a plain servlet filter as well.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final JwtTokenProvider jwtTokenProvider;
+  private final TokenBlacklistService blacklistService;
+  private final UserSecurityStateService securityStateService;
+
+  public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenBlacklistService blacklistService,
+      UserSecurityStateService securityStateService) {
+    this.jwtTokenProvider = jwtTokenProvider;
+    this.blacklistService = blacklistService;
+    this.securityStateService = securityStateService;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    String token = resolveToken(request);
+    if (token != null) {
+      try {
+        UserPrincipal tokenPrincipal = jwtTokenProvider.authenticate(token);
+        if (blacklistService.isRevoked(jwtTokenProvider.getTokenId(token))) {
+          throw new JwtTokenException.InvalidTokenException("Revoked JWT token");
+        }
+        UserSecurityState state = securityStateService.findById(tokenPrincipal.getId())
+            .filter(UserSecurityState::isActive)
+            .orElseThrow(() -> new JwtTokenException.InvalidTokenException("User disabled, locked or removed"));
+        UserPrincipal principal = state.toPrincipal();
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+            principal, null, principal.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+      } catch (JwtTokenException ex) {
+        log.debug("JWT rejected ({}): {}", ex.getErrorCode(), ex.getMessage());
+        SecurityContextHolder.clearContext();
+      }
+    }
+    chain.doFilter(request, response);
+  }
+
+  /**
+   * Extracts the bearer token from the Authorization header (null if none).
+   */
+  static String resolveToken(HttpServletRequest request) {
+    String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+      return null;
+    }
+    String token = header.substring(BEARER_PREFIX.length()).trim();
+    return token.isEmpty() ? null : token;
+  }
+}
@@ -0,0 +1,36 @@
+package io.stl.stl_core.security.jwt;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.Map;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+
+/**
+ * In-memory ring of the public keys accepted for verification, indexed by
+ * key id. The parser asks it for the key named in each token's kid header;
+ * tokens issued before kid headers were written are verified with the
+ * current signing key.
+ */
+final class JwtKeyRing extends LocatorAdapter<Key> {
+
+  private final String defaultKeyId;
+  private final Map<String, PublicKey> keys;
+
+  JwtKeyRing(String defaultKeyId, Map<String, PublicKey> keys) {
+    this.defaultKeyId = defaultKeyId;
+    this.keys = Map.copyOf(keys);
+  }
+
+  @Override
+  protected Key locate(JwsHeader header) {
+    String keyId = header.getKeyId() != null ? header.getKeyId() : defaultKeyId;
+    PublicKey key = keys.get(keyId);
+    if (key == null) {
+      throw new UnsupportedJwtException("Unknown JWT key id: " + keyId);
+    }
+    return key;
+  }
+}
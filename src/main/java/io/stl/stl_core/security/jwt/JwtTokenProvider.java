@@ -1,35 +1,65 @@
 package io.stl.stl_core.security.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.observability.jfr.JwtVerificationEvent;
 import io.stl.stl_core.security.config.JwtConfig;
 import io.stl.stl_core.security.dto.UserPrincipal;
 
 /**
  * Service for generating and validating JWT tokens.
- * Uses RSA keys for secure signing and verification.
+ * Signs with the configured key and algorithm (RS256, ES256 or EdDSA, see
+ * JwtConfig) and verifies against the key ring, by the token's kid header.
+ *
+ * Verification is done once per token: the parser is built once (it is
+ * immutable and thread-safe) and verified claims are kept in a small bounded
+ * cache keyed by the SHA-256 digest of the token, so the getters below and
+ * repeated requests with the same token do not re-verify the RSA signature.
+ * A cached entry never outlives the token's own expiration.
  */
 @Component
 public class JwtTokenProvider {
   private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
   private final JwtConfig jwtConfig;
+  private final JwtParser parser;
+  private final Cache<String, Claims> claimsCache;
 
-  public JwtTokenProvider(JwtConfig jwtConfig) {
+  public JwtTokenProvider(JwtConfig jwtConfig,
+      @Value("${jwt.claims-cache.ttl:PT1M}") Duration claimsCacheTtl,
+      @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize) {
     this.jwtConfig = jwtConfig;
+    this.parser = Jwts.parser()
+        .keyLocator(new JwtKeyRing(jwtConfig.getKeyId(), jwtConfig.getVerificationKeys()))
+        .build();
+    this.claimsCache = Caffeine.newBuilder()
+        .maximumSize(claimsCacheMaxSize)
+        .expireAfter(new ClaimsExpiry(claimsCacheTtl.toNanos()))
+        .build();
   }
 
   /**
@@ -43,6 +73,8 @@ public class JwtTokenProvider {
     Date expiryDate = new Date(now.getTime() + jwtConfig.getExpiration());
 
     return Jwts.builder()
+        .header().keyId(jwtConfig.getKeyId()).and()
+        .setId(UUID.randomUUID().toString())
         .setSubject(userPrincipal.getId().toString())
         .setIssuer(jwtConfig.getIssuer())
         .setIssuedAt(now)
@@ -67,6 +99,8 @@ public class JwtTokenProvider {
     Date expiryDate = new Date(now.getTime() + jwtConfig.getRefreshExpiration());
 
     return Jwts.builder()
+        .header().keyId(jwtConfig.getKeyId()).and()
+        .setId(UUID.randomUUID().toString())
         .setSubject(userPrincipal.getId().toString())
         .setIssuer(jwtConfig.getIssuer())
         .setIssuedAt(now)
@@ -76,6 +110,37 @@ public class JwtTokenProvider {
         .compact();
   }
 
+  /**
+   * Authenticates an access token: verifies it (at most once while its
+   * claims are cached) and builds the principal from the same claims.
+   * Used by JwtAuthenticationFilter on every authenticated request.
+   * 
+   * @param token The JWT access token
+   * @return UserPrincipal object
+   * @throws JwtTokenException.ExpiredTokenException if the token is expired
+   * @throws JwtTokenException.InvalidTokenException if the token is invalid or
+   *                                                 not an access token
+   */
+  public UserPrincipal authenticate(String token) {
+    Claims claims;
+    try {
+      claims = getClaims(token);
+    } catch (ExpiredJwtException ex) {
+      throw new JwtTokenException.ExpiredTokenException("Expired JWT token");
+    } catch (JwtException | IllegalArgumentException ex) {
+      throw new JwtTokenException.InvalidTokenException("Invalid JWT token: " + ex.getMessage());
+    }
+
+    if (!"access".equals(claims.get("type", String.class))) {
+      throw new JwtTokenException.InvalidTokenException("Not an access token");
+    }
+    try {
+      return toPrincipal(claims);
+    } catch (IllegalArgumentException | NullPointerException ex) {
+      throw new JwtTokenException.InvalidTokenException("Invalid JWT claims");
+    }
+  }
+
   /**
    * Validates a JWT token.
    * 
@@ -84,10 +149,7 @@ public class JwtTokenProvider {
    */
   public boolean validateToken(String token) {
     try {
-      Jwts.parser()
-          .verifyWith(jwtConfig.getPublicKey())
-          .build()
-          .parseSignedClaims(token);
+      getClaims(token);
       return true;
 
     } catch (SignatureException ex) {
@@ -177,18 +239,48 @@ public class JwtTokenProvider {
   }
 
   /**
-   * Extracts all claims from a JWT token.
+   * Gets the id of a token, as used by the revocation blacklist: the jti
+   * claim, or the token digest for tokens issued without one.
+   * 
+   * @param token The JWT token
+   * @return Token id
+   */
+  public String getTokenId(String token) {
+    String id = getClaims(token).getId();
+    return id != null ? id : digest(token);
+  }
+
+  /**
+   * Extracts all claims from a JWT token, verifying it only if its claims
+   * are not cached.
    * 
    * @param token The JWT token
    * @return JWT claims
    * @throws JwtException if token is invalid
    */
   private Claims getClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(jwtConfig.getPublicKey())
-        .build()
-        .parseSignedClaims(token).getBody();
-
+    if (token == null || token.isBlank()) {
+      throw new IllegalArgumentException("JWT token is empty");
+    }
+    JwtVerificationEvent event = new JwtVerificationEvent();
+    event.begin();
+    boolean[] verified = new boolean[1];
+    Claims claims = null;
+    try {
+      // Failures are not cached: the parser throws and nothing is stored
+      claims = claimsCache.get(digest(token), key -> {
+        verified[0] = true;
+        return parser.parseSignedClaims(token).getPayload();
+      });
+      return claims;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.cached = !verified[0];
+        event.valid = claims != null;
+        event.commit();
+      }
+    }
   }
 
   /**
@@ -198,10 +290,60 @@ public class JwtTokenProvider {
    * @return UserPrincipal object
    */
   public UserPrincipal extractUserPrincipal(String token) {
-    UUID userId = getUserIdFromToken(token);
-    String email = getEmailFromToken(token);
-    UserRole role = getRoleFromToken(token);
+    return toPrincipal(getClaims(token));
+  }
+
+  private static UserPrincipal toPrincipal(Claims claims) {
+    UUID userId = UUID.fromString(claims.getSubject());
+    String email = claims.get("email", String.class);
+    UserRole role = UserRole.valueOf(claims.get("role", String.class));
 
     return new UserPrincipal(userId, email, role);
   }
+
+  /**
+   * Cache key: the token itself is a bearer credential and is not kept in
+   * memory longer than the request.
+   */
+  private static String digest(String token) {
+    try {
+      MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not available", ex);
+    }
+  }
+
+  /**
+   * Expires cached claims after the TTL or at the token's expiration,
+   * whichever comes first.
+   */
+  private static final class ClaimsExpiry implements Expiry<String, Claims> {
+
+    private final long ttlNanos;
+
+    ClaimsExpiry(long ttlNanos) {
+      this.ttlNanos = ttlNanos;
+    }
+
+    @Override
+    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+      Date expiration = claims.getExpiration();
+      if (expiration == null) {
+        return ttlNanos;
+      }
+      long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+      return Math.max(0, Math.min(ttlNanos, remainingNanos));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
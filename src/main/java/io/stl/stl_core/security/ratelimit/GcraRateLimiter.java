@@ -0,0 +1,74 @@
+package io.stl.stl_core.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generic cell rate algorithm (GCRA): a token bucket kept as a single
+ * timestamp per client, the theoretical arrival time (TAT) of its next
+ * request. A request is allowed when it is not earlier than TAT minus the
+ * burst tolerance; allowing it moves TAT forward by one emission interval
+ * (period / limit).
+ *
+ * Lock-free: state per client is one AtomicLong updated by CAS, in a
+ * ConcurrentHashMap (striped), so clients never contend with each other.
+ * Times are System.nanoTime() values.
+ */
+final class GcraRateLimiter {
+
+  private final long emissionNanos;
+  private final long toleranceNanos;
+  private final ConcurrentHashMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+  /**
+   * @param limit  Requests per period (sustained rate)
+   * @param period Period of the limit
+   * @param burst  Requests allowed back to back on top of the rate (at least 1)
+   */
+  GcraRateLimiter(int limit, Duration period, int burst) {
+    if (limit <= 0 || burst <= 0 || period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException("Rate limit, burst and period must be positive");
+    }
+    this.emissionNanos = period.toNanos() / limit;
+    this.toleranceNanos = emissionNanos * (burst - 1);
+  }
+
+  /**
+   * Takes one request for a client.
+   *
+   * @return 0 if allowed, otherwise nanoseconds until the client may retry
+   */
+  long tryAcquire(String clientKey, long now) {
+    AtomicLong arrival = arrivals.get(clientKey);
+    if (arrival == null) {
+      arrival = arrivals.computeIfAbsent(clientKey, key -> new AtomicLong(now));
+    }
+    while (true) {
+      long tat = arrival.get();
+      long start = tat - now < 0 ? now : tat;
+      long wait = start - now - toleranceNanos;
+      if (wait > 0) {
+        return wait;
+      }
+      if (arrival.compareAndSet(tat, start + emissionNanos)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Forgets clients whose bucket is full again (state equal to a new client).
+   *
+   * @return Number of clients forgotten
+   */
+  int evictIdle(long now) {
+    int before = arrivals.size();
+    arrivals.values().removeIf(arrival -> arrival.get() - now <= 0);
+    return before - arrivals.size();
+  }
+
+  int size() {
+    return arrivals.size();
+  }
+}
@@ -0,0 +1,81 @@
+package io.stl.stl_core.security.ratelimit;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.controller.exception.ErrorResponse;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the RateLimitService policies before a request reaches the
+ * controllers. Rejected requests get 429 with Retry-After (whole seconds)
+ * and the standard error body.
+ *
+ * Runs after JwtAuthenticationFilter so per-user policies see the user.
+ * Anonymous clients are keyed on getRemoteAddr(), which is the client behind
+ * a trusted proxy (X-Forwarded-For, server.forward-headers-strategy=native)
+ * and the peer address otherwise.
+ * Not a bean, like JwtAuthenticationFilter (see SecurityConfig).
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private final RateLimitService rateLimitService;
+  private final ObjectMapper objectMapper;
+
+  public RateLimitFilter(RateLimitService rateLimitService, ObjectMapper objectMapper) {
+    this.rateLimitService = rateLimitService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    for (RateLimitPolicy policy : rateLimitService.getPolicies()) {
+      if (!policy.matches(request.getMethod(), path)) {
+        continue;
+      }
+      Duration wait = rateLimitService.tryAcquire(policy, clientKey(policy, request));
+      if (!wait.isZero()) {
+        reject(request, response, wait);
+        return;
+      }
+    }
+    chain.doFilter(request, response);
+  }
+
+  private static String clientKey(RateLimitPolicy policy, HttpServletRequest request) {
+    if (policy.key() == RateLimitPolicy.KeyType.USER) {
+      Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+      if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal user) {
+        return "user:" + user.getId();
+      }
+    }
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response, Duration wait) throws IOException {
+    long seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+        "RATE_LIMITED",
+        "Too many requests, retry in " + seconds + " s",
+        HttpStatus.TOO_MANY_REQUESTS.value(),
+        request.getRequestURI()));
+  }
+}
@@ -0,0 +1,40 @@
+package io.stl.stl_core.security.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background jobs of the rate limiter: cluster counter sync and eviction of
+ * idle client state.
+ */
+@Component
+public class RateLimitJob {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitJob.class);
+
+  private final RateLimitService rateLimitService;
+
+  public RateLimitJob(RateLimitService rateLimitService) {
+    this.rateLimitService = rateLimitService;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.ratelimit.cluster.sync-interval:PT1S}")
+  public void sync() {
+    try {
+      rateLimitService.syncCluster();
+    } catch (RuntimeException ex) {
+      log.warn("Rate limit cluster sync failed: {}", ex.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${stl.ratelimit.evict-interval:PT1M}")
+  public void evict() {
+    try {
+      rateLimitService.evictIdle();
+    } catch (RuntimeException ex) {
+      log.warn("Rate limiter eviction failed: {}", ex.getMessage());
+    }
+  }
+}
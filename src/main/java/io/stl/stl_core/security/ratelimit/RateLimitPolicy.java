@@ -0,0 +1,42 @@
+package io.stl.stl_core.security.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Rate limit of one endpoint group.
+ *
+ * @param name   Policy name (property prefix stl.ratelimit.<name>)
+ * @param method HTTP method the policy applies to
+ * @param path   Path pattern the policy applies to
+ * @param key    What identifies a client
+ * @param limit  Requests per period (sustained rate)
+ * @param period Period of the limit
+ * @param burst  Requests allowed back to back on top of the rate
+ */
+public record RateLimitPolicy(String name, String method, PathPattern path, KeyType key, int limit,
+    Duration period, int burst) {
+
+  /**
+   * Client identity a limit is counted by.
+   */
+  public enum KeyType {
+    /** Remote address. */
+    IP,
+    /** Authenticated user id; remote address for anonymous calls. */
+    USER
+  }
+
+  public static RateLimitPolicy of(String name, String method, String path, KeyType key, int limit,
+      Duration period, int burst) {
+    return new RateLimitPolicy(name, method, PathPatternParser.defaultInstance.parse(path), key, limit, period,
+        burst);
+  }
+
+  public boolean matches(String requestMethod, String requestPath) {
+    return method.equalsIgnoreCase(requestMethod) && path.matches(PathContainer.parsePath(requestPath));
+  }
+}
@@ -0,0 +1,184 @@
+package io.stl.stl_core.security.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.stl.stl_core.repository.RateLimitUsageRepository;
+
+/**
+ * In-process rate limiting of the login and ingest endpoints (applied by
+ * RateLimitFilter).
+ *
+ * Each policy has a GCRA limiter per node: login by remote address,
+ * transaction creation by user. With stl.ratelimit.cluster.enabled, nodes
+ * also add their hits to rate_limit_usage every sync interval and block
+ * locally the clients whose cluster-wide count for the current window
+ * (stl.ratelimit.cluster.window) has reached the policy's rate over that
+ * window plus its burst. The cluster cap is eventually consistent: a client
+ * can overshoot it by what it sends during one sync interval.
+ */
+@Service
+public class RateLimitService {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitService.class);
+
+  private final RateLimitUsageRepository usageRepository;
+  private final TransactionTemplate transaction;
+  private final List<RateLimitPolicy> policies;
+  private final Map<String, GcraRateLimiter> limiters = new HashMap<>();
+  private final boolean clusterEnabled;
+  private final Duration clusterWindow;
+
+  // Cluster mode: hits not yet added to the table, and clients over the cap
+  private final Map<String, Map<String, LongAdder>> unsyncedHits = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Long>> blockedUntil = new ConcurrentHashMap<>();
+
+  public RateLimitService(RateLimitUsageRepository usageRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${stl.ratelimit.enabled:true}") boolean enabled,
+      @Value("${stl.ratelimit.login.limit:10}") int loginLimit,
+      @Value("${stl.ratelimit.login.period:PT1M}") Duration loginPeriod,
+      @Value("${stl.ratelimit.login.burst:5}") int loginBurst,
+      @Value("${stl.ratelimit.ingest.limit:100}") int ingestLimit,
+      @Value("${stl.ratelimit.ingest.period:PT1S}") Duration ingestPeriod,
+      @Value("${stl.ratelimit.ingest.burst:200}") int ingestBurst,
+      @Value("${stl.ratelimit.cluster.enabled:false}") boolean clusterEnabled,
+      @Value("${stl.ratelimit.cluster.window:PT1M}") Duration clusterWindow) {
+    this.usageRepository = usageRepository;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.clusterEnabled = clusterEnabled;
+    this.clusterWindow = clusterWindow;
+    this.policies = !enabled ? List.of() : List.of(
+        RateLimitPolicy.of("login", "POST", "/api/v1/auth/login", RateLimitPolicy.KeyType.IP,
+            loginLimit, loginPeriod, loginBurst),
+        RateLimitPolicy.of("ingest", "POST", "/api/v1/transactions", RateLimitPolicy.KeyType.USER,
+            ingestLimit, ingestPeriod, ingestBurst));
+    for (RateLimitPolicy policy : policies) {
+      limiters.put(policy.name(), new GcraRateLimiter(policy.limit(), policy.period(), policy.burst()));
+      unsyncedHits.put(policy.name(), new ConcurrentHashMap<>());
+      blockedUntil.put(policy.name(), new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Active policies (none when stl.ratelimit.enabled is false).
+   */
+  public List<RateLimitPolicy> getPolicies() {
+    return policies;
+  }
+
+  /**
+   * Takes one request of a client under a policy.
+   *
+   * @return Zero if allowed, otherwise how long the client should wait
+   */
+  public Duration tryAcquire(RateLimitPolicy policy, String clientKey) {
+    long now = System.nanoTime();
+    if (clusterEnabled) {
+      Long until = blockedUntil.get(policy.name()).get(clientKey);
+      if (until != null && until - now > 0) {
+        return Duration.ofNanos(until - now);
+      }
+    }
+
+    long wait = limiters.get(policy.name()).tryAcquire(clientKey, now);
+    if (wait > 0) {
+      return Duration.ofNanos(wait);
+    }
+    if (clusterEnabled) {
+      unsyncedHits.get(policy.name()).computeIfAbsent(clientKey, key -> new LongAdder()).increment();
+    }
+    return Duration.ZERO;
+  }
+
+  /**
+   * Adds this node's hits to the cluster counters and blocks the clients
+   * over the cluster cap until the end of the window (no-op unless cluster
+   * mode is on).
+   *
+   * @return Number of clients blocked by this sync
+   */
+  public int syncCluster() {
+    if (!clusterEnabled) {
+      return 0;
+    }
+    long windowMillis = clusterWindow.toMillis();
+    long nowMillis = System.currentTimeMillis();
+    long windowStartMillis = nowMillis - nowMillis % windowMillis;
+    OffsetDateTime windowStart = Instant.ofEpochMilli(windowStartMillis).atOffset(ZoneOffset.UTC);
+    long windowEnd = System.nanoTime() + Duration.ofMillis(windowStartMillis + windowMillis - nowMillis).toNanos();
+
+    int blocked = 0;
+    for (RateLimitPolicy policy : policies) {
+      Map<String, LongAdder> hits = unsyncedHits.get(policy.name());
+      if (hits.isEmpty()) {
+        continue;
+      }
+      List<String> keys = new ArrayList<>(hits.size());
+      List<String> counts = new ArrayList<>(hits.size());
+      for (String key : hits.keySet()) {
+        LongAdder adder = hits.remove(key);
+        if (adder != null) {
+          keys.add(key);
+          counts.add(Long.toString(adder.sum()));
+        }
+      }
+      String[] keyArray = keys.toArray(String[]::new);
+      String[] countArray = counts.toArray(String[]::new);
+      long cap = clusterCap(policy);
+
+      List<String> over = transaction.execute(status -> {
+        usageRepository.addHits(policy.name(), windowStart, keyArray, countArray);
+        return usageRepository.findOverLimit(policy.name(), windowStart, keyArray, cap);
+      });
+      Map<String, Long> blocks = blockedUntil.get(policy.name());
+      for (String key : over) {
+        blocks.put(key, windowEnd);
+      }
+      blocked += over.size();
+    }
+    if (blocked > 0) {
+      log.debug("Clients over the cluster rate limit: {}", blocked);
+    }
+    return blocked;
+  }
+
+  /**
+   * Drops state of idle clients, expired blocks and old cluster windows.
+   */
+  public void evictIdle() {
+    long now = System.nanoTime();
+    int evicted = 0;
+    for (GcraRateLimiter limiter : limiters.values()) {
+      evicted += limiter.evictIdle(now);
+    }
+    for (Map<String, Long> blocks : blockedUntil.values()) {
+      blocks.values().removeIf(until -> until - now <= 0);
+    }
+    if (clusterEnabled) {
+      OffsetDateTime before = OffsetDateTime.now(ZoneOffset.UTC).minus(clusterWindow.multipliedBy(2));
+      transaction.executeWithoutResult(status -> usageRepository.deleteWindowsBefore(before));
+    }
+    log.debug("Rate limiter clients evicted: {}", evicted);
+  }
+
+  // Rate over one cluster window plus the burst
+  private long clusterCap(RateLimitPolicy policy) {
+    return policy.limit() * clusterWindow.toNanos() / policy.period().toNanos() + policy.burst();
+  }
+}
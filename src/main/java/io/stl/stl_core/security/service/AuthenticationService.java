@@ -5,10 +5,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.stl.stl_core.exception.ServiceOverloadedException;
 import io.stl.stl_core.model.entity.User;
 import io.stl.stl_core.repository.UserRepository;
 import io.stl.stl_core.security.config.JwtConfig;
@@ -16,10 +16,16 @@ import io.stl.stl_core.security.dto.LoginRequest;
 import io.stl.stl_core.security.dto.LoginResponse;
 import io.stl.stl_core.security.dto.UserPrincipal;
 import io.stl.stl_core.security.jwt.JwtTokenProvider;
+import io.stl.stl_core.security.service.UserSecurityStateService.UserSecurityState;
 
 /**
  * Service for handling authentication operations.
  * Manages login, token generation, and account security.
+ *
+ * Login holds no transaction or connection while the password is checked:
+ * hashing runs on the bounded PasswordVerifier pool, and failed/successful
+ * attempts are tracked by LoginAttemptService, which writes the users row
+ * only on lockout and batches last_login updates.
  */
 @Service
 public class AuthenticationService {
@@ -27,18 +33,27 @@ public class AuthenticationService {
   private static final Logger log = LoggerFactory.getLogger(AuthenticationService.class);
 
   private final UserRepository userRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordVerifier passwordVerifier;
+  private final LoginAttemptService loginAttemptService;
   private final JwtTokenProvider jwtTokenProvider;
   private final JwtConfig jwtConfig;
+  private final TokenBlacklistService blacklistService;
+  private final UserSecurityStateService securityStateService;
 
   public AuthenticationService(UserRepository userRepository,
-      PasswordEncoder passwordEncoder,
+      PasswordVerifier passwordVerifier,
+      LoginAttemptService loginAttemptService,
       JwtTokenProvider jwtTokenProvider,
-      JwtConfig jwtConfig) {
+      JwtConfig jwtConfig,
+      TokenBlacklistService blacklistService,
+      UserSecurityStateService securityStateService) {
     this.userRepository = userRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordVerifier = passwordVerifier;
+    this.loginAttemptService = loginAttemptService;
     this.jwtTokenProvider = jwtTokenProvider;
     this.jwtConfig = jwtConfig;
+    this.blacklistService = blacklistService;
+    this.securityStateService = securityStateService;
   }
 
   /**
@@ -49,8 +64,8 @@ public class AuthenticationService {
    * @throws BadCredentialsException if credentials are invalid
    * @throws LockedException         if account is locked
    * @throws DisabledException       if account is disabled
+   * @throws ServiceOverloadedException if too many logins are in progress
    */
-  @Transactional
   public LoginResponse login(LoginRequest request) {
     log.info("Login attempt for email: {}", request.getEmail());
 
@@ -74,14 +89,11 @@ public class AuthenticationService {
     }
 
     // 4. Validate password
-    if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+    if (!passwordVerifier.matches(request.getPassword(), user.getPasswordHash())) {
       log.warn("Login failed: Invalid password - {}", request.getEmail());
 
-      // Record failed attempt
-      user.recordFailedLogin();
-      userRepository.save(user);
-
-      if (user.isAccountLocked()) {
+      // Record failed attempt (written to the user only on lockout)
+      if (loginAttemptService.recordFailure(user.getId())) {
         throw new LockedException("Account locked due to too many failed attempts");
       }
 
@@ -91,8 +103,7 @@ public class AuthenticationService {
     // 5. Successful login - generate tokens
     log.info("Login successful for user: {}", request.getEmail());
 
-    user.recordSuccessfulLogin();
-    userRepository.save(user);
+    loginAttemptService.recordSuccess(user.getId());
 
     UserPrincipal principal = UserPrincipal.create(user);
 
@@ -120,7 +131,6 @@ public class AuthenticationService {
    * @return LoginResponse with new access token
    * @throws BadCredentialsException if refresh token is invalid
    */
-  @Transactional(readOnly = true)
   public LoginResponse refreshToken(String refreshToken) {
     log.info("Token refresh attempt");
 
@@ -137,31 +147,35 @@ public class AuthenticationService {
       throw new BadCredentialsException("Token is not a refresh token");
     }
 
-    // 3. Extract user principal
-    UserPrincipal principal = jwtTokenProvider.extractUserPrincipal(refreshToken);
+    // 3. Check it has not been revoked (logout)
+    if (blacklistService.isRevoked(jwtTokenProvider.getTokenId(refreshToken))) {
+      log.warn("Token refresh failed: Revoked refresh token");
+      throw new BadCredentialsException("Refresh token has been revoked");
+    }
 
-    // 4. Verify user still exists and is enabled
-    User user = userRepository.findById(principal.getId())
+    // 4. Verify user still exists and is enabled (cached security state;
+    // the refresh token only carries the user id)
+    UserSecurityState user = securityStateService.findById(jwtTokenProvider.getUserIdFromToken(refreshToken))
         .orElseThrow(() -> new BadCredentialsException("User not found"));
 
-    if (!user.getEnabled()) {
+    if (!user.enabled()) {
       throw new DisabledException("Account is disabled");
     }
 
-    if (user.isAccountLocked()) {
+    if (user.isLocked()) {
       throw new LockedException("Account is locked");
     }
 
-    // 5. Generate new access token
-    String newAccessToken = jwtTokenProvider.generateAccessToken(principal);
+    // 5. Generate new access token with the current role
+    String newAccessToken = jwtTokenProvider.generateAccessToken(user.toPrincipal());
 
-    log.info("Token refreshed successfully for user: {}", user.getEmail());
+    log.info("Token refreshed successfully for user: {}", user.email());
 
     LoginResponse.UserInfo userInfo = new LoginResponse.UserInfo(
-        user.getId(),
-        user.getEmail(),
-        user.getName(),
-        user.getRole().name());
+        user.id(),
+        user.email(),
+        user.name(),
+        user.role().name());
 
     return new LoginResponse(
         newAccessToken,
@@ -170,6 +184,27 @@ public class AuthenticationService {
         userInfo);
   }
 
+  /**
+   * Logs out: revokes the access token and, if given, the refresh token until
+   * they expire. Invalid or already expired tokens are ignored.
+   * 
+   * @param accessToken  The access token of the session (may be null)
+   * @param refreshToken The refresh token of the session (may be null)
+   */
+  @Transactional
+  public void logout(String accessToken, String refreshToken) {
+    revoke(accessToken);
+    revoke(refreshToken);
+  }
+
+  private void revoke(String token) {
+    if (token == null || token.isBlank() || !jwtTokenProvider.validateToken(token)) {
+      return;
+    }
+    blacklistService.revoke(jwtTokenProvider.getTokenId(token),
+        jwtTokenProvider.getExpirationFromToken(token).toInstant());
+  }
+
   /**
    * Registers a new user (will be expanded in future sprints).
    * 
@@ -187,7 +222,7 @@ public class AuthenticationService {
     }
 
     // Hash password
-    user.setPasswordHash(passwordEncoder.encode(rawPassword));
+    user.setPasswordHash(passwordVerifier.encode(rawPassword));
     user.setEnabled(true);
     user.setFailedLoginAttempts(0);
 
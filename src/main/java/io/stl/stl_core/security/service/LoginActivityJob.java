@@ -0,0 +1,33 @@
+package io.stl.stl_core.security.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodic write of the successful logins queued by LoginAttemptService.
+ */
+@Component
+public class LoginActivityJob {
+
+  private static final Logger log = LoggerFactory.getLogger(LoginActivityJob.class);
+
+  private final LoginAttemptService loginAttemptService;
+
+  public LoginActivityJob(LoginAttemptService loginAttemptService) {
+    this.loginAttemptService = loginAttemptService;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.security.login.flush-interval:PT30S}")
+  public void flush() {
+    try {
+      int written = loginAttemptService.flushLogins();
+      if (written > 0) {
+        log.debug("Last logins written: {}", written);
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Writing last logins failed: {}", ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package io.stl.stl_core.security.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.stl.stl_core.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Login bookkeeping without a write per login.
+ *
+ * Failed attempts are counted in memory, per user, over a sliding window
+ * (stl.security.login.failure-window); the users row is written only when
+ * stl.security.login.max-failures is reached, to lock the account for
+ * stl.security.login.lock-duration. Counters are per node, so a guesser
+ * spread over several nodes gets proportionally more attempts before the
+ * lock.
+ *
+ * Successful logins are queued and written in one batched update per flush
+ * (LoginActivityJob, and on shutdown): last_login lags by at most the flush
+ * interval.
+ */
+@Service
+public class LoginAttemptService {
+
+  private static final Logger log = LoggerFactory.getLogger(LoginAttemptService.class);
+
+  private final UserRepository userRepository;
+  private final UserSecurityStateService securityStateService;
+  private final TransactionTemplate transaction;
+  private final int maxFailures;
+  private final Duration failureWindow;
+  private final Duration lockDuration;
+
+  private final Cache<UUID, FailureWindow> failures;
+  private final Map<UUID, OffsetDateTime> pendingLogins = new ConcurrentHashMap<>();
+
+  public LoginAttemptService(UserRepository userRepository,
+      UserSecurityStateService securityStateService,
+      PlatformTransactionManager transactionManager,
+      @Value("${stl.security.login.max-failures:5}") int maxFailures,
+      @Value("${stl.security.login.failure-window:PT15M}") Duration failureWindow,
+      @Value("${stl.security.login.lock-duration:PT30M}") Duration lockDuration,
+      @Value("${stl.security.login.max-tracked-users:100000}") long maxTrackedUsers) {
+    this.userRepository = userRepository;
+    this.securityStateService = securityStateService;
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.maxFailures = maxFailures;
+    this.failureWindow = failureWindow;
+    this.lockDuration = lockDuration;
+    this.failures = Caffeine.newBuilder()
+        .expireAfterAccess(failureWindow)
+        .maximumSize(maxTrackedUsers)
+        .build();
+  }
+
+  /**
+   * Records a failed login; locks the account when the limit is reached.
+   *
+   * @return true if the account has just been locked
+   */
+  public boolean recordFailure(UUID userId) {
+    long now = System.currentTimeMillis();
+    int count = failures.get(userId, id -> new FailureWindow()).record(now, failureWindow.toMillis());
+    if (count < maxFailures) {
+      return false;
+    }
+
+    failures.invalidate(userId);
+    OffsetDateTime until = OffsetDateTime.now().plus(lockDuration);
+    transaction.executeWithoutResult(status -> userRepository.lockAccount(userId, count, until));
+    securityStateService.invalidate(userId);
+    log.warn("Account locked after {} failed logins: user={}, until={}", count, userId, until);
+    return true;
+  }
+
+  /**
+   * Records a successful login: clears the failures and queues the
+   * last_login write.
+   */
+  public void recordSuccess(UUID userId) {
+    failures.invalidate(userId);
+    OffsetDateTime now = OffsetDateTime.now();
+    pendingLogins.merge(userId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+  }
+
+  /**
+   * Writes the queued successful logins in one statement.
+   *
+   * @return Number of users written
+   */
+  public int flushLogins() {
+    if (pendingLogins.isEmpty()) {
+      return 0;
+    }
+    List<UUID> ids = new ArrayList<>(pendingLogins.size());
+    List<OffsetDateTime> logins = new ArrayList<>(pendingLogins.size());
+    for (UUID id : pendingLogins.keySet()) {
+      OffsetDateTime login = pendingLogins.remove(id);
+      if (login != null) {
+        ids.add(id);
+        logins.add(login);
+      }
+    }
+
+    try {
+      transaction.executeWithoutResult(status -> userRepository.updateLastLogins(
+          ids.stream().map(UUID::toString).toArray(String[]::new),
+          logins.stream().map(OffsetDateTime::toString).toArray(String[]::new)));
+    } catch (RuntimeException ex) {
+      // Requeue for the next flush (keeping any newer login)
+      for (int i = 0; i < ids.size(); i++) {
+        pendingLogins.merge(ids.get(i), logins.get(i),
+            (previous, current) -> current.isAfter(previous) ? current : previous);
+      }
+      throw ex;
+    }
+    return ids.size();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    try {
+      flushLogins();
+    } catch (RuntimeException ex) {
+      log.warn("Could not write {} pending logins on shutdown: {}", pendingLogins.size(), ex.getMessage());
+    }
+  }
+
+  /**
+   * Failure times of one user within the window.
+   */
+  private static final class FailureWindow {
+
+    private final Deque<Long> times = new ArrayDeque<>();
+
+    synchronized int record(long now, long windowMillis) {
+      while (!times.isEmpty() && times.peekFirst() <= now - windowMillis) {
+        times.pollFirst();
+      }
+      times.addLast(now);
+      return times.size();
+    }
+  }
+}
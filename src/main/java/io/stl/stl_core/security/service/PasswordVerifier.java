@@ -0,0 +1,117 @@
+package io.stl.stl_core.security.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.stl.stl_core.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing (BCrypt) on a small bounded worker pool instead of
+ * the request threads.
+ *
+ * At most stl.security.password.workers hashes run at once (default: one per
+ * CPU) and at most stl.security.password.queue-capacity wait. When the queue
+ * is full, or a hash has waited longer than stl.security.password.timeout,
+ * the call is shed with ServiceOverloadedException (503 with Retry-After)
+ * instead of piling up request threads behind a saturated CPU.
+ */
+@Component
+public class PasswordVerifier {
+
+  private static final String OVERLOADED = "Too many logins in progress, retry later";
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Duration retryAfter;
+
+  public PasswordVerifier(PasswordEncoder passwordEncoder,
+      @Value("${stl.security.password.workers:0}") int workers,
+      @Value("${stl.security.password.queue-capacity:64}") int queueCapacity,
+      @Value("${stl.security.password.timeout:PT5S}") Duration timeout,
+      @Value("${stl.security.password.retry-after:PT2S}") Duration retryAfter) {
+    this.passwordEncoder = passwordEncoder;
+    this.timeout = timeout;
+    this.retryAfter = retryAfter;
+
+    int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Checks a password against its stored hash.
+   *
+   * @throws ServiceOverloadedException if the pool is saturated
+   */
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Hashes a password for storage.
+   *
+   * @throws ServiceOverloadedException if the pool is saturated
+   */
+  public String encode(String rawPassword) {
+    return run(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  /**
+   * Hashes waiting or running right now.
+   */
+  public int getPending() {
+    return executor.getQueue().size() + executor.getActiveCount();
+  }
+
+  private <T> T run(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException ex) {
+      throw new ServiceOverloadedException(OVERLOADED, retryAfter);
+    }
+
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      future.cancel(true);
+      throw new ServiceOverloadedException(OVERLOADED, retryAfter);
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      // Only happens on shutdown; the client can retry against another node
+      throw new ServiceOverloadedException("Interrupted while checking password", retryAfter);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      // An internal failure, not a conflict: surfaces as 500
+      throw new RuntimeException("Password hashing failed", ex.getCause());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
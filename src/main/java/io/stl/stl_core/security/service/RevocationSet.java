@@ -0,0 +1,95 @@
+package io.stl.stl_core.security.service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory replica of the revoked token ids.
+ *
+ * Ids are grouped in buckets by the expiration time of their token, so
+ * expired revocations are dropped a whole bucket at a time without scanning
+ * the rest. A Bloom filter sits in front of the exact set: probing a token
+ * that was never revoked (the common case) is one filter lookup. The filter
+ * is rebuilt from the remaining ids when buckets expire or it fills up.
+ *
+ * Probes are lock-free; changes are serialized.
+ */
+final class RevocationSet {
+
+  private static final double FALSE_POSITIVE_RATE = 0.001;
+
+  private final long bucketMillis;
+  private final int minCapacity;
+
+  private final Map<String, Long> expiries = new ConcurrentHashMap<>(); // id -> expiration (epoch ms)
+  private final NavigableMap<Long, Set<String>> buckets = new TreeMap<>(); // guarded by this
+  private volatile BloomFilter filter;
+  private int filterCapacity; // guarded by this
+
+  RevocationSet(long bucketMillis, int minCapacity) {
+    this.bucketMillis = bucketMillis;
+    this.minCapacity = minCapacity;
+    this.filterCapacity = minCapacity;
+    this.filter = new BloomFilter(minCapacity, FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * Adds a revocation; ignored if the token has already expired.
+   */
+  synchronized void add(String tokenId, long expiresAtMillis, long nowMillis) {
+    if (expiresAtMillis <= nowMillis || expiries.putIfAbsent(tokenId, expiresAtMillis) != null) {
+      return;
+    }
+    buckets.computeIfAbsent(expiresAtMillis / bucketMillis, key -> new HashSet<>()).add(tokenId);
+    if (expiries.size() > filterCapacity) {
+      rebuildFilter();
+    } else {
+      filter.put(tokenId);
+    }
+  }
+
+  boolean contains(String tokenId, long nowMillis) {
+    if (!filter.mightContain(tokenId)) {
+      return false;
+    }
+    Long expiresAt = expiries.get(tokenId);
+    return expiresAt != null && expiresAt > nowMillis;
+  }
+
+  /**
+   * Drops every bucket whose tokens have all expired.
+   *
+   * @return Number of revocations dropped
+   */
+  synchronized int expire(long nowMillis) {
+    NavigableMap<Long, Set<String>> expired = buckets.headMap(nowMillis / bucketMillis, false);
+    int removed = 0;
+    for (Set<String> bucket : expired.values()) {
+      for (String tokenId : bucket) {
+        expiries.remove(tokenId);
+        removed++;
+      }
+    }
+    expired.clear();
+    if (removed > 0) {
+      rebuildFilter();
+    }
+    return removed;
+  }
+
+  int size() {
+    return expiries.size();
+  }
+
+  // Readers keep using the old filter (a superset) until the new one is complete
+  private void rebuildFilter() {
+    filterCapacity = Math.max(minCapacity, expiries.size() * 2);
+    BloomFilter rebuilt = new BloomFilter(filterCapacity, FALSE_POSITIVE_RATE);
+    expiries.keySet().forEach(rebuilt::put);
+    filter = rebuilt;
+  }
+}
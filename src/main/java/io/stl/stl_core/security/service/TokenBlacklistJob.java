@@ -0,0 +1,43 @@
+package io.stl.stl_core.security.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background jobs of the token blacklist: polling for revocations made on
+ * other nodes and purging expired ones.
+ */
+@Component
+public class TokenBlacklistJob {
+
+  private static final Logger log = LoggerFactory.getLogger(TokenBlacklistJob.class);
+
+  private final TokenBlacklistService blacklistService;
+
+  public TokenBlacklistJob(TokenBlacklistService blacklistService) {
+    this.blacklistService = blacklistService;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.security.revocation.poll-interval:PT5S}")
+  public void poll() {
+    try {
+      int added = blacklistService.refresh();
+      if (added > 0) {
+        log.debug("Token revocations polled: {}", added);
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Polling token revocations failed: {}", ex.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${stl.security.revocation.purge-interval:PT10M}")
+  public void purge() {
+    try {
+      blacklistService.purgeExpired();
+    } catch (RuntimeException ex) {
+      log.warn("Purging token revocations failed: {}", ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package io.stl.stl_core.security.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.stl.stl_core.model.entity.RevokedToken;
+import io.stl.stl_core.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Token revocation (logout).
+ *
+ * Revocations are stored in revoked_tokens, shared by all nodes, and kept
+ * until the token expires. Each node checks requests against an in-memory
+ * replica (RevocationSet: Bloom filter in front of expiry buckets), loaded
+ * at startup and refreshed by polling (TokenBlacklistJob). A revocation
+ * made on this node applies here immediately and on other nodes within one
+ * poll interval.
+ */
+@Service
+public class TokenBlacklistService {
+
+  private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
+
+  private static final OffsetDateTime EPOCH = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final RevocationSet revocations;
+  private final Duration pollOverlap;
+
+  // Start of the last successful poll (node clock)
+  private volatile OffsetDateTime lastPoll = EPOCH;
+
+  public TokenBlacklistService(RevokedTokenRepository revokedTokenRepository,
+      @Value("${stl.security.revocation.bucket:PT5M}") Duration bucket,
+      @Value("${stl.security.revocation.filter-capacity:10000}") int filterCapacity,
+      @Value("${stl.security.revocation.poll-overlap:PT1M}") Duration pollOverlap) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.revocations = new RevocationSet(bucket.toMillis(), filterCapacity);
+    this.pollOverlap = pollOverlap;
+  }
+
+  /**
+   * Loads the revocations in force before the node serves requests.
+   */
+  @PostConstruct
+  public void load() {
+    refresh();
+    log.info("Token revocations loaded: {}", revocations.size());
+  }
+
+  /**
+   * Revokes a token until it expires (COMMAND).
+   *
+   * @param tokenId   Token id (see JwtTokenProvider.getTokenId)
+   * @param expiresAt Expiration of the token
+   */
+  @Transactional
+  public void revoke(String tokenId, Instant expiresAt) {
+    Instant now = Instant.now();
+    if (!expiresAt.isAfter(now)) {
+      return; // Expired tokens are rejected anyway
+    }
+    revokedTokenRepository.insertIfAbsent(tokenId, expiresAt.atOffset(ZoneOffset.UTC));
+    revocations.add(tokenId, expiresAt.toEpochMilli(), now.toEpochMilli());
+  }
+
+  /**
+   * Whether a token has been revoked (QUERY - in memory, no database access).
+   */
+  public boolean isRevoked(String tokenId) {
+    return revocations.contains(tokenId, System.currentTimeMillis());
+  }
+
+  /**
+   * Pulls revocations made on other nodes since the last poll.
+   * Polls overlap by stl.security.revocation.poll-overlap so rows committed
+   * late or stamped by a skewed clock are not missed; re-adding is a no-op.
+   */
+  @Transactional(readOnly = true)
+  public int refresh() {
+    OffsetDateTime start = OffsetDateTime.now(ZoneOffset.UTC);
+    OffsetDateTime since = lastPoll.equals(EPOCH) ? EPOCH : lastPoll.minus(pollOverlap);
+    List<RevokedToken> rows = revokedTokenRepository.findRevokedSince(since, start);
+    long now = System.currentTimeMillis();
+    for (RevokedToken row : rows) {
+      revocations.add(row.getTokenId(), row.getExpiresAt().toInstant().toEpochMilli(), now);
+    }
+    lastPoll = start;
+    return rows.size();
+  }
+
+  /**
+   * Drops expired revocations from memory and from the table (any node may
+   * run it; deleting twice is harmless).
+   */
+  @Transactional
+  public int purgeExpired() {
+    OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+    int dropped = revocations.expire(now.toInstant().toEpochMilli());
+    int deleted = revokedTokenRepository.deleteExpired(now);
+    log.debug("Expired token revocations purged: memory={}, table={}", dropped, deleted);
+    return deleted;
+  }
+}
@@ -0,0 +1,64 @@
+package io.stl.stl_core.security.service;
+
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.stl.stl_core.exception.ResourceNotFoundException;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.repository.UserRepository;
+
+/**
+ * Admin changes to a user's access. Each change is committed before the
+ * cached security state is dropped, so the next request re-reads it.
+ */
+@Service
+public class UserAdminService {
+
+  private static final Logger log = LoggerFactory.getLogger(UserAdminService.class);
+
+  private final UserRepository userRepository;
+  private final UserSecurityStateService securityStateService;
+  private final TransactionTemplate transaction;
+
+  public UserAdminService(UserRepository userRepository,
+      UserSecurityStateService securityStateService,
+      PlatformTransactionManager transactionManager) {
+    this.userRepository = userRepository;
+    this.securityStateService = securityStateService;
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Enables or disables a user (COMMAND).
+   *
+   * @throws ResourceNotFoundException if the user does not exist
+   */
+  public void setEnabled(UUID userId, boolean enabled) {
+    update(userId, () -> userRepository.updateEnabled(userId, enabled));
+    log.info("User {}: id={}", enabled ? "enabled" : "disabled", userId);
+  }
+
+  /**
+   * Changes the role of a user (COMMAND).
+   *
+   * @throws ResourceNotFoundException if the user does not exist
+   */
+  public void changeRole(UUID userId, UserRole role) {
+    update(userId, () -> userRepository.updateRole(userId, role));
+    log.info("User role changed: id={}, role={}", userId, role);
+  }
+
+  private void update(UUID userId, IntSupplier change) {
+    Integer updated = transaction.execute(status -> change.getAsInt());
+    securityStateService.invalidate(userId);
+    if (updated == null || updated == 0) {
+      throw new ResourceNotFoundException("User not found: " + userId);
+    }
+  }
+}
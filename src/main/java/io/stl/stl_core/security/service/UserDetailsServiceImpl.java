@@ -6,25 +6,24 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import io.stl.stl_core.model.entity.User;
-import io.stl.stl_core.repository.UserRepository;
 import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.security.service.UserSecurityStateService.UserSecurityState;
 
 /**
  * Spring Security UserDetailsService implementation.
- * Loads user details from database for authentication.
+ * Loads user details for authentication from the cached security state
+ * (UserSecurityStateService).
  */
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
   private static final Logger log = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
-  private final UserRepository userRepository;
+  private final UserSecurityStateService securityStateService;
 
-  public UserDetailsServiceImpl(UserRepository userRepository) {
-    this.userRepository = userRepository;
+  public UserDetailsServiceImpl(UserSecurityStateService securityStateService) {
+    this.securityStateService = securityStateService;
   }
 
   /**
@@ -35,17 +34,16 @@ public class UserDetailsServiceImpl implements UserDetailsService {
    * @throws UsernameNotFoundException if user not found
    */
   @Override
-  @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
     log.debug("Loading user by email: {}", email);
 
-    User user = userRepository.findByEmail(email)
+    UserSecurityState user = securityStateService.findByEmail(email)
         .orElseThrow(() -> {
           log.warn("User not found: {}", email);
           return new UsernameNotFoundException("User not found with email: " + email);
         });
 
     log.debug("User loaded successfully: {}", email);
-    return UserPrincipal.create(user);
+    return new UserPrincipal(user.id(), user.email(), user.role(), user.passwordHash(), user.isActive());
   }
 }
@@ -0,0 +1,133 @@
+package io.stl.stl_core.security.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.stl.stl_core.model.entity.User;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.observability.jfr.CacheLookupEvent;
+import io.stl.stl_core.repository.UserRepository;
+import io.stl.stl_core.security.dto.UserPrincipal;
+
+/**
+ * Cached security state of users (enabled, locked-until, role), checked on
+ * every authenticated request and on token refresh without a users query.
+ *
+ * Entries live for stl.security.user-cache.ttl (a few seconds) and unknown
+ * users are cached too. Changes made on this node (UserAdminService, account
+ * lockout) invalidate the entry at once; other nodes pick them up when their
+ * entry expires, so disabling a user or changing a role takes effect
+ * cluster-wide within the TTL.
+ */
+@Service
+public class UserSecurityStateService {
+
+  private final UserRepository userRepository;
+  private final Cache<UUID, Optional<UserSecurityState>> byId;
+  private final Cache<String, Optional<UserSecurityState>> byEmail;
+
+  public UserSecurityStateService(UserRepository userRepository,
+      @Value("${stl.security.user-cache.ttl:PT5S}") Duration ttl,
+      @Value("${stl.security.user-cache.max-size:10000}") long maxSize) {
+    this.userRepository = userRepository;
+    this.byId = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    this.byEmail = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+  }
+
+  /**
+   * Security state of a user (QUERY - cached).
+   */
+  public Optional<UserSecurityState> findById(UUID userId) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    boolean[] loaded = new boolean[1];
+    Optional<UserSecurityState> state = byId.get(userId, id -> {
+      loaded[0] = true;
+      return userRepository.findById(id).map(UserSecurityState::of);
+    });
+    commitEvent(event, "user-security-state.id", !loaded[0]);
+    return state;
+  }
+
+  /**
+   * Security state of a user by email (QUERY - cached).
+   */
+  public Optional<UserSecurityState> findByEmail(String email) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    boolean[] loaded = new boolean[1];
+    Optional<UserSecurityState> state = byEmail.get(email, key -> {
+      loaded[0] = true;
+      return userRepository.findByEmail(key).map(UserSecurityState::of);
+    });
+    commitEvent(event, "user-security-state.email", !loaded[0]);
+    return state;
+  }
+
+  /**
+   * Drops the cached state of a user after a change.
+   */
+  public void invalidate(UUID userId) {
+    byId.invalidate(userId);
+    byEmail.asMap().values().removeIf(state -> state.isPresent() && state.get().id().equals(userId));
+  }
+
+  public void invalidateAll() {
+    byId.invalidateAll();
+    byEmail.invalidateAll();
+  }
+
+  // Slow lookups (mostly misses loading from the database) for Flight Recorder
+  private static void commitEvent(CacheLookupEvent event, String cache, boolean hit) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = cache;
+      event.hit = hit;
+      event.commit();
+    }
+  }
+
+  /**
+   * What authentication needs to know about a user.
+   */
+  public record UserSecurityState(UUID id, String email, String name, UserRole role, boolean enabled,
+      OffsetDateTime lockedUntil, String passwordHash) {
+
+    static UserSecurityState of(User user) {
+      return new UserSecurityState(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+          Boolean.TRUE.equals(user.getEnabled()), user.getAccountLockedUntil(), user.getPasswordHash());
+    }
+
+    public boolean isLocked() {
+      return lockedUntil != null && OffsetDateTime.now().isBefore(lockedUntil);
+    }
+
+    /**
+     * Whether the user may use the API right now.
+     */
+    public boolean isActive() {
+      return enabled && !isLocked();
+    }
+
+    /**
+     * Principal with the current role (not the one in the token).
+     */
+    public UserPrincipal toPrincipal() {
+      return new UserPrincipal(id, email, role);
+    }
+
+    @Override
+    public String toString() {
+      return "UserSecurityState{id=" + id + ", role=" + role + ", enabled=" + enabled
+          + ", lockedUntil=" + lockedUntil + "}";
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package io.stl.stl_core.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.stl.stl_core.service.dto.response.ArchivePeriodResponse;
+
+/**
+ * Background jobs for the archive tier: nightly archiving of the oldest
+ * eligible month, weekly segment verification, polling the segment catalog
+ * for months archived by other nodes and on-demand archiving of a given
+ * month.
+ */
+@Component
+public class ArchiveJob {
+
+  private static final Logger log = LoggerFactory.getLogger(ArchiveJob.class);
+
+  private final ArchiveService archiveService;
+  private final TaskExecutor taskExecutor;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  public ArchiveJob(ArchiveService archiveService,
+      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+    this.archiveService = archiveService;
+    this.taskExecutor = taskExecutor;
+  }
+
+  /**
+   * Archives eligible months, oldest first, one month per run.
+   */
+  @Scheduled(cron = "${stl.archive.cron:0 0 4 * * *}", zone = "UTC")
+  public void archive() {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      Optional<ArchivePeriodResponse> period = archiveService.archiveNextEligible();
+      if (period.isEmpty()) {
+        log.debug("No month eligible for archiving");
+      }
+    } catch (RuntimeException ex) {
+      log.error("Archive run failed", ex);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  @Scheduled(cron = "${stl.archive.verify-cron:0 0 5 * * SUN}", zone = "UTC")
+  public void verify() {
+    List<String> problems = archiveService.verifySegments();
+    if (problems.isEmpty()) {
+      log.info("Archive segment verification passed");
+      return;
+    }
+    for (String problem : problems) {
+      log.error("Archive segment verification failed: {}", problem);
+    }
+  }
+
+  /**
+   * Opens segments archived by other nodes (one count query when nothing
+   * changed).
+   */
+  @Scheduled(fixedDelayString = "${stl.archive.catalog-poll-interval:PT10S}")
+  public void refreshCatalog() {
+    try {
+      if (archiveService.refreshCatalog()) {
+        log.info("Archive catalog changed, segments reopened");
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Polling the archive catalog failed: {}", ex.getMessage());
+    }
+  }
+
+  /**
+   * Archives one month in the background.
+   *
+   * @return false if an archive run is already in progress
+   * @throws IllegalArgumentException if the month is too recent
+   * @throws IllegalStateException if the month cannot be archived now
+   */
+  public boolean startArchive(YearMonth month) {
+    archiveService.checkArchivable(month);
+    if (!running.compareAndSet(false, true)) {
+      return false;
+    }
+
+    taskExecutor.execute(() -> {
+      try {
+        archiveService.archiveMonth(month);
+      } catch (RuntimeException ex) {
+        log.error("Archiving {} failed", month, ex);
+      } finally {
+        running.set(false);
+      }
+    });
+    return true;
+  }
+
+  public boolean isRunning() {
+    return running.get();
+  }
+}
@@ -0,0 +1,560 @@
+package io.stl.stl_core.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.stl.stl_core.archive.SegmentFormat;
+import io.stl.stl_core.archive.SegmentReader;
+import io.stl.stl_core.archive.SegmentReader.SegmentRecord;
+import io.stl.stl_core.archive.SegmentWriter;
+import io.stl.stl_core.exception.ResourceNotFoundException;
+import io.stl.stl_core.model.entity.ArchivePeriod;
+import io.stl.stl_core.model.entity.ArchiveSegment;
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.repository.ArchivePeriodRepository;
+import io.stl.stl_core.repository.ArchiveSegmentRepository;
+import io.stl.stl_core.repository.ArchiveSourceRepository;
+import io.stl.stl_core.repository.CurrencyRepository;
+import io.stl.stl_core.repository.TransactionTypeRepository;
+import io.stl.stl_core.service.dto.response.ArchivePeriodResponse;
+import io.stl.stl_core.service.dto.response.ArchivedTransactionResponse;
+
+/**
+ * Service for the cold-storage archive tier.
+ *
+ * A whole UTC month of transactions, with their participants, status
+ * history, audit records and locks, is written to immutable zstd-compressed
+ * segment files, verified, and only then deleted from the database in one
+ * transaction (balances keep a carry-forward of the archived
+ * participations). Archived transactions stay readable by id and by time
+ * range through memory-mapped segment readers.
+ *
+ * The directory is local for now; with several nodes it must be shared
+ * storage so every node can open every segment. Each node keeps its own
+ * list of open segments: the node that archives a month adds its segments
+ * at once, the others when ArchiveJob next polls the catalog
+ * (stl.archive.catalog-poll-interval). Until then they answer 404 (by id) or
+ * leave the month out (scans) for transactions archived elsewhere.
+ */
+@Service
+public class ArchiveService {
+
+  private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+  public static final int MAX_SCAN_RESULTS = 1_000;
+
+  /** Keeps segments well below the mapped-buffer limit. */
+  static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+  private static final String PART_SUFFIX = ".part";
+
+  private final ArchiveSourceRepository sourceRepository;
+  private final ArchivePeriodRepository periodRepository;
+  private final ArchiveSegmentRepository segmentRepository;
+  private final TransactionTypeRepository transactionTypeRepository;
+  private final CurrencyRepository currencyRepository;
+  private final PayloadService payloadService;
+  private final ObjectReader documentReader;
+  private final TransactionTemplate snapshotTransaction;
+  private final TransactionTemplate moveTransaction;
+  private final Path directory;
+  private final Duration minAge;
+  private final int blockSize;
+  private final int compressionLevel;
+  private final int maxRecordsPerSegment;
+
+  private final AtomicBoolean archiving = new AtomicBoolean(false);
+  private volatile List<SegmentReader> readers; // Time order, loaded on first use
+  private long catalogSize; // Catalog rows the readers were opened from (guarded by this)
+
+  public ArchiveService(ArchiveSourceRepository sourceRepository,
+      ArchivePeriodRepository periodRepository,
+      ArchiveSegmentRepository segmentRepository,
+      TransactionTypeRepository transactionTypeRepository,
+      CurrencyRepository currencyRepository,
+      PayloadService payloadService,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${stl.archive.directory:data/archive}") Path directory,
+      @Value("${stl.archive.min-age:P400D}") Duration minAge,
+      @Value("${stl.archive.block-size:65536}") int blockSize,
+      @Value("${stl.archive.compression-level:9}") int compressionLevel,
+      @Value("${stl.archive.max-records-per-segment:1000000}") int maxRecordsPerSegment) {
+    this.sourceRepository = sourceRepository;
+    this.periodRepository = periodRepository;
+    this.segmentRepository = segmentRepository;
+    this.transactionTypeRepository = transactionTypeRepository;
+    this.currencyRepository = currencyRepository;
+    this.payloadService = payloadService;
+    this.documentReader = objectMapper.readerFor(ArchivedDocument.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.directory = directory;
+    this.minAge = minAge;
+    this.blockSize = blockSize;
+    this.compressionLevel = compressionLevel;
+    this.maxRecordsPerSegment = maxRecordsPerSegment;
+
+    // One consistent snapshot for the whole period while writing segments
+    this.snapshotTransaction = new TransactionTemplate(transactionManager);
+    this.snapshotTransaction.setReadOnly(true);
+    this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.moveTransaction = new TransactionTemplate(transactionManager);
+  }
+
+  // ============================================================
+  // Reads
+  // ============================================================
+
+  /**
+   * Finds an archived transaction as a detached entity (QUERY - read-only).
+   * Used by TransactionService as the fall-through for ids no longer in the
+   * database.
+   */
+  public Optional<Transaction> findTransaction(UUID id) {
+    return findDocument(id).map(doc -> Transaction.fromArchive(
+        doc.id(),
+        transactionTypeRepository.getReferenceById(doc.typeId()),
+        doc.amount(),
+        currencyRepository.getReferenceById(doc.currencyCode()),
+        payloadJson(doc),
+        doc.payloadBin(),
+        doc.previousHash(),
+        doc.signature(),
+        doc.createdAt(),
+        doc.currentStatus()));
+  }
+
+  /**
+   * Gets a whole archived aggregate (QUERY - read-only).
+   */
+  public ArchivedTransactionResponse getArchivedTransaction(UUID id) {
+    return findArchivedTransaction(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Archived transaction not found: " + id));
+  }
+
+  /**
+   * Finds a whole archived aggregate (QUERY - read-only).
+   */
+  public Optional<ArchivedTransactionResponse> findArchivedTransaction(UUID id) {
+    return findDocument(id).map(this::toResponse);
+  }
+
+  /**
+   * Archived transactions created in [from, to), oldest first, read straight
+   * from the segments (QUERY - read-only).
+   */
+  public List<ArchivedTransactionResponse> scan(OffsetDateTime from, OffsetDateTime to, int limit) {
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("from must be before to");
+    }
+    if (limit < 1 || limit > MAX_SCAN_RESULTS) {
+      throw new IllegalArgumentException("limit must be between 1 and " + MAX_SCAN_RESULTS);
+    }
+
+    long fromMicros = SegmentFormat.toMicros(from.toInstant());
+    long toMicros = SegmentFormat.toMicros(to.toInstant());
+    List<ArchivedTransactionResponse> results = new ArrayList<>();
+    for (SegmentReader reader : readers()) {
+      boolean more = reader.scan(fromMicros, toMicros, record -> {
+        results.add(toResponse(parse(record)));
+        return results.size() < limit;
+      });
+      if (!more) {
+        break;
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Archived periods, oldest first (QUERY - read-only).
+   */
+  public List<ArchivePeriodResponse> listPeriods() {
+    return periodRepository.findAllByOrderByPeriodStartAsc().stream()
+        .map(this::toResponse)
+        .toList();
+  }
+
+  /**
+   * Re-reads every block of every segment and checks its checksum.
+   *
+   * @return Problems found, empty when all segments are intact
+   */
+  public List<String> verifySegments() {
+    List<String> problems = new ArrayList<>();
+    for (ArchiveSegment segment : segmentRepository.findAllInTimeOrder()) {
+      try {
+        long records = SegmentReader.open(directory.resolve(segment.getFileName())).verify();
+        if (records != segment.getRecordCount()) {
+          problems.add(segment.getFileName() + ": catalog says " + segment.getRecordCount()
+              + " records, file has " + records);
+        }
+      } catch (IOException | RuntimeException ex) {
+        problems.add(segment.getFileName() + ": " + ex.getMessage());
+      }
+    }
+    return problems;
+  }
+
+  // ============================================================
+  // Archiving
+  // ============================================================
+
+  /**
+   * Archives the oldest month with live transactions if it is old enough.
+   *
+   * @return The archived period, or empty when nothing is eligible
+   */
+  public Optional<ArchivePeriodResponse> archiveNextEligible() {
+    Optional<OffsetDateTime> oldest = sourceRepository.findOldestTransactionCreatedAt();
+    if (oldest.isEmpty()) {
+      return Optional.empty();
+    }
+    YearMonth month = YearMonth.from(oldest.get().withOffsetSameInstant(ZoneOffset.UTC));
+    if (periodEnd(month).isAfter(archiveHorizon())) {
+      return Optional.empty();
+    }
+    return Optional.of(archiveMonth(month));
+  }
+
+  /**
+   * Moves one UTC month of transactions into archive segments (COMMAND).
+   * Months are archived oldest first, so the archive is always a contiguous
+   * prefix of history.
+   */
+  public ArchivePeriodResponse archiveMonth(YearMonth month) {
+    if (!archiving.compareAndSet(false, true)) {
+      throw new IllegalStateException("An archive run is already in progress");
+    }
+
+    OffsetDateTime start = periodStart(month);
+    OffsetDateTime end = periodEnd(month);
+    List<Path> written = new ArrayList<>();
+    try {
+      checkArchivable(month);
+      PeriodFiles files = writeSegments(month, start, end, written);
+      for (SegmentFile file : files.segments()) {
+        SegmentReader.open(directory.resolve(file.fileName())).verify();
+      }
+
+      ArchivePeriod period = moveTransaction.execute(tx -> move(start, end, files));
+      written.clear(); // Committed: the segments are now the only copy
+      registerReaders(files);
+
+      log.info("Archived {}: transactions={}, relatedRows={}, segments={}", month,
+          period.getTransactionCount(), period.getRelatedRowCount(), period.getSegmentCount());
+      return toResponse(period);
+    } catch (IOException ex) {
+      written.forEach(ArchiveService::deleteQuietly);
+      throw new UncheckedIOException("Archiving " + month + " failed", ex);
+    } catch (RuntimeException ex) {
+      written.forEach(ArchiveService::deleteQuietly);
+      throw ex;
+    } finally {
+      archiving.set(false);
+    }
+  }
+
+  /**
+   * Checks that a month may be archived now (QUERY - read-only).
+   *
+   * @throws IllegalArgumentException if the month is too recent
+   * @throws IllegalStateException if it is archived already or older months
+   *                               are still live
+   */
+  public void checkArchivable(YearMonth month) {
+    OffsetDateTime start = periodStart(month);
+    if (periodEnd(month).isAfter(archiveHorizon())) {
+      throw new IllegalArgumentException("Only months ending before " + archiveHorizon() + " can be archived");
+    }
+    if (periodRepository.existsByPeriodStart(start)) {
+      throw new IllegalStateException("Period already archived: " + month);
+    }
+    Optional<OffsetDateTime> oldest = sourceRepository.findOldestTransactionCreatedAt();
+    if (oldest.isPresent() && oldest.get().isBefore(start)) {
+      throw new IllegalStateException("Archive older months first, oldest live transaction is from "
+          + oldest.get());
+    }
+  }
+
+  /**
+   * Streams the period from one snapshot into segment files.
+   */
+  private PeriodFiles writeSegments(YearMonth month, OffsetDateTime start, OffsetDateTime end,
+      List<Path> written) throws IOException {
+    Path periodDirectory = directory.resolve(month.toString());
+    Files.createDirectories(periodDirectory);
+
+    return snapshotTransaction.execute(tx -> sourceRepository.streamAggregates(start, end, rs -> {
+      List<SegmentFile> segments = new ArrayList<>();
+      long transactions = 0;
+      long relatedRows = 0;
+      SegmentWriter writer = null;
+      Path part = null;
+      OffsetDateTime first = null;
+      OffsetDateTime last = null;
+      try {
+        while (rs.next()) {
+          if (writer != null && (writer.getRecordCount() >= maxRecordsPerSegment
+              || writer.getBytesWritten() >= MAX_SEGMENT_BYTES)) {
+            segments.add(finishSegment(writer, part, month, segments.size() + 1, first, last, written));
+            writer = null;
+          }
+          UUID id = rs.getObject("id", UUID.class);
+          OffsetDateTime createdAt = rs.getObject("created_at", OffsetDateTime.class);
+          if (writer == null) {
+            part = periodDirectory.resolve(UUID.randomUUID() + PART_SUFFIX);
+            written.add(part);
+            writer = new SegmentWriter(part, blockSize, compressionLevel);
+            first = createdAt;
+          }
+          writer.append(id, createdAt.toInstant(), rs.getString("document").getBytes(StandardCharsets.UTF_8));
+          last = createdAt;
+          transactions++;
+          relatedRows += rs.getLong("related_rows");
+        }
+        if (writer != null) {
+          segments.add(finishSegment(writer, part, month, segments.size() + 1, first, last, written));
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      return new PeriodFiles(transactions, relatedRows, segments);
+    }));
+  }
+
+  private SegmentFile finishSegment(SegmentWriter writer, Path part, YearMonth month, int sequence,
+      OffsetDateTime first, OffsetDateTime last, List<Path> written) throws IOException {
+    writer.close();
+    String fileName = month + "/transactions-" + month + "-" + String.format("%04d", sequence)
+        + SegmentFormat.FILE_SUFFIX;
+    Path target = directory.resolve(fileName);
+    Files.move(part, target); // Fails if another node already wrote this period
+    written.add(target);
+    return new SegmentFile(fileName, writer.getRecordCount(), first, last, Files.size(target), sha256(target));
+  }
+
+  /**
+   * Deletes the period from the live tables and records it in the catalog.
+   * Aborts if anything changed since the segments were written.
+   */
+  private ArchivePeriod move(OffsetDateTime start, OffsetDateTime end, PeriodFiles files) {
+    long locked = periodRepository.lockTransactions(start, end);
+    long relatedRows = periodRepository.countRelatedRows(start, end);
+    if (locked != files.transactions() || relatedRows != files.relatedRows()) {
+      throw new IllegalStateException("Period changed while it was being archived (transactions "
+          + files.transactions() + " -> " + locked + ", related rows " + files.relatedRows() + " -> "
+          + relatedRows + "), retry later");
+    }
+
+    periodRepository.carryForwardBalances(start, end);
+    int deleted = periodRepository.deleteParticipants(start, end)
+        + periodRepository.deleteStatusHistory(start, end)
+        + periodRepository.deleteAudit(start, end)
+        + periodRepository.deleteLocks(start, end);
+    int transactions = periodRepository.deleteTransactions(start, end);
+    if (deleted != relatedRows || transactions != locked) {
+      throw new IllegalStateException("Unexpected row count while moving the period to the archive");
+    }
+
+    ArchivePeriod period = periodRepository.save(new ArchivePeriod(start, end, transactions, deleted,
+        files.segments().size()));
+    for (SegmentFile file : files.segments()) {
+      segmentRepository.save(new ArchiveSegment(period, file.fileName(), file.recordCount(), file.first(),
+          file.last(), file.sizeBytes(), file.sha256()));
+    }
+    return period;
+  }
+
+  // ============================================================
+  // Segment readers
+  // ============================================================
+
+  private List<SegmentReader> readers() {
+    List<SegmentReader> current = readers;
+    if (current == null) {
+      synchronized (this) {
+        if (readers == null) {
+          openCatalog();
+        }
+        current = readers;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Reopens the segments if the catalog has changed since they were opened,
+   * i.e. another node has archived a month. Segments are only ever added, so
+   * the row count tells.
+   *
+   * @return true if the segments were reopened
+   */
+  public synchronized boolean refreshCatalog() {
+    if (readers == null) {
+      return false; // Not opened yet; the first read loads the current catalog
+    }
+    if (segmentRepository.count() == catalogSize) {
+      return false;
+    }
+    openCatalog();
+    return true;
+  }
+
+  // Callers hold the lock
+  private void openCatalog() {
+    List<ArchiveSegment> segments = segmentRepository.findAllInTimeOrder();
+    List<SegmentReader> opened = new ArrayList<>();
+    for (ArchiveSegment segment : segments) {
+      try {
+        opened.add(SegmentReader.open(directory.resolve(segment.getFileName())));
+      } catch (IOException | RuntimeException ex) {
+        // Keep serving the other segments; verifySegments() reports the damage
+        log.error("Could not open archive segment {}: {}", segment.getFileName(), ex.getMessage());
+      }
+    }
+    log.info("Archive segments opened: {}", opened.size());
+    readers = List.copyOf(opened);
+    catalogSize = segments.size();
+  }
+
+  private synchronized void registerReaders(PeriodFiles files) {
+    if (readers == null) {
+      return; // Opened from the catalog, which includes the new period, on first use
+    }
+    try {
+      List<SegmentReader> updated = new ArrayList<>(readers);
+      for (SegmentFile file : files.segments()) {
+        updated.add(SegmentReader.open(directory.resolve(file.fileName())));
+      }
+      updated.sort((a, b) -> Long.compare(a.getMinCreatedAtMicros(), b.getMinCreatedAtMicros()));
+      readers = List.copyOf(updated);
+      catalogSize += files.segments().size();
+    } catch (IOException | RuntimeException ex) {
+      log.error("Could not open new archive segments, reloading the catalog on next read: {}", ex.getMessage());
+      readers = null;
+    }
+  }
+
+  private Optional<ArchivedDocument> findDocument(UUID id) {
+    for (SegmentReader reader : readers()) {
+      Optional<SegmentRecord> record = reader.find(id);
+      if (record.isPresent()) {
+        return Optional.of(parse(record.get()));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private ArchivedDocument parse(SegmentRecord record) {
+    try {
+      return documentReader.readValue(record.data());
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unreadable archived transaction " + record.id(), ex);
+    }
+  }
+
+  // ============================================================
+  // Helpers
+  // ============================================================
+
+  private OffsetDateTime archiveHorizon() {
+    return OffsetDateTime.now(ZoneOffset.UTC).minus(minAge);
+  }
+
+  private static OffsetDateTime periodStart(YearMonth month) {
+    return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+  }
+
+  private static OffsetDateTime periodEnd(YearMonth month) {
+    return month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+  }
+
+  private static String sha256(Path file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not available", ex);
+    }
+    try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      log.warn("Could not delete archive file {}: {}", file, ex.getMessage());
+    }
+  }
+
+  private ArchivedTransactionResponse toResponse(ArchivedDocument doc) {
+    return new ArchivedTransactionResponse(doc.id(), doc.typeId(), doc.typeName(), doc.amount(),
+        doc.currencyCode(), payloadService.decode(payloadJson(doc), doc.payloadBin()), doc.createdAt(), doc.currentStatus(), doc.participants(),
+        doc.statusHistory(), doc.audit(), doc.locks());
+  }
+
+  private static String payloadJson(ArchivedDocument doc) {
+    return doc.payload() == null || doc.payload().isNull() ? null : doc.payload().toString();
+  }
+
+  private ArchivePeriodResponse toResponse(ArchivePeriod period) {
+    return new ArchivePeriodResponse(period.getId(), period.getPeriodStart(), period.getPeriodEnd(),
+        period.getTransactionCount(), period.getRelatedRowCount(), period.getSegmentCount(),
+        period.getArchivedAt());
+  }
+
+  /**
+   * One archived aggregate as rendered by ArchiveSourceRepository.
+   */
+  record ArchivedDocument(UUID id, UUID typeId, String typeName, BigDecimal amount, String currencyCode,
+      JsonNode payload, byte[] payloadBin, String previousHash, String signature, OffsetDateTime createdAt,
+      TransactionStatus currentStatus, List<Map<String, Object>> participants,
+      List<Map<String, Object>> statusHistory, List<Map<String, Object>> audit,
+      List<Map<String, Object>> locks) {
+  }
+
+  private record SegmentFile(String fileName, long recordCount, OffsetDateTime first, OffsetDateTime last,
+      long sizeBytes, String sha256) {
+  }
+
+  private record PeriodFiles(long transactions, long relatedRows, List<SegmentFile> segments) {
+  }
+}
@@ -1,5 +1,6 @@
 package io.stl.stl_core.service;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -10,6 +11,8 @@ import io.stl.stl_core.model.entity.Transaction;
 import io.stl.stl_core.model.entity.TransactionAudit;
 import io.stl.stl_core.model.enums.ActorType;
 import io.stl.stl_core.model.enums.AuditActionType;
+import io.stl.stl_core.observability.CorrelationId;
+import io.stl.stl_core.observability.jfr.AuditWriteEvent;
 import io.stl.stl_core.repository.TransactionAuditRepository;
 
 /**
@@ -73,25 +76,39 @@ public class AuditService {
       AuditActionType actionType,
       Map<String, Object> metadata) {
 
+    AuditWriteEvent event = new AuditWriteEvent();
+    event.begin();
+
     // TODO: sprint 4: Add hash chaining logic here
     // String previousHash = getLatestAuditHash(Transaction);
 
     // TODO: sprint 4: Generate digital signature
     // String signature = signatureService.sign(auditData);
 
+    // Ties the audit row to the request (and its log lines)
+    String correlationId = CorrelationId.current();
+    if (correlationId != null) {
+      Map<String, Object> withCorrelation = new HashMap<>(metadata != null ? metadata : Map.of());
+      withCorrelation.put(CorrelationId.MDC_KEY, correlationId);
+      metadata = withCorrelation;
+    }
+
     TransactionAudit audit = new TransactionAudit(
         transaction,
         actorType,
         actorId,
-        actionType);
+        actionType,
+        metadata != null && !metadata.isEmpty() ? metadata : null);
 
-    // Set metadata if provided
-    if (metadata != null && !metadata.isEmpty()) {
-      // note: This requires a setter or builder pattern on TransactionAudit
-      // For now, assuming the entity has a way to set metadata
-    }
+    TransactionAudit saved = auditRepository.save(audit);
 
-    return auditRepository.save(audit);
+    event.end();
+    if (event.shouldCommit()) {
+      event.transactionId = String.valueOf(transaction.getId());
+      event.action = actionType.name();
+      event.commit();
+    }
+    return saved;
   }
 
   /**
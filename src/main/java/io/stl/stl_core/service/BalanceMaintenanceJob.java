@@ -0,0 +1,114 @@
+package io.stl.stl_core.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.stl.stl_core.service.dto.response.BalanceDiscrepancyResponse;
+
+/**
+ * Background jobs for balance snapshots: periodic checkpoints, nightly
+ * reconciliation and on-demand full rebuild.
+ * Each step runs in its own transaction through BalanceService.
+ */
+@Component
+public class BalanceMaintenanceJob {
+
+  private static final Logger log = LoggerFactory.getLogger(BalanceMaintenanceJob.class);
+
+  static final int REBUILD_BATCH_SIZE = 500;
+  static final int RECONCILE_LOG_LIMIT = 100;
+
+  private final BalanceService balanceService;
+  private final TaskExecutor taskExecutor;
+  private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+
+  public BalanceMaintenanceJob(BalanceService balanceService,
+      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+    this.balanceService = balanceService;
+    this.taskExecutor = taskExecutor;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.balance.checkpoint-interval:PT5M}",
+      initialDelayString = "${stl.balance.checkpoint-initial-delay:PT1M}")
+  public void checkpoint() {
+    balanceService.writeCheckpoints();
+  }
+
+  @Scheduled(cron = "${stl.balance.reconcile-cron:0 30 3 * * *}")
+  public void reconcile() {
+    List<BalanceDiscrepancyResponse> discrepancies = balanceService.findDiscrepancies(RECONCILE_LOG_LIMIT);
+    if (discrepancies.isEmpty()) {
+      log.info("Balance reconciliation passed");
+      return;
+    }
+
+    log.warn("Balance reconciliation found {} discrepancies (showing up to {})",
+        discrepancies.size(), RECONCILE_LOG_LIMIT);
+    for (BalanceDiscrepancyResponse d : discrepancies) {
+      log.warn("Balance mismatch: participant={}, currency={}, snapshot={}, actual={}",
+          d.getParticipantId(), d.getCurrencyCode(), d.getSnapshotBalance(), d.getActualBalance());
+    }
+  }
+
+  /**
+   * Starts a full rebuild in the background.
+   *
+   * @param resetCheckpoints Also drop checkpoints so the next checkpoint run
+   *                         recomputes them
+   * @return false if a rebuild is already running
+   */
+  public boolean startRebuild(boolean resetCheckpoints) {
+    if (!rebuildRunning.compareAndSet(false, true)) {
+      return false;
+    }
+
+    taskExecutor.execute(() -> {
+      try {
+        rebuildAll(resetCheckpoints);
+      } catch (RuntimeException ex) {
+        log.error("Balance rebuild failed", ex);
+      } finally {
+        rebuildRunning.set(false);
+      }
+    });
+    return true;
+  }
+
+  public boolean isRebuildRunning() {
+    return rebuildRunning.get();
+  }
+
+  /**
+   * Rebuilds every participant's snapshots, one participant per transaction
+   * so ingestion is never blocked for long.
+   */
+  void rebuildAll(boolean resetCheckpoints) {
+    if (resetCheckpoints) {
+      balanceService.resetCheckpoints();
+    }
+
+    long rebuilt = 0;
+    UUID after = new UUID(0L, 0L); // Lowest UUID in PostgreSQL ordering
+    List<UUID> batch;
+    do {
+      batch = balanceService.findParticipantIdsAfter(after, REBUILD_BATCH_SIZE);
+      for (UUID participantId : batch) {
+        balanceService.rebuildParticipant(participantId);
+      }
+      rebuilt += batch.size();
+      if (!batch.isEmpty()) {
+        after = batch.get(batch.size() - 1);
+      }
+    } while (batch.size() == REBUILD_BATCH_SIZE);
+
+    log.info("Balance rebuild finished: participants={}", rebuilt);
+  }
+}
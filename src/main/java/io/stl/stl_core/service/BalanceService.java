@@ -0,0 +1,255 @@
+package io.stl.stl_core.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.stl.stl_core.model.entity.Participant;
+import io.stl.stl_core.model.entity.ParticipantBalance;
+import io.stl.stl_core.model.entity.ParticipantBalanceCheckpoint;
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.enums.ParticipantType;
+import io.stl.stl_core.model.projection.BalanceDelta;
+import io.stl.stl_core.repository.ArchivePeriodRepository;
+import io.stl.stl_core.repository.ParticipantBalanceCheckpointRepository;
+import io.stl.stl_core.repository.ParticipantBalanceRepository;
+import io.stl.stl_core.service.dto.response.BalanceDiscrepancyResponse;
+import io.stl.stl_core.service.dto.response.ParticipantBalanceResponse;
+
+/**
+ * Service for participant balances.
+ *
+ * - Current balance: one row per participant and currency, updated atomically
+ * in the same database transaction that links the participants.
+ * - As-of balance: latest checkpoint at or before the requested time plus the
+ * participations after it (bounded by the checkpoint interval).
+ * - Both are derived from the participants table (plus the carry-forward of
+ * archived participations) and can be rebuilt and reconciled against it.
+ */
+@Service
+public class BalanceService {
+
+  private static final Logger log = LoggerFactory.getLogger(BalanceService.class);
+
+  /** Advisory lock key shared by all nodes running the checkpoint job. */
+  static final long CHECKPOINT_LOCK_KEY = 0x53544C42414CL; // "STLBAL"
+
+  private static final OffsetDateTime BEGINNING = Instant.EPOCH.atOffset(ZoneOffset.UTC);
+
+  private final ParticipantBalanceRepository balanceRepository;
+  private final ParticipantBalanceCheckpointRepository checkpointRepository;
+  private final ArchivePeriodRepository archivePeriodRepository;
+  private final Duration checkpointLag;
+
+  public BalanceService(ParticipantBalanceRepository balanceRepository,
+      ParticipantBalanceCheckpointRepository checkpointRepository,
+      ArchivePeriodRepository archivePeriodRepository,
+      @Value("${stl.balance.checkpoint-lag:PT2M}") Duration checkpointLag) {
+    this.balanceRepository = balanceRepository;
+    this.checkpointRepository = checkpointRepository;
+    this.archivePeriodRepository = archivePeriodRepository;
+    this.checkpointLag = checkpointLag;
+  }
+
+  /**
+   * Applies newly linked participations to the live snapshots (COMMAND).
+   * Must run inside the transaction that inserted them, so the snapshot and
+   * the participants table always commit together.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyParticipations(Transaction transaction, List<Participant> participants) {
+    // One upsert per participant and currency, in a fixed order so concurrent
+    // transactions sharing participants lock the rows in the same sequence
+    Map<String, SnapshotDelta> deltas = new TreeMap<>();
+    String currencyCode = transaction.getCurrency().getCode();
+
+    for (Participant participant : participants) {
+      BigDecimal amount = participant.getAmount() != null ? participant.getAmount() : transaction.getAmount();
+      int sign = participant.getRole().getBalanceSign();
+
+      SnapshotDelta delta = deltas.computeIfAbsent(participant.getParticipantId() + "|" + currencyCode,
+          key -> new SnapshotDelta(participant.getParticipantId(), participant.getParticipantType()));
+      if (sign < 0) {
+        delta.debit = delta.debit.add(amount);
+      } else if (sign > 0) {
+        delta.credit = delta.credit.add(amount);
+      }
+      delta.entryCount++;
+    }
+
+    for (SnapshotDelta delta : deltas.values()) {
+      balanceRepository.applyDelta(delta.participantId, delta.participantType.name(), currencyCode,
+          delta.debit, delta.credit, delta.entryCount, transaction.getCreatedAt());
+    }
+  }
+
+  /**
+   * Gets all current balances of a participant (QUERY - read-only).
+   */
+  @Transactional(readOnly = true)
+  public List<ParticipantBalanceResponse> getBalances(UUID participantId) {
+    return balanceRepository.findByParticipantIdOrderByCurrencyCode(participantId).stream()
+        .map(this::toResponse)
+        .toList();
+  }
+
+  /**
+   * Gets a participant's balance in one currency, now or as of a point in
+   * time (QUERY - read-only).
+   *
+   * @param asOf Point in time, or null for the current balance
+   */
+  @Transactional(readOnly = true)
+  public ParticipantBalanceResponse getBalance(UUID participantId, String currencyCode, OffsetDateTime asOf) {
+    if (asOf == null) {
+      return balanceRepository.findByParticipantIdAndCurrencyCode(participantId, currencyCode)
+          .map(this::toResponse)
+          .orElseGet(() -> new ParticipantBalanceResponse(participantId, currencyCode, BigDecimal.ZERO,
+              BigDecimal.ZERO, BigDecimal.ZERO, 0, null));
+    }
+
+    ParticipantBalanceCheckpoint checkpoint = checkpointRepository
+        .findFirstByParticipantIdAndCurrencyCodeAndAsOfLessThanEqualOrderByAsOfDesc(participantId, currencyCode, asOf)
+        .orElse(null);
+
+    OffsetDateTime from = checkpoint != null ? checkpoint.getAsOf() : BEGINNING;
+    BigDecimal balance = checkpoint != null ? checkpoint.getBalance() : BigDecimal.ZERO;
+    long entryCount = checkpoint != null ? checkpoint.getEntryCount() : 0;
+
+    // Participations before the archive horizon are gone from the participants
+    // table; only their carry-forward total is left
+    OffsetDateTime archivedThrough = archivePeriodRepository.findArchivedThrough().orElse(null);
+    if (archivedThrough != null && from.isBefore(archivedThrough)) {
+      BalanceDelta carryForward = balanceRepository.findCarryForward(participantId, currencyCode).orElse(null);
+      if (carryForward != null) {
+        if (asOf.isBefore(archivedThrough)) {
+          throw new IllegalArgumentException("Balance history before " + archivedThrough
+              + " is archived, asOf must be at or after it");
+        }
+        from = BEGINNING; // Every live participation is after the horizon
+        balance = carryForward.getAmount();
+        entryCount = carryForward.getEntryCount();
+      }
+    }
+
+    BalanceDelta delta = checkpointRepository.sumDelta(participantId, currencyCode, from, asOf);
+
+    return new ParticipantBalanceResponse(participantId, currencyCode, balance.add(delta.getAmount()),
+        null, null, entryCount + delta.getEntryCount(), asOf);
+  }
+
+  /**
+   * Writes the next round of checkpoints (COMMAND).
+   * Covers participations created after the previous round and up to now
+   * minus the configured lag, which leaves room for in-flight transactions to
+   * commit. Skipped when another node holds the job lock.
+   *
+   * @return Number of checkpoints written, or -1 when skipped
+   */
+  @Transactional
+  public int writeCheckpoints() {
+    if (!checkpointRepository.tryAdvisoryLock(CHECKPOINT_LOCK_KEY)) {
+      log.debug("Balance checkpoint already running on another node");
+      return -1;
+    }
+
+    OffsetDateTime previous = checkpointRepository.findLatestAsOf();
+    OffsetDateTime from = previous != null ? previous : BEGINNING;
+    OffsetDateTime asOf = OffsetDateTime.now(ZoneOffset.UTC).minus(checkpointLag);
+    if (!asOf.isAfter(from)) {
+      return 0;
+    }
+
+    int written = checkpointRepository.writeCheckpoints(from, asOf);
+    log.info("Balance checkpoints written: count={}, from={}, asOf={}", written, from, asOf);
+    return written;
+  }
+
+  /**
+   * Drops all checkpoints; the next checkpoint run recomputes them from the
+   * participants table (COMMAND).
+   */
+  @Transactional
+  public int resetCheckpoints() {
+    if (!checkpointRepository.tryAdvisoryLock(CHECKPOINT_LOCK_KEY)) {
+      throw new IllegalStateException("Balance checkpoint job is running, retry later");
+    }
+    return checkpointRepository.deleteAllCheckpoints();
+  }
+
+  /**
+   * Recomputes the live snapshots of one participant (COMMAND).
+   * Locking the existing rows first means deltas from in-flight transactions
+   * are either committed before the recomputation reads them or applied on
+   * top of it afterwards - never lost or counted twice.
+   */
+  @Transactional
+  public void rebuildParticipant(UUID participantId) {
+    balanceRepository.lockByParticipantId(participantId);
+    balanceRepository.rebuildForParticipant(participantId);
+    balanceRepository.deleteOrphansForParticipant(participantId);
+  }
+
+  /**
+   * Next batch of participant IDs for a full rebuild (QUERY - read-only).
+   */
+  @Transactional(readOnly = true)
+  public List<UUID> findParticipantIdsAfter(UUID after, int limit) {
+    return balanceRepository.findParticipantIdsAfter(after, limit);
+  }
+
+  /**
+   * Compares the live snapshots with the participants table (QUERY -
+   * read-only). Runs as a single statement, so both sides come from the same
+   * database snapshot.
+   *
+   * @param limit Maximum number of discrepancies returned
+   */
+  @Transactional(readOnly = true)
+  public List<BalanceDiscrepancyResponse> findDiscrepancies(int limit) {
+    return balanceRepository.findDiscrepancies(limit).stream()
+        .map(d -> new BalanceDiscrepancyResponse(d.getParticipantId(), d.getCurrencyCode(),
+            d.getSnapshotBalance(), d.getActualBalance(), d.getSnapshotEntryCount(), d.getActualEntryCount()))
+        .toList();
+  }
+
+  private ParticipantBalanceResponse toResponse(ParticipantBalance balance) {
+    return new ParticipantBalanceResponse(
+        balance.getParticipantId(),
+        balance.getCurrencyCode(),
+        balance.getBalance(),
+        balance.getDebitTotal(),
+        balance.getCreditTotal(),
+        balance.getEntryCount(),
+        balance.getLastEntryAt());
+  }
+
+  /**
+   * Accumulated change for one snapshot row within a transaction.
+   */
+  private static class SnapshotDelta {
+    private final UUID participantId;
+    private final ParticipantType participantType;
+    private BigDecimal debit = BigDecimal.ZERO;
+    private BigDecimal credit = BigDecimal.ZERO;
+    private long entryCount;
+
+    SnapshotDelta(UUID participantId, ParticipantType participantType) {
+      this.participantId = participantId;
+      this.participantType = participantType;
+    }
+  }
+}
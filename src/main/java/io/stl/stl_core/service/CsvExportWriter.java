@@ -0,0 +1,157 @@
+package io.stl.stl_core.service;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import io.stl.stl_core.model.enums.ExportCompression;
+
+/**
+ * Writes result set rows as RFC 4180 CSV (UTF-8, CRLF, header row).
+ *
+ * Memory use is bounded by the writer and compressor buffers regardless of
+ * the number of rows. Timestamps are written in ISO-8601 UTC and amounts in
+ * plain notation so files are stable across locales and time zones.
+ *
+ * With a binary decoder, a binary column is the alternative encoding of the
+ * column before it (e.g. payload / payload_bin): it gets no column of its
+ * own, and its decoded value fills the previous cell when that one is NULL.
+ */
+class CsvExportWriter implements Closeable {
+
+  static final int BUFFER_SIZE = 64 * 1024;
+  static final int ZSTD_LEVEL = 3;
+
+  /** Fixed width, microsecond precision (PostgreSQL timestamp resolution). */
+  private static final DateTimeFormatter TIMESTAMP_FORMAT =
+      DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSS'Z'");
+
+  private final Writer writer;
+  private final Function<byte[], String> binaryDecoder;
+  private int columnCount;
+  private int[] columnTypes;
+  private boolean[] merged; // Binary column folded into the previous one
+
+  CsvExportWriter(OutputStream out, ExportCompression compression) throws IOException {
+    this(out, compression, null);
+  }
+
+  CsvExportWriter(OutputStream out, ExportCompression compression, Function<byte[], String> binaryDecoder)
+      throws IOException {
+    this.writer = new BufferedWriter(
+        new OutputStreamWriter(compress(out, compression), StandardCharsets.UTF_8), BUFFER_SIZE);
+    this.binaryDecoder = binaryDecoder;
+  }
+
+  /**
+   * Writes the header row from the result set columns.
+   */
+  void writeHeader(ResultSetMetaData meta) throws SQLException, IOException {
+    columnCount = meta.getColumnCount();
+    columnTypes = new int[columnCount + 1];
+    merged = new boolean[columnCount + 2];
+    for (int i = 1; i <= columnCount; i++) {
+      columnTypes[i] = meta.getColumnType(i);
+      merged[i] = binaryDecoder != null && i > 1 && isBinary(columnTypes[i]);
+      if (merged[i]) {
+        continue;
+      }
+      if (i > 1) {
+        writer.write(',');
+      }
+      writeCell(meta.getColumnLabel(i));
+    }
+    writer.write("\r\n");
+  }
+
+  /**
+   * Writes the current row of the result set.
+   */
+  void writeRow(ResultSet rs) throws SQLException, IOException {
+    for (int i = 1; i <= columnCount; i++) {
+      if (merged[i]) {
+        continue;
+      }
+      if (i > 1) {
+        writer.write(',');
+      }
+      String value = format(rs, columnTypes[i], i);
+      if (value == null && merged[i + 1]) {
+        byte[] binary = rs.getBytes(i + 1);
+        value = binary == null ? null : binaryDecoder.apply(binary);
+      }
+      writeCell(value);
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close(); // Flushes and finishes the compressed stream
+  }
+
+  private static String format(ResultSet rs, int sqlType, int column) throws SQLException {
+    switch (sqlType) {
+      case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : TIMESTAMP_FORMAT.format(value.withOffsetSameInstant(ZoneOffset.UTC));
+      }
+      case Types.NUMERIC, Types.DECIMAL -> {
+        BigDecimal value = rs.getBigDecimal(column);
+        return value == null ? null : value.toPlainString();
+      }
+      default -> {
+        return rs.getString(column);
+      }
+    }
+  }
+
+  private static boolean isBinary(int sqlType) {
+    return sqlType == Types.BINARY || sqlType == Types.VARBINARY || sqlType == Types.LONGVARBINARY;
+  }
+
+  private void writeCell(String value) throws IOException {
+    if (value == null) {
+      return; // NULL is an empty cell
+    }
+    boolean quote = value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+
+  private static OutputStream compress(OutputStream out, ExportCompression compression) throws IOException {
+    return switch (compression) {
+      case NONE -> out;
+      case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE);
+      case ZSTD -> new ZstdOutputStream(out, ZSTD_LEVEL);
+    };
+  }
+}
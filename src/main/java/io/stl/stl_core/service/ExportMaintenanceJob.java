@@ -0,0 +1,29 @@
+package io.stl.stl_core.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies export retention: forgets old exports and deletes their files.
+ */
+@Component
+public class ExportMaintenanceJob {
+
+  private static final Logger log = LoggerFactory.getLogger(ExportMaintenanceJob.class);
+
+  private final ExportService exportService;
+
+  public ExportMaintenanceJob(ExportService exportService) {
+    this.exportService = exportService;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.export.cleanup-interval:PT15M}")
+  public void purgeExpired() {
+    int deleted = exportService.purgeExpired();
+    if (deleted > 0) {
+      log.info("Export retention: deleted {} files", deleted);
+    }
+  }
+}
@@ -0,0 +1,340 @@
+package io.stl.stl_core.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.stl.stl_core.exception.ResourceNotFoundException;
+import io.stl.stl_core.model.enums.ExportCompression;
+import io.stl.stl_core.model.enums.ExportDataset;
+import io.stl.stl_core.model.enums.ExportFormat;
+import io.stl.stl_core.model.enums.ExportStatus;
+import io.stl.stl_core.observability.CorrelationId;
+import io.stl.stl_core.repository.ExportRepository;
+import io.stl.stl_core.service.dto.request.ExportRequest;
+import io.stl.stl_core.service.dto.response.ExportJobResponse;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service for auditor exports.
+ *
+ * Exports run on a small bounded worker pool (not on request threads) and
+ * stream rows from a server-side cursor straight into a compressed file on
+ * local disk, so memory use does not depend on the export size. Files are
+ * written under a temporary name and moved into place once complete.
+ *
+ * The job registry is in memory: exports are per node and do not survive a
+ * restart; leftover files are removed by the retention sweep.
+ */
+@Service
+public class ExportService {
+
+  private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+  private static final String PART_SUFFIX = ".part";
+
+  private final ExportRepository exportRepository;
+  private final PayloadService payloadService;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Path directory;
+  private final Duration retention;
+  private final Duration maxRange;
+  private final ThreadPoolExecutor executor;
+  private final Map<UUID, ExportRun> runs = new ConcurrentHashMap<>();
+
+  public ExportService(ExportRepository exportRepository,
+      PayloadService payloadService,
+      PlatformTransactionManager transactionManager,
+      @Value("${stl.export.directory:${java.io.tmpdir}/stl-exports}") Path directory,
+      @Value("${stl.export.workers:2}") int workers,
+      @Value("${stl.export.queue-capacity:8}") int queueCapacity,
+      @Value("${stl.export.retention:PT24H}") Duration retention,
+      @Value("${stl.export.max-range:P366D}") Duration maxRange) {
+    this.exportRepository = exportRepository;
+    this.payloadService = payloadService;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.directory = directory;
+    this.retention = retention;
+    this.maxRange = maxRange;
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "export-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Queues an export (COMMAND).
+   *
+   * @param actorId User requesting the export; only they (or an admin) can
+   *                see, download or delete it
+   * @return Export in QUEUED status; poll getExport() for progress
+   */
+  public ExportJobResponse startExport(ExportRequest request, UUID actorId) {
+    if (!request.getFrom().isBefore(request.getTo())) {
+      throw new IllegalArgumentException("from must be before to");
+    }
+    if (Duration.between(request.getFrom(), request.getTo()).compareTo(maxRange) > 0) {
+      throw new IllegalArgumentException("Range too large for one export (max " + maxRange.toDays() + " days)");
+    }
+
+    ExportRun run = new ExportRun(request.getDataset(),
+        request.getFormat() != null ? request.getFormat() : ExportFormat.CSV,
+        request.getCompression() != null ? request.getCompression() : ExportCompression.GZIP,
+        request.getFrom(), request.getTo(), actorId);
+    runs.put(run.id, run);
+
+    try {
+      executor.execute(CorrelationId.wrap(() -> execute(run)));
+    } catch (RejectedExecutionException ex) {
+      runs.remove(run.id);
+      throw new IllegalStateException("Too many exports in progress, retry later");
+    }
+
+    log.info("Export queued: id={}, dataset={}, from={}, to={}, compression={}, actor={}",
+        run.id, run.dataset, run.from, run.to, run.compression, actorId);
+    return toResponse(run);
+  }
+
+  /**
+   * Status and progress of an export (QUERY - read-only).
+   *
+   * @param requesterId User asking; exports of other users are not found
+   *                    unless admin is set
+   */
+  public ExportJobResponse getExport(UUID id, UUID requesterId, boolean admin) {
+    return toResponse(findRun(id, requesterId, admin));
+  }
+
+  /**
+   * Exports known to this node requested by a user, or all of them for an
+   * admin, newest first (QUERY - read-only).
+   */
+  public List<ExportJobResponse> listExports(UUID requesterId, boolean admin) {
+    return runs.values().stream()
+        .filter(run -> admin || run.requestedBy.equals(requesterId))
+        .sorted(Comparator.comparing((ExportRun run) -> run.requestedAt).reversed())
+        .map(this::toResponse)
+        .toList();
+  }
+
+  /**
+   * Completed export file for download (QUERY - read-only).
+   */
+  public Path getExportFile(UUID id, UUID requesterId, boolean admin) {
+    ExportRun run = findRun(id, requesterId, admin);
+    if (run.status != ExportStatus.COMPLETED) {
+      throw new IllegalStateException("Export is " + run.status + ", the file is not available");
+    }
+    return directory.resolve(run.fileName);
+  }
+
+  /**
+   * Cancels a running export, or removes a finished one and its file (COMMAND).
+   */
+  public void cancelExport(UUID id, UUID requesterId, boolean admin) {
+    ExportRun run = findRun(id, requesterId, admin);
+    if (!run.status.isFinished()) {
+      run.cancelled = true; // The worker stops at the next row
+      if (run.status == ExportStatus.QUEUED) {
+        run.finish(ExportStatus.CANCELLED, null);
+      }
+      return;
+    }
+    runs.remove(id);
+    deleteQuietly(directory.resolve(run.fileName));
+  }
+
+  /**
+   * Removes finished exports and stray files older than the retention period.
+   *
+   * @return Number of files deleted
+   */
+  public int purgeExpired() {
+    Instant cutoff = Instant.now().minus(retention);
+    runs.values().removeIf(run -> run.status.isFinished() && run.finishedAt != null
+        && run.finishedAt.toInstant().isBefore(cutoff));
+
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+    int deleted = 0;
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+      for (Path file : files) {
+        if (!isInUse(file) && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+          deleteQuietly(file);
+          deleted++;
+        }
+      }
+    } catch (IOException ex) {
+      log.warn("Export retention sweep failed: {}", ex.getMessage());
+    }
+    return deleted;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    runs.values().forEach(run -> run.cancelled = true);
+    executor.shutdownNow();
+  }
+
+  // ============================================================
+  // Worker
+  // ============================================================
+
+  private void execute(ExportRun run) {
+    if (run.cancelled) {
+      return;
+    }
+    run.start();
+    Path part = directory.resolve(run.id + PART_SUFFIX);
+
+    try {
+      Files.createDirectories(directory);
+      try (OutputStream out = Files.newOutputStream(part);
+          CsvExportWriter writer = new CsvExportWriter(out, run.compression, payloadService::binaryToJson)) {
+        readOnlyTransaction.executeWithoutResult(tx -> exportRepository.stream(run.dataset, run.from, run.to,
+            rs -> {
+              try {
+                writer.writeHeader(rs.getMetaData());
+                while (rs.next()) {
+                  if (run.cancelled) {
+                    throw new CancellationException();
+                  }
+                  writer.writeRow(rs);
+                  run.rowsWritten.incrementAndGet();
+                }
+              } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+              }
+              return null;
+            }));
+      }
+      Files.move(part, directory.resolve(run.fileName), StandardCopyOption.ATOMIC_MOVE);
+      run.finish(ExportStatus.COMPLETED, null);
+      log.info("Export completed: id={}, rows={}, file={}", run.id, run.rowsWritten.get(), run.fileName);
+    } catch (CancellationException ex) {
+      deleteQuietly(part);
+      run.finish(ExportStatus.CANCELLED, null);
+      log.info("Export cancelled: id={}, rows={}", run.id, run.rowsWritten.get());
+    } catch (IOException | RuntimeException ex) {
+      deleteQuietly(part);
+      run.finish(ExportStatus.FAILED, ex.getMessage());
+      log.error("Export failed: id={}", run.id, ex);
+    }
+  }
+
+  // Another user's export is reported as missing, not forbidden, so ids
+  // cannot be probed
+  private ExportRun findRun(UUID id, UUID requesterId, boolean admin) {
+    ExportRun run = runs.get(id);
+    if (run == null || !(admin || run.requestedBy.equals(requesterId))) {
+      throw new ResourceNotFoundException("Export not found: " + id);
+    }
+    return run;
+  }
+
+  private boolean isInUse(Path file) {
+    String name = file.getFileName().toString();
+    return runs.values().stream()
+        .anyMatch(run -> name.equals(run.fileName) || name.equals(run.id + PART_SUFFIX));
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      log.warn("Could not delete export file {}: {}", file, ex.getMessage());
+    }
+  }
+
+  private ExportJobResponse toResponse(ExportRun run) {
+    Path file = run.status == ExportStatus.RUNNING
+        ? directory.resolve(run.id + PART_SUFFIX)
+        : directory.resolve(run.fileName);
+    long bytes;
+    try {
+      bytes = Files.exists(file) ? Files.size(file) : 0L;
+    } catch (IOException ex) {
+      bytes = 0L;
+    }
+    return new ExportJobResponse(run.id, run.dataset, run.format, run.compression, run.from, run.to,
+        run.status, run.rowsWritten.get(), bytes, run.fileName, run.errorMessage,
+        run.requestedBy, run.requestedAt, run.startedAt, run.finishedAt);
+  }
+
+  /**
+   * In-memory state of one export. Written by its worker, read by pollers.
+   */
+  private static final class ExportRun {
+    final UUID id = UUID.randomUUID();
+    final ExportDataset dataset;
+    final ExportFormat format;
+    final ExportCompression compression;
+    final OffsetDateTime from;
+    final OffsetDateTime to;
+    final String fileName;
+    final UUID requestedBy;
+    final OffsetDateTime requestedAt = OffsetDateTime.now();
+    final AtomicLong rowsWritten = new AtomicLong();
+
+    volatile ExportStatus status = ExportStatus.QUEUED;
+    volatile boolean cancelled;
+    volatile OffsetDateTime startedAt;
+    volatile OffsetDateTime finishedAt;
+    volatile String errorMessage;
+
+    ExportRun(ExportDataset dataset, ExportFormat format, ExportCompression compression,
+        OffsetDateTime from, OffsetDateTime to, UUID requestedBy) {
+      this.dataset = dataset;
+      this.format = format;
+      this.compression = compression;
+      this.from = from;
+      this.to = to;
+      this.requestedBy = requestedBy;
+      this.fileName = dataset.getFileStem() + "-" + id + format.getFileSuffix() + compression.getFileSuffix();
+    }
+
+    void start() {
+      startedAt = OffsetDateTime.now();
+      status = ExportStatus.RUNNING;
+    }
+
+    void finish(ExportStatus finalStatus, String error) {
+      errorMessage = error;
+      finishedAt = OffsetDateTime.now();
+      status = finalStatus;
+    }
+  }
+}
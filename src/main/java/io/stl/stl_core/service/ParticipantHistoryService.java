@@ -0,0 +1,219 @@
+package io.stl.stl_core.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.stl.stl_core.model.projection.ParticipantHistoryRow;
+import io.stl.stl_core.repository.ParticipantRepository;
+import io.stl.stl_core.service.dto.response.ParticipantHistoryEntryResponse;
+import io.stl.stl_core.service.dto.response.ParticipantHistoryResponse;
+
+/**
+ * Service for participant account history.
+ *
+ * Pages are read with keyset pagination (newest first). The running signed
+ * total per currency is computed incrementally: each page continues from the
+ * totals carried in the cursor of the previous page, so no request ever sums
+ * more than one page of rows.
+ *
+ * Because the cursor carries totals, it is signed (HMAC-SHA256 over the
+ * participant, position and totals) with stl.history.cursor-key; cursors that
+ * were altered or issued for another participant are rejected. Without a
+ * configured key a random one is generated at startup, so cursors only work
+ * on the node that issued them until it restarts.
+ */
+@Service
+public class ParticipantHistoryService {
+
+  private static final Logger log = LoggerFactory.getLogger(ParticipantHistoryService.class);
+
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 500;
+
+  private static final String MAC_ALGORITHM = "HmacSHA256";
+
+  private final ParticipantRepository participantRepository;
+  private final SecretKeySpec cursorKey;
+
+  public ParticipantHistoryService(ParticipantRepository participantRepository,
+      @Value("${stl.history.cursor-key:}") String cursorKey) {
+    this.participantRepository = participantRepository;
+    this.cursorKey = new SecretKeySpec(cursorKeyMaterial(cursorKey), MAC_ALGORITHM);
+  }
+
+  /**
+   * Gets one page of a participant's account history (QUERY - read-only).
+   *
+   * @param participantId User or entity ID
+   * @param cursor        Opaque cursor from the previous page, or null for the
+   *                      first page
+   * @param size          Page size (1..MAX_PAGE_SIZE)
+   * @return The page, the running totals after it and the next cursor
+   */
+  @Transactional(readOnly = true)
+  public ParticipantHistoryResponse getHistory(UUID participantId, String cursor, int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    HistoryCursor position = cursor == null || cursor.isBlank() ? null : verify(participantId, cursor);
+
+    // Fetch one extra row to know whether another page exists
+    Limit limit = Limit.of(size + 1);
+    List<ParticipantHistoryRow> rows = position == null
+        ? participantRepository.findHistory(participantId, limit)
+        : participantRepository.findHistoryAfter(participantId, position.createdAt(), position.id(), limit);
+
+    boolean hasMore = rows.size() > size;
+    if (hasMore) {
+      rows = rows.subList(0, size);
+    }
+
+    Map<String, BigDecimal> runningTotals = position == null ? new TreeMap<>() : new TreeMap<>(position.totals());
+    List<ParticipantHistoryEntryResponse> entries = new ArrayList<>(rows.size());
+
+    for (ParticipantHistoryRow row : rows) {
+      BigDecimal signedAmount = row.getEffectiveAmount()
+          .multiply(BigDecimal.valueOf(row.getRole().getBalanceSign()));
+      BigDecimal runningTotal = runningTotals.merge(row.getCurrencyCode(), signedAmount, BigDecimal::add);
+
+      entries.add(new ParticipantHistoryEntryResponse(
+          row.getTransactionId(),
+          row.getTypeName(),
+          row.getParticipantType(),
+          row.getRole(),
+          row.getEffectiveAmount(),
+          signedAmount,
+          row.getTransactionAmount(),
+          row.getCurrencyCode(),
+          row.getCurrentStatus(),
+          runningTotal,
+          row.getCreatedAt()));
+    }
+
+    String nextCursor = null;
+    if (hasMore) {
+      ParticipantHistoryRow last = rows.get(rows.size() - 1);
+      nextCursor = sign(participantId,
+          new HistoryCursor(last.getCreatedAt(), last.getParticipationId(), runningTotals).encode());
+    }
+
+    return new ParticipantHistoryResponse(participantId, entries, runningTotals, nextCursor, hasMore);
+  }
+
+  /**
+   * Appends the signature: "payload.signature", both URL-safe Base64.
+   */
+  private String sign(UUID participantId, String payload) {
+    return payload + '.' + Base64.getUrlEncoder().withoutPadding().encodeToString(mac(participantId, payload));
+  }
+
+  /**
+   * Checks the signature before trusting any of the cursor's content.
+   */
+  private HistoryCursor verify(UUID participantId, String cursor) {
+    int dot = cursor.lastIndexOf('.');
+    if (dot <= 0) {
+      throw new IllegalArgumentException("Invalid history cursor");
+    }
+    String payload = cursor.substring(0, dot);
+    byte[] signature;
+    try {
+      signature = Base64.getUrlDecoder().decode(cursor.substring(dot + 1));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid history cursor", ex);
+    }
+    if (!MessageDigest.isEqual(signature, mac(participantId, payload))) {
+      throw new IllegalArgumentException("Invalid history cursor");
+    }
+    return HistoryCursor.decode(payload);
+  }
+
+  private byte[] mac(UUID participantId, String payload) {
+    try {
+      Mac mac = Mac.getInstance(MAC_ALGORITHM);
+      mac.init(cursorKey);
+      mac.update(participantId.toString().getBytes(StandardCharsets.UTF_8));
+      mac.update((byte) '|');
+      return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("Cannot sign history cursor", ex);
+    }
+  }
+
+  private static byte[] cursorKeyMaterial(String configured) {
+    if (configured.isBlank()) {
+      log.warn("stl.history.cursor-key is not set; history cursors are valid on this node until restart only");
+      byte[] generated = new byte[32];
+      new SecureRandom().nextBytes(generated);
+      return generated;
+    }
+    byte[] material = Base64.getDecoder().decode(configured.trim());
+    if (material.length < 32) {
+      throw new IllegalStateException("stl.history.cursor-key must be at least 256 bits");
+    }
+    return material;
+  }
+
+  /**
+   * Keyset position plus the running totals accumulated up to it.
+   * Encoded as URL-safe Base64 of "createdAt|id|CUR=total;CUR=total"; only
+   * ever decoded after its signature has been checked.
+   */
+  record HistoryCursor(OffsetDateTime createdAt, UUID id, Map<String, BigDecimal> totals) {
+
+    String encode() {
+      StringBuilder sb = new StringBuilder()
+          .append(createdAt).append('|')
+          .append(id).append('|');
+      totals.forEach((currency, total) -> sb.append(currency).append('=').append(total.toPlainString()).append(';'));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static HistoryCursor decode(String payload) {
+      try {
+        String raw = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != 3) {
+          throw new IllegalArgumentException("Invalid history cursor");
+        }
+
+        Map<String, BigDecimal> totals = new LinkedHashMap<>();
+        for (String entry : parts[2].split(";")) {
+          if (entry.isEmpty()) {
+            continue;
+          }
+          int eq = entry.indexOf('=');
+          totals.put(entry.substring(0, eq), new BigDecimal(entry.substring(eq + 1)));
+        }
+
+        return new HistoryCursor(OffsetDateTime.parse(parts[0]), UUID.fromString(parts[1]), totals);
+      } catch (DateTimeParseException | StringIndexOutOfBoundsException ex) {
+        // NumberFormatException and Base64 errors are already IllegalArgumentExceptions
+        throw new IllegalArgumentException("Invalid history cursor", ex);
+      }
+    }
+  }
+}
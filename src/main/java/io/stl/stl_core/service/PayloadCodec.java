@@ -0,0 +1,166 @@
+package io.stl.stl_core.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+
+/**
+ * Binary payload format: a version byte followed by a CBOR document whose
+ * object keys are all integer ids from the shared key dictionary
+ * (payload_keys). Values are plain CBOR, so JSON round-trips unchanged
+ * (decimals are kept exact as CBOR decimal fractions).
+ *
+ * Stateless and thread-safe; the dictionary is supplied by the caller.
+ */
+final class PayloadCodec {
+
+  static final byte VERSION = 1;
+
+  private static final CBORFactory FACTORY = new CBORFactory();
+
+  private PayloadCodec() {
+  }
+
+  /**
+   * Collects every object key of a payload, nested ones included.
+   */
+  static void collectKeys(Object value, Set<String> keys) {
+    if (value instanceof Map<?, ?> map) {
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        keys.add((String) entry.getKey());
+        collectKeys(entry.getValue(), keys);
+      }
+    } else if (value instanceof List<?> list) {
+      for (Object item : list) {
+        collectKeys(item, keys);
+      }
+    }
+  }
+
+  /**
+   * Encodes a payload.
+   *
+   * @param keyIds Dictionary id of a key; every key of the payload must have one
+   */
+  static byte[] encode(Map<String, Object> payload, ToIntFunction<String> keyIds) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    out.write(VERSION);
+    try (CBORGenerator generator = FACTORY.createGenerator(out)) {
+      writeValue(generator, payload, keyIds);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes a payload.
+   *
+   * @param keyNames Key of a dictionary id
+   * @throws IllegalArgumentException if the data is not a valid payload
+   */
+  static Map<String, Object> decode(byte[] data, IntFunction<String> keyNames) {
+    if (data.length == 0 || data[0] != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary payload version");
+    }
+    try (CBORParser parser = FACTORY.createParser(data, 1, data.length - 1)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Binary payload is not an object");
+      }
+      return readObject(parser, keyNames);
+    } catch (IOException ex) {
+      throw new IllegalArgumentException("Corrupted binary payload", ex);
+    }
+  }
+
+  private static void writeValue(CBORGenerator generator, Object value, ToIntFunction<String> keyIds)
+      throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof String s) {
+      generator.writeString(s);
+    } else if (value instanceof Boolean b) {
+      generator.writeBoolean(b);
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+        || value instanceof Byte) {
+      generator.writeNumber(((Number) value).longValue());
+    } else if (value instanceof BigInteger i) {
+      generator.writeNumber(i);
+    } else if (value instanceof BigDecimal d) {
+      generator.writeNumber(d);
+    } else if (value instanceof Double || value instanceof Float) {
+      generator.writeNumber(((Number) value).doubleValue());
+    } else if (value instanceof Map<?, ?> map) {
+      generator.writeStartObject(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        generator.writeFieldId(keyIds.applyAsInt((String) entry.getKey()));
+        writeValue(generator, entry.getValue(), keyIds);
+      }
+      generator.writeEndObject();
+    } else if (value instanceof List<?> list) {
+      generator.writeStartArray(list, list.size());
+      for (Object item : list) {
+        writeValue(generator, item, keyIds);
+      }
+      generator.writeEndArray();
+    } else {
+      throw new IllegalArgumentException("Unsupported payload value: " + value.getClass().getSimpleName());
+    }
+  }
+
+  private static Map<String, Object> readObject(CBORParser parser, IntFunction<String> keyNames)
+      throws IOException {
+    Map<String, Object> map = new LinkedHashMap<>();
+    JsonToken token;
+    while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+      String key = keyNames.apply(Integer.parseInt(parser.currentName()));
+      parser.nextToken();
+      map.put(key, readValue(parser, keyNames));
+    }
+    if (token != JsonToken.END_OBJECT) {
+      throw new IOException("Unterminated object in binary payload");
+    }
+    return map;
+  }
+
+  private static Object readValue(CBORParser parser, IntFunction<String> keyNames) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == null) {
+      throw new IOException("Truncated binary payload");
+    }
+    return switch (token) {
+      case START_OBJECT -> readObject(parser, keyNames);
+      case START_ARRAY -> {
+        List<Object> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          list.add(readValue(parser, keyNames));
+        }
+        yield list;
+      }
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NUMBER_INT -> parser.getNumberValue();
+      case VALUE_NUMBER_FLOAT -> parser.getNumberType() == NumberType.BIG_DECIMAL
+          ? parser.getDecimalValue()
+          : parser.getDoubleValue();
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      case VALUE_NULL -> null;
+      default -> throw new IOException("Unexpected token in binary payload: " + token);
+    };
+  }
+}
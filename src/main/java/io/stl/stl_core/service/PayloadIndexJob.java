@@ -0,0 +1,108 @@
+package io.stl.stl_core.service;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import io.stl.stl_core.repository.PayloadIndexDdlRepository;
+import io.stl.stl_core.service.PayloadIndexService.IndexTask;
+
+/**
+ * Background builder for payload indexes.
+ *
+ * CREATE/DROP INDEX CONCURRENTLY cannot run inside a transaction block, so
+ * this job is deliberately not @Transactional: status changes are short
+ * transactions in PayloadIndexService, the DDL runs in autocommit mode.
+ * Definitions are claimed with SKIP LOCKED, so several nodes can run the job.
+ */
+@Component
+public class PayloadIndexJob {
+
+  private static final Logger log = LoggerFactory.getLogger(PayloadIndexJob.class);
+
+  /** Upper bound of definitions handled per run. */
+  static final int MAX_TASKS_PER_RUN = 5;
+
+  private final PayloadIndexService payloadIndexService;
+  private final PayloadIndexDdlRepository ddlRepository;
+
+  public PayloadIndexJob(PayloadIndexService payloadIndexService, PayloadIndexDdlRepository ddlRepository) {
+    this.payloadIndexService = payloadIndexService;
+    this.ddlRepository = ddlRepository;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.payload-index.poll-interval:PT10S}")
+  public void run() {
+    recoverStaleBuilds();
+    for (int i = 0; i < MAX_TASKS_PER_RUN; i++) {
+      Optional<IndexTask> task = payloadIndexService.claimNextTask();
+      if (task.isEmpty()) {
+        return;
+      }
+      if (task.get().drop()) {
+        drop(task.get());
+      } else {
+        build(task.get());
+      }
+    }
+  }
+
+  private void build(IndexTask task) {
+    log.info("Building payload index: name={}, type={}, kind={}, path={}",
+        task.indexName(), task.typeId(), task.kind(), task.path());
+    try {
+      if (task.kind() == PayloadIndexKind.CONTAINMENT) {
+        ddlRepository.createContainmentIndex(task.indexName(), task.typeId());
+      } else {
+        ddlRepository.createPathIndex(task.indexName(), task.typeId(), task.path());
+      }
+      payloadIndexService.markReady(task.definitionId());
+      log.info("Payload index ready: name={}", task.indexName());
+    } catch (DataAccessException ex) {
+      log.warn("Payload index build failed: name={}, error={}", task.indexName(), ex.getMessage());
+      dropQuietly(task.indexName()); // A failed concurrent build leaves an INVALID index behind
+      payloadIndexService.markFailed(task.definitionId(), ex.getMostSpecificCause().getMessage());
+    }
+  }
+
+  private void drop(IndexTask task) {
+    try {
+      ddlRepository.dropIndex(task.indexName());
+      payloadIndexService.delete(task.definitionId());
+      log.info("Payload index dropped: name={}", task.indexName());
+    } catch (DataAccessException ex) {
+      // Stays DROPPING and is retried on the next run
+      log.warn("Payload index drop failed: name={}, error={}", task.indexName(), ex.getMessage());
+    }
+  }
+
+  /**
+   * Builds left in BUILDING by a crashed node: keep the index if PostgreSQL
+   * finished it, otherwise drop the leftovers and queue a new attempt.
+   */
+  private void recoverStaleBuilds() {
+    for (IndexTask task : payloadIndexService.findStaleBuilds()) {
+      boolean valid = ddlRepository.isIndexValid(task.indexName()).orElse(false);
+      if (valid) {
+        payloadIndexService.markReady(task.definitionId());
+      } else {
+        dropQuietly(task.indexName());
+        payloadIndexService.markPending(task.definitionId());
+      }
+      log.info("Recovered stale payload index build: name={}, valid={}", task.indexName(), valid);
+    }
+  }
+
+  private void dropQuietly(String indexName) {
+    try {
+      ddlRepository.dropIndex(indexName);
+    } catch (DataAccessException ex) {
+      log.warn("Could not drop payload index {}: {}", indexName, ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package io.stl.stl_core.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.stl.stl_core.exception.ResourceNotFoundException;
+import io.stl.stl_core.model.entity.PayloadIndexDefinition;
+import io.stl.stl_core.model.entity.TransactionType;
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import io.stl.stl_core.model.enums.PayloadIndexStatus;
+import io.stl.stl_core.repository.PayloadIndexDefinitionRepository;
+import io.stl.stl_core.repository.TransactionTypeRepository;
+import io.stl.stl_core.service.dto.request.PayloadIndexDefinitionRequest;
+import io.stl.stl_core.service.dto.response.PayloadIndexDefinitionResponse;
+
+/**
+ * Service for admin-declared payload indexes.
+ *
+ * Declaring or removing an index only records the intent; PayloadIndexJob
+ * builds and drops the indexes CONCURRENTLY in the background, so requests
+ * never hold a lock on the transactions table.
+ */
+@Service
+public class PayloadIndexService {
+
+  public static final int MAX_PATH_DEPTH = 8;
+
+  private final PayloadIndexDefinitionRepository definitionRepository;
+  private final TransactionTypeRepository transactionTypeRepository;
+  private final PayloadService payloadService;
+  private final Duration buildTimeout;
+
+  public PayloadIndexService(PayloadIndexDefinitionRepository definitionRepository,
+      TransactionTypeRepository transactionTypeRepository,
+      PayloadService payloadService,
+      @Value("${stl.payload-index.build-timeout:PT6H}") Duration buildTimeout) {
+    this.definitionRepository = definitionRepository;
+    this.transactionTypeRepository = transactionTypeRepository;
+    this.payloadService = payloadService;
+    this.buildTimeout = buildTimeout;
+  }
+
+  /**
+   * Declares a payload index for a transaction type (COMMAND).
+   * The index is built asynchronously; queries can use it once READY.
+   */
+  @Transactional
+  public PayloadIndexDefinitionResponse define(PayloadIndexDefinitionRequest request, UUID actorId) {
+    TransactionType type = transactionTypeRepository.findById(request.getTypeId())
+        .orElseThrow(() -> new IllegalArgumentException("Transaction type not found"));
+
+    String path = null;
+    if (request.getKind().requiresPath()) {
+      if (request.getPath() == null || request.getPath().isBlank()) {
+        throw new IllegalArgumentException("Path is required for " + request.getKind() + " indexes");
+      }
+      path = String.join(".", parsePath(request.getPath()));
+    } else if (request.getPath() != null) {
+      throw new IllegalArgumentException("Path is not allowed for " + request.getKind() + " indexes");
+    }
+
+    if (payloadService.isBinaryType(type)) {
+      throw new IllegalStateException("Payload indexes need JSONB payloads, type " + type.getName()
+          + " stores binary payloads");
+    }
+    if (definitionRepository.existsDefinition(type.getId(), request.getKind(), path)) {
+      throw new IllegalStateException("Payload index already declared for this type");
+    }
+
+    PayloadIndexDefinition definition = new PayloadIndexDefinition(type, request.getKind(), path,
+        indexName(type.getId(), request.getKind(), path), actorId);
+
+    return toResponse(definitionRepository.save(definition));
+  }
+
+  /**
+   * Lists the payload indexes of a transaction type (QUERY - read-only).
+   */
+  @Transactional(readOnly = true)
+  public List<PayloadIndexDefinitionResponse> listDefinitions(UUID typeId) {
+    return definitionRepository.findByTypeId(typeId).stream()
+        .map(this::toResponse)
+        .toList();
+  }
+
+  /**
+   * READY indexes of a transaction type (QUERY - read-only).
+   */
+  @Transactional(readOnly = true)
+  public List<PayloadIndexDefinition> findReady(UUID typeId) {
+    return definitionRepository.findByTypeIdAndStatus(typeId, PayloadIndexStatus.READY);
+  }
+
+  /**
+   * Schedules an index for removal (COMMAND).
+   * Queries stop relying on it immediately.
+   */
+  @Transactional
+  public PayloadIndexDefinitionResponse requestDrop(UUID definitionId) {
+    PayloadIndexDefinition definition = definitionRepository.findById(definitionId)
+        .orElseThrow(() -> new ResourceNotFoundException("Payload index not found: " + definitionId));
+    if (definition.getStatus() == PayloadIndexStatus.BUILDING) {
+      throw new IllegalStateException("Payload index is being built, retry once it is READY or FAILED");
+    }
+    definition.markDropping();
+    return toResponse(definition);
+  }
+
+  /**
+   * Re-queues a FAILED index for another build attempt (COMMAND).
+   */
+  @Transactional
+  public PayloadIndexDefinitionResponse retry(UUID definitionId) {
+    PayloadIndexDefinition definition = definitionRepository.findById(definitionId)
+        .orElseThrow(() -> new ResourceNotFoundException("Payload index not found: " + definitionId));
+    if (definition.getStatus() != PayloadIndexStatus.FAILED) {
+      throw new IllegalStateException("Only FAILED payload indexes can be retried");
+    }
+    definition.markPending();
+    return toResponse(definition);
+  }
+
+  // ============================================================
+  // Index builder steps (called by PayloadIndexJob, one short
+  // transaction each - the DDL itself runs outside transactions)
+  // ============================================================
+
+  /**
+   * Claims the next definition to build or drop. PENDING ones are moved to
+   * BUILDING before the claim commits.
+   */
+  @Transactional
+  public Optional<IndexTask> claimNextTask() {
+    return definitionRepository
+        .claimByStatus(EnumSet.of(PayloadIndexStatus.PENDING, PayloadIndexStatus.DROPPING), Limit.of(1))
+        .stream()
+        .findFirst()
+        .map(definition -> {
+          boolean drop = definition.getStatus() == PayloadIndexStatus.DROPPING;
+          if (!drop) {
+            definition.markBuilding();
+          }
+          return toTask(definition, drop);
+        });
+  }
+
+  /**
+   * Builds that have been BUILDING for longer than the timeout.
+   */
+  @Transactional(readOnly = true)
+  public List<IndexTask> findStaleBuilds() {
+    return definitionRepository
+        .findStale(PayloadIndexStatus.BUILDING, OffsetDateTime.now().minus(buildTimeout)).stream()
+        .map(definition -> toTask(definition, false))
+        .toList();
+  }
+
+  @Transactional
+  public void markReady(UUID definitionId) {
+    definitionRepository.findById(definitionId).ifPresent(PayloadIndexDefinition::markReady);
+  }
+
+  @Transactional
+  public void markFailed(UUID definitionId, String errorMessage) {
+    definitionRepository.findById(definitionId).ifPresent(definition -> definition.markFailed(errorMessage));
+  }
+
+  @Transactional
+  public void markPending(UUID definitionId) {
+    definitionRepository.findById(definitionId).ifPresent(PayloadIndexDefinition::markPending);
+  }
+
+  @Transactional
+  public void delete(UUID definitionId) {
+    definitionRepository.deleteById(definitionId);
+  }
+
+  /**
+   * Splits and validates a dot-separated payload path.
+   */
+  public static List<String> parsePath(String path) {
+    List<String> segments = Arrays.asList(path.trim().split("\\.", -1));
+    if (segments.size() > MAX_PATH_DEPTH) {
+      throw new IllegalArgumentException("Payload path is deeper than " + MAX_PATH_DEPTH + " levels: " + path);
+    }
+    for (String segment : segments) {
+      if (!segment.matches("[A-Za-z0-9_-]{1,64}")) {
+        throw new IllegalArgumentException(
+            "Invalid payload path '" + path + "': segments may only contain letters, digits, '_' and '-'");
+      }
+    }
+    return segments;
+  }
+
+  /**
+   * Deterministic index name (PostgreSQL identifiers are limited to 63 bytes).
+   */
+  static String indexName(UUID typeId, PayloadIndexKind kind, String path) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest((typeId + "|" + kind + "|" + (path == null ? "" : path)).getBytes(StandardCharsets.UTF_8));
+      return "idx_payload_" + HexFormat.of().formatHex(digest, 0, 8);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not available", ex);
+    }
+  }
+
+  private IndexTask toTask(PayloadIndexDefinition definition, boolean drop) {
+    List<String> path = definition.getPath() == null ? List.of() : parsePath(definition.getPath());
+    return new IndexTask(definition.getId(), definition.getIndexName(), definition.getType().getId(),
+        definition.getKind(), path, drop);
+  }
+
+  private PayloadIndexDefinitionResponse toResponse(PayloadIndexDefinition definition) {
+    return new PayloadIndexDefinitionResponse(
+        definition.getId(),
+        definition.getType().getId(),
+        definition.getKind(),
+        definition.getPath(),
+        definition.getIndexName(),
+        definition.getStatus(),
+        definition.getErrorMessage(),
+        definition.getCreatedAt(),
+        definition.getUpdatedAt());
+  }
+
+  /**
+   * Detached snapshot of a definition for the index builder.
+   */
+  public record IndexTask(UUID definitionId, String indexName, UUID typeId, PayloadIndexKind kind,
+      List<String> path, boolean drop) {
+  }
+}
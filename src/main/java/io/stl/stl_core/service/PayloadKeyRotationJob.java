@@ -0,0 +1,38 @@
+package io.stl.stl_core.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly re-encryption of payloads still under a retired data key.
+ */
+@Component
+public class PayloadKeyRotationJob {
+
+  private static final Logger log = LoggerFactory.getLogger(PayloadKeyRotationJob.class);
+
+  private final PayloadKeyRotationService rotationService;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  public PayloadKeyRotationJob(PayloadKeyRotationService rotationService) {
+    this.rotationService = rotationService;
+  }
+
+  @Scheduled(cron = "${stl.encryption.rotation-cron:0 0 3 * * *}", zone = "UTC")
+  public void rotate() {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      rotationService.rotate();
+    } catch (RuntimeException ex) {
+      log.error("Payload key rotation failed", ex);
+    } finally {
+      running.set(false);
+    }
+  }
+}
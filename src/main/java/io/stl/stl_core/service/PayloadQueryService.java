@@ -0,0 +1,142 @@
+package io.stl.stl_core.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.model.entity.PayloadIndexDefinition;
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.projection.TransactionSummary;
+import io.stl.stl_core.repository.TransactionPayloadQueryRepository;
+import io.stl.stl_core.repository.TransactionSummaryRepository;
+import io.stl.stl_core.service.TransactionValidationService.TransactionValidationException;
+import io.stl.stl_core.service.dto.request.PayloadQueryRequest;
+
+/**
+ * Service for payload queries (QUERY - read-only).
+ *
+ * Only filters backed by a READY payload index of the transaction type are
+ * accepted; anything else would scan every transaction of the type and is
+ * rejected up front instead of degrading the database for everyone.
+ */
+@Service
+public class PayloadQueryService {
+
+  public static final int DEFAULT_LIMIT = 100;
+
+  /** Queries matching more rows than this are rejected as too broad. */
+  public static final int MAX_MATCHES = 10_000;
+
+  private final PayloadIndexService payloadIndexService;
+  private final TransactionPayloadQueryRepository payloadQueryRepository;
+  private final TransactionSummaryRepository summaryRepository;
+  private final PayloadService payloadService;
+  private final ObjectMapper objectMapper;
+
+  public PayloadQueryService(PayloadIndexService payloadIndexService,
+      TransactionPayloadQueryRepository payloadQueryRepository,
+      TransactionSummaryRepository summaryRepository,
+      PayloadService payloadService,
+      ObjectMapper objectMapper) {
+    this.payloadIndexService = payloadIndexService;
+    this.payloadQueryRepository = payloadQueryRepository;
+    this.summaryRepository = summaryRepository;
+    this.payloadService = payloadService;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Finds transactions of one type by payload content, newest first.
+   * Returns summaries; payloads are loaded only if the caller asks for them.
+   *
+   * @param fields Response fields; only their columns are read
+   */
+  @Transactional(readOnly = true)
+  public List<TransactionSummary> query(PayloadQueryRequest request, Set<TransactionField> fields) {
+    boolean hasEquals = request.getEquals() != null && !request.getEquals().isEmpty();
+    boolean hasContains = request.getContains() != null && !request.getContains().isEmpty();
+    if (!hasEquals && !hasContains) {
+      throw new TransactionValidationException("PAYLOAD_FILTER_REQUIRED",
+          "At least one payload filter (equals or contains) is required");
+    }
+    if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+      throw new IllegalArgumentException("from must be before to");
+    }
+
+    if (payloadService.isBinaryType(request.getTypeId())) {
+      // New rows of the type have no JSONB payload, the indexes would miss them
+      throw new TransactionValidationException("PAYLOAD_QUERY_UNSUPPORTED",
+          "Transactions of this type store binary payloads, which cannot be queried");
+    }
+
+    List<PayloadIndexDefinition> ready = payloadIndexService.findReady(request.getTypeId());
+    Set<String> indexedPaths = ready.stream()
+        .filter(definition -> definition.getKind() == PayloadIndexKind.PATH_EQUALITY)
+        .map(PayloadIndexDefinition::getPath)
+        .collect(Collectors.toSet());
+    boolean containmentIndexed = ready.stream()
+        .anyMatch(definition -> definition.getKind() == PayloadIndexKind.CONTAINMENT);
+
+    Map<List<String>, String> pathEquals = new LinkedHashMap<>();
+    if (hasEquals) {
+      for (Map.Entry<String, String> filter : request.getEquals().entrySet()) {
+        List<String> segments = PayloadIndexService.parsePath(filter.getKey());
+        if (!indexedPaths.contains(String.join(".", segments))) {
+          throw notIndexed("equality on '" + filter.getKey() + "'");
+        }
+        if (filter.getValue() == null) {
+          throw new IllegalArgumentException("Value for '" + filter.getKey() + "' must not be null");
+        }
+        pathEquals.put(segments, filter.getValue());
+      }
+    }
+
+    String containsJson = null;
+    if (hasContains) {
+      if (!containmentIndexed) {
+        throw notIndexed("containment");
+      }
+      containsJson = toJson(request.getContains());
+    }
+
+    List<UUID> ids = payloadQueryRepository.findMatchingIds(request.getTypeId(), pathEquals, containsJson,
+        request.getFrom(), request.getTo(), MAX_MATCHES);
+    if (ids.size() > MAX_MATCHES) {
+      throw new TransactionValidationException("PAYLOAD_QUERY_TOO_BROAD",
+          "Payload query matches more than " + MAX_MATCHES + " transactions - add filters or narrow the range");
+    }
+
+    int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+    List<UUID> page = ids.subList(0, Math.min(limit, ids.size()));
+
+    Map<UUID, TransactionSummary> byId = summaryRepository.findByIdIn(fields, page).stream()
+        .collect(Collectors.toMap(TransactionSummary::getId, summary -> summary));
+    return page.stream()
+        .map(byId::get)
+        .toList();
+  }
+
+  private TransactionValidationException notIndexed(String filter) {
+    return new TransactionValidationException("PAYLOAD_QUERY_NOT_INDEXED",
+        "No READY payload index for " + filter + " on this transaction type; "
+            + "the query would require a sequential scan");
+  }
+
+  private String toJson(Map<String, Object> document) {
+    try {
+      return objectMapper.writeValueAsString(document);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Invalid contains document", ex);
+    }
+  }
+}
@@ -0,0 +1,299 @@
+package io.stl.stl_core.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.stl.stl_core.model.entity.PayloadKey;
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.entity.TransactionType;
+import io.stl.stl_core.model.projection.TransactionPayloadRow;
+import io.stl.stl_core.repository.PayloadKeyRepository;
+import io.stl.stl_core.repository.TransactionRepository;
+import io.stl.stl_core.repository.TransactionTypeRepository;
+import io.stl.stl_core.security.crypto.PayloadCipher;
+
+/**
+ * Service for transaction payload storage.
+ *
+ * Payloads are stored either as JSONB (default, queryable through payload
+ * indexes) or, for the types listed in stl.payload.binary-types, as CBOR with
+ * dictionary-coded keys (see PayloadCodec). Entities keep the raw column
+ * value; it is decoded only when a caller asks for the payload, so reads
+ * that do not return payloads never parse them. List views do not load the
+ * columns at all (TransactionSummary) and fetch payloads through
+ * getPayloads only when asked to.
+ *
+ * Types listed in stl.encryption.payload-types are stored encrypted in
+ * payload_bin (AES-GCM envelope, see PayloadCipher) around either encoding:
+ * CBOR when the type is also binary, JSON text otherwise. They are decrypted
+ * on the same lazy path, a page at a time in getPayloads.
+ */
+@Service
+public class PayloadService {
+
+  private static final Logger log = LoggerFactory.getLogger(PayloadService.class);
+
+  private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+  };
+
+  /** Ids per payload query; payloads can be large, so batches stay small. */
+  private static final int BATCH_SIZE = 200;
+
+  private final PayloadKeyRepository keyRepository;
+  private final TransactionRepository transactionRepository;
+  private final TransactionTypeRepository transactionTypeRepository;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader mapReader;
+  private final TransactionTemplate keyTransaction;
+  private final PayloadCipher cipher;
+  private final Set<String> binaryTypes;
+  private final Set<String> encryptedTypes;
+  private final int maxKeys;
+  private final int maxKeyLength;
+
+  // Key dictionary cache; ids are never reassigned, so entries never go stale
+  private final Map<String, Integer> keyIds = new ConcurrentHashMap<>();
+  private final Map<Integer, String> keyNames = new ConcurrentHashMap<>();
+  private volatile boolean dictionaryLoaded;
+
+  public PayloadService(PayloadKeyRepository keyRepository,
+      TransactionRepository transactionRepository,
+      TransactionTypeRepository transactionTypeRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      PayloadCipher cipher,
+      @Value("${stl.payload.binary-types:}") Set<String> binaryTypes,
+      @Value("${stl.encryption.payload-types:}") Set<String> encryptedTypes,
+      @Value("${stl.payload.dictionary.max-keys:65536}") int maxKeys,
+      @Value("${stl.payload.dictionary.max-key-length:128}") int maxKeyLength) {
+    this.keyRepository = keyRepository;
+    this.transactionRepository = transactionRepository;
+    this.transactionTypeRepository = transactionTypeRepository;
+    this.objectMapper = objectMapper;
+    this.mapReader = objectMapper.readerFor(MAP_TYPE);
+    this.cipher = cipher;
+    this.binaryTypes = Set.copyOf(binaryTypes);
+    this.encryptedTypes = Set.copyOf(encryptedTypes);
+    if (!this.encryptedTypes.isEmpty() && !cipher.isConfigured()) {
+      throw new IllegalStateException("stl.encryption.payload-types is set but no encryption key is configured");
+    }
+    this.maxKeys = maxKeys;
+    this.maxKeyLength = maxKeyLength;
+
+    // New keys are committed on their own: an id already used by an encoded
+    // payload must survive a rollback of the transaction that introduced it
+    this.keyTransaction = new TransactionTemplate(transactionManager);
+    this.keyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Whether new transactions of a type store their payload in payload_bin
+   * (CBOR or encrypted), where payload indexes and queries cannot reach it.
+   */
+  public boolean isBinaryType(TransactionType type) {
+    return binaryTypes.contains(type.getName()) || encryptedTypes.contains(type.getName());
+  }
+
+  public boolean isBinaryType(UUID typeId) {
+    return (!binaryTypes.isEmpty() || !encryptedTypes.isEmpty()) && transactionTypeRepository.findById(typeId)
+        .map(this::isBinaryType)
+        .orElse(false);
+  }
+
+  /**
+   * Encodes a payload for storage in the format of its transaction type.
+   * Falls back to JSONB when a key cannot go into the dictionary (too long,
+   * or dictionary full); encrypted types then encrypt the JSON text.
+   */
+  public EncodedPayload encode(TransactionType type, Map<String, Object> payload) {
+    if (payload == null) {
+      return new EncodedPayload(null, null);
+    }
+    byte[] binary = null;
+    if (binaryTypes.contains(type.getName())) {
+      Set<String> keys = new HashSet<>();
+      PayloadCodec.collectKeys(payload, keys);
+      if (ensureKeys(keys)) {
+        binary = PayloadCodec.encode(payload, keyIds::get);
+      }
+    }
+    if (encryptedTypes.contains(type.getName())) {
+      byte[] plaintext = binary != null ? binary : toJson(payload).getBytes(StandardCharsets.UTF_8);
+      return new EncodedPayload(null, cipher.encrypt(plaintext));
+    }
+    return binary != null ? new EncodedPayload(null, binary) : new EncodedPayload(toJson(payload), null);
+  }
+
+  /**
+   * Decodes the payload of a transaction (null when it has none).
+   */
+  public Map<String, Object> getPayload(Transaction transaction) {
+    return decode(transaction.getPayloadJson(), transaction.getPayloadBin());
+  }
+
+  /**
+   * Loads and decodes the payloads of several live transactions. Transactions
+   * without a payload are missing from the result. Encrypted payloads are
+   * decrypted a batch at a time.
+   */
+  public Map<UUID, Map<String, Object>> getPayloads(List<UUID> transactionIds) {
+    Map<UUID, Map<String, Object>> payloads = new HashMap<>(transactionIds.size() * 2);
+    for (int from = 0; from < transactionIds.size(); from += BATCH_SIZE) {
+      List<UUID> batch = transactionIds.subList(from, Math.min(from + BATCH_SIZE, transactionIds.size()));
+      List<UUID> encryptedIds = new ArrayList<>();
+      List<byte[]> envelopes = new ArrayList<>();
+      for (TransactionPayloadRow row : transactionRepository.findPayloadsByIdIn(new ArrayList<>(batch))) {
+        if (PayloadCipher.isEncrypted(row.getPayloadBin())) {
+          encryptedIds.add(row.getId());
+          envelopes.add(row.getPayloadBin());
+          continue;
+        }
+        Map<String, Object> payload = decode(row.getPayloadJson(), row.getPayloadBin());
+        if (payload != null) {
+          payloads.put(row.getId(), payload);
+        }
+      }
+      if (!envelopes.isEmpty()) {
+        List<byte[]> plaintexts = cipher.decryptAll(envelopes);
+        for (int i = 0; i < plaintexts.size(); i++) {
+          payloads.put(encryptedIds.get(i), decodePlaintext(plaintexts.get(i)));
+        }
+      }
+    }
+    return payloads;
+  }
+
+  /**
+   * Decodes a stored payload from either column.
+   */
+  public Map<String, Object> decode(String json, byte[] binary) {
+    if (binary != null) {
+      return PayloadCipher.isEncrypted(binary)
+          ? decodePlaintext(cipher.decrypt(binary))
+          : PayloadCodec.decode(binary, this::keyName);
+    }
+    if (json == null) {
+      return null;
+    }
+    try {
+      return mapReader.readValue(json);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unreadable payload", ex);
+    }
+  }
+
+  /**
+   * Renders a binary payload as JSON text.
+   */
+  public String binaryToJson(byte[] binary) {
+    if (PayloadCipher.isEncrypted(binary)) {
+      byte[] plaintext = cipher.decrypt(binary);
+      return plaintext[0] == PayloadCodec.VERSION
+          ? toJson(PayloadCodec.decode(plaintext, this::keyName))
+          : new String(plaintext, StandardCharsets.UTF_8);
+    }
+    return toJson(PayloadCodec.decode(binary, this::keyName));
+  }
+
+  // An encrypted payload holds either CBOR (version byte) or JSON text ('{')
+  private Map<String, Object> decodePlaintext(byte[] plaintext) {
+    if (plaintext[0] == PayloadCodec.VERSION) {
+      return PayloadCodec.decode(plaintext, this::keyName);
+    }
+    try {
+      return mapReader.readValue(plaintext);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unreadable payload", ex);
+    }
+  }
+
+  private String toJson(Map<String, Object> payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Payload cannot be serialized", ex);
+    }
+  }
+
+  // ============================================================
+  // Key dictionary
+  // ============================================================
+
+  private boolean ensureKeys(Set<String> keys) {
+    loadDictionary();
+    List<String> missing = keys.stream().filter(key -> !keyIds.containsKey(key)).toList();
+    if (missing.isEmpty()) {
+      return true;
+    }
+    if (keyIds.size() + missing.size() > maxKeys
+        || missing.stream().anyMatch(key -> key.length() > maxKeyLength)) {
+      log.debug("Payload keys not added to the dictionary, storing JSONB: {}", missing);
+      return false;
+    }
+
+    List<PayloadKey> added = keyTransaction.execute(tx -> {
+      keyRepository.insertMissing(missing.toArray(String[]::new));
+      return keyRepository.findByNameIn(missing);
+    });
+    added.forEach(this::cache);
+    return true;
+  }
+
+  private String keyName(int id) {
+    String name = keyNames.get(id);
+    if (name == null) {
+      // Added by another node since the dictionary was loaded
+      name = keyRepository.findById(id)
+          .map(this::cache)
+          .orElseThrow(() -> new IllegalStateException("Unknown payload key id: " + id));
+    }
+    return name;
+  }
+
+  private void loadDictionary() {
+    if (dictionaryLoaded) {
+      return;
+    }
+    synchronized (this) {
+      if (!dictionaryLoaded) {
+        keyRepository.findAll().forEach(this::cache);
+        dictionaryLoaded = true;
+        log.info("Payload key dictionary loaded: keys={}", keyIds.size());
+      }
+    }
+  }
+
+  private String cache(PayloadKey key) {
+    keyIds.put(key.getName(), key.getId());
+    keyNames.put(key.getId(), key.getName());
+    return key.getName();
+  }
+
+  /**
+   * A payload ready for storage; at most one of the two is set.
+   */
+  public record EncodedPayload(String json, byte[] binary) {
+  }
+}
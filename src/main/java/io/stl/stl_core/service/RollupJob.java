@@ -0,0 +1,63 @@
+package io.stl.stl_core.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.stl.stl_core.model.enums.RollupGranularity;
+
+/**
+ * Background jobs for reporting rollups: drain the event queue, recompute
+ * recently closed days as a safety net, and apply minute-bucket retention.
+ */
+@Component
+public class RollupJob {
+
+  private static final Logger log = LoggerFactory.getLogger(RollupJob.class);
+
+  /** Upper bound of batches per run so one run never starves the scheduler. */
+  static final int MAX_BATCHES_PER_RUN = 20;
+
+  private final RollupService rollupService;
+  private final Duration correctionWindow;
+
+  public RollupJob(RollupService rollupService,
+      @Value("${stl.rollup.correction-window:P1D}") Duration correctionWindow) {
+    this.rollupService = rollupService;
+    this.correctionWindow = correctionWindow;
+  }
+
+  @Scheduled(fixedDelayString = "${stl.rollup.apply-interval:PT5S}")
+  public void applyPending() {
+    for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+      int rows = rollupService.applyPendingBatch();
+      if (rows <= 0) {
+        return; // Queue empty or another node is draining it
+      }
+    }
+    log.debug("Rollup worker hit batch limit, pending={}", rollupService.countPendingEvents());
+  }
+
+  /**
+   * Recomputes the closed UTC days inside the correction window, then drops
+   * expired minute buckets.
+   */
+  @Scheduled(cron = "${stl.rollup.correction-cron:0 15 0 * * *}", zone = "UTC")
+  public void correct() {
+    OffsetDateTime today = RollupGranularity.DAY.truncate(OffsetDateTime.now(ZoneOffset.UTC));
+    try {
+      rollupService.recompute(today.minus(correctionWindow), today);
+    } catch (IllegalStateException ex) {
+      log.info("Rollup correction skipped: {}", ex.getMessage());
+    }
+
+    int purged = rollupService.purgeExpiredMinuteBuckets();
+    log.info("Rollup retention: purged {} minute buckets", purged);
+  }
+}
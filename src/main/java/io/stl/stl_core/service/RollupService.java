@@ -0,0 +1,179 @@
+package io.stl.stl_core.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.entity.TransactionRollupEvent;
+import io.stl.stl_core.model.enums.RollupGranularity;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.RollupReportRow;
+import io.stl.stl_core.repository.ArchivePeriodRepository;
+import io.stl.stl_core.repository.TransactionRollupEventRepository;
+import io.stl.stl_core.repository.TransactionRollupRepository;
+import io.stl.stl_core.service.dto.response.TransactionRollupResponse;
+
+/**
+ * Service for reporting rollups (minute, hour and day buckets).
+ *
+ * Every status change enqueues a rollup event in the same database
+ * transaction; the rollup worker drains the queue in batches. Late events
+ * (e.g. a refund days after creation) simply update the older bucket they
+ * belong to. recompute() rebuilds a range from the source tables to repair
+ * any drift.
+ */
+@Service
+public class RollupService {
+
+  private static final Logger log = LoggerFactory.getLogger(RollupService.class);
+
+  /** Advisory lock key shared by every node that writes rollups. */
+  static final long ROLLUP_LOCK_KEY = 0x53544C524F4CL; // "STLROL"
+
+  public static final int MAX_REPORT_ROWS = 10_000;
+
+  private final TransactionRollupRepository rollupRepository;
+  private final TransactionRollupEventRepository eventRepository;
+  private final ArchivePeriodRepository archivePeriodRepository;
+  private final int batchSize;
+  private final Duration minuteRetention;
+
+  public RollupService(TransactionRollupRepository rollupRepository,
+      TransactionRollupEventRepository eventRepository,
+      ArchivePeriodRepository archivePeriodRepository,
+      @Value("${stl.rollup.batch-size:5000}") int batchSize,
+      @Value("${stl.rollup.minute-retention:P7D}") Duration minuteRetention) {
+    this.rollupRepository = rollupRepository;
+    this.eventRepository = eventRepository;
+    this.archivePeriodRepository = archivePeriodRepository;
+    this.batchSize = batchSize;
+    this.minuteRetention = minuteRetention;
+  }
+
+  /**
+   * Enqueues a status change for the rollups (COMMAND).
+   * Must run inside the transaction that appends the status history entry.
+   *
+   * @param previousStatus Status being left, or null for the initial status
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordStatusChange(Transaction transaction, TransactionStatus previousStatus,
+      TransactionStatus status) {
+    eventRepository.save(new TransactionRollupEvent(transaction, previousStatus, status));
+  }
+
+  /**
+   * Applies one batch of pending events (COMMAND).
+   *
+   * @return Number of rollup rows upserted, 0 when the queue is empty, -1 when
+   *         another node holds the rollup lock
+   */
+  @Transactional
+  public int applyPendingBatch() {
+    if (!rollupRepository.tryAdvisoryLock(ROLLUP_LOCK_KEY)) {
+      return -1;
+    }
+    return rollupRepository.applyPendingEvents(batchSize);
+  }
+
+  /**
+   * Recomputes all buckets for transactions created in [from, to), widened to
+   * whole UTC days (COMMAND).
+   * Runs on a single snapshot (REPEATABLE READ): pending events already
+   * reflected in that snapshot are discarded, later ones are applied by the
+   * worker on top of the recomputed buckets.
+   *
+   * @return Number of rollup rows written
+   */
+  @Transactional(isolation = Isolation.REPEATABLE_READ)
+  public int recompute(OffsetDateTime from, OffsetDateTime to) {
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("from must be before to");
+    }
+    if (!rollupRepository.tryAdvisoryLock(ROLLUP_LOCK_KEY)) {
+      throw new IllegalStateException("Rollups are being updated, retry later");
+    }
+
+    OffsetDateTime start = RollupGranularity.DAY.truncate(from);
+    OffsetDateTime end = RollupGranularity.DAY.truncate(to);
+    if (end.isBefore(to)) {
+      end = end.plusDays(1);
+    }
+    if (archivePeriodRepository.existsOverlapping(start, end)) {
+      // The source rows are gone; recomputing would wipe the archived buckets
+      throw new IllegalArgumentException("Range overlaps archived periods, their rollups can no longer be recomputed");
+    }
+
+    rollupRepository.deleteBuckets(start, end);
+    int discarded = eventRepository.deleteForTransactionsCreatedBetween(start, end);
+    int written = rollupRepository.recompute(start, end);
+
+    log.info("Rollups recomputed: from={}, to={}, rows={}, discardedEvents={}", start, end, written, discarded);
+    return written;
+  }
+
+  /**
+   * Drops minute buckets older than the retention period (COMMAND).
+   */
+  @Transactional
+  public int purgeExpiredMinuteBuckets() {
+    OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minus(minuteRetention);
+    return rollupRepository.deleteOlderThan(RollupGranularity.MINUTE, cutoff);
+  }
+
+  /**
+   * Number of status changes not yet applied (QUERY - read-only).
+   */
+  @Transactional(readOnly = true)
+  public long countPendingEvents() {
+    return eventRepository.countPending();
+  }
+
+  /**
+   * Reads a report from the rollups (QUERY - read-only).
+   * Buckets starting in [from, to); filters are optional.
+   */
+  @Transactional(readOnly = true)
+  public List<TransactionRollupResponse> getReport(RollupGranularity granularity, OffsetDateTime from,
+      OffsetDateTime to, String currencyCode, UUID typeId, TransactionStatus status) {
+
+    if (!from.isBefore(to)) {
+      throw new IllegalArgumentException("from must be before to");
+    }
+    if (Duration.between(from, to).compareTo(granularity.getMaxQueryRange()) > 0) {
+      throw new IllegalArgumentException("Range too large for " + granularity
+          + " buckets (max " + granularity.getMaxQueryRange().toDays() + " days)");
+    }
+
+    List<RollupReportRow> rows = rollupRepository.findReport(granularity, granularity.truncate(from), to,
+        currencyCode, typeId, status, Limit.of(MAX_REPORT_ROWS + 1));
+
+    if (rows.size() > MAX_REPORT_ROWS) {
+      throw new IllegalArgumentException("Report exceeds " + MAX_REPORT_ROWS
+          + " rows - narrow the range, use a coarser granularity or add filters");
+    }
+
+    return rows.stream()
+        .map(row -> new TransactionRollupResponse(
+            row.getBucketStart(),
+            row.getCurrencyCode(),
+            row.getTypeId(),
+            row.getTypeName(),
+            row.getStatus(),
+            row.getTransactionCount(),
+            row.getAmountTotal()))
+        .toList();
+  }
+}
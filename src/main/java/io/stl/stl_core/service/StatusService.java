@@ -1,6 +1,10 @@
 package io.stl.stl_core.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -8,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 import io.stl.stl_core.model.entity.Transaction;
 import io.stl.stl_core.model.entity.TransactionStatusHistory;
 import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.LatestStatus;
+import io.stl.stl_core.observability.jfr.StatusTransitionEvent;
+import io.stl.stl_core.repository.TransactionRepository;
 import io.stl.stl_core.repository.TransactionStatusHistoryRepository;
 
 /**
@@ -17,10 +24,19 @@ import io.stl.stl_core.repository.TransactionStatusHistoryRepository;
 @Service
 public class StatusService {
 
+  /** Ids per batched status query (keeps IN lists well below bind limits). */
+  static final int BATCH_SIZE = 1000;
+
   private final TransactionStatusHistoryRepository statusRepository;
+  private final TransactionRepository transactionRepository;
+  private final RollupService rollupService;
 
-  public StatusService(TransactionStatusHistoryRepository statusRepository) {
+  public StatusService(TransactionStatusHistoryRepository statusRepository,
+      TransactionRepository transactionRepository,
+      RollupService rollupService) {
     this.statusRepository = statusRepository;
+    this.transactionRepository = transactionRepository;
+    this.rollupService = rollupService;
   }
 
   /**
@@ -28,7 +44,11 @@ public class StatusService {
    */
   @Transactional
   public TransactionStatusHistory setInitialStatus(Transaction transaction, String reason) {
-    return addStatusHistory(transaction, TransactionStatus.PENDING, reason);
+    StatusTransitionEvent event = new StatusTransitionEvent();
+    event.begin();
+    TransactionStatusHistory history = addStatusHistory(transaction, null, TransactionStatus.PENDING, reason);
+    commitEvent(event, transaction, null, TransactionStatus.PENDING);
+    return history;
   }
 
   /**
@@ -40,11 +60,22 @@ public class StatusService {
       TransactionStatus newStatus,
       String reason) {
 
+    StatusTransitionEvent event = new StatusTransitionEvent();
+    event.begin();
+
+    // Serialize status changes per transaction so the previous status read
+    // here is still current at commit (rollups move counts from it)
+    if (transaction.isArchived() || transactionRepository.lockById(transaction.getId()).isEmpty()) {
+      throw new IllegalStateException("Transaction is archived and can no longer change status");
+    }
+
     // Validate status transition
     TransactionStatus currentStatus = getCurrentStatus(transaction);
     validateStatusTransition(currentStatus, newStatus);
 
-    return addStatusHistory(transaction, newStatus, reason);
+    TransactionStatusHistory history = addStatusHistory(transaction, currentStatus, newStatus, reason);
+    commitEvent(event, transaction, currentStatus, newStatus);
+    return history;
   }
 
   /**
@@ -52,11 +83,33 @@ public class StatusService {
    */
   @Transactional(readOnly = true)
   public TransactionStatus getCurrentStatus(Transaction transaction) {
+    if (transaction.isArchived()) {
+      return transaction.getArchivedStatus() != null ? transaction.getArchivedStatus() : TransactionStatus.PENDING;
+    }
     return statusRepository.findLatestByTransactionId(transaction.getId())
         .map(TransactionStatusHistory::getStatus)
         .orElse(TransactionStatus.PENDING); // Default if no history exists
   }
 
+  /**
+   * Gets the current status of several live transactions with one query per
+   * batch of ids. Transactions without history are PENDING.
+   */
+  @Transactional(readOnly = true)
+  public Map<UUID, TransactionStatus> getCurrentStatuses(List<UUID> transactionIds) {
+    Map<UUID, TransactionStatus> statuses = new HashMap<>(transactionIds.size() * 2);
+    for (int from = 0; from < transactionIds.size(); from += BATCH_SIZE) {
+      List<UUID> batch = transactionIds.subList(from, Math.min(from + BATCH_SIZE, transactionIds.size()));
+      for (LatestStatus latest : statusRepository.findLatestByTransactionIdIn(new ArrayList<>(batch))) {
+        statuses.put(latest.getTransactionId(), latest.getStatus());
+      }
+    }
+    for (UUID id : transactionIds) {
+      statuses.putIfAbsent(id, TransactionStatus.PENDING);
+    }
+    return statuses;
+  }
+
   /**
    * Gets all status history for a transaction (ordered by time).
    */
@@ -84,9 +137,11 @@ public class StatusService {
   }
 
   /**
-   * Creates a new status history entry (append-only).
+   * Creates a new status history entry (append-only) and enqueues it for the
+   * reporting rollups.
    */
   private TransactionStatusHistory addStatusHistory(Transaction transaction,
+      TransactionStatus previousStatus,
       TransactionStatus status,
       String reason) {
     TransactionStatusHistory history = new TransactionStatusHistory(
@@ -94,6 +149,22 @@ public class StatusService {
         status,
         reason);
 
-    return statusRepository.save(history);
+    TransactionStatusHistory saved = statusRepository.save(history);
+    rollupService.recordStatusChange(transaction, previousStatus, status);
+    return saved;
+  }
+
+  /**
+   * Records a slow status change for Flight Recorder.
+   */
+  private static void commitEvent(StatusTransitionEvent event, Transaction transaction,
+      TransactionStatus previousStatus, TransactionStatus status) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.transactionId = String.valueOf(transaction.getId());
+      event.fromStatus = previousStatus != null ? previousStatus.name() : null;
+      event.toStatus = status.name();
+      event.commit();
+    }
   }
 }
@@ -0,0 +1,174 @@
+package io.stl.stl_core.service;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.TransactionSummary;
+import io.stl.stl_core.repository.ParticipantRepository;
+import io.stl.stl_core.repository.TransactionAuditRepository;
+import io.stl.stl_core.repository.TransactionLockRepository;
+import io.stl.stl_core.repository.TransactionStatusHistoryRepository;
+import io.stl.stl_core.repository.TransactionSummaryRepository;
+import io.stl.stl_core.service.dto.response.ArchivedTransactionResponse;
+import io.stl.stl_core.service.dto.response.AuditEntryResponse;
+import io.stl.stl_core.service.dto.response.ParticipantResponse;
+import io.stl.stl_core.service.dto.response.StatusChangeResponse;
+import io.stl.stl_core.service.dto.response.TransactionDetailResponse;
+import io.stl.stl_core.service.dto.response.TransactionLockResponse;
+import io.stl.stl_core.service.dto.response.TransactionResponse;
+import io.stl.stl_core.service.mapper.TransactionDetailMapper;
+import io.stl.stl_core.service.mapper.TransactionMapper;
+
+/**
+ * Service for the transaction detail aggregate (QUERY - read-only).
+ *
+ * Loads everything a transaction page shows in one read-only transaction
+ * with a fixed number of queries, whatever the size of the aggregate: the
+ * summary, the payload (only if selected), participants, status history,
+ * active locks and the most recent audit records. The current status is
+ * taken from the loaded history instead of a separate lookup. Archived
+ * transactions are read from their segment in one lookup.
+ *
+ * Audit records are only loaded for callers allowed to read audit logs; for
+ * everyone else recentAudit is null.
+ */
+@Service
+public class TransactionDetailService {
+
+  public static final int DEFAULT_AUDIT_LIMIT = 20;
+  public static final int MAX_AUDIT_LIMIT = 100;
+
+  private final TransactionSummaryRepository summaryRepository;
+  private final ParticipantRepository participantRepository;
+  private final TransactionStatusHistoryRepository statusRepository;
+  private final TransactionLockRepository lockRepository;
+  private final TransactionAuditRepository auditRepository;
+  private final ArchiveService archiveService;
+  private final TransactionMapper transactionMapper;
+  private final TransactionDetailMapper detailMapper;
+
+  public TransactionDetailService(TransactionSummaryRepository summaryRepository,
+      ParticipantRepository participantRepository,
+      TransactionStatusHistoryRepository statusRepository,
+      TransactionLockRepository lockRepository,
+      TransactionAuditRepository auditRepository,
+      ArchiveService archiveService,
+      TransactionMapper transactionMapper,
+      TransactionDetailMapper detailMapper) {
+    this.summaryRepository = summaryRepository;
+    this.participantRepository = participantRepository;
+    this.statusRepository = statusRepository;
+    this.lockRepository = lockRepository;
+    this.auditRepository = auditRepository;
+    this.archiveService = archiveService;
+    this.transactionMapper = transactionMapper;
+    this.detailMapper = detailMapper;
+  }
+
+  /**
+   * Gets the detail aggregate of a live or archived transaction.
+   *
+   * @param fields       Fields of the transaction itself (see TransactionField)
+   * @param auditLimit   Number of most recent audit records, 1 to MAX_AUDIT_LIMIT
+   * @param includeAudit Whether the caller may read audit logs (VIEW_AUDIT_LOGS);
+   *                     when false no audit records are read
+   * @throws IllegalArgumentException if auditLimit is out of range
+   * @throws TransactionService.TransactionNotFoundException if the transaction
+   *                                                         does not exist
+   */
+  @Transactional(readOnly = true)
+  public TransactionDetailResponse getDetail(UUID id, Set<TransactionField> fields, int auditLimit,
+      boolean includeAudit) {
+    if (auditLimit < 1 || auditLimit > MAX_AUDIT_LIMIT) {
+      throw new IllegalArgumentException("auditLimit must be between 1 and " + MAX_AUDIT_LIMIT);
+    }
+
+    // The status comes from the history below, not from a per-row lookup
+    Set<TransactionField> summaryFields = EnumSet.copyOf(fields);
+    summaryFields.remove(TransactionField.CURRENT_STATUS);
+    List<TransactionSummary> summary = summaryRepository.findByIdIn(summaryFields, List.of(id));
+    if (summary.isEmpty()) {
+      return archiveService.findArchivedTransaction(id)
+          .map(archived -> archivedDetail(archived, fields, auditLimit, includeAudit))
+          .orElseThrow(() -> new TransactionService.TransactionNotFoundException("Transaction not found: " + id));
+    }
+
+    List<StatusChangeResponse> statusHistory = statusRepository.findByTransactionId(id).stream()
+        .map(detailMapper::toResponse)
+        .toList();
+    TransactionResponse transaction = transactionMapper.toResponseList(summary, summaryFields).get(0);
+    if (fields.contains(TransactionField.CURRENT_STATUS)) {
+      transaction.setCurrentStatus(statusHistory.isEmpty()
+          ? TransactionStatus.PENDING // Default if no history exists
+          : statusHistory.get(0).getStatus());
+    }
+
+    List<ParticipantResponse> participants = participantRepository.findByTransactionId(id).stream()
+        .map(detailMapper::toResponse)
+        .toList();
+    List<TransactionLockResponse> locks = lockRepository.findActiveLocksByTransactionId(id).stream()
+        .map(detailMapper::toResponse)
+        .toList();
+    List<AuditEntryResponse> audit = !includeAudit ? null
+        : auditRepository.findRecentByTransactionId(id, Limit.of(auditLimit)).stream()
+            .map(detailMapper::toResponse)
+            .toList();
+
+    return new TransactionDetailResponse(transaction, false, participants, statusHistory, locks, audit);
+  }
+
+  private TransactionDetailResponse archivedDetail(ArchivedTransactionResponse archived,
+      Set<TransactionField> fields, int auditLimit, boolean includeAudit) {
+    TransactionResponse transaction = new TransactionResponse();
+    transaction.setId(archived.getId());
+    if (fields.contains(TransactionField.TYPE_NAME)) {
+      transaction.setTypeName(archived.getTypeName());
+    }
+    if (fields.contains(TransactionField.AMOUNT)) {
+      transaction.setAmount(archived.getAmount());
+    }
+    if (fields.contains(TransactionField.CURRENCY_CODE)) {
+      transaction.setCurrencyCode(archived.getCurrencyCode());
+    }
+    if (fields.contains(TransactionField.CURRENT_STATUS)) {
+      transaction.setCurrentStatus(archived.getCurrentStatus());
+    }
+    if (fields.contains(TransactionField.PAYLOAD)) {
+      transaction.setPayload(archived.getPayload());
+    }
+    if (fields.contains(TransactionField.CREATED_AT)) {
+      transaction.setCreatedAt(archived.getCreatedAt());
+    }
+    // The archive does not keep the currency symbol
+
+    List<StatusChangeResponse> statusHistory = detailMapper
+        .fromArchived(archived.getStatusHistory(), StatusChangeResponse.class).stream()
+        .sorted(Comparator.comparing(StatusChangeResponse::getUpdatedAt).reversed())
+        .toList();
+    // Same rule as TransactionLockRepository.findActiveLocksByTransactionId
+    OffsetDateTime now = OffsetDateTime.now();
+    List<TransactionLockResponse> locks = detailMapper
+        .fromArchived(archived.getLocks(), TransactionLockResponse.class).stream()
+        .filter(lock -> lock.getExpiresAt() == null || lock.getExpiresAt().isAfter(now))
+        .toList();
+    List<AuditEntryResponse> audit = !includeAudit ? null
+        : detailMapper.fromArchived(archived.getAudit(), AuditEntryResponse.class).stream()
+            .sorted(Comparator.comparing(AuditEntryResponse::getTimestamp).reversed())
+            .limit(auditLimit)
+            .toList();
+
+    return new TransactionDetailResponse(transaction, true,
+        detailMapper.fromArchived(archived.getParticipants(), ParticipantResponse.class),
+        statusHistory, locks, audit);
+  }
+}
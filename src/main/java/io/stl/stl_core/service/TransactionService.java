@@ -1,6 +1,9 @@
 package io.stl.stl_core.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -11,9 +14,14 @@ import io.stl.stl_core.model.entity.Participant;
 import io.stl.stl_core.model.entity.Transaction;
 import io.stl.stl_core.model.entity.TransactionType;
 import io.stl.stl_core.model.enums.ActorType;
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.projection.TransactionSummary;
+import io.stl.stl_core.observability.TransactionPipelineMetrics;
+import io.stl.stl_core.observability.TransactionPipelineMetrics.Stage;
 import io.stl.stl_core.repository.CurrencyRepository;
 import io.stl.stl_core.repository.ParticipantRepository;
 import io.stl.stl_core.repository.TransactionRepository;
+import io.stl.stl_core.repository.TransactionSummaryRepository;
 import io.stl.stl_core.repository.TransactionTypeRepository;
 import io.stl.stl_core.service.dto.request.ParticipantRequest;
 import io.stl.stl_core.service.dto.request.TransactionCreateRequest;
@@ -32,27 +40,42 @@ import io.stl.stl_core.service.dto.response.TransactionResponse;
 public class TransactionService {
 
   private final TransactionRepository transactionRepository;
+  private final TransactionSummaryRepository summaryRepository;
   private final CurrencyRepository currencyRepository;
   private final TransactionTypeRepository transactionTypeRepository;
   private final ParticipantRepository participantRepository;
   private final TransactionValidationService validationService;
   private final AuditService auditService;
   private final StatusService statusService;
+  private final BalanceService balanceService;
+  private final ArchiveService archiveService;
+  private final PayloadService payloadService;
+  private final TransactionPipelineMetrics pipelineMetrics;
 
   public TransactionService(TransactionRepository transactionRepository,
+      TransactionSummaryRepository summaryRepository,
       CurrencyRepository currencyRepository,
       TransactionTypeRepository transactionTypeRepository,
       ParticipantRepository participantRepository,
       TransactionValidationService validationService,
       AuditService auditService,
-      StatusService statusService) {
+      StatusService statusService,
+      BalanceService balanceService,
+      ArchiveService archiveService,
+      PayloadService payloadService,
+      TransactionPipelineMetrics pipelineMetrics) {
     this.transactionRepository = transactionRepository;
+    this.summaryRepository = summaryRepository;
     this.currencyRepository = currencyRepository;
     this.transactionTypeRepository = transactionTypeRepository;
     this.participantRepository = participantRepository;
     this.validationService = validationService;
     this.auditService = auditService;
     this.statusService = statusService;
+    this.balanceService = balanceService;
+    this.archiveService = archiveService;
+    this.payloadService = payloadService;
+    this.pipelineMetrics = pipelineMetrics;
   }
 
   /**
@@ -69,76 +92,117 @@ public class TransactionService {
       UUID actorId,
       ActorType actorType) {
 
-    // 1. VALIDATE - Check business rules
-    validationService.validateTransactionRequest(request);
+    // Each stage is timed (TransactionPipelineMetrics); inserts are batched
+    // into FLUSH unless flush-per-stage charges each stage its own writes
+    TransactionPipelineMetrics.Recording metrics = pipelineMetrics.start();
+    boolean success = false;
+    try {
+      // 1. VALIDATE - Check business rules
+      validationService.validateTransactionRequest(request);
+      metrics.lap(Stage.VALIDATE);
 
-    // 2. LOAD REFERENCES - Get currency and type
-    Currency currency = currencyRepository.findById(request.getCurrencyCode())
-        .orElseThrow(() -> new IllegalArgumentException("Currency not found"));
+      // 2. LOAD REFERENCES - Get currency and type
+      Currency currency = currencyRepository.findById(request.getCurrencyCode())
+          .orElseThrow(() -> new IllegalArgumentException("Currency not found"));
 
-    TransactionType type = transactionTypeRepository.findById(request.getTypeId())
-        .orElseThrow(() -> new IllegalArgumentException("Transaction type not found"));
+      TransactionType type = transactionTypeRepository.findById(request.getTypeId())
+          .orElseThrow(() -> new IllegalArgumentException("Transaction type not found"));
+      metrics.identify(type.getName(), currency.getCode());
+      metrics.lap(Stage.LOOKUP);
 
-    // 3. CREATE TRANSACTION - Build the entity
-    Transaction transaction = new Transaction(type, request.getAmount(), currency);
+      // 3. CREATE TRANSACTION - Build the entity (payload is optional, stored in
+      // the format of its type)
+      PayloadService.EncodedPayload payload = payloadService.encode(type, request.getPayload());
+      Transaction transaction = new Transaction(type, request.getAmount(), currency, payload.json(),
+          payload.binary());
+      metrics.lap(Stage.PAYLOAD);
 
-    // Set optional payload if provided
-    if (request.getPayload() != null) {
-      // Note: Requires setter or builder on Transaction entity
-      // For now, assuming entity supports this
-    }
+      // TODO Sprint 4: Add previousHash and signature
+      // String previousHash = calculatePreviousHash();
+      // String signature = signTransaction(transaction);
 
-    // TODO Sprint 4: Add previousHash and signature
-    // String previousHash = calculatePreviousHash();
-    // String signature = signTransaction(transaction);
+      // 4. SAVE TRANSACTION - Append-only insert
+      Transaction savedTransaction = transactionRepository.save(transaction);
+      endWriteStage(metrics, Stage.INSERT);
 
-    // 4. SAVE TRANSACTION - Append-only insert
-    Transaction savedTransaction = transactionRepository.save(transaction);
+      // 5. CREATE AUDIT LOG - Record the creation
+      auditService.logTransactionCreation(savedTransaction, actorId, actorType);
+      endWriteStage(metrics, Stage.AUDIT);
 
-    // 5. CREATE AUDIT LOG - Record the creation
-    auditService.logTransactionCreation(savedTransaction, actorId, actorType);
+      // 6. SET INITIAL STATUS - Start as PENDING
+      statusService.setInitialStatus(savedTransaction, "Transaction created");
+      endWriteStage(metrics, Stage.STATUS);
 
-    // 6. SET INITIAL STATUS - Start as PENDING
-    statusService.setInitialStatus(savedTransaction, "Transaction created");
+      // 7. LINK PARTICIPANTS - Create participant relationships
+      linkParticipants(savedTransaction, request.getParticipants());
+      endWriteStage(metrics, Stage.PARTICIPANTS);
 
-    // 7. LINK PARTICIPANTS - Create participant relationships
-    linkParticipants(savedTransaction, request.getParticipants());
+      // Pending inserts (all of them unless flushed per stage) go out in
+      // JDBC batches here rather than in the commit
+      transactionRepository.flush();
+      metrics.lap(Stage.FLUSH);
 
-    return savedTransaction;
+      success = true;
+      return savedTransaction;
+    } finally {
+      metrics.finish(success);
+    }
+  }
+
+  private void endWriteStage(TransactionPipelineMetrics.Recording metrics, Stage stage) {
+    if (pipelineMetrics.isFlushPerStage()) {
+      transactionRepository.flush();
+    }
+    metrics.lap(stage);
   }
 
   /**
    * Gets a transaction by ID (QUERY - read-only).
+   * Falls through to the archive tier for archived transactions, which come
+   * back detached with isArchived() set.
    */
   @Transactional(readOnly = true)
   public Transaction getTransactionById(UUID id) {
     return transactionRepository.findById(id)
+        .or(() -> archiveService.findTransaction(id))
         .orElseThrow(() -> new TransactionNotFoundException("Transaction not found: " + id));
   }
 
   /**
-   * Lists all transactions (QUERY - read-only).
+   * Gets the summary of a live transaction without loading its payload
+   * (QUERY - read-only). Empty for archived or unknown ids.
+   *
+   * @param fields Response fields; only their columns are read
+   */
+  @Transactional(readOnly = true)
+  public Optional<TransactionSummary> findTransactionSummary(UUID id, Set<TransactionField> fields) {
+    return summaryRepository.findByIdIn(fields, List.of(id)).stream().findFirst();
+  }
+
+  /**
+   * Lists all transactions, newest first (QUERY - read-only).
+   * Summaries only; payloads are loaded on request by the mapper.
    * TODO: Add pagination in future iterations.
    */
   @Transactional(readOnly = true)
-  public List<Transaction> getAllTransactions() {
-    return transactionRepository.findAll();
+  public List<TransactionSummary> getAllTransactions(Set<TransactionField> fields) {
+    return summaryRepository.findAll(fields);
   }
 
   /**
    * Gets transactions by type (QUERY - read-only).
    */
   @Transactional(readOnly = true)
-  public List<Transaction> getTransactionsByType(UUID typeId) {
-    return transactionRepository.findByTypeId(typeId);
+  public List<TransactionSummary> getTransactionsByType(UUID typeId, Set<TransactionField> fields) {
+    return summaryRepository.findByTypeId(fields, typeId);
   }
 
   /**
    * Gets transactions by currency (QUERY - read-only).
    */
   @Transactional(readOnly = true)
-  public List<Transaction> getTransactionsByCurrency(String currencyCode) {
-    return transactionRepository.findByCurrencyCode(currencyCode);
+  public List<TransactionSummary> getTransactionsByCurrency(String currencyCode, Set<TransactionField> fields) {
+    return summaryRepository.findByCurrencyCode(fields, currencyCode);
   }
 
   /**
@@ -153,7 +217,7 @@ public class TransactionService {
     response.setCurrencyCode(transaction.getCurrency().getCode());
     response.setCurrencySymbol(transaction.getCurrency().getSymbol());
     response.setCurrentStatus(statusService.getCurrentStatus(transaction));
-    response.setPayload(transaction.getPayload());
+    response.setPayload(payloadService.getPayload(transaction));
     response.setCreatedAt(transaction.getCreatedAt());
 
     return response;
@@ -164,21 +228,21 @@ public class TransactionService {
    * Creates new Participant entities for each participant in the request.
    */
   private void linkParticipants(Transaction transaction, List<ParticipantRequest> participantRequests) {
+    List<Participant> participants = new ArrayList<>(participantRequests.size());
+
     for (ParticipantRequest participantRequest : participantRequests) {
       Participant participant = new Participant(
           transaction,
           participantRequest.getParticipantType(),
           participantRequest.getParticipantId(),
-          participantRequest.getRole());
-
-      // Set amount if provided
-      if (participantRequest.getAmount() != null) {
-        // Note: Requires setter or builder on Participant entity
-        // For now, assuming entity supports this
-      }
+          participantRequest.getRole(),
+          participantRequest.getAmount()); // Optional share, null means full amount
 
-      participantRepository.save(participant);
+      participants.add(participantRepository.save(participant));
     }
+
+    // Keep balance snapshots in step within the same transaction
+    balanceService.applyParticipations(transaction, participants);
   }
 
   /**
@@ -0,0 +1,80 @@
+package io.stl.stl_core.service.dto.request;
+
+import java.time.OffsetDateTime;
+
+import io.stl.stl_core.model.enums.ExportCompression;
+import io.stl.stl_core.model.enums.ExportDataset;
+import io.stl.stl_core.model.enums.ExportFormat;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for a background export of one data set.
+ * Rows are selected on their time column in [from, to). format defaults to
+ * CSV and compression to GZIP.
+ */
+public class ExportRequest {
+
+  @NotNull(message = "Data set is required")
+  private ExportDataset dataset;
+
+  @NotNull(message = "from is required")
+  private OffsetDateTime from;
+
+  @NotNull(message = "to is required")
+  private OffsetDateTime to;
+
+  private ExportFormat format;
+  private ExportCompression compression;
+
+  public ExportRequest() {
+  }
+
+  public ExportRequest(ExportDataset dataset, OffsetDateTime from, OffsetDateTime to, ExportFormat format,
+      ExportCompression compression) {
+    this.dataset = dataset;
+    this.from = from;
+    this.to = to;
+    this.format = format;
+    this.compression = compression;
+  }
+
+  public ExportDataset getDataset() {
+    return dataset;
+  }
+
+  public void setDataset(ExportDataset dataset) {
+    this.dataset = dataset;
+  }
+
+  public OffsetDateTime getFrom() {
+    return from;
+  }
+
+  public void setFrom(OffsetDateTime from) {
+    this.from = from;
+  }
+
+  public OffsetDateTime getTo() {
+    return to;
+  }
+
+  public void setTo(OffsetDateTime to) {
+    this.to = to;
+  }
+
+  public ExportFormat getFormat() {
+    return format;
+  }
+
+  public void setFormat(ExportFormat format) {
+    this.format = format;
+  }
+
+  public ExportCompression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(ExportCompression compression) {
+    this.compression = compression;
+  }
+}
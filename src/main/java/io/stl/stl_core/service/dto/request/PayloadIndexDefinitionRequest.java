@@ -0,0 +1,57 @@
+package io.stl.stl_core.service.dto.request;
+
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for declaring a payload index on a transaction type.
+ * path is required for PATH_EQUALITY (dot-separated, e.g. "order.id") and
+ * must be omitted for CONTAINMENT.
+ */
+public class PayloadIndexDefinitionRequest {
+
+  @NotNull(message = "Transaction type ID is required")
+  private UUID typeId;
+
+  @NotNull(message = "Index kind is required")
+  private PayloadIndexKind kind;
+
+  @Size(max = 512, message = "Path is too long")
+  private String path;
+
+  public PayloadIndexDefinitionRequest() {
+  }
+
+  public PayloadIndexDefinitionRequest(UUID typeId, PayloadIndexKind kind, String path) {
+    this.typeId = typeId;
+    this.kind = kind;
+    this.path = path;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public void setTypeId(UUID typeId) {
+    this.typeId = typeId;
+  }
+
+  public PayloadIndexKind getKind() {
+    return kind;
+  }
+
+  public void setKind(PayloadIndexKind kind) {
+    this.kind = kind;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public void setPath(String path) {
+    this.path = path;
+  }
+}
@@ -0,0 +1,92 @@
+package io.stl.stl_core.service.dto.request;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for a payload query on one transaction type.
+ * equals maps dot-separated payload paths to the expected text value
+ * (numbers and booleans compare by their JSON text, e.g. "42", "true");
+ * contains is matched with JSONB containment (@>).
+ * Every filter must be covered by a READY payload index of the type.
+ */
+public class PayloadQueryRequest {
+
+  @NotNull(message = "Transaction type ID is required")
+  private UUID typeId;
+
+  private Map<String, String> equals;
+  private Map<String, Object> contains;
+  private OffsetDateTime from;
+  private OffsetDateTime to;
+
+  @Min(value = 1, message = "Limit must be at least 1")
+  @Max(value = 500, message = "Limit must be at most 500")
+  private Integer limit;
+
+  public PayloadQueryRequest() {
+  }
+
+  public PayloadQueryRequest(UUID typeId, Map<String, String> equals, Map<String, Object> contains,
+      OffsetDateTime from, OffsetDateTime to, Integer limit) {
+    this.typeId = typeId;
+    this.equals = equals;
+    this.contains = contains;
+    this.from = from;
+    this.to = to;
+    this.limit = limit;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public void setTypeId(UUID typeId) {
+    this.typeId = typeId;
+  }
+
+  public Map<String, String> getEquals() {
+    return equals;
+  }
+
+  public void setEquals(Map<String, String> equals) {
+    this.equals = equals;
+  }
+
+  public Map<String, Object> getContains() {
+    return contains;
+  }
+
+  public void setContains(Map<String, Object> contains) {
+    this.contains = contains;
+  }
+
+  public OffsetDateTime getFrom() {
+    return from;
+  }
+
+  public void setFrom(OffsetDateTime from) {
+    this.from = from;
+  }
+
+  public OffsetDateTime getTo() {
+    return to;
+  }
+
+  public void setTo(OffsetDateTime to) {
+    this.to = to;
+  }
+
+  public Integer getLimit() {
+    return limit;
+  }
+
+  public void setLimit(Integer limit) {
+    this.limit = limit;
+  }
+}
@@ -0,0 +1,88 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for an archived period.
+ */
+public class ArchivePeriodResponse {
+
+  private UUID id;
+  private OffsetDateTime periodStart;
+  private OffsetDateTime periodEnd;
+  private long transactionCount;
+  private long relatedRowCount;
+  private int segmentCount;
+  private OffsetDateTime archivedAt;
+
+  public ArchivePeriodResponse() {
+  }
+
+  public ArchivePeriodResponse(UUID id, OffsetDateTime periodStart, OffsetDateTime periodEnd,
+      long transactionCount, long relatedRowCount, int segmentCount, OffsetDateTime archivedAt) {
+    this.id = id;
+    this.periodStart = periodStart;
+    this.periodEnd = periodEnd;
+    this.transactionCount = transactionCount;
+    this.relatedRowCount = relatedRowCount;
+    this.segmentCount = segmentCount;
+    this.archivedAt = archivedAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public OffsetDateTime getPeriodStart() {
+    return periodStart;
+  }
+
+  public void setPeriodStart(OffsetDateTime periodStart) {
+    this.periodStart = periodStart;
+  }
+
+  public OffsetDateTime getPeriodEnd() {
+    return periodEnd;
+  }
+
+  public void setPeriodEnd(OffsetDateTime periodEnd) {
+    this.periodEnd = periodEnd;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public void setTransactionCount(long transactionCount) {
+    this.transactionCount = transactionCount;
+  }
+
+  public long getRelatedRowCount() {
+    return relatedRowCount;
+  }
+
+  public void setRelatedRowCount(long relatedRowCount) {
+    this.relatedRowCount = relatedRowCount;
+  }
+
+  public int getSegmentCount() {
+    return segmentCount;
+  }
+
+  public void setSegmentCount(int segmentCount) {
+    this.segmentCount = segmentCount;
+  }
+
+  public OffsetDateTime getArchivedAt() {
+    return archivedAt;
+  }
+
+  public void setArchivedAt(OffsetDateTime archivedAt) {
+    this.archivedAt = archivedAt;
+  }
+}
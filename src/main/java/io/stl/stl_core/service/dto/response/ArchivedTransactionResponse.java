@@ -0,0 +1,149 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Response DTO for a transaction read from the archive tier.
+ * Carries the whole archived aggregate; related rows are returned as stored.
+ * Like TransactionResponse, it does not include signature or previousHash.
+ * audit is null when the caller may not read audit logs (VIEW_AUDIT_LOGS).
+ */
+public class ArchivedTransactionResponse {
+
+  private UUID id;
+  private UUID typeId;
+  private String typeName;
+  private BigDecimal amount;
+  private String currencyCode;
+  private Map<String, Object> payload;
+  private OffsetDateTime createdAt;
+  private TransactionStatus currentStatus;
+  private List<Map<String, Object>> participants;
+  private List<Map<String, Object>> statusHistory;
+  private List<Map<String, Object>> audit;
+  private List<Map<String, Object>> locks;
+
+  public ArchivedTransactionResponse() {
+  }
+
+  public ArchivedTransactionResponse(UUID id, UUID typeId, String typeName, BigDecimal amount,
+      String currencyCode, Map<String, Object> payload, OffsetDateTime createdAt,
+      TransactionStatus currentStatus, List<Map<String, Object>> participants,
+      List<Map<String, Object>> statusHistory, List<Map<String, Object>> audit,
+      List<Map<String, Object>> locks) {
+    this.id = id;
+    this.typeId = typeId;
+    this.typeName = typeName;
+    this.amount = amount;
+    this.currencyCode = currencyCode;
+    this.payload = payload;
+    this.createdAt = createdAt;
+    this.currentStatus = currentStatus;
+    this.participants = participants;
+    this.statusHistory = statusHistory;
+    this.audit = audit;
+    this.locks = locks;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public void setTypeId(UUID typeId) {
+    this.typeId = typeId;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public void setTypeName(String typeName) {
+    this.typeName = typeName;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public void setCurrencyCode(String currencyCode) {
+    this.currencyCode = currencyCode;
+  }
+
+  public Map<String, Object> getPayload() {
+    return payload;
+  }
+
+  public void setPayload(Map<String, Object> payload) {
+    this.payload = payload;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(OffsetDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public TransactionStatus getCurrentStatus() {
+    return currentStatus;
+  }
+
+  public void setCurrentStatus(TransactionStatus currentStatus) {
+    this.currentStatus = currentStatus;
+  }
+
+  public List<Map<String, Object>> getParticipants() {
+    return participants;
+  }
+
+  public void setParticipants(List<Map<String, Object>> participants) {
+    this.participants = participants;
+  }
+
+  public List<Map<String, Object>> getStatusHistory() {
+    return statusHistory;
+  }
+
+  public void setStatusHistory(List<Map<String, Object>> statusHistory) {
+    this.statusHistory = statusHistory;
+  }
+
+  public List<Map<String, Object>> getAudit() {
+    return audit;
+  }
+
+  public void setAudit(List<Map<String, Object>> audit) {
+    this.audit = audit;
+  }
+
+  public List<Map<String, Object>> getLocks() {
+    return locks;
+  }
+
+  public void setLocks(List<Map<String, Object>> locks) {
+    this.locks = locks;
+  }
+}
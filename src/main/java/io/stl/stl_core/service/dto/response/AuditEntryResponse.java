@@ -0,0 +1,83 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.ActorType;
+import io.stl.stl_core.model.enums.AuditActionType;
+
+/**
+ * Response DTO for one audit record of a transaction.
+ * Does not include the hash chain fields (previousHash, signature).
+ */
+public class AuditEntryResponse {
+
+  private UUID id;
+  private ActorType actorType;
+  private UUID actorId;
+  private AuditActionType actionType;
+  private Map<String, Object> metadata;
+  private OffsetDateTime timestamp;
+
+  public AuditEntryResponse() {
+  }
+
+  public AuditEntryResponse(UUID id, ActorType actorType, UUID actorId, AuditActionType actionType,
+      Map<String, Object> metadata, OffsetDateTime timestamp) {
+    this.id = id;
+    this.actorType = actorType;
+    this.actorId = actorId;
+    this.actionType = actionType;
+    this.metadata = metadata;
+    this.timestamp = timestamp;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public ActorType getActorType() {
+    return actorType;
+  }
+
+  public void setActorType(ActorType actorType) {
+    this.actorType = actorType;
+  }
+
+  public UUID getActorId() {
+    return actorId;
+  }
+
+  public void setActorId(UUID actorId) {
+    this.actorId = actorId;
+  }
+
+  public AuditActionType getActionType() {
+    return actionType;
+  }
+
+  public void setActionType(AuditActionType actionType) {
+    this.actionType = actionType;
+  }
+
+  public Map<String, Object> getMetadata() {
+    return metadata;
+  }
+
+  public void setMetadata(Map<String, Object> metadata) {
+    this.metadata = metadata;
+  }
+
+  public OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+}
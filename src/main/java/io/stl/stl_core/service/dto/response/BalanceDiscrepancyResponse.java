@@ -0,0 +1,79 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Response DTO for one balance snapshot that disagrees with the participants table.
+ * A null snapshotBalance means the snapshot row is missing.
+ */
+public class BalanceDiscrepancyResponse {
+
+  private UUID participantId;
+  private String currencyCode;
+  private BigDecimal snapshotBalance;
+  private BigDecimal actualBalance;
+  private Long snapshotEntryCount;
+  private Long actualEntryCount;
+
+  public BalanceDiscrepancyResponse() {
+  }
+
+  public BalanceDiscrepancyResponse(UUID participantId, String currencyCode, BigDecimal snapshotBalance,
+      BigDecimal actualBalance, Long snapshotEntryCount, Long actualEntryCount) {
+    this.participantId = participantId;
+    this.currencyCode = currencyCode;
+    this.snapshotBalance = snapshotBalance;
+    this.actualBalance = actualBalance;
+    this.snapshotEntryCount = snapshotEntryCount;
+    this.actualEntryCount = actualEntryCount;
+  }
+
+  public UUID getParticipantId() {
+    return participantId;
+  }
+
+  public void setParticipantId(UUID participantId) {
+    this.participantId = participantId;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public void setCurrencyCode(String currencyCode) {
+    this.currencyCode = currencyCode;
+  }
+
+  public BigDecimal getSnapshotBalance() {
+    return snapshotBalance;
+  }
+
+  public void setSnapshotBalance(BigDecimal snapshotBalance) {
+    this.snapshotBalance = snapshotBalance;
+  }
+
+  public BigDecimal getActualBalance() {
+    return actualBalance;
+  }
+
+  public void setActualBalance(BigDecimal actualBalance) {
+    this.actualBalance = actualBalance;
+  }
+
+  public Long getSnapshotEntryCount() {
+    return snapshotEntryCount;
+  }
+
+  public void setSnapshotEntryCount(Long snapshotEntryCount) {
+    this.snapshotEntryCount = snapshotEntryCount;
+  }
+
+  public Long getActualEntryCount() {
+    return actualEntryCount;
+  }
+
+  public void setActualEntryCount(Long actualEntryCount) {
+    this.actualEntryCount = actualEntryCount;
+  }
+}
@@ -0,0 +1,175 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.ExportCompression;
+import io.stl.stl_core.model.enums.ExportDataset;
+import io.stl.stl_core.model.enums.ExportFormat;
+import io.stl.stl_core.model.enums.ExportStatus;
+
+/**
+ * Response DTO for a background export and its progress.
+ */
+public class ExportJobResponse {
+
+  private UUID id;
+  private ExportDataset dataset;
+  private ExportFormat format;
+  private ExportCompression compression;
+  private OffsetDateTime from;
+  private OffsetDateTime to;
+  private ExportStatus status;
+  private long rowsWritten;
+  private long bytesWritten;
+  private String fileName;
+  private String errorMessage;
+  private UUID requestedBy;
+  private OffsetDateTime requestedAt;
+  private OffsetDateTime startedAt;
+  private OffsetDateTime finishedAt;
+
+  public ExportJobResponse() {
+  }
+
+  public ExportJobResponse(UUID id, ExportDataset dataset, ExportFormat format,
+      ExportCompression compression, OffsetDateTime from, OffsetDateTime to, ExportStatus status,
+      long rowsWritten, long bytesWritten, String fileName, String errorMessage, UUID requestedBy,
+      OffsetDateTime requestedAt, OffsetDateTime startedAt, OffsetDateTime finishedAt) {
+    this.id = id;
+    this.dataset = dataset;
+    this.format = format;
+    this.compression = compression;
+    this.from = from;
+    this.to = to;
+    this.status = status;
+    this.rowsWritten = rowsWritten;
+    this.bytesWritten = bytesWritten;
+    this.fileName = fileName;
+    this.errorMessage = errorMessage;
+    this.requestedBy = requestedBy;
+    this.requestedAt = requestedAt;
+    this.startedAt = startedAt;
+    this.finishedAt = finishedAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public ExportDataset getDataset() {
+    return dataset;
+  }
+
+  public void setDataset(ExportDataset dataset) {
+    this.dataset = dataset;
+  }
+
+  public ExportFormat getFormat() {
+    return format;
+  }
+
+  public void setFormat(ExportFormat format) {
+    this.format = format;
+  }
+
+  public ExportCompression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(ExportCompression compression) {
+    this.compression = compression;
+  }
+
+  public OffsetDateTime getFrom() {
+    return from;
+  }
+
+  public void setFrom(OffsetDateTime from) {
+    this.from = from;
+  }
+
+  public OffsetDateTime getTo() {
+    return to;
+  }
+
+  public void setTo(OffsetDateTime to) {
+    this.to = to;
+  }
+
+  public ExportStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(ExportStatus status) {
+    this.status = status;
+  }
+
+  public long getRowsWritten() {
+    return rowsWritten;
+  }
+
+  public void setRowsWritten(long rowsWritten) {
+    this.rowsWritten = rowsWritten;
+  }
+
+  public long getBytesWritten() {
+    return bytesWritten;
+  }
+
+  public void setBytesWritten(long bytesWritten) {
+    this.bytesWritten = bytesWritten;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  public UUID getRequestedBy() {
+    return requestedBy;
+  }
+
+  public void setRequestedBy(UUID requestedBy) {
+    this.requestedBy = requestedBy;
+  }
+
+  public OffsetDateTime getRequestedAt() {
+    return requestedAt;
+  }
+
+  public void setRequestedAt(OffsetDateTime requestedAt) {
+    this.requestedAt = requestedAt;
+  }
+
+  public OffsetDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  public void setStartedAt(OffsetDateTime startedAt) {
+    this.startedAt = startedAt;
+  }
+
+  public OffsetDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  public void setFinishedAt(OffsetDateTime finishedAt) {
+    this.finishedAt = finishedAt;
+  }
+}
@@ -0,0 +1,88 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+/**
+ * Response DTO for an on-demand Flight Recorder recording.
+ */
+public class FlightRecordingResponse {
+
+  private String name;
+  private String state;
+  private OffsetDateTime startedAt;
+  private Duration duration;
+  private long maxSize;
+  private String fileName;
+  private long fileSize;
+
+  public FlightRecordingResponse() {
+  }
+
+  public FlightRecordingResponse(String name, String state, OffsetDateTime startedAt, Duration duration,
+      long maxSize, String fileName, long fileSize) {
+    this.name = name;
+    this.state = state;
+    this.startedAt = startedAt;
+    this.duration = duration;
+    this.maxSize = maxSize;
+    this.fileName = fileName;
+    this.fileSize = fileSize;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getState() {
+    return state;
+  }
+
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  public OffsetDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  public void setStartedAt(OffsetDateTime startedAt) {
+    this.startedAt = startedAt;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public void setDuration(Duration duration) {
+    this.duration = duration;
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public void setFileSize(long fileSize) {
+    this.fileSize = fileSize;
+  }
+}
@@ -0,0 +1,90 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for a participant's balance in one currency.
+ * For as-of queries the debit and credit totals are not tracked and are null.
+ */
+public class ParticipantBalanceResponse {
+
+  private UUID participantId;
+  private String currencyCode;
+  private BigDecimal balance;
+  private BigDecimal debitTotal;
+  private BigDecimal creditTotal;
+  private long entryCount;
+  private OffsetDateTime asOf;
+
+  public ParticipantBalanceResponse() {
+  }
+
+  public ParticipantBalanceResponse(UUID participantId, String currencyCode, BigDecimal balance,
+      BigDecimal debitTotal, BigDecimal creditTotal, long entryCount, OffsetDateTime asOf) {
+    this.participantId = participantId;
+    this.currencyCode = currencyCode;
+    this.balance = balance;
+    this.debitTotal = debitTotal;
+    this.creditTotal = creditTotal;
+    this.entryCount = entryCount;
+    this.asOf = asOf;
+  }
+
+  public UUID getParticipantId() {
+    return participantId;
+  }
+
+  public void setParticipantId(UUID participantId) {
+    this.participantId = participantId;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public void setCurrencyCode(String currencyCode) {
+    this.currencyCode = currencyCode;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public void setBalance(BigDecimal balance) {
+    this.balance = balance;
+  }
+
+  public BigDecimal getDebitTotal() {
+    return debitTotal;
+  }
+
+  public void setDebitTotal(BigDecimal debitTotal) {
+    this.debitTotal = debitTotal;
+  }
+
+  public BigDecimal getCreditTotal() {
+    return creditTotal;
+  }
+
+  public void setCreditTotal(BigDecimal creditTotal) {
+    this.creditTotal = creditTotal;
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  public void setEntryCount(long entryCount) {
+    this.entryCount = entryCount;
+  }
+
+  public OffsetDateTime getAsOf() {
+    return asOf;
+  }
+
+  public void setAsOf(OffsetDateTime asOf) {
+    this.asOf = asOf;
+  }
+}
@@ -0,0 +1,139 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.enums.ParticipantType;
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Response DTO for one entry of a participant's account history.
+ *
+ * runningTotal is the sum of signedAmount over this entry and every newer
+ * entry in the same currency, counted from the newest entry (the first entry
+ * of the first page). It is not the account balance at that point in time:
+ * history is read newest first, so the total starts at 0 at the top.
+ */
+public class ParticipantHistoryEntryResponse {
+
+  private UUID transactionId;
+  private String typeName;
+  private ParticipantType participantType;
+  private ParticipantRole role;
+  private BigDecimal amount;
+  private BigDecimal signedAmount;
+  private BigDecimal transactionAmount;
+  private String currencyCode;
+  private TransactionStatus currentStatus;
+  private BigDecimal runningTotal;
+  private OffsetDateTime createdAt;
+
+  public ParticipantHistoryEntryResponse() {
+  }
+
+  public ParticipantHistoryEntryResponse(UUID transactionId, String typeName, ParticipantType participantType,
+      ParticipantRole role, BigDecimal amount, BigDecimal signedAmount, BigDecimal transactionAmount,
+      String currencyCode, TransactionStatus currentStatus, BigDecimal runningTotal, OffsetDateTime createdAt) {
+    this.transactionId = transactionId;
+    this.typeName = typeName;
+    this.participantType = participantType;
+    this.role = role;
+    this.amount = amount;
+    this.signedAmount = signedAmount;
+    this.transactionAmount = transactionAmount;
+    this.currencyCode = currencyCode;
+    this.currentStatus = currentStatus;
+    this.runningTotal = runningTotal;
+    this.createdAt = createdAt;
+  }
+
+  public UUID getTransactionId() {
+    return transactionId;
+  }
+
+  public void setTransactionId(UUID transactionId) {
+    this.transactionId = transactionId;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public void setTypeName(String typeName) {
+    this.typeName = typeName;
+  }
+
+  public ParticipantType getParticipantType() {
+    return participantType;
+  }
+
+  public void setParticipantType(ParticipantType participantType) {
+    this.participantType = participantType;
+  }
+
+  public ParticipantRole getRole() {
+    return role;
+  }
+
+  public void setRole(ParticipantRole role) {
+    this.role = role;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public BigDecimal getSignedAmount() {
+    return signedAmount;
+  }
+
+  public void setSignedAmount(BigDecimal signedAmount) {
+    this.signedAmount = signedAmount;
+  }
+
+  public BigDecimal getTransactionAmount() {
+    return transactionAmount;
+  }
+
+  public void setTransactionAmount(BigDecimal transactionAmount) {
+    this.transactionAmount = transactionAmount;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public void setCurrencyCode(String currencyCode) {
+    this.currencyCode = currencyCode;
+  }
+
+  public TransactionStatus getCurrentStatus() {
+    return currentStatus;
+  }
+
+  public void setCurrentStatus(TransactionStatus currentStatus) {
+    this.currentStatus = currentStatus;
+  }
+
+  public BigDecimal getRunningTotal() {
+    return runningTotal;
+  }
+
+  public void setRunningTotal(BigDecimal runningTotal) {
+    this.runningTotal = runningTotal;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(OffsetDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+}
@@ -0,0 +1,75 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO for a page of a participant's account history.
+ * runningTotals holds the signed total per currency from the newest entry
+ * down to the last entry of this page (see
+ * ParticipantHistoryEntryResponse#runningTotal); it is not a balance.
+ * Pass nextCursor back unchanged to continue from there; it is signed and
+ * rejected (400) if altered or used for another participant.
+ */
+public class ParticipantHistoryResponse {
+
+  private UUID participantId;
+  private List<ParticipantHistoryEntryResponse> entries;
+  private Map<String, BigDecimal> runningTotals;
+  private String nextCursor;
+  private boolean hasMore;
+
+  public ParticipantHistoryResponse() {
+  }
+
+  public ParticipantHistoryResponse(UUID participantId, List<ParticipantHistoryEntryResponse> entries,
+      Map<String, BigDecimal> runningTotals, String nextCursor, boolean hasMore) {
+    this.participantId = participantId;
+    this.entries = entries;
+    this.runningTotals = runningTotals;
+    this.nextCursor = nextCursor;
+    this.hasMore = hasMore;
+  }
+
+  public UUID getParticipantId() {
+    return participantId;
+  }
+
+  public void setParticipantId(UUID participantId) {
+    this.participantId = participantId;
+  }
+
+  public List<ParticipantHistoryEntryResponse> getEntries() {
+    return entries;
+  }
+
+  public void setEntries(List<ParticipantHistoryEntryResponse> entries) {
+    this.entries = entries;
+  }
+
+  public Map<String, BigDecimal> getRunningTotals() {
+    return runningTotals;
+  }
+
+  public void setRunningTotals(Map<String, BigDecimal> runningTotals) {
+    this.runningTotals = runningTotals;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public boolean isHasMore() {
+    return hasMore;
+  }
+
+  public void setHasMore(boolean hasMore) {
+    this.hasMore = hasMore;
+  }
+}
@@ -0,0 +1,82 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.enums.ParticipantType;
+
+/**
+ * Response DTO for one participant of a transaction.
+ */
+public class ParticipantResponse {
+
+  private UUID id;
+  private ParticipantType participantType;
+  private UUID participantId;
+  private ParticipantRole role;
+  private BigDecimal amount;
+  private OffsetDateTime createdAt;
+
+  public ParticipantResponse() {
+  }
+
+  public ParticipantResponse(UUID id, ParticipantType participantType, UUID participantId,
+      ParticipantRole role, BigDecimal amount, OffsetDateTime createdAt) {
+    this.id = id;
+    this.participantType = participantType;
+    this.participantId = participantId;
+    this.role = role;
+    this.amount = amount;
+    this.createdAt = createdAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public ParticipantType getParticipantType() {
+    return participantType;
+  }
+
+  public void setParticipantType(ParticipantType participantType) {
+    this.participantType = participantType;
+  }
+
+  public UUID getParticipantId() {
+    return participantId;
+  }
+
+  public void setParticipantId(UUID participantId) {
+    this.participantId = participantId;
+  }
+
+  public ParticipantRole getRole() {
+    return role;
+  }
+
+  public void setRole(ParticipantRole role) {
+    this.role = role;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(OffsetDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+}
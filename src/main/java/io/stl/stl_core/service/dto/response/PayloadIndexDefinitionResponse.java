@@ -0,0 +1,112 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.PayloadIndexKind;
+import io.stl.stl_core.model.enums.PayloadIndexStatus;
+
+/**
+ * Response DTO for a payload index definition and its build status.
+ */
+public class PayloadIndexDefinitionResponse {
+
+  private UUID id;
+  private UUID typeId;
+  private PayloadIndexKind kind;
+  private String path;
+  private String indexName;
+  private PayloadIndexStatus status;
+  private String errorMessage;
+  private OffsetDateTime createdAt;
+  private OffsetDateTime updatedAt;
+
+  public PayloadIndexDefinitionResponse() {
+  }
+
+  public PayloadIndexDefinitionResponse(UUID id, UUID typeId, PayloadIndexKind kind, String path,
+      String indexName, PayloadIndexStatus status, String errorMessage, OffsetDateTime createdAt,
+      OffsetDateTime updatedAt) {
+    this.id = id;
+    this.typeId = typeId;
+    this.kind = kind;
+    this.path = path;
+    this.indexName = indexName;
+    this.status = status;
+    this.errorMessage = errorMessage;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public void setTypeId(UUID typeId) {
+    this.typeId = typeId;
+  }
+
+  public PayloadIndexKind getKind() {
+    return kind;
+  }
+
+  public void setKind(PayloadIndexKind kind) {
+    this.kind = kind;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public void setPath(String path) {
+    this.path = path;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public void setIndexName(String indexName) {
+    this.indexName = indexName;
+  }
+
+  public PayloadIndexStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(PayloadIndexStatus status) {
+    this.status = status;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(OffsetDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(OffsetDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
@@ -0,0 +1,59 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Response DTO for one entry of a transaction's status history.
+ */
+public class StatusChangeResponse {
+
+  private UUID id;
+  private TransactionStatus status;
+  private String reason;
+  private OffsetDateTime updatedAt;
+
+  public StatusChangeResponse() {
+  }
+
+  public StatusChangeResponse(UUID id, TransactionStatus status, String reason, OffsetDateTime updatedAt) {
+    this.id = id;
+    this.status = status;
+    this.reason = reason;
+    this.updatedAt = updatedAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public TransactionStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(TransactionStatus status) {
+    this.status = status;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+
+  public void setReason(String reason) {
+    this.reason = reason;
+  }
+
+  public OffsetDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(OffsetDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
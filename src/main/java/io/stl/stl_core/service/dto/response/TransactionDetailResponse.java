@@ -0,0 +1,82 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.util.List;
+
+/**
+ * Response DTO for everything needed to render one transaction:
+ * the transaction, its participants, status history (newest first), active
+ * locks and most recent audit records.
+ * recentAudit is null when the caller may not read audit logs
+ * (VIEW_AUDIT_LOGS); GET /api/v1/transactions/{id}/audit has the full trail.
+ */
+public class TransactionDetailResponse {
+
+  private TransactionResponse transaction;
+  private boolean archived;
+  private List<ParticipantResponse> participants;
+  private List<StatusChangeResponse> statusHistory;
+  private List<TransactionLockResponse> activeLocks;
+  private List<AuditEntryResponse> recentAudit;
+
+  public TransactionDetailResponse() {
+  }
+
+  public TransactionDetailResponse(TransactionResponse transaction, boolean archived,
+      List<ParticipantResponse> participants, List<StatusChangeResponse> statusHistory,
+      List<TransactionLockResponse> activeLocks, List<AuditEntryResponse> recentAudit) {
+    this.transaction = transaction;
+    this.archived = archived;
+    this.participants = participants;
+    this.statusHistory = statusHistory;
+    this.activeLocks = activeLocks;
+    this.recentAudit = recentAudit;
+  }
+
+  public TransactionResponse getTransaction() {
+    return transaction;
+  }
+
+  public void setTransaction(TransactionResponse transaction) {
+    this.transaction = transaction;
+  }
+
+  public boolean isArchived() {
+    return archived;
+  }
+
+  public void setArchived(boolean archived) {
+    this.archived = archived;
+  }
+
+  public List<ParticipantResponse> getParticipants() {
+    return participants;
+  }
+
+  public void setParticipants(List<ParticipantResponse> participants) {
+    this.participants = participants;
+  }
+
+  public List<StatusChangeResponse> getStatusHistory() {
+    return statusHistory;
+  }
+
+  public void setStatusHistory(List<StatusChangeResponse> statusHistory) {
+    this.statusHistory = statusHistory;
+  }
+
+  public List<TransactionLockResponse> getActiveLocks() {
+    return activeLocks;
+  }
+
+  public void setActiveLocks(List<TransactionLockResponse> activeLocks) {
+    this.activeLocks = activeLocks;
+  }
+
+  public List<AuditEntryResponse> getRecentAudit() {
+    return recentAudit;
+  }
+
+  public void setRecentAudit(List<AuditEntryResponse> recentAudit) {
+    this.recentAudit = recentAudit;
+  }
+}
@@ -0,0 +1,80 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.LockType;
+
+/**
+ * Response DTO for a lock on a transaction.
+ */
+public class TransactionLockResponse {
+
+  private UUID id;
+  private LockType lockType;
+  private UUID lockedBy;
+  private String reason;
+  private OffsetDateTime createdAt;
+  private OffsetDateTime expiresAt;
+
+  public TransactionLockResponse() {
+  }
+
+  public TransactionLockResponse(UUID id, LockType lockType, UUID lockedBy, String reason,
+      OffsetDateTime createdAt, OffsetDateTime expiresAt) {
+    this.id = id;
+    this.lockType = lockType;
+    this.lockedBy = lockedBy;
+    this.reason = reason;
+    this.createdAt = createdAt;
+    this.expiresAt = expiresAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public LockType getLockType() {
+    return lockType;
+  }
+
+  public void setLockType(LockType lockType) {
+    this.lockType = lockType;
+  }
+
+  public UUID getLockedBy() {
+    return lockedBy;
+  }
+
+  public void setLockedBy(UUID lockedBy) {
+    this.lockedBy = lockedBy;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+
+  public void setReason(String reason) {
+    this.reason = reason;
+  }
+
+  public OffsetDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(OffsetDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public OffsetDateTime getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(OffsetDateTime expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
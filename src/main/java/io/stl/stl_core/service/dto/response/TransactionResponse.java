@@ -5,13 +5,17 @@ import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.stl.stl_core.model.enums.TransactionStatus;
 
 /**
  * Response DTO for transaction data.
  * Contains only fields safe to expose to clients.
  * Does NOT include sensitive fields like signature, previousHash.
+ * Fields not selected with fields= (or include=payload) are left out.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TransactionResponse {
 
   private UUID id;
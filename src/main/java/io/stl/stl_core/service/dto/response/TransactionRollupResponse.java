@@ -0,0 +1,92 @@
+package io.stl.stl_core.service.dto.response;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import io.stl.stl_core.model.enums.TransactionStatus;
+
+/**
+ * Response DTO for one rollup bucket (count and amount of transactions created
+ * in the bucket, by currency, type and current status).
+ */
+public class TransactionRollupResponse {
+
+  private OffsetDateTime bucketStart;
+  private String currencyCode;
+  private UUID typeId;
+  private String typeName;
+  private TransactionStatus status;
+  private long transactionCount;
+  private BigDecimal amountTotal;
+
+  public TransactionRollupResponse() {
+  }
+
+  public TransactionRollupResponse(OffsetDateTime bucketStart, String currencyCode, UUID typeId,
+      String typeName, TransactionStatus status, long transactionCount, BigDecimal amountTotal) {
+    this.bucketStart = bucketStart;
+    this.currencyCode = currencyCode;
+    this.typeId = typeId;
+    this.typeName = typeName;
+    this.status = status;
+    this.transactionCount = transactionCount;
+    this.amountTotal = amountTotal;
+  }
+
+  public OffsetDateTime getBucketStart() {
+    return bucketStart;
+  }
+
+  public void setBucketStart(OffsetDateTime bucketStart) {
+    this.bucketStart = bucketStart;
+  }
+
+  public String getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public void setCurrencyCode(String currencyCode) {
+    this.currencyCode = currencyCode;
+  }
+
+  public UUID getTypeId() {
+    return typeId;
+  }
+
+  public void setTypeId(UUID typeId) {
+    this.typeId = typeId;
+  }
+
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public void setTypeName(String typeName) {
+    this.typeName = typeName;
+  }
+
+  public TransactionStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(TransactionStatus status) {
+    this.status = status;
+  }
+
+  public long getTransactionCount() {
+    return transactionCount;
+  }
+
+  public void setTransactionCount(long transactionCount) {
+    this.transactionCount = transactionCount;
+  }
+
+  public BigDecimal getAmountTotal() {
+    return amountTotal;
+  }
+
+  public void setAmountTotal(BigDecimal amountTotal) {
+    this.amountTotal = amountTotal;
+  }
+}
@@ -0,0 +1,69 @@
+package io.stl.stl_core.service.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.model.entity.Participant;
+import io.stl.stl_core.model.entity.TransactionAudit;
+import io.stl.stl_core.model.entity.TransactionLock;
+import io.stl.stl_core.model.entity.TransactionStatusHistory;
+import io.stl.stl_core.service.dto.response.AuditEntryResponse;
+import io.stl.stl_core.service.dto.response.ParticipantResponse;
+import io.stl.stl_core.service.dto.response.StatusChangeResponse;
+import io.stl.stl_core.service.dto.response.TransactionLockResponse;
+
+/**
+ * Mapper for the rows shown with a transaction (participants, status
+ * history, audit records, locks), from live entities or from the maps an
+ * archived aggregate stores them as.
+ */
+@Component
+public class TransactionDetailMapper {
+
+  private final ObjectMapper objectMapper;
+
+  public TransactionDetailMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public ParticipantResponse toResponse(Participant participant) {
+    return new ParticipantResponse(participant.getId(), participant.getParticipantType(),
+        participant.getParticipantId(), participant.getRole(), participant.getAmount(),
+        participant.getCreatedAt());
+  }
+
+  public StatusChangeResponse toResponse(TransactionStatusHistory history) {
+    return new StatusChangeResponse(history.getId(), history.getStatus(), history.getReason(),
+        history.getUpdatedAt());
+  }
+
+  /**
+   * Audit record without its hash chain fields.
+   */
+  public AuditEntryResponse toResponse(TransactionAudit audit) {
+    return new AuditEntryResponse(audit.getId(), audit.getActorType(), audit.getActorId(),
+        audit.getActionType(), audit.getMetadata(), audit.getTimestamp());
+  }
+
+  public TransactionLockResponse toResponse(TransactionLock lock) {
+    return new TransactionLockResponse(lock.getId(), lock.getLockType(), lock.getLockedBy(), lock.getReason(),
+        lock.getCreatedAt(), lock.getExpiresAt());
+  }
+
+  /**
+   * Converts archived rows (stored with the entity property names) to
+   * response DTOs; properties the DTO does not have are dropped.
+   */
+  public <T> List<T> fromArchived(List<Map<String, Object>> rows, Class<T> type) {
+    if (rows == null) {
+      return List.of();
+    }
+    return rows.stream()
+        .map(row -> objectMapper.convertValue(row, type))
+        .toList();
+  }
+}
@@ -1,9 +1,19 @@
 package io.stl.stl_core.service.mapper;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
 import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.enums.TransactionField;
 import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.TransactionSummary;
+import io.stl.stl_core.service.PayloadService;
 import io.stl.stl_core.service.StatusService;
 import io.stl.stl_core.service.dto.response.TransactionResponse;
 
@@ -11,14 +21,20 @@ import io.stl.stl_core.service.dto.response.TransactionResponse;
  * Mapper utility for converting between Transaction entities and DTOs.
  * Follows the DTO pattern to separate internal representation from API
  * responses.
+ *
+ * Responses carry only the selected fields (see TransactionField): summary
+ * lists are built from TransactionSummary rows plus a batched status query,
+ * and payloads are loaded separately, each only when selected.
  */
 @Component
 public class TransactionMapper {
 
   private final StatusService statusService;
+  private final PayloadService payloadService;
 
-  public TransactionMapper(StatusService statusService) {
+  public TransactionMapper(StatusService statusService, PayloadService payloadService) {
     this.statusService = statusService;
+    this.payloadService = payloadService;
   }
 
   /**
@@ -31,6 +47,14 @@ public class TransactionMapper {
    * - Any other sensitive internal fields
    */
   public TransactionResponse toResponse(Transaction transaction) {
+    return toResponse(transaction, EnumSet.allOf(TransactionField.class));
+  }
+
+  /**
+   * Converts a Transaction entity to a TransactionResponse DTO with only the
+   * selected fields; the status and payload are only looked up if selected.
+   */
+  public TransactionResponse toResponse(Transaction transaction, Set<TransactionField> fields) {
     if (transaction == null) {
       return null;
     }
@@ -39,30 +63,66 @@ public class TransactionMapper {
 
     // Basic fields
     response.setId(transaction.getId());
-    response.setAmount(transaction.getAmount());
-    response.setCreatedAt(transaction.getCreatedAt());
+    if (fields.contains(TransactionField.AMOUNT)) {
+      response.setAmount(transaction.getAmount());
+    }
+    if (fields.contains(TransactionField.CREATED_AT)) {
+      response.setCreatedAt(transaction.getCreatedAt());
+    }
 
     // Related entity fields (denormalized for API convenience)
-    response.setTypeName(transaction.getType().getName());
-    response.setCurrencyCode(transaction.getCurrency().getCode());
-    response.setCurrencySymbol(transaction.getCurrency().getSymbol());
+    if (fields.contains(TransactionField.TYPE_NAME)) {
+      response.setTypeName(transaction.getType().getName());
+    }
+    if (fields.contains(TransactionField.CURRENCY_CODE)) {
+      response.setCurrencyCode(transaction.getCurrency().getCode());
+    }
+    if (fields.contains(TransactionField.CURRENCY_SYMBOL)) {
+      response.setCurrencySymbol(transaction.getCurrency().getSymbol());
+    }
 
     // Current status (computed from status history)
-    TransactionStatus currentStatus = statusService.getCurrentStatus(transaction);
-    response.setCurrentStatus(currentStatus);
+    if (fields.contains(TransactionField.CURRENT_STATUS)) {
+      TransactionStatus currentStatus = statusService.getCurrentStatus(transaction);
+      response.setCurrentStatus(currentStatus);
+    }
 
     // Optional payload
-    response.setPayload(transaction.getPayload());
+    if (fields.contains(TransactionField.PAYLOAD)) {
+      response.setPayload(payloadService.getPayload(transaction));
+    }
 
     return response;
   }
 
   /**
-   * Converts a list of transactions to response DTOs.
+   * Converts transaction summaries to response DTOs with the selected
+   * fields, keeping their order. Statuses are read in batches and payloads
+   * loaded separately, each only if selected.
    */
-  public java.util.List<TransactionResponse> toResponseList(java.util.List<Transaction> transactions) {
-    return transactions.stream()
-        .map(this::toResponse)
+  public List<TransactionResponse> toResponseList(List<TransactionSummary> summaries,
+      Set<TransactionField> fields) {
+    List<UUID> ids = summaries.stream().map(TransactionSummary::getId).toList();
+    Map<UUID, TransactionStatus> statuses = fields.contains(TransactionField.CURRENT_STATUS)
+        ? statusService.getCurrentStatuses(ids)
+        : Collections.emptyMap();
+    Map<UUID, Map<String, Object>> payloads = fields.contains(TransactionField.PAYLOAD)
+        ? payloadService.getPayloads(ids)
+        : Collections.emptyMap();
+
+    return summaries.stream()
+        .map(summary -> {
+          TransactionResponse response = new TransactionResponse(
+              summary.getId(),
+              summary.getTypeName(),
+              summary.getAmount(),
+              summary.getCurrencyCode(),
+              summary.getCurrencySymbol(),
+              statuses.get(summary.getId()),
+              summary.getCreatedAt());
+          response.setPayload(payloads.get(summary.getId()));
+          return response;
+        })
         .toList();
   }
 }
@@ -0,0 +1,15 @@
+-- Token revocation (logout)
+-- Every node keeps an in-memory replica of the unexpired rows and polls for
+-- new ones by revoked_at. Rows are useless once the token has expired and are
+-- purged by expires_at.
+
+CREATE TABLE revoked_tokens (
+    token_id TEXT PRIMARY KEY,
+    expires_at TIMESTAMPTZ NOT NULL,
+    revoked_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
+
+COMMENT ON TABLE revoked_tokens IS 'Revoked JWTs (jti) until their expiration, shared by all nodes';
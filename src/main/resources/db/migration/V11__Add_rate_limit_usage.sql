@@ -0,0 +1,17 @@
+-- Cluster-wide rate limits (optional, stl.ratelimit.cluster.enabled)
+-- Each node adds its per-client request counts for the current window every
+-- sync interval and reads back which clients are over the cluster cap.
+-- Counters are short-lived and cheap to lose, so the table is UNLOGGED (no
+-- WAL, emptied after a crash). Old windows are purged by window_start.
+
+CREATE UNLOGGED TABLE rate_limit_usage (
+    policy TEXT NOT NULL,
+    client_key TEXT NOT NULL,
+    window_start TIMESTAMPTZ NOT NULL,
+    hits BIGINT NOT NULL,
+    PRIMARY KEY (policy, client_key, window_start)
+);
+
+CREATE INDEX idx_rate_limit_usage_window_start ON rate_limit_usage(window_start);
+
+COMMENT ON TABLE rate_limit_usage IS 'Per-client request counts per fixed window, summed over all nodes';
@@ -0,0 +1,11 @@
+-- Participant account history
+-- Keyset pagination over a participant's participations (newest first)
+
+-- Matches ParticipantRepository.findHistory / findHistoryAfter:
+--   WHERE participant_id = ? [AND (created_at, id) < (?, ?)]
+--   ORDER BY created_at DESC, id DESC
+-- so each page is a bounded index range scan, even for merchants with
+-- millions of participations.
+CREATE INDEX idx_participants_history ON participants(participant_id, created_at DESC, id DESC);
+
+COMMENT ON INDEX idx_participants_history IS 'Keyset pagination for participant account history';
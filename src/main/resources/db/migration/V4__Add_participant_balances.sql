@@ -0,0 +1,48 @@
+-- Per-participant balance snapshots
+-- Derived data: can always be rebuilt from the participants table
+
+-- =====================================================
+-- LIVE SNAPSHOT (one row per participant and currency)
+-- =====================================================
+
+-- Updated in the same database transaction that links the participants,
+-- so a current-balance read is a single primary-key-style lookup.
+CREATE TABLE participant_balances (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    participant_id UUID NOT NULL, -- References users.id or entities.id
+    participant_type VARCHAR(20) NOT NULL, -- USER, ENTITY
+    currency_code CHAR(3) NOT NULL REFERENCES currencies(code),
+    balance NUMERIC(28, 8) NOT NULL DEFAULT 0, -- credits - debits
+    debit_total NUMERIC(28, 8) NOT NULL DEFAULT 0,
+    credit_total NUMERIC(28, 8) NOT NULL DEFAULT 0,
+    entry_count BIGINT NOT NULL DEFAULT 0,
+    last_entry_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uq_participant_balance UNIQUE (participant_id, currency_code)
+);
+
+COMMENT ON TABLE participant_balances IS 'Incrementally maintained balance per participant and currency';
+
+-- =====================================================
+-- CHECKPOINTS (APPEND-ONLY)
+-- =====================================================
+
+-- Written periodically. An as-of balance is the latest checkpoint at or
+-- before the requested time plus the participations after it.
+CREATE TABLE participant_balance_checkpoints (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    participant_id UUID NOT NULL,
+    currency_code CHAR(3) NOT NULL REFERENCES currencies(code),
+    balance NUMERIC(28, 8) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    as_of TIMESTAMPTZ NOT NULL, -- Covers participations with created_at <= as_of
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_balance_checkpoints_lookup
+    ON participant_balance_checkpoints(participant_id, currency_code, as_of DESC);
+CREATE INDEX idx_balance_checkpoints_as_of ON participant_balance_checkpoints(as_of DESC);
+
+COMMENT ON TABLE participant_balance_checkpoints IS 'Periodic balance checkpoints for as-of balance queries';
+COMMENT ON COLUMN participant_balance_checkpoints.as_of IS 'Checkpoint includes all participations created at or before this time';
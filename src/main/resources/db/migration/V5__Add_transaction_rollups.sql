@@ -0,0 +1,46 @@
+-- Time-bucketed rollups for reporting
+-- Derived data: can always be recomputed from transactions and status history
+
+-- =====================================================
+-- ROLLUP EVENTS (work queue)
+-- =====================================================
+
+-- One row per status change, written in the same database transaction as the
+-- status history entry. The rollup worker claims and deletes them, so every
+-- change is applied exactly once regardless of commit order or delay.
+CREATE TABLE transaction_rollup_events (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    transaction_id UUID NOT NULL,
+    transaction_created_at TIMESTAMPTZ NOT NULL, -- Bucket the change is applied to
+    currency_code CHAR(3) NOT NULL,
+    type_id UUID NOT NULL,
+    amount NUMERIC(20, 8) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    previous_status VARCHAR(20), -- NULL for the initial status
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_rollup_events_transaction_created_at ON transaction_rollup_events(transaction_created_at);
+
+COMMENT ON TABLE transaction_rollup_events IS 'Pending status changes not yet applied to transaction_rollups';
+
+-- =====================================================
+-- ROLLUPS (minute, hour and day buckets in UTC)
+-- =====================================================
+
+-- Transactions are counted in the bucket of their creation time under their
+-- current status; a status change moves them from one status row to another.
+CREATE TABLE transaction_rollups (
+    granularity VARCHAR(10) NOT NULL, -- MINUTE, HOUR, DAY
+    bucket_start TIMESTAMPTZ NOT NULL,
+    currency_code CHAR(3) NOT NULL REFERENCES currencies(code),
+    type_id UUID NOT NULL REFERENCES transaction_types(id),
+    status VARCHAR(20) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    amount_total NUMERIC(28, 8) NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (granularity, bucket_start, currency_code, type_id, status)
+);
+
+COMMENT ON TABLE transaction_rollups IS 'Transaction count and amount per time bucket, currency, type and current status';
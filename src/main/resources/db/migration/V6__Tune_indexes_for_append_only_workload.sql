@@ -0,0 +1,66 @@
+-- Index set tuned for the append-only workload
+-- Benchmark: benchmarks/sql/index_benchmark.sql (index size, insert cost, query latency)
+--
+-- Every statement is CONCURRENTLY, so Flyway runs this migration outside a
+-- transaction and ingestion is never blocked. CONCURRENTLY waits for every
+-- open transaction, including the one holding Flyway's transactional advisory
+-- lock, so spring.flyway.postgresql.transactional-lock=false is required
+-- (application.properties); with the lock on, startup hangs here.
+--
+-- Recovering from a half-run V6:
+-- 1. Drop the indexes a failed or killed build left INVALID:
+--      SELECT indexrelid::regclass FROM pg_index WHERE NOT indisvalid;
+--      DROP INDEX CONCURRENTLY <name>;
+-- 2. If flyway_schema_history has a failed row for version 6 (success =
+--    false), remove it (flyway repair, or DELETE that row). A killed process
+--    leaves no row.
+-- 3. Restart; IF [NOT] EXISTS makes the statements that already ran no-ops.
+--
+-- BRIN: these tables are insert-only with timestamps set at insert time, so
+-- physical order follows time and a block-range index answers time windows at
+-- a tiny fraction of a B-tree's size and insert cost. BRIN cannot serve
+-- ORDER BY ... LIMIT, so time columns read that way keep their B-tree
+-- (transactions.created_at: findLatestTransaction and keyset pages).
+
+-- =====================================================
+-- TRANSACTIONS
+-- =====================================================
+
+-- List by type / currency, newest first (findByTypeId, findByCurrencyCode).
+-- The leading column also serves the foreign key lookups the single-column
+-- indexes were used for; INCLUDE allows index-only scans for summary reads.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_type_created
+    ON transactions(type_id, created_at DESC) INCLUDE (id, amount, currency_code);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_currency_created
+    ON transactions(currency_code, created_at DESC) INCLUDE (id, amount, type_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_type_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_currency_code;
+
+-- =====================================================
+-- TRANSACTION STATUS HISTORY
+-- =====================================================
+
+-- Latest status of a transaction (findLatestByTransactionId and the
+-- current-status subqueries) as an index-only scan of one entry.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_status_history_latest
+    ON transaction_status_history(transaction_id, updated_at DESC, id DESC) INCLUDE (status);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_status_history_transaction;
+
+-- Status changes in a time window (rollup recomputation, reporting)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_status_history_updated_brin
+    ON transaction_status_history USING BRIN (updated_at) WITH (pages_per_range = 32, autosummarize = on);
+
+-- =====================================================
+-- AUDIT AND PARTICIPANTS
+-- =====================================================
+
+-- Audit records in a time window (compliance reviews, exports)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_audit_timestamp_brin
+    ON transaction_audit USING BRIN (timestamp) WITH (pages_per_range = 32, autosummarize = on);
+
+-- Participations in a time window (balance checkpoint job)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_participants_created_brin
+    ON participants USING BRIN (created_at) WITH (pages_per_range = 32, autosummarize = on);
@@ -0,0 +1,23 @@
+-- Payload indexes declared per transaction type
+-- Each definition owns one partial index on transactions (WHERE type_id = ...),
+-- built and dropped CONCURRENTLY by the application.
+
+CREATE TABLE payload_index_definitions (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    type_id UUID NOT NULL REFERENCES transaction_types(id),
+    kind VARCHAR(20) NOT NULL, -- PATH_EQUALITY, CONTAINMENT
+    path TEXT, -- Dot-separated payload path (PATH_EQUALITY only)
+    index_name VARCHAR(63) NOT NULL UNIQUE,
+    status VARCHAR(20) NOT NULL, -- PENDING, BUILDING, READY, FAILED, DROPPING
+    error_message TEXT,
+    created_by UUID,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uq_payload_index_definition UNIQUE (type_id, kind, path)
+);
+
+CREATE INDEX idx_payload_index_definitions_status ON payload_index_definitions(status);
+
+COMMENT ON TABLE payload_index_definitions IS 'Admin-declared payload indexes per transaction type';
+COMMENT ON COLUMN payload_index_definitions.index_name IS 'Name of the managed index on transactions';
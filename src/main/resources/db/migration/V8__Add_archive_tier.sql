@@ -0,0 +1,65 @@
+-- Cold-storage archive tier
+-- Whole UTC months of transactions (with participants, status history, audit
+-- and locks) are moved into immutable segment files; these tables catalog
+-- them. Segment format: io.stl.stl_core.archive.SegmentFormat
+
+-- =====================================================
+-- ARCHIVED PERIODS (APPEND-ONLY)
+-- =====================================================
+
+CREATE TABLE archive_periods (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    period_start TIMESTAMPTZ NOT NULL UNIQUE, -- Transactions with created_at in [start, end)
+    period_end TIMESTAMPTZ NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    related_row_count BIGINT NOT NULL, -- Participants, status history, audit and locks
+    segment_count INTEGER NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT chk_archive_period CHECK (period_end > period_start)
+);
+
+COMMENT ON TABLE archive_periods IS 'Time ranges whose transactions live in archive segments, not in the database';
+
+-- =====================================================
+-- SEGMENT FILES (APPEND-ONLY)
+-- =====================================================
+
+CREATE TABLE archive_segments (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    period_id UUID NOT NULL REFERENCES archive_periods(id),
+    file_name VARCHAR(255) NOT NULL UNIQUE, -- Relative to stl.archive.directory
+    record_count BIGINT NOT NULL,
+    first_created_at TIMESTAMPTZ NOT NULL,
+    last_created_at TIMESTAMPTZ NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    sha256 CHAR(64) NOT NULL, -- Whole-file digest for external integrity checks
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_archive_segments_period ON archive_segments(period_id);
+
+COMMENT ON TABLE archive_segments IS 'Immutable, checksummed segment files of archived transactions';
+
+-- =====================================================
+-- BALANCE CARRY-FORWARD
+-- =====================================================
+
+-- Totals of archived participations per participant and currency, so balance
+-- rebuilds and reconciliation stay correct once the rows have left the
+-- participants table.
+CREATE TABLE participant_balance_carryforwards (
+    participant_id UUID NOT NULL,
+    participant_type VARCHAR(20) NOT NULL,
+    currency_code CHAR(3) NOT NULL REFERENCES currencies(code),
+    balance NUMERIC(28, 8) NOT NULL,
+    debit_total NUMERIC(28, 8) NOT NULL,
+    credit_total NUMERIC(28, 8) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    last_entry_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (participant_id, currency_code)
+);
+
+COMMENT ON TABLE participant_balance_carryforwards IS 'Balance totals of archived participations';
@@ -0,0 +1,19 @@
+-- Compact binary payloads
+-- Transactions of the types listed in stl.payload.binary-types store their
+-- payload as CBOR in payload_bin instead of JSONB. Object keys are replaced by
+-- ids from payload_keys, shared by all rows. Keys are never renumbered or
+-- deleted: archived segments reference them too.
+
+CREATE TABLE payload_keys (
+    id INTEGER GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    name TEXT NOT NULL UNIQUE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+ALTER TABLE transactions ADD COLUMN payload_bin BYTEA;
+
+ALTER TABLE transactions ADD CONSTRAINT chk_transactions_single_payload
+    CHECK (payload IS NULL OR payload_bin IS NULL) NOT VALID;
+
+COMMENT ON TABLE payload_keys IS 'Key dictionary of binary (CBOR) payloads, append-only';
+COMMENT ON COLUMN transactions.payload_bin IS 'CBOR payload with dictionary-coded keys (see PayloadCodec)';
@@ -0,0 +1,94 @@
+package io.stl.stl_core.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentWriterReaderTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenWritingRecords_thenEveryRecordIsFoundById() throws Exception {
+        // given
+        List<UUID> ids = new ArrayList<>();
+        Path file = writeSegment(ids, 500);
+
+        // when
+        SegmentReader reader = SegmentReader.open(file);
+
+        // then
+        assertThat(reader.getRecordCount()).isEqualTo(500);
+        assertThat(reader.verify()).isEqualTo(500);
+        for (int i = 0; i < ids.size(); i++) {
+            SegmentReader.SegmentRecord record = reader.find(ids.get(i)).orElseThrow();
+            assertThat(new String(record.data(), StandardCharsets.UTF_8)).isEqualTo(document(i));
+            assertThat(record.createdAtMicros()).isEqualTo(SegmentFormat.toMicros(START.plusSeconds(i)));
+        }
+        assertThat(reader.find(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void whenScanningARange_thenOnlyRecordsInRangeAreVisitedInOrder() throws Exception {
+        // given
+        SegmentReader reader = SegmentReader.open(writeSegment(new ArrayList<>(), 500));
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        boolean completed = reader.scan(SegmentFormat.toMicros(START.plusSeconds(100)),
+                SegmentFormat.toMicros(START.plusSeconds(200)), record -> visited.add(record.createdAtMicros()));
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(visited).hasSize(100).isSorted();
+        assertThat(visited.get(0)).isEqualTo(SegmentFormat.toMicros(START.plusSeconds(100)));
+    }
+
+    @Test
+    void whenABlockIsCorrupted_thenReadingItFails() throws Exception {
+        // given
+        List<UUID> ids = new ArrayList<>();
+        Path file = writeSegment(ids, 50);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), SegmentFormat.HEADER_SIZE + 5);
+        }
+
+        // when
+        SegmentReader reader = SegmentReader.open(file);
+
+        // then
+        assertThatThrownBy(reader::verify).isInstanceOf(SegmentCorruptedException.class);
+        assertThatThrownBy(() -> reader.find(ids.get(0))).isInstanceOf(SegmentCorruptedException.class);
+    }
+
+    private Path writeSegment(List<UUID> ids, int records) throws Exception {
+        Path file = directory.resolve("segment-" + records + SegmentFormat.FILE_SUFFIX);
+        try (SegmentWriter writer = new SegmentWriter(file, 4096, 3)) {
+            for (int i = 0; i < records; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                writer.append(id, START.plusSeconds(i), document(i).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return file;
+    }
+
+    private static String document(int i) {
+        return "{\"n\":" + i + ",\"note\":\"archived transaction " + i + "\"}";
+    }
+}
@@ -0,0 +1,90 @@
+package io.stl.stl_core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.stl.stl_core.service.dto.response.ApiResponse;
+
+@WebMvcTest(controllers = BinaryFormatConfigTest.FormatController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({ BinaryFormatConfig.class, BinaryFormatConfigTest.FormatController.class })
+class BinaryFormatConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Test
+    void whenNoAcceptHeader_thenJson() throws Exception {
+        mockMvc.perform(get("/format-test"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void whenAnyTypeAccepted_thenJson() throws Exception {
+        mockMvc.perform(get("/format-test").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/format-test")
+                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void whenBinaryFormatRequested_thenServedInIt() throws Exception {
+        mockMvc.perform(get("/format-test").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/format-test").accept(MessagePackHttpMessageConverter.APPLICATION_MSGPACK))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MessagePackHttpMessageConverter.APPLICATION_MSGPACK));
+    }
+
+    @Test
+    void whenConvertersRegistered_thenSingleCborConverter() {
+        assertThat(handlerAdapter.getMessageConverters())
+                .filteredOn(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                .hasSize(1);
+    }
+
+    @RestController
+    static class FormatController {
+
+        @GetMapping("/format-test")
+        ApiResponse<List<String>> get() {
+            return ApiResponse.success(List.of("a", "b"));
+        }
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.stl.stl_core.repository;
+
+import io.stl.stl_core.model.entity.Currency;
+import io.stl.stl_core.model.entity.Participant;
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.entity.TransactionStatusHistory;
+import io.stl.stl_core.model.entity.TransactionType;
+import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.enums.ParticipantType;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.ParticipantHistoryRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest
+class ParticipantRepositoryIntegrationTest {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void whenFindHistory_thenPagesNewestFirstWithCurrentStatus() {
+        // given
+        Currency usd = entityManager.persist(new Currency("USD", "US Dollar", "$", 2));
+        TransactionType payment = entityManager.persist(new TransactionType("PAYMENT", "Payment"));
+        UUID merchantId = UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            Transaction transaction = entityManager.persist(
+                    new Transaction(payment, new BigDecimal("10.00"), usd));
+            entityManager.persist(new Participant(transaction, ParticipantType.ENTITY, merchantId,
+                    ParticipantRole.RECEIVER));
+            entityManager.persist(new TransactionStatusHistory(transaction, TransactionStatus.PENDING, "created"));
+        }
+        entityManager.flush();
+
+        // when
+        List<ParticipantHistoryRow> firstPage = participantRepository.findHistory(merchantId, Limit.of(2));
+        ParticipantHistoryRow last = firstPage.get(firstPage.size() - 1);
+        List<ParticipantHistoryRow> secondPage = participantRepository.findHistoryAfter(
+                merchantId, last.getCreatedAt(), last.getParticipationId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).hasSize(2);
+        assertThat(secondPage).hasSize(1);
+        assertThat(firstPage.get(0).getCreatedAt()).isAfterOrEqualTo(firstPage.get(1).getCreatedAt());
+        assertThat(firstPage.get(0).getTypeName()).isEqualTo("PAYMENT");
+        assertThat(firstPage.get(0).getCurrencyCode()).isEqualTo("USD");
+        assertThat(firstPage.get(0).getCurrentStatus()).isEqualTo(TransactionStatus.PENDING);
+        assertThat(secondPage.get(0).getParticipationId())
+                .isNotIn(firstPage.get(0).getParticipationId(), firstPage.get(1).getParticipationId());
+    }
+}
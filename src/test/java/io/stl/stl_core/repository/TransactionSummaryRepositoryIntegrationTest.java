@@ -0,0 +1,89 @@
+package io.stl.stl_core.repository;
+
+import io.stl.stl_core.model.entity.Currency;
+import io.stl.stl_core.model.entity.Transaction;
+import io.stl.stl_core.model.entity.TransactionType;
+import io.stl.stl_core.model.enums.TransactionField;
+import io.stl.stl_core.model.projection.TransactionSummary;
+import io.stl.stl_core.observability.SqlStatsHibernateCustomizer;
+import io.stl.stl_core.observability.SqlStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import({ TransactionSummaryRepository.class, SqlStatsHibernateCustomizer.class })
+class TransactionSummaryRepositoryIntegrationTest {
+
+    @Autowired
+    private TransactionSummaryRepository summaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void whenFindWithSparseFields_thenOnlySelectedColumnsAreSet() {
+        // given
+        Currency usd = entityManager.persist(new Currency("USD", "US Dollar", "$", 2));
+        TransactionType payment = entityManager.persist(new TransactionType("PAYMENT", "Payment"));
+        Transaction transaction = entityManager.persist(new Transaction(payment, new BigDecimal("10.00"), usd));
+        entityManager.flush();
+        Set<TransactionField> sparse = EnumSet.of(TransactionField.ID, TransactionField.AMOUNT,
+                TransactionField.CURRENCY_CODE);
+
+        // when
+        List<TransactionSummary> narrow = summaryRepository.findByCurrencyCode(sparse, "USD");
+        List<TransactionSummary> full = summaryRepository.findByTypeId(TransactionField.DEFAULTS, payment.getId());
+
+        // then
+        assertThat(narrow).singleElement().satisfies(summary -> {
+            assertThat(summary.getId()).isEqualTo(transaction.getId());
+            assertThat(summary.getAmount()).isEqualByComparingTo("10.00");
+            assertThat(summary.getCurrencyCode()).isEqualTo("USD");
+            assertThat(summary.getTypeName()).isNull();
+            assertThat(summary.getCurrencySymbol()).isNull();
+            assertThat(summary.getCreatedAt()).isNull();
+        });
+        assertThat(full).singleElement().satisfies(summary -> {
+            assertThat(summary.getTypeName()).isEqualTo("PAYMENT");
+            assertThat(summary.getCurrencySymbol()).isEqualTo("$");
+            assertThat(summary.getCreatedAt()).isNotNull();
+        });
+        assertThat(summaryRepository.findByIdIn(sparse, List.of(transaction.getId()))).hasSize(1);
+    }
+
+    @Test
+    void whenFindPageByIds_thenOneStatementRegardlessOfPageSize() {
+        // given
+        Currency usd = entityManager.persist(new Currency("USD", "US Dollar", "$", 2));
+        TransactionType payment = entityManager.persist(new TransactionType("PAYMENT", "Payment"));
+        List<UUID> ids = List.of(
+                entityManager.persist(new Transaction(payment, new BigDecimal("1.00"), usd)).getId(),
+                entityManager.persist(new Transaction(payment, new BigDecimal("2.00"), usd)).getId(),
+                entityManager.persist(new Transaction(payment, new BigDecimal("3.00"), usd)).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        try (SqlStats stats = SqlStats.start()) {
+            List<TransactionSummary> page = summaryRepository.findByIdIn(TransactionField.DEFAULTS, ids);
+
+            // then
+            assertThat(page).hasSize(3);
+            assertThat(stats.statements()).isEqualTo(1);
+            assertThat(stats.repeated(1)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.stl.stl_core.security.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.stl.stl_core.controller.ArchiveController;
+import io.stl.stl_core.controller.TransactionController;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.enums.UserRole;
+import io.stl.stl_core.repository.TransactionAuditRepository;
+import io.stl.stl_core.security.dto.UserPrincipal;
+import io.stl.stl_core.service.ArchiveService;
+import io.stl.stl_core.service.PayloadQueryService;
+import io.stl.stl_core.service.StatusService;
+import io.stl.stl_core.service.TransactionDetailService;
+import io.stl.stl_core.service.TransactionService;
+import io.stl.stl_core.service.dto.response.ArchivedTransactionResponse;
+import io.stl.stl_core.service.dto.response.TransactionDetailResponse;
+import io.stl.stl_core.service.dto.response.TransactionResponse;
+import io.stl.stl_core.service.mapper.TransactionMapper;
+
+/**
+ * @RequiresPermission enforcement and audit visibility through the MVC
+ * stack (interceptor, argument resolution, exception handling). The security
+ * filter chain is left out; the principal is set directly, as
+ * JwtAuthenticationFilter would.
+ */
+@WebMvcTest(controllers = { TransactionController.class, ArchiveController.class })
+@AutoConfigureMockMvc(addFilters = false)
+class AuthorizationInterceptorTest {
+
+    private static final UUID ID = UUID.randomUUID();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransactionService transactionService;
+    @MockBean
+    private TransactionMapper transactionMapper;
+    @MockBean
+    private StatusService statusService;
+    @MockBean
+    private TransactionAuditRepository auditRepository;
+    @MockBean
+    private PayloadQueryService payloadQueryService;
+    @MockBean
+    private TransactionDetailService detailService;
+    @MockBean
+    private ArchiveService archiveService;
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void whenReaderRequestsAuditTrail_thenForbidden() throws Exception {
+        // given
+        authenticateAs(UserRole.READER);
+
+        // when / then
+        mockMvc.perform(get("/api/v1/transactions/{id}/audit", ID))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(transactionService, auditRepository, archiveService);
+    }
+
+    @Test
+    void whenReaderRequestsDetail_thenAuditNotLoaded() throws Exception {
+        // given
+        authenticateAs(UserRole.READER);
+        when(detailService.getDetail(eq(ID), any(), anyInt(), anyBoolean())).thenReturn(detail());
+
+        // when / then
+        mockMvc.perform(get("/api/v1/transactions/{id}/detail", ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recentAudit").isEmpty());
+        verify(detailService).getDetail(eq(ID), any(), anyInt(), eq(false));
+    }
+
+    @Test
+    void whenAuditorRequestsDetail_thenAuditLoaded() throws Exception {
+        // given
+        authenticateAs(UserRole.AUDITOR);
+        when(detailService.getDetail(eq(ID), any(), anyInt(), anyBoolean())).thenReturn(detail());
+
+        // when / then
+        mockMvc.perform(get("/api/v1/transactions/{id}/detail", ID))
+                .andExpect(status().isOk());
+        verify(detailService).getDetail(eq(ID), any(), anyInt(), eq(true));
+    }
+
+    @Test
+    void whenReaderReadsArchive_thenAuditLeftOut() throws Exception {
+        // given
+        authenticateAs(UserRole.READER);
+        when(archiveService.getArchivedTransaction(ID)).thenReturn(archived());
+        when(archiveService.scan(any(), any(), anyInt())).thenReturn(List.of(archived(), archived()));
+
+        // when / then
+        mockMvc.perform(get("/api/v1/archive/transactions/{id}", ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.statusHistory").isNotEmpty())
+                .andExpect(jsonPath("$.data.audit").isEmpty());
+        mockMvc.perform(get("/api/v1/archive/transactions")
+                .param("from", "2024-01-01T00:00:00Z")
+                .param("to", "2024-02-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].audit").isEmpty())
+                .andExpect(jsonPath("$.data[1].audit").isEmpty());
+    }
+
+    @Test
+    void whenAuditorReadsArchive_thenAuditIncluded() throws Exception {
+        // given
+        authenticateAs(UserRole.AUDITOR);
+        when(archiveService.getArchivedTransaction(ID)).thenReturn(archived());
+
+        // when / then
+        mockMvc.perform(get("/api/v1/archive/transactions/{id}", ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.audit").isNotEmpty());
+    }
+
+    @Test
+    void whenIngesterReadsArchive_thenForbidden() throws Exception {
+        // given
+        authenticateAs(UserRole.INGESTER);
+
+        // when / then
+        mockMvc.perform(get("/api/v1/archive/transactions/{id}", ID))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(archiveService);
+    }
+
+    private static void authenticateAs(UserRole role) {
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), role.name().toLowerCase() + "@stl.io", role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static TransactionDetailResponse detail() {
+        TransactionResponse transaction = new TransactionResponse();
+        transaction.setId(ID);
+        return new TransactionDetailResponse(transaction, false, List.of(), List.of(), List.of(), null);
+    }
+
+    private static ArchivedTransactionResponse archived() {
+        return new ArchivedTransactionResponse(ID, UUID.randomUUID(), "PAYMENT", new BigDecimal("10.00"), "EUR",
+                Map.of(), OffsetDateTime.parse("2024-01-15T10:00:00Z"), TransactionStatus.ACTIVE,
+                List.of(), List.of(Map.of("status", "ACTIVE")), List.of(Map.of("action", "CREATE")), List.of());
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.stl.stl_core.security.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadCipherTest {
+
+    private static final String KEY_1 = "1:" + Base64.getEncoder().encodeToString(key(1, 32));
+    private static final String KEY_2 = "2:" + Base64.getEncoder().encodeToString(key(2, 32));
+    private static final byte[] PLAINTEXT = "{\"orderId\":\"ORD-1\",\"amount\":\"12.50\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final PayloadCipher cipher = new PayloadCipher(new DataKeyRing(List.of(KEY_1, KEY_2), 1));
+
+    @Test
+    void whenEncryptingAValue_thenItDecryptsToTheSameBytes() {
+        byte[] envelope = cipher.encrypt(PLAINTEXT);
+
+        assertThat(PayloadCipher.isEncrypted(envelope)).isTrue();
+        assertThat(PayloadCipher.keyVersion(envelope)).isEqualTo(1);
+        assertThat(cipher.decrypt(envelope)).isEqualTo(PLAINTEXT);
+        assertThat(cipher.decryptAll(List.of(envelope, cipher.encrypt(new byte[0]))))
+                .containsExactly(PLAINTEXT, new byte[0]);
+    }
+
+    @Test
+    void whenEncryptingTheSameValueTwice_thenTheEnvelopesDiffer() {
+        assertThat(cipher.encrypt(PLAINTEXT)).isNotEqualTo(cipher.encrypt(PLAINTEXT));
+    }
+
+    @Test
+    void whenACiphertextOrTagBitIsFlipped_thenDecryptionFails() {
+        byte[] envelope = cipher.encrypt(PLAINTEXT);
+
+        byte[] ciphertext = envelope.clone();
+        ciphertext[1 + Integer.BYTES + 12] ^= 0x01;
+        byte[] tag = envelope.clone();
+        tag[tag.length - 1] ^= (byte) 0x80;
+        byte[] iv = envelope.clone();
+        iv[1 + Integer.BYTES] ^= 0x01;
+
+        assertThatThrownBy(() -> cipher.decrypt(ciphertext)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cipher.decrypt(tag)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cipher.decrypt(iv)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenTheVersionIsChanged_thenDecryptionFails() {
+        byte[] envelope = cipher.encrypt(PLAINTEXT);
+
+        // Another configured key: the version is authenticated, so the tag check fails
+        byte[] otherKey = envelope.clone();
+        otherKey[Integer.BYTES] = 2;
+        // No key for the version
+        byte[] unknownKey = envelope.clone();
+        unknownKey[Integer.BYTES] = 9;
+        // Not an envelope any more
+        byte[] marker = envelope.clone();
+        marker[0] = 1;
+
+        assertThatThrownBy(() -> cipher.decrypt(otherKey)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cipher.decrypt(unknownKey)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cipher.decrypt(marker)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenTheEnvelopeIsTruncated_thenDecryptionFails() {
+        byte[] envelope = cipher.encrypt(PLAINTEXT);
+
+        for (int length : new int[] { envelope.length - 1, envelope.length - 16, 1 + Integer.BYTES + 13,
+                1 + Integer.BYTES + 12, 3, 0 }) {
+            byte[] truncated = Arrays.copyOf(envelope, length);
+            assertThatThrownBy(() -> cipher.decrypt(truncated))
+                    .as("length %d", length)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void whenTheCurrentVersionChanges_thenRetiredKeysStillDecryptAndReencryptMovesToTheNewKey() {
+        byte[] oldEnvelope = cipher.encrypt(PLAINTEXT);
+        PayloadCipher rotated = new PayloadCipher(new DataKeyRing(List.of(KEY_1, KEY_2), 2));
+
+        assertThat(rotated.decrypt(oldEnvelope)).isEqualTo(PLAINTEXT);
+
+        byte[] newEnvelope = rotated.reencrypt(oldEnvelope);
+        assertThat(PayloadCipher.keyVersion(newEnvelope)).isEqualTo(2);
+        assertThat(rotated.decrypt(newEnvelope)).isEqualTo(PLAINTEXT);
+        // Once key 1 is removed, only data already re-encrypted is readable
+        PayloadCipher retired = new PayloadCipher(new DataKeyRing(List.of(KEY_2), 2));
+        assertThat(retired.decrypt(newEnvelope)).isEqualTo(PLAINTEXT);
+        assertThatThrownBy(() -> retired.decrypt(oldEnvelope)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void whenTheKeyRingIsMisconfigured_thenItFailsAtStartup() {
+        assertThatThrownBy(() -> new DataKeyRing(List.of(KEY_1), 2))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new DataKeyRing(List.of(KEY_1, KEY_1), 1))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new DataKeyRing(List.of("3:" + Base64.getEncoder().encodeToString(key(3, 20))), 3))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new DataKeyRing(List.of("no-version"), 0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new DataKeyRing(List.of(), 0).isConfigured()).isFalse();
+    }
+
+    private static byte[] key(int seed, int length) {
+        byte[] key = new byte[length];
+        for (int i = 0; i < length; i++) {
+            key[i] = (byte) (seed * 31 + i);
+        }
+        return key;
+    }
+}
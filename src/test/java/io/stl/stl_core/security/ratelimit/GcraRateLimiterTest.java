@@ -0,0 +1,89 @@
+package io.stl.stl_core.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GcraRateLimiterTest {
+
+    // 10 per second: one request every 100 ms
+    private static final long INTERVAL = Duration.ofMillis(100).toNanos();
+    private static final long T0 = 1_000_000_000L;
+
+    @Test
+    void whenANewClientSendsABurst_thenBurstRequestsPassBackToBack() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, Duration.ofSeconds(1), 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("ip:1", T0)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("ip:1", T0)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void whenAClientIsRejected_thenTheWaitIsUntilItsNextSlot() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, Duration.ofSeconds(1), 1);
+        assertThat(limiter.tryAcquire("ip:1", T0)).isZero();
+
+        long wait = limiter.tryAcquire("ip:1", T0 + 30_000_000L);
+
+        assertThat(wait).isEqualTo(INTERVAL - 30_000_000L);
+        assertThat(limiter.tryAcquire("ip:1", T0 + 30_000_000L + wait - 1)).isPositive();
+        assertThat(limiter.tryAcquire("ip:1", T0 + 30_000_000L + wait)).isZero();
+    }
+
+    @Test
+    void whenAClientSendsAtTheSteadyRate_thenNoRequestIsRejected() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, Duration.ofSeconds(1), 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire("ip:1", T0 + i * INTERVAL)).isZero();
+        }
+        // Faster than the rate is rejected, whatever happened before
+        assertThat(limiter.tryAcquire("ip:1", T0 + 99 * INTERVAL + INTERVAL / 2)).isPositive();
+    }
+
+    @Test
+    void whenOneClientIsLimited_thenOtherClientsAreNot() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, Duration.ofSeconds(1), 1);
+        assertThat(limiter.tryAcquire("ip:1", T0)).isZero();
+        assertThat(limiter.tryAcquire("ip:1", T0)).isPositive();
+
+        assertThat(limiter.tryAcquire("ip:2", T0)).isZero();
+    }
+
+    @Test
+    void whenEvictingIdleClients_thenOnlyClientsWithAFullBucketAreForgotten() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, Duration.ofSeconds(1), 5);
+        limiter.tryAcquire("ip:idle", T0);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("ip:busy", T0 + INTERVAL);
+        }
+
+        // ip:idle is full again 100 ms after its request, ip:busy 500 ms after its burst
+        int evicted = limiter.evictIdle(T0 + 2 * INTERVAL);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        // The busy client keeps its state: one slot refilled since its burst, not five
+        assertThat(limiter.tryAcquire("ip:busy", T0 + 2 * INTERVAL)).isZero();
+        assertThat(limiter.tryAcquire("ip:busy", T0 + 2 * INTERVAL)).isPositive();
+        assertThat(limiter.evictIdle(T0 + 7 * INTERVAL - 1)).isZero();
+        assertThat(limiter.evictIdle(T0 + 7 * INTERVAL)).isEqualTo(1);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void whenTheLimitIsNotPositive_thenCreationFails() {
+        assertThatThrownBy(() -> new GcraRateLimiter(0, Duration.ofSeconds(1), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GcraRateLimiter(10, Duration.ZERO, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GcraRateLimiter(10, Duration.ofSeconds(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
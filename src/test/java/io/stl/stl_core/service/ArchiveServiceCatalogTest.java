@@ -0,0 +1,102 @@
+package io.stl.stl_core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import io.stl.stl_core.archive.SegmentFormat;
+import io.stl.stl_core.archive.SegmentWriter;
+import io.stl.stl_core.model.entity.ArchiveSegment;
+import io.stl.stl_core.repository.ArchivePeriodRepository;
+import io.stl.stl_core.repository.ArchiveSegmentRepository;
+import io.stl.stl_core.repository.ArchiveSourceRepository;
+import io.stl.stl_core.repository.CurrencyRepository;
+import io.stl.stl_core.repository.TransactionTypeRepository;
+
+/**
+ * Segment catalog as seen by a node that did not run the archive.
+ */
+class ArchiveServiceCatalogTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-15T10:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private ArchiveSegmentRepository segmentRepository;
+    private ArchiveService archiveService;
+    private final List<ArchiveSegment> catalog = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        segmentRepository = mock(ArchiveSegmentRepository.class);
+        when(segmentRepository.findAllInTimeOrder()).thenAnswer(invocation -> List.copyOf(catalog));
+        when(segmentRepository.count()).thenAnswer(invocation -> (long) catalog.size());
+
+        archiveService = new ArchiveService(mock(ArchiveSourceRepository.class), mock(ArchivePeriodRepository.class),
+                segmentRepository, mock(TransactionTypeRepository.class), mock(CurrencyRepository.class),
+                mock(PayloadService.class), JsonMapper.builder().findAndAddModules().build(),
+                mock(PlatformTransactionManager.class), directory, Duration.ofDays(400), 4096, 3, 1000);
+    }
+
+    @Test
+    void whenAnotherNodeArchives_thenPollingOpensTheNewSegment() throws Exception {
+        // given: this node has read the (empty) catalog
+        UUID id = UUID.randomUUID();
+        assertThat(archiveService.findArchivedTransaction(id)).isEmpty();
+
+        // when: another node writes a segment and records it in the shared catalog
+        catalog.add(segment(writeSegment(id)));
+
+        // then
+        assertThat(archiveService.findArchivedTransaction(id)).isEmpty();
+        assertThat(archiveService.refreshCatalog()).isTrue();
+        assertThat(archiveService.findArchivedTransaction(id))
+                .hasValueSatisfying(transaction -> assertThat(transaction.getTypeName()).isEqualTo("PAYMENT"));
+        assertThat(archiveService.refreshCatalog()).isFalse();
+    }
+
+    @Test
+    void whenCatalogNotOpenedYet_thenPollingLeavesItToTheFirstRead() {
+        // when
+        boolean reloaded = archiveService.refreshCatalog();
+
+        // then
+        assertThat(reloaded).isFalse();
+        verify(segmentRepository, never()).findAllInTimeOrder();
+    }
+
+    private String writeSegment(UUID id) throws Exception {
+        String fileName = "2024-01-000" + SegmentFormat.FILE_SUFFIX;
+        String document = "{\"id\":\"" + id + "\",\"typeName\":\"PAYMENT\",\"amount\":10.00,"
+                + "\"currencyCode\":\"EUR\",\"createdAt\":\"" + CREATED_AT + "\",\"currentStatus\":\"ACTIVE\"}";
+        try (SegmentWriter writer = new SegmentWriter(directory.resolve(fileName), 4096, 3)) {
+            writer.append(id, CREATED_AT, document.getBytes(StandardCharsets.UTF_8));
+        }
+        return fileName;
+    }
+
+    private static ArchiveSegment segment(String fileName) {
+        OffsetDateTime createdAt = CREATED_AT.atOffset(ZoneOffset.UTC);
+        return new ArchiveSegment(null, fileName, 1, createdAt, createdAt, 0, "");
+    }
+}
@@ -0,0 +1,72 @@
+package io.stl.stl_core.service;
+
+import io.stl.stl_core.model.enums.ExportCompression;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.zip.GZIPInputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvExportWriterTest {
+
+    private static final String EXPECTED = "id,created_at,amount,reason\r\n"
+            + "1,2025-01-01T10:00:00.000000Z,12.50000000,\r\n"
+            + "2,2025-01-01T10:00:01.000000Z,0.00000001,\"needs \"\"review\"\", see\r\nnote\"\r\n"
+            + "3,2025-01-01T10:00:02.000000Z,,\"\"\r\n";
+
+    @Test
+    void whenExportingRows_thenWritesRfc4180WithUtcTimestampsAndPlainAmounts() throws Exception {
+        assertThat(export(ExportCompression.NONE).toString(StandardCharsets.UTF_8)).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void whenCompressing_thenFilesDecompressToTheSameCsv() throws Exception {
+        byte[] gzip = export(ExportCompression.GZIP).toByteArray();
+        byte[] zstd = export(ExportCompression.ZSTD).toByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(EXPECTED);
+        }
+        try (ZstdInputStream in = new ZstdInputStream(new ByteArrayInputStream(zstd))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(EXPECTED);
+        }
+    }
+
+    private ByteArrayOutputStream export(ExportCompression compression) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:csv_export");
+                Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS export_rows (
+                        id INT PRIMARY KEY, created_at TIMESTAMP WITH TIME ZONE,
+                        amount NUMERIC(20, 8), reason TEXT);
+                    MERGE INTO export_rows KEY (id) VALUES
+                        (1, TIMESTAMP WITH TIME ZONE '2025-01-01 11:00:00+01', 12.5, NULL),
+                        (2, TIMESTAMP WITH TIME ZONE '2025-01-01 10:00:01+00', 0.00000001,
+                            'needs "review", see' || CHAR(13) || CHAR(10) || 'note'),
+                        (3, TIMESTAMP WITH TIME ZONE '2025-01-01 10:00:02+00', NULL, '')
+                    """);
+
+            try (ResultSet rs = statement.executeQuery("""
+                    SELECT id AS "id", created_at AS "created_at", amount AS "amount", reason AS "reason"
+                    FROM export_rows ORDER BY id
+                    """);
+                    CsvExportWriter writer = new CsvExportWriter(out, compression)) {
+                writer.writeHeader(rs.getMetaData());
+                while (rs.next()) {
+                    writer.writeRow(rs);
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,122 @@
+package io.stl.stl_core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import io.stl.stl_core.model.enums.ParticipantRole;
+import io.stl.stl_core.model.enums.ParticipantType;
+import io.stl.stl_core.model.enums.TransactionStatus;
+import io.stl.stl_core.model.projection.ParticipantHistoryRow;
+import io.stl.stl_core.repository.ParticipantRepository;
+import io.stl.stl_core.service.dto.response.ParticipantHistoryResponse;
+
+class ParticipantHistoryServiceTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2026, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final UUID participantId = UUID.randomUUID();
+
+    private ParticipantRepository repository;
+    private ParticipantHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ParticipantRepository.class);
+        service = new ParticipantHistoryService(repository, KEY);
+    }
+
+    @Test
+    void whenNextCursorPassedBack_thenTotalsContinueFromIt() {
+        // given
+        ParticipantHistoryRow newest = row(T0, ParticipantRole.RECEIVER, "100.00");
+        ParticipantHistoryRow older = row(T0.minusMinutes(1), ParticipantRole.SENDER, "30.00");
+        when(repository.findHistory(eq(participantId), any(Limit.class))).thenReturn(List.of(newest, older));
+        when(repository.findHistoryAfter(eq(participantId), eq(newest.getCreatedAt()), eq(newest.getParticipationId()),
+                any(Limit.class))).thenReturn(List.of(older));
+
+        // when
+        ParticipantHistoryResponse first = service.getHistory(participantId, null, 1);
+        ParticipantHistoryResponse second = service.getHistory(participantId, first.getNextCursor(), 1);
+
+        // then
+        assertThat(first.getRunningTotals()).containsEntry("EUR", new BigDecimal("100.00"));
+        assertThat(second.getEntries()).singleElement()
+                .satisfies(entry -> assertThat(entry.getRunningTotal()).isEqualByComparingTo("70.00"));
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    void whenCursorTotalsRewritten_thenRejected() {
+        // given
+        String cursor = firstPageCursor();
+        String payload = cursor.substring(0, cursor.lastIndexOf('.'));
+        String signature = cursor.substring(cursor.lastIndexOf('.'));
+        String raw = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.replace("EUR=100.00", "EUR=1000000.00").getBytes(StandardCharsets.UTF_8));
+
+        // when / then
+        assertThatThrownBy(() -> service.getHistory(participantId, forged + signature, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid history cursor");
+    }
+
+    @Test
+    void whenCursorUnsignedOrForAnotherParticipant_thenRejected() {
+        // given
+        String cursor = firstPageCursor();
+        String unsigned = cursor.substring(0, cursor.lastIndexOf('.'));
+        ParticipantRepository otherRepository = mock(ParticipantRepository.class);
+        byte[] otherMaterial = new byte[32];
+        otherMaterial[0] = 1;
+        ParticipantHistoryService otherKey = new ParticipantHistoryService(otherRepository,
+                Base64.getEncoder().encodeToString(otherMaterial));
+
+        // when / then
+        assertThatThrownBy(() -> service.getHistory(participantId, unsigned, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getHistory(UUID.randomUUID(), cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> otherKey.getHistory(participantId, cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(otherRepository);
+    }
+
+    @Test
+    void whenCursorKeyTooShort_thenStartupFails() {
+        assertThatThrownBy(() -> new ParticipantHistoryService(repository,
+                Base64.getEncoder().encodeToString(new byte[16])))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private String firstPageCursor() {
+        when(repository.findHistory(eq(participantId), any(Limit.class))).thenReturn(List.of(
+                row(T0, ParticipantRole.RECEIVER, "100.00"),
+                row(T0.minusMinutes(1), ParticipantRole.SENDER, "30.00")));
+        return service.getHistory(participantId, null, 1).getNextCursor();
+    }
+
+    private static ParticipantHistoryRow row(OffsetDateTime createdAt, ParticipantRole role, String amount) {
+        return new ParticipantHistoryRow(UUID.randomUUID(), UUID.randomUUID(), ParticipantType.USER, role,
+                new BigDecimal(amount), new BigDecimal(amount), "EUR", "PAYMENT", TransactionStatus.ACTIVE,
+                createdAt);
+    }
+}
@@ -0,0 +1,60 @@
+package io.stl.stl_core.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadCodecTest {
+
+    @Test
+    void whenEncodingAPayload_thenItDecodesToTheSameValues() {
+        // given
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("sku", "SKU-1");
+        item.put("unitPrice", new BigDecimal("12.50"));
+        item.put("quantity", 3);
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", "ORD-1");
+        payload.put("items", List.of(item, Map.of("sku", "SKU-2")));
+        payload.put("rate", 0.19);
+        payload.put("large", 12_345_678_901L);
+        payload.put("flag", true);
+        payload.put("note", null);
+
+        Set<String> keys = new TreeSet<>();
+        PayloadCodec.collectKeys(payload, keys);
+        Map<String, Integer> ids = new HashMap<>();
+        Map<Integer, String> names = new HashMap<>();
+        for (String key : keys) {
+            ids.put(key, 100 + ids.size());
+            names.put(ids.get(key), key);
+        }
+
+        // when
+        byte[] encoded = PayloadCodec.encode(payload, ids::get);
+        Map<String, Object> decoded = PayloadCodec.decode(encoded, names::get);
+
+        // then
+        assertThat(keys).containsExactly("flag", "items", "large", "note", "orderId", "quantity", "rate", "sku",
+                "unitPrice");
+        assertThat(decoded).isEqualTo(payload);
+        assertThat(encoded).hasSizeLessThan(payload.toString().length());
+    }
+
+    @Test
+    void whenDataIsNotABinaryPayload_thenDecodingFails() {
+        assertThatThrownBy(() -> PayloadCodec.decode("{\"a\":1}".getBytes(), id -> "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayloadCodec.decode(new byte[] { PayloadCodec.VERSION, (byte) 0xA1 }, id -> "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
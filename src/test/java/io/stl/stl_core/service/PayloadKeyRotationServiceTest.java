@@ -0,0 +1,82 @@
+package io.stl.stl_core.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.stl.stl_core.repository.PayloadRotationRepository;
+import io.stl.stl_core.repository.PayloadRotationRepository.EncryptedPayload;
+import io.stl.stl_core.security.crypto.DataKeyRing;
+import io.stl.stl_core.security.crypto.PayloadCipher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PayloadKeyRotationServiceTest {
+
+    private static final List<String> KEYS = List.of(
+            "1:" + Base64.getEncoder().encodeToString(new byte[16]),
+            "2:" + Base64.getEncoder().encodeToString(new byte[32]));
+
+    @Test
+    void whenTheCurrentKeyChanges_thenOldEnvelopesAreReencryptedBatchByBatch() {
+        // given
+        PayloadCipher oldCipher = new PayloadCipher(new DataKeyRing(KEYS, 1));
+        PayloadCipher cipher = new PayloadCipher(new DataKeyRing(KEYS, 2));
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        UUID third = new UUID(0, 3);
+        PayloadRotationRepository repository = mock(PayloadRotationRepository.class);
+        when(repository.findNotUnderKey(eq(2), eq(new UUID(0, 0)), eq(2))).thenReturn(List.of(
+                new EncryptedPayload(first, oldCipher.encrypt(bytes("a"))),
+                new EncryptedPayload(second, oldCipher.encrypt(bytes("b")))));
+        when(repository.findNotUnderKey(eq(2), eq(second), eq(2))).thenReturn(List.of(
+                new EncryptedPayload(third, oldCipher.encrypt(bytes("c")))));
+        when(repository.findNotUnderKey(eq(2), eq(third), eq(2))).thenReturn(List.of());
+        PayloadKeyRotationService service = new PayloadKeyRotationService(repository, cipher,
+                mock(PlatformTransactionManager.class), 2);
+
+        // when
+        long rotated = service.rotate();
+
+        // then
+        assertThat(rotated).isEqualTo(3);
+        ArgumentCaptor<String[]> ids = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<String[]> envelopes = ArgumentCaptor.forClass(String[].class);
+        verify(repository, times(2)).updateEnvelopes(ids.capture(), envelopes.capture());
+        assertThat(ids.getAllValues().get(0)).containsExactly(first.toString(), second.toString());
+        assertThat(ids.getAllValues().get(1)).containsExactly(third.toString());
+        List<byte[]> written = envelopes.getAllValues().stream()
+                .flatMap(Arrays::stream)
+                .map(Base64.getDecoder()::decode)
+                .toList();
+        assertThat(written).allSatisfy(envelope -> assertThat(PayloadCipher.keyVersion(envelope)).isEqualTo(2));
+        assertThat(written).extracting(envelope -> new String(cipher.decrypt(envelope), StandardCharsets.UTF_8))
+                .containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void whenNoKeyIsConfigured_thenNothingIsRotated() {
+        PayloadRotationRepository repository = mock(PayloadRotationRepository.class);
+        PayloadKeyRotationService service = new PayloadKeyRotationService(repository,
+                new PayloadCipher(new DataKeyRing(List.of(), 0)), mock(PlatformTransactionManager.class), 2);
+
+        assertThat(service.rotate()).isZero();
+        verify(repository, times(0)).findNotUnderKey(any(Integer.class), any(), any(Integer.class));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
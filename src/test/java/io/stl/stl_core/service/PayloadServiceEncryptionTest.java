@@ -0,0 +1,112 @@
+package io.stl.stl_core.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.stl.stl_core.model.entity.PayloadKey;
+import io.stl.stl_core.model.entity.TransactionType;
+import io.stl.stl_core.repository.PayloadKeyRepository;
+import io.stl.stl_core.security.crypto.DataKeyRing;
+import io.stl.stl_core.security.crypto.PayloadCipher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PayloadServiceEncryptionTest {
+
+    private static final String KEY = "1:" + Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final PayloadCipher cipher = new PayloadCipher(new DataKeyRing(List.of(KEY), 1));
+    private final PayloadKeyRepository keyRepository = mock(PayloadKeyRepository.class);
+    private final PayloadService payloadService = new PayloadService(keyRepository, null, null, new ObjectMapper(),
+            mock(PlatformTransactionManager.class), cipher, Set.of("CARD"), Set.of("CARD", "PAYMENT"), 65536, 128);
+
+    private final TransactionType payment = new TransactionType("PAYMENT", "Payment");
+    private final TransactionType card = new TransactionType("CARD", "Card payment");
+
+    @Test
+    void whenATypeIsEncrypted_thenItsJsonPayloadIsStoredEncrypted() {
+        // given
+        Map<String, Object> payload = payload();
+
+        // when
+        PayloadService.EncodedPayload encoded = payloadService.encode(payment, payload);
+
+        // then
+        assertThat(encoded.json()).isNull();
+        assertThat(PayloadCipher.isEncrypted(encoded.binary())).isTrue();
+        assertThat(new String(cipher.decrypt(encoded.binary()), StandardCharsets.UTF_8)).startsWith("{");
+        assertThat(payloadService.decode(null, encoded.binary())).isEqualTo(payload);
+        assertThat(payloadService.binaryToJson(encoded.binary()))
+                .isEqualTo("{\"orderId\":\"ORD-1\",\"quantity\":3,\"gift\":true}");
+        assertThat(payloadService.isBinaryType(payment)).isTrue();
+    }
+
+    @Test
+    void whenATypeIsBinaryAndEncrypted_thenItsCborPayloadIsStoredEncrypted() {
+        // given
+        when(keyRepository.findAll()).thenReturn(List.of());
+        when(keyRepository.findByNameIn(any())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return names.stream().map(PayloadServiceEncryptionTest::key).toList();
+        });
+        Map<String, Object> payload = payload();
+
+        // when
+        PayloadService.EncodedPayload encoded = payloadService.encode(card, payload);
+
+        // then
+        assertThat(encoded.json()).isNull();
+        assertThat(cipher.decrypt(encoded.binary())[0]).isEqualTo(PayloadCodec.VERSION);
+        assertThat(payloadService.decode(null, encoded.binary())).isEqualTo(payload);
+        assertThat(payloadService.binaryToJson(encoded.binary()))
+                .isEqualTo("{\"orderId\":\"ORD-1\",\"quantity\":3,\"gift\":true}");
+    }
+
+    @Test
+    void whenAStoredEnvelopeIsTamperedWith_thenDecodingFails() {
+        byte[] envelope = payloadService.encode(payment, payload()).binary();
+        envelope[envelope.length - 1] ^= 0x01;
+
+        assertThatThrownBy(() -> payloadService.decode(null, envelope))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenEncryptedTypesAreSetWithoutKeys_thenCreationFails() {
+        PayloadCipher unconfigured = new PayloadCipher(new DataKeyRing(List.of(), 0));
+
+        assertThatThrownBy(() -> new PayloadService(keyRepository, null, null, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), unconfigured, Set.of(), Set.of("PAYMENT"), 65536, 128))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Map<String, Object> payload() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", "ORD-1");
+        payload.put("quantity", 3);
+        payload.put("gift", true);
+        return payload;
+    }
+
+    // Stable ids per name, as the dictionary would assign them
+    private static PayloadKey key(String name) {
+        PayloadKey key = new PayloadKey(name);
+        ReflectionTestUtils.setField(key, "id", 10 + List.of("gift", "orderId", "quantity").indexOf(name));
+        return key;
+    }
+}